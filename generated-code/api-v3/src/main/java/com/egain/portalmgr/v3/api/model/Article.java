@@ -0,0 +1,255 @@
+package com.egain.portalmgr.v3.api.model;
+
+import com.egain.platform.common.JAXBBean;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import javax.validation.constraints.*;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+import javax.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+@XmlRootElement(name = "Article")
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "Article", propOrder = {
+    "id",
+    "title",
+    "content",
+    "author",
+    "createdDate",
+    "tags"
+})
+public class Article implements Serializable, JAXBBean {
+
+    private static final long serialVersionUID = 1L;
+
+    @XmlTransient
+    private Map<String, Object> _attributes;
+
+    @XmlElement(name = "id", required = true)
+    @NotNull
+    private String id;
+
+    @XmlElement(name = "title", required = true)
+    @NotNull
+    @Size(min = 1, max = 200)
+    private String title;
+
+    @XmlElement(name = "content")
+    private String content;
+
+    @XmlElement(name = "author")
+    private String author;
+
+    @XmlElement(name = "createdDate")
+    private XMLGregorianCalendar createdDate;
+
+    @XmlElementWrapper(name = "tags")
+    @XmlElement()
+    private List<String> tags;
+
+    public Article() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public boolean isSetId() {
+        return (this.id != null);
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public boolean isSetTitle() {
+        return (this.title != null);
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public boolean isSetContent() {
+        return (this.content != null);
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+
+    public boolean isSetAuthor() {
+        return (this.author != null);
+    }
+
+    public XMLGregorianCalendar getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(XMLGregorianCalendar createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public boolean isSetCreatedDate() {
+        return (this.createdDate != null);
+    }
+
+    public List<String> getTags() {
+        if (tags == null) {
+            tags = new ArrayList<String>();
+        }
+        return this.tags;
+    }
+
+    public boolean isSetTags() {
+        return (this.tags != null) && (!this.tags.isEmpty());
+    }
+
+    public void unsetTags() {
+        this.tags = null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Article that = (Article) o;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(title, that.title) &&
+                Objects.equals(content, that.content) &&
+                Objects.equals(author, that.author) &&
+                Objects.equals(createdDate, that.createdDate) &&
+                Objects.equals(tags, that.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, title, content, author, createdDate, tags);
+    }
+
+    @Override
+    public String toString() {
+        return "Article{" +
+                "id=" + id + ", " +
+                "title=" + title + ", " +
+                "content=" + content + ", " +
+                "author=" + author + ", " +
+                "createdDate=" + createdDate + ", " +
+                "tags=" + tags +
+                '}';
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        if (_attributes != null && _attributes.containsKey(name)) {
+            return _attributes.get(name);
+        }
+        switch (name) {
+            case "id":
+                return getId();
+            case "title":
+                return getTitle();
+            case "content":
+                return getContent();
+            case "author":
+                return getAuthor();
+            case "createdDate":
+                return getCreatedDate();
+            case "tags":
+                return getTags();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public boolean isSetAttribute(String name) {
+        if (_attributes != null && _attributes.containsKey(name)) {
+            return true;
+        }
+        switch (name) {
+            case "id":
+                return isSetId();
+            case "title":
+                return isSetTitle();
+            case "content":
+                return isSetContent();
+            case "author":
+                return isSetAuthor();
+            case "createdDate":
+                return isSetCreatedDate();
+            case "tags":
+                return isSetTags();
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public List<String> getAttributeNames() {
+        List<String> allNames = new ArrayList<>();
+        if (_attributes != null) {
+            allNames.addAll(_attributes.keySet());
+        }
+        allNames.add("id");
+        allNames.add("title");
+        allNames.add("content");
+        allNames.add("author");
+        allNames.add("createdDate");
+        allNames.add("tags");
+        return allNames;
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        switch (name) {
+            case "id":
+                setId((String) value);
+                return;
+            case "title":
+                setTitle((String) value);
+                return;
+            case "content":
+                setContent((String) value);
+                return;
+            case "author":
+                setAuthor((String) value);
+                return;
+            case "createdDate":
+                setCreatedDate((XMLGregorianCalendar) value);
+                return;
+            case "tags":
+                getTags().add((String) value);
+                return;
+            default:
+                if (_attributes == null) {
+                    _attributes = new HashMap<>();
+                }
+                _attributes.put(name, value);
+                break;
+        }
+    }
+}
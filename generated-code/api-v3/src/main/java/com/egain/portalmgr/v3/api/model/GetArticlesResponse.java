@@ -0,0 +1,150 @@
+package com.egain.portalmgr.v3.api.model;
+
+import com.egain.platform.common.JAXBBean;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import javax.validation.constraints.*;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+import javax.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import javax.xml.datatype.XMLGregorianCalendar;
+import com.egain.portalmgr.v3.api.model.Article;
+
+@XmlRootElement(name = "GetArticlesResponse")
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "GetArticlesResponse", propOrder = {
+    "articles",
+    "totalCount"
+})
+public class GetArticlesResponse implements Serializable, JAXBBean {
+
+    private static final long serialVersionUID = 1L;
+
+    @XmlTransient
+    private Map<String, Object> _attributes;
+
+    @XmlElementWrapper(name = "articles")
+    @XmlElement()
+    @Valid
+    private List<Article> articles;
+
+    @XmlElement(name = "totalCount")
+    private int totalCount;
+
+    public GetArticlesResponse() {
+    }
+
+    public List<Article> getArticles() {
+        if (articles == null) {
+            articles = new ArrayList<Article>();
+        }
+        return this.articles;
+    }
+
+    public boolean isSetArticles() {
+        return (this.articles != null) && (!this.articles.isEmpty());
+    }
+
+    public void unsetArticles() {
+        this.articles = null;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public boolean isSetTotalCount() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GetArticlesResponse that = (GetArticlesResponse) o;
+        return Objects.equals(articles, that.articles) &&
+                Objects.equals(totalCount, that.totalCount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(articles, totalCount);
+    }
+
+    @Override
+    public String toString() {
+        return "GetArticlesResponse{" +
+                "articles=" + articles + ", " +
+                "totalCount=" + totalCount +
+                '}';
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        if (_attributes != null && _attributes.containsKey(name)) {
+            return _attributes.get(name);
+        }
+        switch (name) {
+            case "articles":
+                return getArticles();
+            case "totalCount":
+                return getTotalCount();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public boolean isSetAttribute(String name) {
+        if (_attributes != null && _attributes.containsKey(name)) {
+            return true;
+        }
+        switch (name) {
+            case "articles":
+                return isSetArticles();
+            case "totalCount":
+                return isSetTotalCount();
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public List<String> getAttributeNames() {
+        List<String> allNames = new ArrayList<>();
+        if (_attributes != null) {
+            allNames.addAll(_attributes.keySet());
+        }
+        allNames.add("articles");
+        allNames.add("totalCount");
+        return allNames;
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        switch (name) {
+            case "articles":
+                getArticles().add((Article) value);
+                return;
+            case "totalCount":
+                setTotalCount((int) value);
+                return;
+            default:
+                if (_attributes == null) {
+                    _attributes = new HashMap<>();
+                }
+                _attributes.put(name, value);
+                break;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.egain.portalmgr.v3.api.model;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlElementDecl;
+import javax.xml.bind.annotation.XmlRegistry;
+import javax.validation.constraints.*;
+import javax.xml.namespace.QName;
+
+@XmlRegistry
+public class ObjectFactory {
+
+    public ObjectFactory() {
+    }
+
+    private static final QName _ARTICLE_QNAME = new QName("", "article");
+
+    public Article createArticle() {
+        return new Article();
+    }
+
+    @XmlElementDecl(name = "article")
+    public JAXBElement<Article> createArticle(Article value) {
+        return new JAXBElement<Article>(_ARTICLE_QNAME, Article.class, null, value);
+    }
+
+    private static final QName _GETARTICLESRESPONSE_QNAME = new QName("", "getArticlesResponse");
+
+    public GetArticlesResponse createGetArticlesResponse() {
+        return new GetArticlesResponse();
+    }
+
+    @XmlElementDecl(name = "getArticlesResponse")
+    public JAXBElement<GetArticlesResponse> createGetArticlesResponse(GetArticlesResponse value) {
+        return new JAXBElement<GetArticlesResponse>(_GETARTICLESRESPONSE_QNAME, GetArticlesResponse.class, null, value);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.egain.portalmgr.v3.api.resources;
+
+import javax.ws.rs.*;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import com.egain.portalmgr.v3.api.service.*;
+import com.egain.portalmgr.v3.api.model.*;
+import egain.framework.Actor;
+import egain.framework.ActorType;
+import egain.framework.OAuthScope;
+
+@Path("/knowledge/portalmgr/v3/articles")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public class ArticleResource {
+
+    @GET
+    @Consumes
+    @Actor(type = { ActorType.CUSTOMER, ActorType.USER }, scope = {
+		OAuthScope.KNOWLEDGE_READ
+	})
+    public Response getArticles(
+            @QueryParam("query") String query,
+            @QueryParam("limit") Integer limit
+        ) {
+        // Implementation placeholder for Get articles
+        // Replace this with actual business logic implementation
+        return Response.ok().build();
+    }
+
+    @POST
+    @Actor(type = { ActorType.USER }, scope = {
+		OAuthScope.KNOWLEDGE_WRITE
+	})
+    public Response createArticle(
+            Object requestBody
+        ) {
+        // Implementation placeholder for Create article
+        // Replace this with actual business logic implementation
+        return Response.ok().build();
+    }
+
+    @GET
+    @Path("/{articleId}")
+    @Consumes
+    @Actor(type = { ActorType.CUSTOMER, ActorType.USER }, scope = {
+		OAuthScope.KNOWLEDGE_READ
+	})
+    public Response getArticleById(
+            @PathParam("articleId") String articleId
+        ) {
+        // Implementation placeholder for Get article by ID
+        // Replace this with actual business logic implementation
+        return Response.ok().build();
+    }
+
+}
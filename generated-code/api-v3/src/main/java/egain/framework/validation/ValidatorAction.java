@@ -0,0 +1,6 @@
+package egain.framework.validation;
+
+public interface ValidatorAction<T>
+{
+	ValidationError call(T input);
+}
@@ -0,0 +1,174 @@
+package egain.ws.oas;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+
+public class Validations
+{
+	public static final Pattern RESERVED_CHARACTERS = Pattern.compile("[:/?#\\[\\]@!$&'()*+,;=]");
+	// Regexes and enum lists come from the spec, so both caches are bounded by the number of distinct constraints
+	private static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+	private static final Map<String, Set<String>> ENUM_CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the compiled form of {@code regex}, compiling it only on first use.
+	 */
+	public static Pattern compiledPattern(String regex)
+	{
+		return PATTERN_CACHE.computeIfAbsent(regex, Pattern::compile);
+	}
+
+	/**
+	 * Returns the immutable set of values in a comma-separated enum list, splitting it only on first use.
+	 */
+	public static Set<String> enumValueSet(String input)
+	{
+		return ENUM_CACHE.computeIfAbsent(input, values -> Set.copyOf(Arrays.asList(values.split(",\\s*"))));
+	}
+
+	// For numerical attributes
+	public static final BiFunction<String, String, Boolean> isGreaterThanOrEqualTo = (value, min) -> {
+		try
+		{
+			Double numericValue = Double.parseDouble(value);
+			Double minValue = Double.parseDouble(min);
+			return numericValue >= minValue;
+		}
+		catch (NumberFormatException e)
+		{
+			return false;
+		}
+	};
+	public static final BiFunction<String, String, Boolean> isGreaterThan = (value, min) -> {
+		try
+		{
+			Double numericValue = Double.parseDouble(value);
+			Double minValue = Double.parseDouble(min);
+			return numericValue > minValue;
+		}
+		catch (NumberFormatException e)
+		{
+			return false;
+		}
+	};
+	public static final BiFunction<String, String, Boolean> isLessThanOrEqualTo = (value, max) -> {
+		try
+		{
+			Double numericValue = Double.parseDouble(value);
+			Double maxValue = Double.parseDouble(max);
+			return numericValue <= maxValue;
+		}
+		catch (NumberFormatException e)
+		{
+			return false;
+		}
+	};
+	public static final BiFunction<String, String, Boolean> isLessThan = (value, max) -> {
+		try
+		{
+			Double numericValue = Double.parseDouble(value);
+			Double maxValue = Double.parseDouble(max);
+			return numericValue < maxValue;
+		}
+		catch (NumberFormatException e)
+		{
+			return false;
+		}
+	};
+	public static final BiFunction<String, String, Boolean> isMultipleOf = (value, divisor) -> {
+		try
+		{
+			Double numericValue = Double.parseDouble(value);
+			Double divisorValue = Double.parseDouble(divisor);
+			return divisorValue != 0 && numericValue % divisorValue == 0;
+		}
+		catch (NumberFormatException e)
+		{
+			return false;
+		}
+	};
+	// For string attributes
+	public static final BiFunction<String, String, Boolean> hasMinLength = (string, minLength) -> {
+		try
+		{
+			int min = Integer.parseInt(minLength);
+			return string != null && string.length() < min;
+		}
+		catch (NumberFormatException e)
+		{
+			return false;
+		}
+	};
+	public static final BiFunction<String, String, Boolean> hasMaxLength = (string, maxLength) -> {
+		try
+		{
+			int max = Integer.parseInt(maxLength);
+			return string != null && string.length() > max;
+		}
+		catch (NumberFormatException e)
+		{
+			return false;
+		}
+	};
+	public static final BiFunction<String, String, Boolean> matchesPattern = (string, regex) -> {
+		if (string == null || regex == null)
+			return false;
+		return compiledPattern(regex).matcher(string).matches();
+	};
+	// For array attributes (size-based checks)
+	public static final BiFunction<String[], String, Boolean> hasMinItems = (array, minItems) -> {
+		try
+		{
+			int min = Integer.parseInt(minItems);
+			return array != null && array.length >= min;
+		}
+		catch (NumberFormatException e)
+		{
+			return false;
+		}
+	};
+	public static final BiFunction<String[], String, Boolean> hasMaxItems = (array, maxItems) -> {
+		try
+		{
+			int max = Integer.parseInt(maxItems);
+			return array.length <= max;
+		}
+		catch (NumberFormatException e)
+		{
+			return false;
+		}
+	};
+	public static final BiFunction<String[], String, Boolean> hasUniqueItems = (array, uniqueRequired) -> {
+		if (array == null || !Boolean.parseBoolean(uniqueRequired))
+			return true;
+		return array.length == Arrays.stream(array).distinct().count();
+	};
+	// For enums
+	public static final BiFunction<String, String, Boolean> isValueInEnum = (value, input) -> {
+		if (value == null || input == null)
+			return false;
+		return enumValueSet(input).contains(value);
+	};
+
+	// For boolean attributes
+	public static final BiFunction<String, String, Boolean> isBoolean = (value, ignored) -> {
+		if (value == null)
+			return false;
+		return !("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value));
+	};
+	public static final BiFunction<RequestInfo, String, String> getQueryParameterValue = (holder,
+		paramName) -> holder.queryParameters().getFirst(paramName);
+	public static final BiFunction<RequestInfo, String, String> getPathParameterValue = (holder,
+		paramName) -> holder.pathParameters().getFirst(paramName);
+	
+	public record ParameterValidatorMapKey(String url, String httpMethod) {
+	}
+
+	public record Parameter(String name, String nameSpace, boolean isRequired, boolean isAllowEmptyValue,
+					boolean isAllowReserved) {
+	}
+}
@@ -0,0 +1,49 @@
+           package egain.ws.oas.validation;
+
+           import java.util.ArrayList;
+           import java.util.List;
+
+           import egain.framework.validation.ValidationError;
+           import egain.framework.validation.ValidationErrorHelper;
+           import egain.framework.validation.ValidatorAction;
+
+           import egain.ws.oas.RequestInfo;
+           import egain.ws.oas.Validations;
+
+           public class ArrayMaxItemsValidators implements ValidatorAction<RequestInfo>
+           {
+               private final String parameterName;
+private final String val;
+private final String l10nKey;
+private final List<String> arguments;
+private final List<String> localizedArgs;
+private final String nameSpace;
+private final boolean isArray;
+
+public ArrayMaxItemsValidators(String parameterName, String val, String l10nKey, List<String> arguments,
+	List<String> localizedArgs, String nameSpace, boolean isArray)
+{
+	this.parameterName = parameterName;
+	this.val = val;
+	this.l10nKey = l10nKey;
+	this.arguments = new ArrayList<>(arguments);
+	this.localizedArgs = new ArrayList<>(localizedArgs);
+	this.nameSpace = nameSpace;
+	this.isArray = isArray;
+}
+
+@Override
+public ValidationError call(RequestInfo val)
+{
+	String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
+					: Validations.getPathParameterValue.apply(val, parameterName);
+	if (input != null && !Validations.hasMaxItems.apply(input.split(","),
+					this.val))
+	{
+		return ValidationErrorHelper.createValidationError("", l10nKey,
+						arguments,
+						localizedArgs);
+	}
+	return null;
+}
+           }
@@ -0,0 +1,159 @@
+package egain.ws.oas.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import egain.framework.validation.ValidationError;
+import egain.framework.validation.ValidationErrorHelper;
+import egain.framework.validation.ValidatorAction;
+
+import egain.ws.oas.RequestInfo;
+import egain.ws.oas.Validations;
+
+public class FormatValidator implements ValidatorAction<RequestInfo>
+{
+    private final String parameterName;
+    private final String format;
+    private final Pattern formatPattern;
+    private final boolean numericFormat;
+    private final String l10nKey;
+    private final List<String> arguments;
+    private final List<String> localizedArgs;
+    private final String nameSpace;
+    private final boolean isArray;
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    private static final Pattern URI_PATTERN = Pattern.compile("^https?://.*");
+    private static final Pattern UUID_PATTERN = Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    private static final long INT32_MIN = -2147483648L;
+    private static final long INT32_MAX = 2147483647L;
+
+    public FormatValidator(String parameterName, String format, String l10nKey, List<String> arguments,
+        List<String> localizedArguments, String nameSpace, boolean isArray)
+    {
+        this.parameterName = parameterName;
+        this.format = format;
+        this.formatPattern = getPatternForFormat(format);
+        this.numericFormat = isNumericFormat(format);
+        this.l10nKey = l10nKey;
+        this.arguments = new ArrayList<>(arguments);
+        this.localizedArgs = new ArrayList<>(localizedArguments);
+        this.nameSpace = nameSpace;
+        this.isArray = isArray;
+    }
+
+    @Override
+    public ValidationError call(RequestInfo val)
+    {
+        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
+            : Validations.getPathParameterValue.apply(val, parameterName);
+        if (input != null)
+        {
+            if (formatPattern != null)
+            {
+                if (isArray)
+                {
+                    String[] items = input.split(",");
+                    for (String item : items)
+                    {
+                        if (!formatPattern.matcher(item.trim()).matches())
+                        {
+                            return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                        }
+                    }
+                }
+                else
+                {
+                    if (!formatPattern.matcher(input.trim()).matches())
+                    {
+                        return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                    }
+                }
+            }
+            else if (numericFormat)
+            {
+                if (isArray)
+                {
+                    String[] items = input.split(",");
+                    for (String item : items)
+                    {
+                        if (!validateNumericFormat(format, item.trim()))
+                        {
+                            return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                        }
+                    }
+                }
+                else
+                {
+                    if (!validateNumericFormat(format, input.trim()))
+                    {
+                        return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isNumericFormat(String format)
+    {
+        if (format == null) return false;
+        String f = format.toLowerCase();
+        return "int32".equals(f) || "int64".equals(f) || "float".equals(f) || "double".equals(f);
+    }
+
+    private boolean validateNumericFormat(String format, String input)
+    {
+        if (input == null || input.isEmpty()) return true;
+        try
+        {
+            switch (format.toLowerCase())
+            {
+                case "int32" ->
+                {
+                    long v = Long.parseLong(input);
+                    return v >= INT32_MIN && v <= INT32_MAX;
+                }
+                case "int64" ->
+                {
+                    Long.parseLong(input);
+                    return true;
+                }
+                case "float" ->
+                {
+                    Float.parseFloat(input);
+                    return true;
+                }
+                case "double" ->
+                {
+                    Double.parseDouble(input);
+                    return true;
+                }
+                default -> { return true; }
+            }
+        }
+        catch (NumberFormatException e)
+        {
+            return false;
+        }
+    }
+
+    private static Pattern getPatternForFormat(String format)
+    {
+        if ("email".equalsIgnoreCase(format))
+        {
+            return EMAIL_PATTERN;
+        }
+        else if ("uri".equalsIgnoreCase(format) || "url".equalsIgnoreCase(format))
+        {
+            return URI_PATTERN;
+        }
+        else if ("uuid".equalsIgnoreCase(format))
+        {
+            return UUID_PATTERN;
+        }
+        return null;
+    }
+}
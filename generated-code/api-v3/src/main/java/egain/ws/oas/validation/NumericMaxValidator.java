@@ -0,0 +1,75 @@
+           package egain.ws.oas.validation;
+
+           import java.util.ArrayList;
+           import java.util.List;
+
+           import egain.framework.validation.ValidationError;
+           import egain.framework.validation.ValidationErrorHelper;
+           import egain.framework.validation.ValidatorAction;
+
+           import egain.ws.oas.RequestInfo;
+           import egain.ws.oas.Validations;
+
+           public class NumericMaxValidator implements ValidatorAction<RequestInfo>
+           {
+               private final String parameterName;
+private final String val;
+private final String l10nKey;
+private final List<String> arguments;
+private final List<String> localizedArgs;
+private final String nameSpace;
+private final boolean isExclusive;
+private final boolean isArray;
+
+public NumericMaxValidator(String parameterName, String val, String l10nKey, List<String> arguments,
+	List<String> localizedArgs, String nameSpace, boolean isExclusive, boolean isArray)
+{
+	this.parameterName = parameterName;
+	this.val = val;
+	this.l10nKey = l10nKey;
+	this.arguments = new ArrayList<>(arguments);
+	this.localizedArgs = new ArrayList<>(localizedArgs);
+	this.nameSpace = nameSpace;
+	this.isExclusive = isExclusive;
+	this.isArray = isArray;
+}
+
+@Override
+public ValidationError call(RequestInfo val)
+{
+	String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
+		: Validations.getPathParameterValue.apply(val, parameterName);
+	if (input == null)
+	{
+		return null;
+	}
+
+	if (isArray)
+	{
+		String[] items = input.split(",");
+		for (String item : items)
+		{
+			if (isExclusive && Validations.isGreaterThanOrEqualTo.apply(item, this.val))
+			{
+				return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+			}
+			else if (!isExclusive && Validations.isGreaterThan.apply(item, this.val))
+			{
+				return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+			}
+		}
+	}
+	else
+	{
+		if (isExclusive && Validations.isGreaterThanOrEqualTo.apply(input, this.val))
+		{
+			return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+		}
+		else if (!isExclusive && Validations.isGreaterThan.apply(input, this.val))
+		{
+			return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+		}
+	}
+	return null;
+}
+           }
@@ -0,0 +1,38 @@
+package com.egain.openapi1.api;
+
+import egain.framework.validation.ValidationBuilder;
+import egain.ws.oas.RequestInfo;
+import egain.ws.oas.validation.AllowedParameterValidator;
+import egain.ws.oas.validation.ArrayMaxItemsValidators;
+import egain.ws.oas.validation.ArrayMinItemsValidator;
+import egain.ws.oas.validation.BooleanValidator;
+import egain.ws.oas.validation.EnumValidator;
+import egain.ws.oas.validation.FormatValidator;
+import egain.ws.oas.validation.IsRequiredValidator;
+import egain.ws.oas.validation.MaxLengthValidator;
+import egain.ws.oas.validation.MinLengthValidator;
+import egain.ws.oas.validation.NumericMaxValidator;
+import egain.ws.oas.validation.NumericMinValidator;
+import egain.ws.oas.validation.PatternValidator;
+import java.lang.String;
+import java.util.Collections;
+import java.util.List;
+
+public class QueryParamValidators {
+  public static ValidationBuilder<RequestInfo> getItemsGETParameter_api_1() {
+    ValidationBuilder<RequestInfo> v = new ValidationBuilder<>();
+    v.add(new EnumValidator("status", "active,inactive,pending", "L10N_INVALID_VALUE_FOR_ENUM_ATTRIBUTE", Collections.emptyList(), Collections.emptyList(), "query" ,false));
+    List<String> allowedParameters = List.of("status");
+    v.add(new AllowedParameterValidator(allowedParameters));
+    return v;
+  }
+
+  public static ValidationBuilder<RequestInfo> getItemByIdGETParameter_api_1() {
+    ValidationBuilder<RequestInfo> v = new ValidationBuilder<>();
+    List<String> arguments1 = List.of("itemId");
+    v.add(new IsRequiredValidator("itemId", "itemId", "L10N_INVALID_VALUE_FOR_PATH_PARAM_REQUIRED", arguments1, Collections.emptyList(), "path",false));
+    v.add(new AllowedParameterValidator(Collections.emptyList()));
+    return v;
+  }
+
+}
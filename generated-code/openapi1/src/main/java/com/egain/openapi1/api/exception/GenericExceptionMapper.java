@@ -0,0 +1,34 @@
+package com.egain.openapi1.api.exception;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+import javax.ws.rs.ext.Provider;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+@Provider
+public class GenericExceptionMapper implements ExceptionMapper<Exception> {
+    private static final Logger logger = Logger.getLogger(GenericExceptionMapper.class.getName());
+
+    @Override
+    public Response toResponse(Exception exception) {
+        Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+                ? exception.getCause() : exception;
+        if (cause instanceof TimeoutException) {
+            // An async resource ran past its x-sla-response-time budget
+            logger.warning("Request exceeded its response-time budget");
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .entity("{\"error\": \"Service unavailable: response time exceeded\"}")
+                    .type(MediaType.APPLICATION_JSON)
+                    .build();
+        }
+        logger.log(Level.SEVERE, "Unhandled exception", exception);
+        return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                .entity("{\"error\": \"Internal server error\"}")
+                .type(MediaType.APPLICATION_JSON)
+                .build();
+    }
+}
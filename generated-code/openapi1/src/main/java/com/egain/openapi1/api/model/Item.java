@@ -0,0 +1,173 @@
+package com.egain.openapi1.api.model;
+
+import com.egain.platform.common.JAXBBean;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import javax.validation.constraints.*;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+import javax.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+@XmlRootElement(name = "Item")
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "Item", propOrder = {
+    "id",
+    "name",
+    "status"
+})
+public class Item implements Serializable, JAXBBean {
+
+    private static final long serialVersionUID = 1L;
+
+    @XmlTransient
+    private Map<String, Object> _attributes;
+
+    @XmlElement(name = "id", required = true)
+    @NotNull
+    private String id;
+
+    @XmlElement(name = "name", required = true)
+    @NotNull
+    private String name;
+
+    @XmlElement(name = "status")
+    @Pattern(regexp = "(active)|(inactive)|(pending)")
+    private String status;
+
+    public Item() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public boolean isSetId() {
+        return (this.id != null);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isSetName() {
+        return (this.name != null);
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public boolean isSetStatus() {
+        return (this.status != null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Item that = (Item) o;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(name, that.name) &&
+                Objects.equals(status, that.status);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, status);
+    }
+
+    @Override
+    public String toString() {
+        return "Item{" +
+                "id=" + id + ", " +
+                "name=" + name + ", " +
+                "status=" + status +
+                '}';
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        if (_attributes != null && _attributes.containsKey(name)) {
+            return _attributes.get(name);
+        }
+        switch (name) {
+            case "id":
+                return getId();
+            case "name":
+                return getName();
+            case "status":
+                return getStatus();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public boolean isSetAttribute(String name) {
+        if (_attributes != null && _attributes.containsKey(name)) {
+            return true;
+        }
+        switch (name) {
+            case "id":
+                return isSetId();
+            case "name":
+                return isSetName();
+            case "status":
+                return isSetStatus();
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public List<String> getAttributeNames() {
+        List<String> allNames = new ArrayList<>();
+        if (_attributes != null) {
+            allNames.addAll(_attributes.keySet());
+        }
+        allNames.add("id");
+        allNames.add("name");
+        allNames.add("status");
+        return allNames;
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        switch (name) {
+            case "id":
+                setId((String) value);
+                return;
+            case "name":
+                setName((String) value);
+                return;
+            case "status":
+                setStatus((String) value);
+                return;
+            default:
+                if (_attributes == null) {
+                    _attributes = new HashMap<>();
+                }
+                _attributes.put(name, value);
+                break;
+        }
+    }
+}
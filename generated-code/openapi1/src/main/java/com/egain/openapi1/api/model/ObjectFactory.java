@@ -0,0 +1,26 @@
+package com.egain.openapi1.api.model;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlElementDecl;
+import javax.xml.bind.annotation.XmlRegistry;
+import javax.validation.constraints.*;
+import javax.xml.namespace.QName;
+
+@XmlRegistry
+public class ObjectFactory {
+
+    public ObjectFactory() {
+    }
+
+    private static final QName _ITEM_QNAME = new QName("", "item");
+
+    public Item createItem() {
+        return new Item();
+    }
+
+    @XmlElementDecl(name = "item")
+    public JAXBElement<Item> createItem(Item value) {
+        return new JAXBElement<Item>(_ITEM_QNAME, Item.class, null, value);
+    }
+
+}
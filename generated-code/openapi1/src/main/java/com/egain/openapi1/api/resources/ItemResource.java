@@ -0,0 +1,40 @@
+package com.egain.openapi1.api.resources;
+
+import javax.ws.rs.*;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import com.egain.openapi1.api.service.*;
+import com.egain.openapi1.api.model.*;
+import egain.framework.Actor;
+import egain.framework.ActorType;
+import egain.framework.OAuthScope;
+
+@Path("/knowledge/portalmgr/v4/items")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public class ItemResource {
+
+    @GET
+    @Consumes
+    @Actor
+    public Response getItems(
+            @QueryParam("status") String status
+        ) {
+        // Implementation placeholder for Get items
+        // Replace this with actual business logic implementation
+        return Response.ok().build();
+    }
+
+    @GET
+    @Path("/{itemId}")
+    @Consumes
+    @Actor
+    public Response getItemById(
+            @PathParam("itemId") String itemId
+        ) {
+        // Implementation placeholder for Get item by ID
+        // Replace this with actual business logic implementation
+        return Response.ok().build();
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.egain.openapi1.api.service;
+
+import javax.inject.Singleton;
+
+@Singleton
+public class ApiService {
+
+    // Business logic implementation placeholder
+    // This service should contain the core business logic for the API
+    // Implement methods that correspond to the operations defined in the OpenAPI specification
+
+}
@@ -0,0 +1,37 @@
+package egain.framework.validation;
+
+import java.util.List;
+
+public class Validator<T>
+{
+
+	private final List<ValidatorAction<T>> validatorActions;
+
+	protected Validator(List<ValidatorAction<T>> validatorActions)
+	{
+		this.validatorActions = List.copyOf(validatorActions);
+	}
+
+	public List<ValidationError> validate(T input)
+	{
+		ValidationError validationError = validateFirst(input);
+		return validationError == null ? List.of() : List.of(validationError);
+	}
+
+	/**
+	 * Runs the actions in order and returns the first error, or {@code null} when the input is valid.
+	 * Allocates nothing on the valid path.
+	 */
+	public ValidationError validateFirst(T input)
+	{
+		for (int i = 0; i < validatorActions.size(); i++)
+		{
+			ValidationError validationError = validatorActions.get(i).call(input);
+			if (validationError != null)
+			{
+				return validationError;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,35 @@
+package egain.ws.oas;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Read-only view of the request parameters handed to the parameter validators. The JAX-RS maps are
+ * referenced as-is rather than copied, so building a RequestInfo costs one small object per request.
+ */
+public record RequestInfo(String url, String httpMethod, MultivaluedMap<String, String> queryParameters,
+                          MultivaluedMap<String, String> pathParameters) {
+
+	public RequestInfo
+	{
+		if (queryParameters == null)
+		{
+			queryParameters = new MultivaluedHashMap<>();
+		}
+		if (pathParameters == null)
+		{
+			pathParameters = new MultivaluedHashMap<>();
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return "uriInfoHolder[" +
+			"url=" + url + ", " +
+			"httpMethod=" + httpMethod + ", " +
+			"queryParameters=" + queryParameters + ", " +
+			"pathParameters=" + pathParameters + ']';
+	}
+
+}
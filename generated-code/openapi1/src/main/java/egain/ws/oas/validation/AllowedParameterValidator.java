@@ -0,0 +1,33 @@
+package egain.ws.oas.validation;
+
+import java.util.List;
+
+import egain.framework.validation.ValidationError;
+import egain.framework.validation.ValidationErrorHelper;
+import egain.framework.validation.ValidatorAction;
+
+import egain.ws.oas.RequestInfo;
+
+public class AllowedParameterValidator implements ValidatorAction<RequestInfo>
+{
+    private final List<String> allowedParameters;
+
+    public AllowedParameterValidator(List<String> allowedParameters)
+    {
+        this.allowedParameters = allowedParameters;
+    }
+
+    @Override
+    public ValidationError call(RequestInfo val)
+    {
+        for (String param : val.queryParameters().keySet())
+        {
+            if (!allowedParameters.contains(param))
+            {
+                return ValidationErrorHelper.createValidationError("", "L10N_INVALID_QUERY_PARAMETER",
+                    List.of(param), List.of());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,56 @@
+package egain.ws.oas.validation;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import egain.framework.validation.ValidationError;
+import egain.framework.validation.ValidationErrorHelper;
+import egain.framework.validation.ValidatorAction;
+
+import egain.ws.oas.RequestInfo;
+import egain.ws.oas.Validations;
+
+public class ArrayUniqueItemsValidators implements ValidatorAction<RequestInfo>
+{
+    private final String parameterName;
+    private final String l10nKey;
+    private final List<String> arguments;
+    private final List<String> localizedArgs;
+    private final String nameSpace;
+    private final boolean isArray;
+
+    public ArrayUniqueItemsValidators(String parameterName, String l10nKey, List<String> arguments,
+        List<String> localizedArguments, String nameSpace, boolean isArray)
+    {
+        this.parameterName = parameterName;
+        this.l10nKey = l10nKey;
+        this.arguments = new ArrayList<>(arguments);
+        this.localizedArgs = new ArrayList<>(localizedArguments);
+        this.nameSpace = nameSpace;
+        this.isArray = isArray;
+    }
+
+    @Override
+    public ValidationError call(RequestInfo val)
+    {
+        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
+            : Validations.getPathParameterValue.apply(val, parameterName);
+        if (input != null)
+        {
+            String[] items = input.split(",");
+            Set<String> seen = new HashSet<>();
+            for (String item : items)
+            {
+                String trimmed = item.trim();
+                if (seen.contains(trimmed))
+                {
+                    return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                }
+                seen.add(trimmed);
+            }
+        }
+        return null;
+    }
+}
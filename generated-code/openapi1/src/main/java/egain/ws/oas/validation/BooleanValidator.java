@@ -0,0 +1,64 @@
+package egain.ws.oas.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import egain.framework.validation.ValidationError;
+import egain.framework.validation.ValidationErrorHelper;
+import egain.framework.validation.ValidatorAction;
+
+import egain.ws.oas.RequestInfo;
+import egain.ws.oas.Validations;
+
+public class BooleanValidator implements ValidatorAction<RequestInfo>
+{
+    private final String parameterName;
+    private final String l10nKey;
+    private final List<String> arguments;
+    private final List<String> localizedArgs;
+    private final String nameSpace;
+    private final boolean isArray;
+
+    public BooleanValidator(String parameterName, String l10nKey, List<String> arguments,
+        List<String> localizedArguments, String nameSpace, boolean isArray)
+    {
+        this.parameterName = parameterName;
+        this.l10nKey = l10nKey;
+        this.arguments = new ArrayList<>(arguments);
+        this.localizedArgs = new ArrayList<>(localizedArguments);
+        this.nameSpace = nameSpace;
+        this.isArray = isArray;
+    }
+
+    @Override
+    public ValidationError call(RequestInfo val)
+    {
+        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
+            : Validations.getPathParameterValue.apply(val, parameterName);
+        if (input != null)
+        {
+            if (isArray)
+            {
+                String[] items = input.split(",");
+                for (String item : items)
+                {
+                    String trimmed = item.trim().toLowerCase(Locale.ROOT);
+                    if (!"true".equals(trimmed) && !"false".equals(trimmed))
+                    {
+                        return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                    }
+                }
+            }
+            else
+            {
+                String trimmed = input.trim().toLowerCase(Locale.ROOT);
+                if (!"true".equals(trimmed) && !"false".equals(trimmed))
+                {
+                    return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,68 @@
+package egain.ws.oas.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import egain.framework.validation.ValidationError;
+import egain.framework.validation.ValidationErrorHelper;
+import egain.framework.validation.ValidatorAction;
+
+import egain.ws.oas.RequestInfo;
+import egain.ws.oas.Validations;
+
+public class MinLengthValidator implements ValidatorAction<RequestInfo>
+{
+    private final String parameterName;
+    private final String minLength;
+    private final String l10nKey;
+    private final List<String> arguments;
+    private final List<String> localizedArgs;
+    private final String nameSpace;
+    private final boolean isArray;
+
+    public MinLengthValidator(String parameterName, String minLength, String l10nKey, List<String> arguments,
+        List<String> localizedArguments, String nameSpace, boolean isArray)
+    {
+        this.parameterName = parameterName;
+        this.minLength = minLength;
+        this.l10nKey = l10nKey;
+        this.arguments = new ArrayList<>(arguments);
+        this.localizedArgs = new ArrayList<>(localizedArguments);
+        this.nameSpace = nameSpace;
+        this.isArray = isArray;
+    }
+
+    @Override
+    public ValidationError call(RequestInfo val)
+    {
+        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
+            : Validations.getPathParameterValue.apply(val, parameterName);
+        if (input != null)
+        {
+            try {
+                int minLen = Integer.parseInt(minLength);
+                if (isArray)
+                {
+                    String[] items = input.split(",");
+                    for (String item : items)
+                    {
+                        if (item.length() < minLen)
+                        {
+                            return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                        }
+                    }
+                }
+                else
+                {
+                    if (input.length() < minLen)
+                    {
+                        return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                    }
+                }
+            } catch (NumberFormatException e) {
+                // Invalid minLength value, skip validation
+            }
+        }
+        return null;
+    }
+}
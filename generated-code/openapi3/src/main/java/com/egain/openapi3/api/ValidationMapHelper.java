@@ -0,0 +1,27 @@
+package com.egain.openapi3.api;
+
+import egain.framework.validation.ValidationError;
+import egain.framework.validation.Validator;
+import egain.ws.oas.RequestInfo;
+import egain.ws.oas.Validations.ParameterValidatorMapKey;
+import java.util.Map;
+
+public class ValidationMapHelper {
+  public static final Map<ParameterValidatorMapKey, Validator<RequestInfo>> validationsListMap = Map.<ParameterValidatorMapKey, Validator<RequestInfo>> ofEntries(
+    Map.entry(new ParameterValidatorMapKey("/knowledge/contentmgr/v4/schedules/{scheduleId}", "GET"), QueryParamValidators.getScheduleByIdGETParameter_api_1().build())
+  );
+
+  /**
+   * Validate request parameters for a given path and HTTP method
+   * This method can be called from resources or at the beginning of business logic
+   * 
+   * @param path The request path
+   * @param httpMethod The HTTP method (GET, POST, PUT, DELETE, PATCH)
+   * @param requestInfo The RequestInfo object containing path and query parameters
+   * @return ValidationError if validation fails, null if validation passes
+   */
+  public static ValidationError validate(String path, String httpMethod, RequestInfo requestInfo) {
+    Validator<RequestInfo> validator = validationsListMap.get(new ParameterValidatorMapKey(path, httpMethod));
+    return validator != null ? validator.validateFirst(requestInfo) : null;
+  }
+}
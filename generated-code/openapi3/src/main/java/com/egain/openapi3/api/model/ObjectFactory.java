@@ -0,0 +1,26 @@
+package com.egain.openapi3.api.model;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlElementDecl;
+import javax.xml.bind.annotation.XmlRegistry;
+import javax.validation.constraints.*;
+import javax.xml.namespace.QName;
+
+@XmlRegistry
+public class ObjectFactory {
+
+    public ObjectFactory() {
+    }
+
+    private static final QName _SCHEDULE_QNAME = new QName("", "schedule");
+
+    public Schedule createSchedule() {
+        return new Schedule();
+    }
+
+    @XmlElementDecl(name = "schedule")
+    public JAXBElement<Schedule> createSchedule(Schedule value) {
+        return new JAXBElement<Schedule>(_SCHEDULE_QNAME, Schedule.class, null, value);
+    }
+
+}
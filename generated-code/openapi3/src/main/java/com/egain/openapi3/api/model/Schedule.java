@@ -0,0 +1,198 @@
+package com.egain.openapi3.api.model;
+
+import com.egain.platform.common.JAXBBean;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import javax.validation.constraints.*;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+import javax.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+@XmlRootElement(name = "Schedule")
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "Schedule", propOrder = {
+    "id",
+    "name",
+    "cronExpression",
+    "active"
+})
+public class Schedule implements Serializable, JAXBBean {
+
+    private static final long serialVersionUID = 1L;
+
+    @XmlTransient
+    private Map<String, Object> _attributes;
+
+    @XmlElement(name = "id", required = true)
+    @NotNull
+    private String id;
+
+    @XmlElement(name = "name", required = true)
+    @NotNull
+    private String name;
+
+    @XmlElement(name = "cronExpression")
+    private String cronExpression;
+
+    @XmlElement(name = "active")
+    private Boolean active;
+
+    public Schedule() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public boolean isSetId() {
+        return (this.id != null);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isSetName() {
+        return (this.name != null);
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    public void setCronExpression(String cronExpression) {
+        this.cronExpression = cronExpression;
+    }
+
+    public boolean isSetCronExpression() {
+        return (this.cronExpression != null);
+    }
+
+    public Boolean isActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public boolean isSetActive() {
+        return (this.active != null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Schedule that = (Schedule) o;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(name, that.name) &&
+                Objects.equals(cronExpression, that.cronExpression) &&
+                Objects.equals(active, that.active);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, cronExpression, active);
+    }
+
+    @Override
+    public String toString() {
+        return "Schedule{" +
+                "id=" + id + ", " +
+                "name=" + name + ", " +
+                "cronExpression=" + cronExpression + ", " +
+                "active=" + active +
+                '}';
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        if (_attributes != null && _attributes.containsKey(name)) {
+            return _attributes.get(name);
+        }
+        switch (name) {
+            case "id":
+                return getId();
+            case "name":
+                return getName();
+            case "cronExpression":
+                return getCronExpression();
+            case "active":
+                return isActive();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public boolean isSetAttribute(String name) {
+        if (_attributes != null && _attributes.containsKey(name)) {
+            return true;
+        }
+        switch (name) {
+            case "id":
+                return isSetId();
+            case "name":
+                return isSetName();
+            case "cronExpression":
+                return isSetCronExpression();
+            case "active":
+                return isSetActive();
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public List<String> getAttributeNames() {
+        List<String> allNames = new ArrayList<>();
+        if (_attributes != null) {
+            allNames.addAll(_attributes.keySet());
+        }
+        allNames.add("id");
+        allNames.add("name");
+        allNames.add("cronExpression");
+        allNames.add("active");
+        return allNames;
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        switch (name) {
+            case "id":
+                setId((String) value);
+                return;
+            case "name":
+                setName((String) value);
+                return;
+            case "cronExpression":
+                setCronExpression((String) value);
+                return;
+            case "active":
+                setActive((Boolean) value);
+                return;
+            default:
+                if (_attributes == null) {
+                    _attributes = new HashMap<>();
+                }
+                _attributes.put(name, value);
+                break;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.egain.openapi3.api.resources;
+
+import javax.ws.rs.*;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import com.egain.openapi3.api.service.*;
+import com.egain.openapi3.api.model.*;
+import egain.framework.Actor;
+import egain.framework.ActorType;
+import egain.framework.OAuthScope;
+
+@Path("/knowledge/contentmgr/v4/schedules")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public class ScheduleResource {
+
+    @GET
+    @Consumes
+    @Actor
+    public Response getSchedules() {
+        // Implementation placeholder for Get schedules
+        // Replace this with actual business logic implementation
+        return Response.ok().build();
+    }
+
+    @POST
+    @Actor
+    public Response createSchedule(
+            Object requestBody
+        ) {
+        // Implementation placeholder for Create schedule
+        // Replace this with actual business logic implementation
+        return Response.ok().build();
+    }
+
+    @GET
+    @Path("/{scheduleId}")
+    @Consumes
+    @Actor
+    public Response getScheduleById(
+            @PathParam("scheduleId") String scheduleId
+        ) {
+        // Implementation placeholder for Get schedule by ID
+        // Replace this with actual business logic implementation
+        return Response.ok().build();
+    }
+
+}
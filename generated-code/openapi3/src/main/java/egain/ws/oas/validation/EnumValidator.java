@@ -0,0 +1,67 @@
+package egain.ws.oas.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import egain.framework.validation.ValidationError;
+import egain.framework.validation.ValidationErrorHelper;
+import egain.framework.validation.ValidatorAction;
+
+import egain.ws.oas.RequestInfo;
+import egain.ws.oas.Validations;
+
+public class EnumValidator implements ValidatorAction<RequestInfo>
+{
+    private final String parameterName;
+    private final String enumValues;
+    private final Set<String> allowedValues;
+    private final String l10nKey;
+    private final List<String> arguments;
+    private final List<String> localizedArgs;
+    private final String nameSpace;
+    private final boolean isArray;
+
+    public EnumValidator(String parameterName, String enumValues, String l10nKey, List<String> arguments,
+        List<String> localizedArguments, String nameSpace, boolean isArray)
+    {
+        this.parameterName = parameterName;
+        this.enumValues = enumValues;
+        this.allowedValues = Set.copyOf(Arrays.asList(enumValues.split(",")));
+        this.l10nKey = l10nKey;
+        this.arguments = new ArrayList<>(arguments);
+        this.localizedArgs = new ArrayList<>(localizedArguments);
+        this.nameSpace = nameSpace;
+        this.isArray = isArray;
+    }
+
+    @Override
+    public ValidationError call(RequestInfo val)
+    {
+        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
+            : Validations.getPathParameterValue.apply(val, parameterName);
+        if (input != null)
+        {
+            if (isArray)
+            {
+                String[] items = input.split(",");
+                for (String item : items)
+                {
+                    if (!allowedValues.contains(item.trim()))
+                    {
+                        return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                    }
+                }
+            }
+            else
+            {
+                if (!allowedValues.contains(input.trim()))
+                {
+                    return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,50 @@
+package egain.ws.oas.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import egain.framework.validation.ValidationError;
+import egain.framework.validation.ValidationErrorHelper;
+import egain.framework.validation.ValidatorAction;
+
+import egain.ws.oas.RequestInfo;
+
+public class IsRequiredValidator implements ValidatorAction<RequestInfo>
+{
+    private final String parameterName;
+    private final String l10nKey;
+    private final List<String> arguments;
+    private final List<String> localizedArgs;
+
+    private final String requiredParameter;
+
+    private final String nameSpace;
+    private final boolean isArray;
+
+    public IsRequiredValidator(String parameterName, String requiredParameter, String l10nKey, List<String> arguments,
+        List<String> localizedArguments,
+        String nameSpace, boolean isArray)
+    {
+        this.parameterName = parameterName;
+        this.l10nKey = l10nKey;
+        this.arguments = new ArrayList<>(arguments);
+        this.localizedArgs = new ArrayList<>(localizedArguments);
+        this.nameSpace = nameSpace;
+        this.requiredParameter = requiredParameter;
+        this.isArray = isArray;
+    }
+
+    @Override
+    public ValidationError call(RequestInfo val)
+    {
+        if (nameSpace.equalsIgnoreCase("path") && !val.pathParameters().containsKey(requiredParameter))
+        {
+            return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+        }
+        if (nameSpace.equalsIgnoreCase("query") && !val.queryParameters().containsKey(requiredParameter))
+        {
+            return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.egain.openapi4.api;
+
+import egain.framework.validation.ValidationBuilder;
+import egain.ws.oas.RequestInfo;
+import egain.ws.oas.validation.AllowedParameterValidator;
+import egain.ws.oas.validation.ArrayMaxItemsValidators;
+import egain.ws.oas.validation.ArrayMinItemsValidator;
+import egain.ws.oas.validation.BooleanValidator;
+import egain.ws.oas.validation.EnumValidator;
+import egain.ws.oas.validation.FormatValidator;
+import egain.ws.oas.validation.IsRequiredValidator;
+import egain.ws.oas.validation.MaxLengthValidator;
+import egain.ws.oas.validation.MinLengthValidator;
+import egain.ws.oas.validation.NumericMaxValidator;
+import egain.ws.oas.validation.NumericMinValidator;
+import egain.ws.oas.validation.PatternValidator;
+import java.lang.String;
+import java.util.Collections;
+import java.util.List;
+
+public class QueryParamValidators {
+  public static ValidationBuilder<RequestInfo> validateContentPOSTParameter_api_1() {
+    ValidationBuilder<RequestInfo> v = new ValidationBuilder<>();
+    List<String> arguments1 = List.of("strictMode", "placeholder");
+    v.add(new BooleanValidator("strictMode", "L10N_INVALID_VALUE_FOR_QUERY_PARAM_INVALID_BOOLEAN", arguments1, Collections.emptyList(), "query",false));
+    List<String> arguments2 = List.of("maxErrors", "100");
+    v.add(new NumericMaxValidator("maxErrors", "100", "L10N_INVALID_VALUE_FOR_QUERY_PARAM_MORE_THAN_MAX", arguments2, Collections.emptyList(), "query",false,false));
+    List<String> arguments3 = List.of("maxErrors", "1");
+    v.add(new NumericMinValidator("maxErrors", "1", "L10N_INVALID_VALUE_FOR_QUERY_PARAM_LESS_THAN_MIN", arguments3, Collections.emptyList(), "query",false,false));
+    List<String> allowedParameters = List.of("strictMode", "maxErrors");
+    v.add(new AllowedParameterValidator(allowedParameters));
+    return v;
+  }
+
+  public static ValidationBuilder<RequestInfo> getContentByIdGETParameter_api_1() {
+    ValidationBuilder<RequestInfo> v = new ValidationBuilder<>();
+    List<String> arguments1 = List.of("contentId");
+    v.add(new IsRequiredValidator("contentId", "contentId", "L10N_INVALID_VALUE_FOR_PATH_PARAM_REQUIRED", arguments1, Collections.emptyList(), "path",false));
+    v.add(new AllowedParameterValidator(Collections.emptyList()));
+    return v;
+  }
+
+}
@@ -0,0 +1,177 @@
+package com.egain.openapi4.api;
+
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+import org.glassfish.jersey.server.ResourceConfig;
+import javax.ws.rs.ext.ContextResolver;
+import javax.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.glassfish.jersey.jackson.JacksonFeature;
+import java.util.logging.Logger;
+
+public class SampleAPIsApplication extends ResourceConfig {
+
+    private static final Logger logger = Logger.getLogger(SampleAPIsApplication.class.getName());
+
+    public SampleAPIsApplication() {
+        // Register the generated resources by class, so Jersey does not scan the classpath for them at startup
+        register(com.egain.openapi4.api.resources.ValidateResource.class);
+        register(com.egain.openapi4.api.resources.ContentResource.class);
+
+        // Register Jackson for JSON with JSR310 support
+        register(JacksonFeature.class);
+        register(ObjectMapperContextResolver.class);
+
+        // Register exception mappers
+        register(com.egain.openapi4.api.exception.GenericExceptionMapper.class);
+
+    }
+
+    @Provider
+    public static class ObjectMapperContextResolver implements ContextResolver<ObjectMapper> {
+        // One mapper for the application, so its serializer caches serve every request
+        private static final ObjectMapper OBJECT_MAPPER = createObjectMapper();
+
+        public static ObjectMapper objectMapper() {
+            return OBJECT_MAPPER;
+        }
+
+        private static ObjectMapper createObjectMapper() {
+            ObjectMapper objectMapper = new ObjectMapper();
+            objectMapper.registerModule(new JavaTimeModule());
+            return objectMapper;
+        }
+
+        @Override
+        public ObjectMapper getContext(Class<?> type) {
+            return OBJECT_MAPPER;
+        }
+    }
+
+    // Server settings are read from a system property, then an environment variable, then these defaults
+    private static final String DEFAULT_THREADING = "default";
+    private static final int DEFAULT_WORKER_THREADS = 0;
+    private static final int DEFAULT_WORKER_QUEUE_SIZE = 1024;
+
+    /**
+     * Creates and starts the Grizzly server.
+     *
+     * <p>Settings (system property / environment variable, default):
+     * <ul>
+     *   <li>{@code server.host} / {@code SERVER_HOST} ({@code localhost}) and {@code server.port} / {@code SERVER_PORT} (8080)</li>
+     *   <li>{@code server.threading} / {@code SERVER_THREADING}: {@code virtual} handles each request on a virtual
+     *       thread, {@code fixed} uses {@code server.workerThreads} / {@code SERVER_WORKER_THREADS} workers (0 = twice the
+     *       processors) with a queue of {@code server.workerQueueSize} / {@code SERVER_WORKER_QUEUE_SIZE} requests,
+     *       {@code default} keeps Grizzly's pool ({@value #DEFAULT_THREADING})</li>
+     *   <li>{@code server.keepAlive.idleTimeoutSeconds} / {@code SERVER_KEEP_ALIVE_IDLE_TIMEOUT_SECONDS} (30) and
+     *       {@code server.keepAlive.maxRequests} / {@code SERVER_KEEP_ALIVE_MAX_REQUESTS} (256)</li>
+     *   <li>{@code server.ioTimeoutSeconds} / {@code SERVER_IO_TIMEOUT_SECONDS} (30): socket read and write timeout</li>
+     * </ul>
+     */
+    public static HttpServer startServer() {
+        final String host = setting("server.host", "SERVER_HOST", "localhost");
+        final int port = intSetting("server.port", "SERVER_PORT", 8080);
+        final URI baseUri = URI.create("http://" + host + ":" + port + "/");
+        final HttpServer server = GrizzlyHttpServerFactory.createHttpServer(baseUri, new SampleAPIsApplication(), false);
+        for (NetworkListener listener : server.getListeners()) {
+            configureListener(listener);
+        }
+        try {
+            server.start();
+        } catch (IOException e) {
+            server.shutdownNow();
+            throw new UncheckedIOException("Failed to start server at " + baseUri, e);
+        }
+        return server;
+    }
+
+    private static void configureListener(NetworkListener listener) {
+        TCPNIOTransport transport = listener.getTransport();
+        String threading = setting("server.threading", "SERVER_THREADING", DEFAULT_THREADING).toLowerCase(Locale.ROOT);
+        switch (threading) {
+            case "virtual" -> transport.setWorkerThreadPool(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-worker-", 0).factory()));
+            case "fixed" -> {
+                int threads = intSetting("server.workerThreads", "SERVER_WORKER_THREADS", DEFAULT_WORKER_THREADS);
+                if (threads <= 0) {
+                    threads = 2 * Runtime.getRuntime().availableProcessors();
+                }
+                int queueSize = intSetting("server.workerQueueSize", "SERVER_WORKER_QUEUE_SIZE", DEFAULT_WORKER_QUEUE_SIZE);
+                transport.setWorkerThreadPoolConfig(ThreadPoolConfig.defaultConfig().copy()
+                        .setPoolName("http-worker")
+                        .setCorePoolSize(threads)
+                        .setMaxPoolSize(threads)
+                        .setQueueLimit(queueSize));
+            }
+            case "default" -> {
+                // Grizzly's own worker pool
+            }
+            default -> logger.warning("Unknown server.threading '" + threading + "', using Grizzly's worker pool");
+        }
+        listener.getKeepAlive().setIdleTimeoutInSeconds(
+                intSetting("server.keepAlive.idleTimeoutSeconds", "SERVER_KEEP_ALIVE_IDLE_TIMEOUT_SECONDS", 30));
+        listener.getKeepAlive().setMaxRequestsCount(
+                intSetting("server.keepAlive.maxRequests", "SERVER_KEEP_ALIVE_MAX_REQUESTS", 256));
+        int ioTimeoutSeconds = intSetting("server.ioTimeoutSeconds", "SERVER_IO_TIMEOUT_SECONDS", 30);
+        transport.setReadTimeout(ioTimeoutSeconds, TimeUnit.SECONDS);
+        transport.setWriteTimeout(ioTimeoutSeconds, TimeUnit.SECONDS);
+    }
+
+    private static String setting(String property, String environmentVariable, String defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            value = System.getenv(environmentVariable);
+        }
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    private static int intSetting(String property, String environmentVariable, int defaultValue) {
+        String value = setting(property, environmentVariable, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            logger.warning("Ignoring non-numeric " + property + " '" + value + "', using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Starts the server and stops it on SIGTERM or Ctrl-C, letting in-flight requests finish for up to
+     * {@code server.shutdownGraceSeconds} / {@code SERVER_SHUTDOWN_GRACE_SECONDS} (10) seconds.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        final HttpServer server = startServer();
+        final int gracePeriodSeconds = intSetting("server.shutdownGraceSeconds", "SERVER_SHUTDOWN_GRACE_SECONDS", 10);
+        final CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("Stopping, waiting up to " + gracePeriodSeconds + "s for in-flight requests...");
+            try {
+                server.shutdown(gracePeriodSeconds, TimeUnit.SECONDS).get(gracePeriodSeconds + 5L, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                server.shutdownNow();
+            } finally {
+                stopped.countDown();
+            }
+        }, "http-shutdown"));
+        NetworkListener listener = server.getListeners().iterator().next();
+        logger.info("Jersey app started with endpoints available at http://" + listener.getHost() + ":" + listener.getPort() + "/api/");
+        logger.info("Stop it with Ctrl-C or SIGTERM...");
+        stopped.await();
+    }
+}
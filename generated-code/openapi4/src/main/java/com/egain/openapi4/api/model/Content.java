@@ -0,0 +1,172 @@
+package com.egain.openapi4.api.model;
+
+import com.egain.platform.common.JAXBBean;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import javax.validation.constraints.*;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+import javax.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+@XmlRootElement(name = "Content")
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "Content", propOrder = {
+    "id",
+    "data",
+    "type"
+})
+public class Content implements Serializable, JAXBBean {
+
+    private static final long serialVersionUID = 1L;
+
+    @XmlTransient
+    private Map<String, Object> _attributes;
+
+    @XmlElement(name = "id", required = true)
+    @NotNull
+    private String id;
+
+    @XmlElement(name = "data", required = true)
+    @NotNull
+    private String data;
+
+    @XmlElement(name = "type")
+    private String type;
+
+    public Content() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public boolean isSetId() {
+        return (this.id != null);
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    public void setData(String data) {
+        this.data = data;
+    }
+
+    public boolean isSetData() {
+        return (this.data != null);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public boolean isSetType() {
+        return (this.type != null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Content that = (Content) o;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(data, that.data) &&
+                Objects.equals(type, that.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, data, type);
+    }
+
+    @Override
+    public String toString() {
+        return "Content{" +
+                "id=" + id + ", " +
+                "data=" + data + ", " +
+                "type=" + type +
+                '}';
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        if (_attributes != null && _attributes.containsKey(name)) {
+            return _attributes.get(name);
+        }
+        switch (name) {
+            case "id":
+                return getId();
+            case "data":
+                return getData();
+            case "type":
+                return getType();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public boolean isSetAttribute(String name) {
+        if (_attributes != null && _attributes.containsKey(name)) {
+            return true;
+        }
+        switch (name) {
+            case "id":
+                return isSetId();
+            case "data":
+                return isSetData();
+            case "type":
+                return isSetType();
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public List<String> getAttributeNames() {
+        List<String> allNames = new ArrayList<>();
+        if (_attributes != null) {
+            allNames.addAll(_attributes.keySet());
+        }
+        allNames.add("id");
+        allNames.add("data");
+        allNames.add("type");
+        return allNames;
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        switch (name) {
+            case "id":
+                setId((String) value);
+                return;
+            case "data":
+                setData((String) value);
+                return;
+            case "type":
+                setType((String) value);
+                return;
+            default:
+                if (_attributes == null) {
+                    _attributes = new HashMap<>();
+                }
+                _attributes.put(name, value);
+                break;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.egain.openapi4.api.model;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlElementDecl;
+import javax.xml.bind.annotation.XmlRegistry;
+import javax.validation.constraints.*;
+import javax.xml.namespace.QName;
+
+@XmlRegistry
+public class ObjectFactory {
+
+    public ObjectFactory() {
+    }
+
+    private static final QName _CONTENT_QNAME = new QName("", "content");
+
+    public Content createContent() {
+        return new Content();
+    }
+
+    @XmlElementDecl(name = "content")
+    public JAXBElement<Content> createContent(Content value) {
+        return new JAXBElement<Content>(_CONTENT_QNAME, Content.class, null, value);
+    }
+
+    private static final QName _VALIDATIONREQUEST_QNAME = new QName("", "validationRequest");
+
+    public ValidationRequest createValidationRequest() {
+        return new ValidationRequest();
+    }
+
+    @XmlElementDecl(name = "validationRequest")
+    public JAXBElement<ValidationRequest> createValidationRequest(ValidationRequest value) {
+        return new JAXBElement<ValidationRequest>(_VALIDATIONREQUEST_QNAME, ValidationRequest.class, null, value);
+    }
+
+    private static final QName _VALIDATIONRESULT_QNAME = new QName("", "validationResult");
+
+    public ValidationResult createValidationResult() {
+        return new ValidationResult();
+    }
+
+    @XmlElementDecl(name = "validationResult")
+    public JAXBElement<ValidationResult> createValidationResult(ValidationResult value) {
+        return new JAXBElement<ValidationResult>(_VALIDATIONRESULT_QNAME, ValidationResult.class, null, value);
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.egain.openapi4.api.model;
+
+import com.egain.platform.common.JAXBBean;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import javax.validation.constraints.*;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+import javax.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+@XmlRootElement(name = "ValidationResult")
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "ValidationResult", propOrder = {
+    "valid",
+    "errors"
+})
+public class ValidationResult implements Serializable, JAXBBean {
+
+    private static final long serialVersionUID = 1L;
+
+    @XmlTransient
+    private Map<String, Object> _attributes;
+
+    @XmlElement(name = "valid")
+    private Boolean valid;
+
+    @XmlElementWrapper(name = "errors")
+    @XmlElement()
+    private List<String> errors;
+
+    public ValidationResult() {
+    }
+
+    public Boolean isValid() {
+        return valid;
+    }
+
+    public void setValid(Boolean valid) {
+        this.valid = valid;
+    }
+
+    public boolean isSetValid() {
+        return (this.valid != null);
+    }
+
+    public List<String> getErrors() {
+        if (errors == null) {
+            errors = new ArrayList<String>();
+        }
+        return this.errors;
+    }
+
+    public boolean isSetErrors() {
+        return (this.errors != null) && (!this.errors.isEmpty());
+    }
+
+    public void unsetErrors() {
+        this.errors = null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ValidationResult that = (ValidationResult) o;
+        return Objects.equals(valid, that.valid) &&
+                Objects.equals(errors, that.errors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(valid, errors);
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationResult{" +
+                "valid=" + valid + ", " +
+                "errors=" + errors +
+                '}';
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        if (_attributes != null && _attributes.containsKey(name)) {
+            return _attributes.get(name);
+        }
+        switch (name) {
+            case "valid":
+                return isValid();
+            case "errors":
+                return getErrors();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public boolean isSetAttribute(String name) {
+        if (_attributes != null && _attributes.containsKey(name)) {
+            return true;
+        }
+        switch (name) {
+            case "valid":
+                return isSetValid();
+            case "errors":
+                return isSetErrors();
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public List<String> getAttributeNames() {
+        List<String> allNames = new ArrayList<>();
+        if (_attributes != null) {
+            allNames.addAll(_attributes.keySet());
+        }
+        allNames.add("valid");
+        allNames.add("errors");
+        return allNames;
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        switch (name) {
+            case "valid":
+                setValid((Boolean) value);
+                return;
+            case "errors":
+                getErrors().add((String) value);
+                return;
+            default:
+                if (_attributes == null) {
+                    _attributes = new HashMap<>();
+                }
+                _attributes.put(name, value);
+                break;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.egain.openapi4.api.resources;
+
+import javax.ws.rs.*;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import com.egain.openapi4.api.service.*;
+import com.egain.openapi4.api.model.*;
+import egain.framework.Actor;
+import egain.framework.ActorType;
+import egain.framework.OAuthScope;
+
+@Path("/knowledge/contentmgr/v4/validate")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public class ValidateResource {
+
+    @POST
+    @Actor
+    public Response validateContent(
+            Object requestBody,
+            @QueryParam("strictMode") Boolean strictMode,
+            @QueryParam("maxErrors") Integer maxErrors
+        ) {
+        // Implementation placeholder for Validate content
+        // Replace this with actual business logic implementation
+        return Response.ok().build();
+    }
+
+}
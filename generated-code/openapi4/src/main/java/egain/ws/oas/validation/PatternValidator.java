@@ -0,0 +1,67 @@
+package egain.ws.oas.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import egain.framework.validation.ValidationError;
+import egain.framework.validation.ValidationErrorHelper;
+import egain.framework.validation.ValidatorAction;
+
+import egain.ws.oas.RequestInfo;
+import egain.ws.oas.Validations;
+
+public class PatternValidator implements ValidatorAction<RequestInfo>
+{
+    private final String parameterName;
+    private final String val;
+    private final Pattern pattern;
+    private final String l10nKey;
+    private final List<String> arguments;
+    private final List<String> localizedArgs;
+    private final String nameSpace;
+    private final boolean isArray;
+
+    public PatternValidator(String parameterName, String val, String l10nKey, List<String> arguments,
+        List<String> localizedArguments, String nameSpace, boolean isArray)
+    {
+        this.parameterName = parameterName;
+        this.val = val;
+        // Compiled once per validator instance, not on every request
+        this.pattern = Pattern.compile(val);
+        this.l10nKey = l10nKey;
+        this.arguments = new ArrayList<>(arguments);
+        this.localizedArgs = new ArrayList<>(localizedArguments);
+        this.nameSpace = nameSpace;
+        this.isArray = isArray;
+    }
+
+    @Override
+    public ValidationError call(RequestInfo val)
+    {
+        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
+            : Validations.getPathParameterValue.apply(val, parameterName);
+        if (input != null)
+        {
+            if (isArray)
+            {
+                String[] items = input.split(",");
+                for (String item : items)
+                {
+                    if (!pattern.matcher(item).matches())
+                    {
+                        return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                    }
+                }
+            }
+            else
+            {
+                if (!pattern.matcher(input).matches())
+                {
+                    return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,162 @@
+package egain.oassdk.benchmarks;
+
+import egain.oassdk.core.sequence.ApiCallExtractor;
+import egain.oassdk.core.sequence.ApiCallInfo;
+import egain.oassdk.core.sequence.ChainConfig;
+import egain.oassdk.core.sequence.ChainEnumerator;
+import egain.oassdk.core.sequence.OperationGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chain discovery for every POST of a synthetic spec: resolving each seed's producer prefix and its tail
+ * pool of consumers.
+ *
+ * <p>{@code scanDiscovery} reproduces the previous behaviour (every lookup scans the call list);
+ * {@code indexedDiscovery} the current one, including building the {@link OperationGraph}.
+ * {@code minimalChains} is the whole enumeration at {@code maxChainLength = 1}, where discovery dominates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChainDiscoveryBenchmark {
+
+    // Operations per synthetic resource: see syntheticSpec
+    private static final int OPERATIONS_PER_RESOURCE = 10;
+
+    @Param({"250", "1000"})
+    public int operationCount;
+
+    private List<ApiCallInfo> calls;
+
+    @Setup
+    public void extract() {
+        calls = new ApiCallExtractor().extract(syntheticSpec(operationCount / OPERATIONS_PER_RESOURCE));
+    }
+
+    @Benchmark
+    public int scanDiscovery() {
+        int found = 0;
+        for (ApiCallInfo call : calls) {
+            if ("POST".equals(call.method())) {
+                found += scanPrefix(call, new HashSet<>()).size() + scanTailPool(call).size();
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int indexedDiscovery() {
+        OperationGraph graph = OperationGraph.of(calls);
+        int found = 0;
+        for (ApiCallInfo call : calls) {
+            if ("POST".equals(call.method())) {
+                found += indexedPrefix(graph, call, new HashSet<>()).size() + graph.consumersOf(call).size();
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int minimalChains() {
+        return new ChainEnumerator(ChainConfig.builder().maxChainLength(1).build()).enumerate(calls).size();
+    }
+
+    private List<ApiCallInfo> scanPrefix(ApiCallInfo post, Set<ApiCallInfo> visiting) {
+        List<ApiCallInfo> steps = new ArrayList<>();
+        if (!visiting.add(post)) {
+            return steps;
+        }
+        for (String param : post.pathParamNames()) {
+            ApiCallInfo producer = ApiCallExtractor.findProducerForParam(post, param, calls);
+            if (producer != null) {
+                steps.addAll(scanPrefix(producer, visiting));
+                steps.add(producer);
+            }
+        }
+        return steps;
+    }
+
+    private static List<ApiCallInfo> indexedPrefix(OperationGraph graph, ApiCallInfo post, Set<ApiCallInfo> visiting) {
+        List<ApiCallInfo> steps = new ArrayList<>();
+        if (!visiting.add(post)) {
+            return steps;
+        }
+        for (String param : post.pathParamNames()) {
+            ApiCallInfo producer = graph.findProducerForParam(post, param);
+            if (producer != null) {
+                steps.addAll(indexedPrefix(graph, producer, visiting));
+                steps.add(producer);
+            }
+        }
+        return steps;
+    }
+
+    /** The tail pool as ChainEnumerator built it before the graph: two scans of the call list per seed. */
+    private List<ApiCallInfo> scanTailPool(ApiCallInfo seed) {
+        Set<String> boundParams = new HashSet<>(seed.pathParamNames());
+        String descendantScan = seed.path() + "/{";
+        for (ApiCallInfo c : calls) {
+            if (c.path().startsWith(descendantScan)) {
+                int start = descendantScan.length();
+                int end = c.path().indexOf('}', start);
+                if (end > start) {
+                    boundParams.add(c.path().substring(start, end));
+                    break;
+                }
+            }
+        }
+        List<ApiCallInfo> pool = new ArrayList<>();
+        for (ApiCallInfo c : calls) {
+            if (c != seed && c.isConsumer() && !"POST".equals(c.method())
+                    && (c.path().equals(seed.path()) || c.path().startsWith(seed.path() + "/"))
+                    && boundParams.containsAll(c.pathParamNames())) {
+                pool.add(c);
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * {@code resources} collections of {@value #OPERATIONS_PER_RESOURCE} operations each: create and list,
+     * get/put/patch/delete by id, and a nested items collection with create, list, get and delete.
+     */
+    private static Map<String, Object> syntheticSpec(int resources) {
+        Map<String, Object> paths = new LinkedHashMap<>();
+        for (int i = 0; i < resources; i++) {
+            String collection = "/resources" + i;
+            String item = collection + "/{resource" + i + "Id}";
+            paths.put(collection, Map.of("post", operation("create" + i), "get", operation("list" + i)));
+            paths.put(item, Map.of("get", operation("get" + i), "put", operation("put" + i),
+                    "patch", operation("patch" + i), "delete", operation("delete" + i)));
+            paths.put(item + "/items", Map.of("post", operation("createItem" + i), "get", operation("listItems" + i)));
+            paths.put(item + "/items/{itemId}", Map.of("get", operation("getItem" + i),
+                    "delete", operation("deleteItem" + i)));
+        }
+        return Map.of("openapi", "3.0.0", "info", Map.of("title", "Bench API", "version", "1.0.0"), "paths", paths);
+    }
+
+    private static Map<String, Object> operation(String operationId) {
+        return Map.of("operationId", operationId, "responses", Map.of("200", Map.of("description", "OK")));
+    }
+}
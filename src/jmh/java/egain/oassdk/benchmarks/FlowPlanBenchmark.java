@@ -0,0 +1,161 @@
+package egain.oassdk.benchmarks;
+
+import egain.oassdk.flow.FlowAst;
+import egain.oassdk.flow.FlowInterpreter;
+import egain.oassdk.flow.FlowParser;
+import egain.oassdk.flow.FlowPlan;
+import egain.oassdk.flow.OpenApiOperationCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One execution of a create / read / edit / delete flow against a runtime that answers
+ * immediately, so the cost measured is the flow engine's own: {@code interpreter} compiles the flow
+ * without a catalog on every execution, {@code compiledPlan} runs the {@link FlowPlan} compiled once
+ * in setup.
+ * Run with {@code -prof gc} to compare allocation per execution.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlowPlanBenchmark {
+
+    private static final String FLOW = """
+            flow "article-lifecycle"
+            operations: "createArticle", "getArticle", "editArticle", "deleteArticle"
+            call "createArticle"
+              expect status "201"
+            extract articleId from response.header "Location" lastSegment
+            extract etag from response.header "ETag"
+            call "getArticle"
+              path articleID = articleId
+              expect status "200"
+            call "editArticle"
+              path articleID = articleId
+              header "If-Match" = etag
+              expect status "2xx"
+            call "deleteArticle"
+              path articleID = articleId
+              header "If-Match" = etag
+              expect status "2xx"
+            """;
+
+    private final FlowInterpreter interpreter = new FlowInterpreter();
+    private final FlowInterpreter.Runtime runtime = new ImmediateRuntime();
+    private FlowAst.FlowDefinition flow;
+    private FlowPlan plan;
+
+    @Setup
+    public void compile() {
+        flow = new FlowParser().parse(FLOW);
+        plan = FlowPlan.compile(flow, OpenApiOperationCatalog.fromSpec(spec()));
+    }
+
+    @Benchmark
+    public void interpreter() {
+        interpreter.execute(flow, runtime);
+    }
+
+    @Benchmark
+    public void compiledPlan() {
+        plan.execute(runtime);
+    }
+
+    private static Map<String, Object> spec() {
+        Map<String, Object> paths = new LinkedHashMap<>();
+        paths.put("/articles", Map.of("post", Map.of("operationId", "createArticle",
+                "requestBody", Map.of("content", Map.of("application/json", Map.of())))));
+        List<Map<String, Object>> idParameter = List.of(Map.of("name", "articleID", "in", "path"));
+        paths.put("/articles/{articleID}", Map.of(
+                "get", Map.of("operationId", "getArticle", "parameters", idParameter),
+                "patch", Map.of("operationId", "editArticle", "parameters", idParameter,
+                        "requestBody", Map.of("content", Map.of("application/json", Map.of()))),
+                "delete", Map.of("operationId", "deleteArticle", "parameters", idParameter)));
+        return Map.of("paths", paths);
+    }
+
+    /** Answers every call with the status the flow expects; reads the binds as a client would. */
+    private static final class ImmediateRuntime implements FlowInterpreter.Runtime {
+        private static final Response CREATED = new ImmediateResponse(201,
+                Map.of("Location", "https://example.com/articles/42", "ETag", "\"v1\""));
+        private static final Response OK = new ImmediateResponse(200, Map.of());
+
+        private final Client client = new Client() {
+            @Override
+            public Response call(String operationId, Map<String, String> pathBinds, Map<String, String> headerBinds,
+                                 String body) {
+                if (pathBinds.size() + headerBinds.size() > 0 && pathBinds.get("articleID") == null) {
+                    throw new IllegalStateException("unbound articleID");
+                }
+                return "createArticle".equals(operationId) ? CREATED : OK;
+            }
+
+            @Override
+            public Response fetch(String targetUrl) {
+                return OK;
+            }
+        };
+
+        private final BodyFactory bodyFactory = new BodyFactory() {
+            @Override
+            public boolean hasBody(String operationId) {
+                return "createArticle".equals(operationId) || "editArticle".equals(operationId);
+            }
+
+            @Override
+            public String valid(String operationId) {
+                return "{}";
+            }
+
+            @Override
+            public String withViolation(String operationId, FlowAst.PoisonClause poison) {
+                return "{}";
+            }
+        };
+
+        @Override
+        public Client client() {
+            return client;
+        }
+
+        @Override
+        public BodyFactory bodyFactory() {
+            return bodyFactory;
+        }
+
+        @Override
+        public Duration defaultPollTimeout() {
+            return Duration.ofSeconds(1);
+        }
+    }
+
+    private record ImmediateResponse(int statusCode, Map<String, String> headers)
+            implements FlowInterpreter.Runtime.Response {
+        @Override
+        public String header(String name) {
+            return headers.get(name);
+        }
+
+        @Override
+        public String jsonPath(String jsonPath) {
+            return null;
+        }
+    }
+}
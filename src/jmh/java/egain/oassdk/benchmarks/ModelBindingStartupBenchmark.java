@@ -0,0 +1,193 @@
+package egain.oassdk.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import egain.oassdk.config.GeneratorConfig;
+import egain.oassdk.core.parser.OASParser;
+import egain.oassdk.generators.java.JerseyGenerator;
+import jakarta.xml.bind.JAXBContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Startup cost of the binding metadata for generated models: a {@code JAXBContext} over the default (JAXB)
+ * models, as Jersey's JAXB provider builds it, against Jackson serializers and deserializers for the same
+ * models generated with {@code jsonOnlyModels}. {@code jacksonJaxbModels} is the Jackson work the JAXB
+ * variant still needs for its JSON responses.
+ *
+ * <p>Both variants are generated from a synthetic spec of {@code modelCount} schemas and compiled once per
+ * trial; every invocation loads them into a fresh class loader so no metadata is cached between invocations.
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} is the heap allocated per startup.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelBindingStartupBenchmark {
+
+    private static final String PACKAGE_NAME = "com.example.bench";
+
+    @Param({"50", "500"})
+    public int modelCount;
+
+    private Path workDir;
+    private Path jaxbClasses;
+    private Path jsonClasses;
+    private List<Class<?>> jaxbModels;
+    private List<Class<?>> jsonModels;
+
+    @Setup(Level.Trial)
+    public void generateModels() throws Exception {
+        workDir = Files.createTempDirectory("model-binding-bench");
+        Path specPath = workDir.resolve("spec.json");
+        new ObjectMapper().writeValue(specPath.toFile(), syntheticSpec(modelCount));
+        OASParser parser = new OASParser();
+        Map<String, Object> spec = parser.resolveReferences(parser.parse(specPath.toString()), specPath.toString());
+
+        jaxbClasses = generateAndCompile(spec, "jaxb", false);
+        jsonClasses = generateAndCompile(spec, "json", true);
+    }
+
+    @Setup(Level.Invocation)
+    public void loadModels() throws ClassNotFoundException {
+        jaxbModels = loadModels(jaxbClasses);
+        jsonModels = loadModels(jsonClasses);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteModels() throws IOException {
+        try (Stream<Path> paths = Files.walk(workDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public Object jaxbContext() throws Exception {
+        return JAXBContext.newInstance(jaxbModels.toArray(new Class<?>[0]));
+    }
+
+    @Benchmark
+    public Object jacksonJaxbModels() {
+        return prepareJackson(jaxbModels);
+    }
+
+    @Benchmark
+    public Object jacksonJsonOnlyModels() {
+        return prepareJackson(jsonModels);
+    }
+
+    private static ObjectMapper prepareJackson(List<Class<?>> models) {
+        ObjectMapper mapper = new ObjectMapper();
+        for (Class<?> model : models) {
+            mapper.writerFor(model);
+            mapper.readerFor(model);
+        }
+        return mapper;
+    }
+
+    private List<Class<?>> loadModels(Path classes) throws ClassNotFoundException {
+        URLClassLoader loader;
+        try {
+            loader = new URLClassLoader(new URL[] {classes.toUri().toURL()}, getClass().getClassLoader());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        List<Class<?>> models = new ArrayList<>(modelCount);
+        for (int i = 0; i < modelCount; i++) {
+            models.add(Class.forName(PACKAGE_NAME + ".model.Model" + i, true, loader));
+        }
+        return models;
+    }
+
+    private Path generateAndCompile(Map<String, Object> spec, String variant, boolean jsonOnlyModels) throws Exception {
+        Path outputDir = workDir.resolve(variant);
+        GeneratorConfig config = GeneratorConfig.builder()
+                .packageName(PACKAGE_NAME)
+                .useJakartaNamespace(true)
+                .observabilityEnabled(false)
+                .jsonOnlyModels(jsonOnlyModels)
+                .additionalProperties(Map.of("standaloneMode", "true"))
+                .build();
+        new JerseyGenerator().generate(spec, outputDir.toString(), config, PACKAGE_NAME);
+
+        Path modelDir = outputDir.resolve("src/main/java/" + PACKAGE_NAME.replace('.', '/') + "/model");
+        List<String> args = new ArrayList<>(List.of("-proc:none", "-nowarn",
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", outputDir.resolve("classes").toString()));
+        try (Stream<Path> sources = Files.list(modelDir)) {
+            sources.filter(p -> p.toString().endsWith(".java")).forEach(p -> args.add(p.toString()));
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler.run(null, null, null, args.toArray(new String[0])) != 0) {
+            throw new IllegalStateException("Generated " + variant + " models do not compile");
+        }
+        return outputDir.resolve("classes");
+    }
+
+    /**
+     * {@code count} schemas with scalar, date-time, list, inline-object and model properties, all reachable
+     * from one operation.
+     */
+    private static Map<String, Object> syntheticSpec(int count) {
+        Map<String, Object> schemas = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> properties = new LinkedHashMap<>();
+            properties.put("id", Map.of("type", "string"));
+            properties.put("display_name", Map.of("type", "string", "maxLength", 128));
+            properties.put("count", Map.of("type", "integer", "format", "int64"));
+            properties.put("created", Map.of("type", "string", "format", "date-time"));
+            properties.put("tags", Map.of("type", "array", "items", Map.of("type", "string")));
+            properties.put("address", Map.of("type", "object", "properties",
+                    Map.of("street", Map.of("type", "string"), "city", Map.of("type", "string"))));
+            // Models form a binary tree, so each one is reachable from the operation along a single path
+            if (2 * i + 1 < count) {
+                properties.put("child", Map.of("$ref", "#/components/schemas/Model" + (2 * i + 1)));
+            }
+            if (2 * i + 2 < count) {
+                properties.put("children", Map.of("type", "array", "items",
+                        Map.of("$ref", "#/components/schemas/Model" + (2 * i + 2))));
+            }
+            schemas.put("Model" + i, Map.of("type", "object", "required", List.of("id"), "properties", properties));
+        }
+        Map<String, Object> response = Map.of("description", "OK", "content",
+                Map.of("application/json", Map.of("schema", Map.of("$ref", "#/components/schemas/Model0"))));
+        return Map.of(
+                "openapi", "3.0.0",
+                "info", Map.of("title", "Bench API", "version", "1.0.0"),
+                "paths", Map.of("/models/{id}", Map.of("get", Map.of(
+                        "operationId", "getModel",
+                        "parameters", List.of(Map.of("name", "id", "in", "path", "required", true,
+                                "schema", Map.of("type", "string"))),
+                        "responses", Map.of("200", response)))),
+                "components", Map.of("schemas", schemas));
+    }
+}
@@ -0,0 +1,79 @@
+package egain.oassdk.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Per-request cost of the pattern and enum checks done by the generated parameter validators
+ * ({@code PatternValidator}, {@code EnumValidator}, {@code Validations.isValueInEnum}).
+ *
+ * <p>The {@code perRequest*} methods reproduce the previous runtime behaviour (compile / split on every
+ * call); the {@code precompiled*} methods reproduce the current one (state built once at validator
+ * construction).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParameterValidationBenchmark {
+
+    private static final String REGEX = "^[A-Za-z0-9_-]{1,64}$";
+    private static final String ENUM_VALUES = "asc,desc,relevance,created,modified,title";
+
+    private String input;
+    private String enumInput;
+    private Pattern pattern;
+    private Set<String> enumSet;
+
+    @Setup
+    public void setUp() {
+        input = "article_1234-abc";
+        enumInput = "modified";
+        pattern = Pattern.compile(REGEX);
+        enumSet = Set.copyOf(Arrays.asList(ENUM_VALUES.split(",")));
+    }
+
+    @Benchmark
+    public boolean perRequestPattern() {
+        return Pattern.compile(REGEX).matcher(input).matches();
+    }
+
+    @Benchmark
+    public boolean precompiledPattern() {
+        return pattern.matcher(input).matches();
+    }
+
+    @Benchmark
+    public boolean perRequestEnumList() {
+        List<String> allowedValues = Arrays.asList(ENUM_VALUES.split(","));
+        return allowedValues.contains(enumInput);
+    }
+
+    @Benchmark
+    public boolean perRequestEnumSet() {
+        Set<String> values = Arrays.stream(ENUM_VALUES.split(",\\s*")).collect(Collectors.toSet());
+        return values.contains(enumInput);
+    }
+
+    @Benchmark
+    public boolean precompiledEnumSet() {
+        return enumSet.contains(enumInput);
+    }
+}
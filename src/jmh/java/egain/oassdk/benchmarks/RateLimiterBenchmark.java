@@ -0,0 +1,110 @@
+package egain.oassdk.benchmarks;
+
+import com.example.limits.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the per-minute check done by the generated {@code com.example.limits.RateLimiter} under
+ * contention (8 threads), for a single hot client and for requests spread over many clients.
+ *
+ * <p>The {@code timestampList*} methods reproduce the previous limiter (a synchronized list of
+ * {@code LocalDateTime} per client, filtered on every call); the {@code gcra*} methods call the shipped
+ * {@code RateLimiter}, compiled from its runtime template ({@code src/main/resources/runtime/limits}) by the
+ * benchmarks profile. Its hour and day quotas are set out of reach so only the minute quota rejects.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    @Param({"1000"})
+    public int maxRequestsPerMinute;
+
+    @Param({"10000"})
+    public int clients;
+
+    private String[] keys;
+    private ConcurrentHashMap<String, TimestampList> timestampLists;
+    private RateLimiter rateLimiter;
+
+    @Setup
+    public void setUp() {
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "api-key-" + i;
+        }
+        timestampLists = new ConcurrentHashMap<>();
+        rateLimiter = new RateLimiter(maxRequestsPerMinute, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public boolean timestampListHotKey() {
+        return timestampListAllowed(keys[0]);
+    }
+
+    @Benchmark
+    public boolean timestampListManyKeys() {
+        return timestampListAllowed(keys[ThreadLocalRandom.current().nextInt(clients)]);
+    }
+
+    @Benchmark
+    public boolean gcraHotKey() {
+        return rateLimiter.isAllowedPerMinute(keys[0]);
+    }
+
+    @Benchmark
+    public boolean gcraManyKeys() {
+        return rateLimiter.isAllowedPerMinute(keys[ThreadLocalRandom.current().nextInt(clients)]);
+    }
+
+    private boolean timestampListAllowed(String key) {
+        TimestampList data = timestampLists.computeIfAbsent(key, k -> new TimestampList());
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = now.minus(1, ChronoUnit.MINUTES);
+        data.cleanOldEntries(windowStart);
+        if (data.getRequestCount(windowStart) >= maxRequestsPerMinute) {
+            return false;
+        }
+        data.addRequest(now);
+        return true;
+    }
+
+    private static final class TimestampList {
+        private final List<LocalDateTime> requests = new ArrayList<>();
+
+        synchronized void addRequest(LocalDateTime timestamp) {
+            requests.add(timestamp);
+        }
+
+        synchronized int getRequestCount(LocalDateTime windowStart) {
+            return (int) requests.stream().filter(timestamp -> timestamp.isAfter(windowStart)).count();
+        }
+
+        synchronized void cleanOldEntries(LocalDateTime windowStart) {
+            requests.removeIf(timestamp -> timestamp.isBefore(windowStart));
+        }
+    }
+}
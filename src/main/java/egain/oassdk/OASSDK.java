@@ -8,9 +8,12 @@ import egain.oassdk.testgenerators.common.TestProfileSupport;
 import egain.oassdk.core.exceptions.GenerationException;
 import egain.oassdk.core.exceptions.OASSDKException;
 import egain.oassdk.core.exceptions.ValidationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.core.logging.LoggerConfig;
 import egain.oassdk.core.metadata.OASMetadata;
 import egain.oassdk.core.parser.OASParser;
+import egain.oassdk.core.parser.ParsedSpecCache;
+import egain.oassdk.core.stage.StageScheduler;
 import egain.oassdk.core.validator.OASValidator;
 import egain.oassdk.docs.DocumentationGenerator;
 import egain.oassdk.generators.GeneratorFactory;
@@ -24,6 +27,7 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -54,6 +58,8 @@ public class OASSDK implements AutoCloseable {
     private final OASValidator validator;
     /** When specZipPath is set, the ZIP is opened as a FileSystem and closed in close() */
     private final java.nio.file.FileSystem zipFileSystem;
+    /** On-disk cache of resolved specs; null unless {@link GeneratorConfig#getSpecCacheDir()} is set */
+    private final ParsedSpecCache specCache;
     private final OASMetadata metadata;
     private final GeneratorFactory generatorFactory;
     private final TestGeneratorFactory testGeneratorFactory;
@@ -64,6 +70,9 @@ public class OASSDK implements AutoCloseable {
     private Map<String, Object> spec;
     private Map<String, Object> slaSpec;
 
+    // Counts from the most recent generation run (null before the first one)
+    private GeneratedFiles.WriteReport lastWriteReport;
+
     // Path/operation filters
     private Set<String> pathFilters;  // e.g., ["/api/users", "/api/posts"]
     private Map<String, Set<String>> operationFilters;  // e.g., {"/api/users": ["GET", "POST"]}
@@ -106,15 +115,21 @@ public class OASSDK implements AutoCloseable {
             }
         }
         this.zipFileSystem = zipFs;
+        List<String> searchPaths = null;
         if (zipFs != null) {
             this.parser = new OASParser(null, zipFs, "/");
         } else {
-            List<String> searchPaths = null;
             if (generatorConfig != null && generatorConfig.getSearchPaths() != null) {
                 searchPaths = generatorConfig.getSearchPaths();
             }
             this.parser = new OASParser(searchPaths);
         }
+        if (generatorConfig != null && generatorConfig.getSpecCacheDir() != null) {
+            this.specCache = new ParsedSpecCache(Paths.get(generatorConfig.getSpecCacheDir()), zipFs,
+                    zipFs != null ? generatorConfig.getSpecZipPath() : null, searchPaths);
+        } else {
+            this.specCache = null;
+        }
         this.validator = new OASValidator();
         this.metadata = new OASMetadata();
         this.generatorFactory = new GeneratorFactory();
@@ -276,6 +291,8 @@ public class OASSDK implements AutoCloseable {
      * When this SDK was created with {@link GeneratorConfig#getSpecZipPath() specZipPath}, {@code specPath}
      * is an entry path inside the ZIP (e.g. {@code published/core/infomgr/v4/api.yaml}); use forward slashes.
      * Otherwise, {@code specPath} is a filesystem path to a YAML/JSON file.
+     * When {@link GeneratorConfig#getSpecCacheDir() specCacheDir} is set, an unchanged spec is read from
+     * the resolved-spec cache instead of being parsed and resolved again.
      *
      * @param specPath Path to the spec file, or ZIP entry path when using specZipPath
      * @return This SDK instance for method chaining
@@ -285,11 +302,20 @@ public class OASSDK implements AutoCloseable {
         Objects.requireNonNull(specPath, "Specification path cannot be null");
         String unixSpecPath = egain.oassdk.core.parser.PathUtils.toUnixPath(specPath);
         try {
-            // Parse the specification (all paths processed in Unix style)
-            this.spec = parser.parse(unixSpecPath);
+            Map<String, Object> cached = specCache != null ? specCache.load(parser.fileKey(unixSpecPath)) : null;
+            if (cached != null) {
+                this.spec = cached;
+            } else {
+                // Parse the specification (all paths processed in Unix style)
+                this.spec = parser.parse(unixSpecPath);
 
-            // Resolve all $ref references (internal and external)
-            this.spec = parser.resolveReferences(this.spec, unixSpecPath);
+                // Resolve all $ref references (internal and external)
+                this.spec = parser.resolveReferences(this.spec, unixSpecPath);
+
+                if (specCache != null) {
+                    specCache.store(parser.fileKey(unixSpecPath), this.spec, parser.getLastResolvedFiles());
+                }
+            }
 
             // Validate specification
             validator.validate(this.spec);
@@ -377,7 +403,8 @@ public class OASSDK implements AutoCloseable {
             Map<String, Object> specToUse = filterSpec(spec);
 
             // Generate application
-            generator.generate(specToUse, outputDir, generatorConfig, packageName);
+            trackGeneratedFiles(outputDir, "application-" + language + "-" + framework,
+                    () -> generator.generate(specToUse, outputDir, generatorConfig, packageName));
 
             return this;
 
@@ -430,33 +457,23 @@ public class OASSDK implements AutoCloseable {
 
             List<String> effectiveTypes = TestProfileSupport.filterTestTypes(testTypes, testConfig);
 
-            // Shared test-support (TestEnv, TestAuth, test-env.properties)
-            new egain.oassdk.testgenerators.support.TestSupportGenerator()
-                    .generate(specToUse, outputDir, testConfig, effectiveTypes);
-
-            // Ensure testConfig has language/framework information from generatorConfig if not already set
-            if (testConfig != null && generatorConfig != null) {
-                if (testConfig.getLanguage() == null && generatorConfig.getLanguage() != null) {
-                    testConfig.setLanguage(generatorConfig.getLanguage());
-                }
-                if (testConfig.getFramework() == null && generatorConfig.getFramework() != null) {
-                    // Map code generation framework to test framework
-                    String codeFramework = generatorConfig.getFramework().toLowerCase(Locale.ROOT);
-                    if (codeFramework.contains("fastapi") || codeFramework.contains("flask")) {
-                        testConfig.setFramework("pytest");
-                    } else if (codeFramework.contains("express")) {
-                        testConfig.setFramework("jest");
-                    } else {
-                        testConfig.setFramework(codeFramework);
-                    }
+            // One manifest per combination of test types, so generating different types into the same
+            // directory in separate runs never prunes the other run's files
+            String scope = "tests-" + String.join("+", effectiveTypes.stream().sorted().toList())
+                    + (testFramework != null ? "-" + testFramework : "");
+            trackGeneratedFiles(outputDir, scope, () -> {
+                // Shared test-support (TestEnv, TestAuth, test-env.properties)
+                new egain.oassdk.testgenerators.support.TestSupportGenerator()
+                        .generate(specToUse, outputDir, testConfig, effectiveTypes);
+
+                alignTestConfigWithGeneratorConfig();
+
+                // Generate each test type
+                for (String testType : effectiveTypes) {
+                    var testGenerator = testGeneratorFactory.getGenerator(testType, testConfig);
+                    testGenerator.generate(specToUse, outputDir, testConfig, testFramework);
                 }
-            }
-
-            // Generate each test type
-            for (String testType : effectiveTypes) {
-                var testGenerator = testGeneratorFactory.getGenerator(testType, testConfig);
-                testGenerator.generate(specToUse, outputDir, testConfig, testFramework);
-            }
+            });
 
             return this;
 
@@ -469,6 +486,28 @@ public class OASSDK implements AutoCloseable {
         }
     }
 
+    /**
+     * Ensure testConfig has language/framework information from generatorConfig if not already set
+     */
+    private void alignTestConfigWithGeneratorConfig() {
+        if (testConfig != null && generatorConfig != null) {
+            if (testConfig.getLanguage() == null && generatorConfig.getLanguage() != null) {
+                testConfig.setLanguage(generatorConfig.getLanguage());
+            }
+            if (testConfig.getFramework() == null && generatorConfig.getFramework() != null) {
+                // Map code generation framework to test framework
+                String codeFramework = generatorConfig.getFramework().toLowerCase(Locale.ROOT);
+                if (codeFramework.contains("fastapi") || codeFramework.contains("flask")) {
+                    testConfig.setFramework("pytest");
+                } else if (codeFramework.contains("express")) {
+                    testConfig.setFramework("jest");
+                } else {
+                    testConfig.setFramework(codeFramework);
+                }
+            }
+        }
+    }
+
     /**
      * Generate mock data
      *
@@ -497,7 +536,7 @@ public class OASSDK implements AutoCloseable {
 
             // Generate mock data
             var mockGenerator = testGeneratorFactory.getGenerator("mock_data");
-            mockGenerator.generate(specToUse, outputDir, testConfig, null);
+            trackGeneratedFiles(outputDir, "mock-data", () -> mockGenerator.generate(specToUse, outputDir, testConfig, null));
 
             return this;
 
@@ -635,7 +674,13 @@ public class OASSDK implements AutoCloseable {
     }
 
     /**
-     * Generate complete project
+     * Generate complete project.
+     * <p>
+     * Application, test, mock data, SLA/monitoring and documentation stages write to separate output
+     * subdirectories and are run through a {@link StageScheduler}. With
+     * {@link GeneratorConfig#getGenerationParallelism() generationParallelism} above 1 they run concurrently,
+     * each against its own copy of the spec. A failing stage does not stop the others; all failures are
+     * reported together once every stage has finished.
      *
      * @param outputDir Output directory for generated project
      * @return This SDK instance for method chaining
@@ -651,46 +696,73 @@ public class OASSDK implements AutoCloseable {
             // Create output directory
             createDirectory(outputDir);
 
+            // Shared state is settled up front so stages only read it
+            applyConfigFilters();
+            Map<String, Object> specToUse = filterSpec(spec);
+            alignTestConfigWithGeneratorConfig();
+
+            int parallelism = generatorConfig != null ? generatorConfig.getGenerationParallelism() : 1;
+            StageScheduler scheduler = new StageScheduler(parallelism);
+
             // Generate application
             if (generatorConfig != null) {
-                generateApplication(
-                        generatorConfig.getLanguage(),
-                        generatorConfig.getFramework(),
-                        generatorConfig.getPackageName(),
-                        outputDir + "/src"
-                );
+                String appDir = outputDir + "/src";
+                scheduler.add("application", "application", specToUse, stageSpec -> {
+                    createDirectory(appDir);
+                    var generator = generatorFactory.getGenerator(generatorConfig.getLanguage(), generatorConfig.getFramework());
+                    generatorFactory.ensureImplemented(generator, generatorConfig.getLanguage(), generatorConfig.getFramework());
+                    generator.generate(stageSpec, appDir, generatorConfig, generatorConfig.getPackageName());
+                });
             }
 
             // Generate tests
             if (testConfig != null) {
-                generateTests(
+                String testsDir = outputDir + "/tests";
+                List<String> effectiveTypes = TestProfileSupport.filterTestTypes(
                         List.of("contract", "integration", "lifecycle", "nfr", "performance", "security", "postman", "schemathesis", "sequence"),
-                        outputDir + "/tests"
-                );
+                        testConfig);
+                createDirectory(testsDir);
+                scheduler.add("tests:support", "tests:support", specToUse, stageSpec ->
+                        new egain.oassdk.testgenerators.support.TestSupportGenerator()
+                                .generate(stageSpec, testsDir, testConfig, effectiveTypes));
+                for (String testType : effectiveTypes) {
+                    scheduler.add("tests:" + testType, testLane(testType), specToUse, stageSpec ->
+                            testGeneratorFactory.getGenerator(testType, testConfig)
+                                    .generate(stageSpec, testsDir, testConfig, null));
+                }
 
                 // Generate mock data only when enabled.
                 if (testConfig.isMockData()) {
-                    generateMockData(outputDir + "/mock-data");
+                    String mockDir = outputDir + "/mock-data";
+                    scheduler.add("mock-data", "mock-data", specToUse, stageSpec -> {
+                        createDirectory(mockDir);
+                        testGeneratorFactory.getGenerator("mock_data").generate(stageSpec, mockDir, testConfig, null);
+                    });
                 }
             }
 
-            // Generate SLA enforcement
+            // Generate SLA enforcement, then monitoring
             if (slaConfig != null && slaSpec != null) {
-                generateSLAEnforcement(
-                        slaConfig.getSlaFile(),
-                        outputDir + "/sla-enforcement"
-                );
-
-                // Generate monitoring
-                generateMonitoring(
-                        slaConfig.getMonitoringStack(),
-                        outputDir + "/monitoring"
-                );
+                String slaDir = outputDir + "/sla-enforcement";
+                String monitoringDir = outputDir + "/monitoring";
+                scheduler.add("sla-enforcement", "sla", spec, stageSpec -> {
+                    createDirectory(slaDir);
+                    slaProcessor.generateEnforcement(stageSpec, slaSpec, slaDir, slaConfig);
+                });
+                scheduler.add("monitoring", "sla", spec, stageSpec -> {
+                    createDirectory(monitoringDir);
+                    slaProcessor.generateMonitoring(stageSpec, monitoringDir, slaConfig, slaConfig.getMonitoringStack());
+                });
             }
 
             // Generate documentation
-            generateDocumentation(outputDir + "/docs");
+            String docsDir = outputDir + "/docs";
+            scheduler.add("docs", "docs", specToUse, stageSpec -> {
+                createDirectory(docsDir);
+                docGenerator.generate(stageSpec, docsDir, true, true, true);
+            });
 
+            trackGeneratedFiles(outputDir, "all", () -> reportStages(scheduler.run(), scheduler.getParallelism()));
             return this;
 
         } catch (IOException e) {
@@ -702,6 +774,81 @@ public class OASSDK implements AutoCloseable {
         }
     }
 
+    /**
+     * A generation step run inside {@link #trackGeneratedFiles}.
+     */
+    @FunctionalInterface
+    private interface GenerationStep {
+        void run() throws OASSDKException, IOException;
+    }
+
+    /**
+     * Run a generation step with a {@link GeneratedFiles} session on the output directory. Files whose
+     * content did not change are not rewritten, and once the step succeeds, files the previous run of the
+     * same scope generated but this one did not are removed. The counts are logged and kept for
+     * {@link #getLastWriteReport()}.
+     */
+    private void trackGeneratedFiles(String outputDir, String scope, GenerationStep step) throws OASSDKException, IOException {
+        try (GeneratedFiles.Session files = GeneratedFiles.open(Paths.get(outputDir), scope)) {
+            step.run();
+            lastWriteReport = files.finish();
+            logger.info("Generated files in " + outputDir + ": " + lastWriteReport);
+        }
+    }
+
+    /**
+     * Counts of added, changed, unchanged and removed files from the most recent generateApplication,
+     * generateTests, generateMockData or generateAll call, or null before the first one.
+     */
+    public GeneratedFiles.WriteReport getLastWriteReport() {
+        return lastWriteReport;
+    }
+
+    /**
+     * Test generators that write shared files at the root of the tests directory (pytest/jest
+     * conftest.py, package.json, ...) share a lane so they never run concurrently.
+     */
+    private static String testLane(String testType) {
+        return switch (testType) {
+            case "contract", "unit", "integration" -> "tests:root";
+            default -> "tests:" + testType;
+        };
+    }
+
+    /**
+     * Log a per-stage summary and throw if any stage failed.
+     */
+    private void reportStages(List<StageScheduler.StageResult> results, int parallelism) throws GenerationException {
+        List<StageScheduler.StageResult> failed = new ArrayList<>();
+        for (StageScheduler.StageResult result : results) {
+            long warnings = result.logs().stream()
+                    .filter(r -> r.getLevel().intValue() >= java.util.logging.Level.WARNING.intValue())
+                    .count();
+            if (result.succeeded()) {
+                logger.fine("Stage " + result.name() + " completed in " + result.durationMillis() + " ms"
+                        + (warnings > 0 ? " with " + warnings + " warning(s)" : ""));
+            } else {
+                failed.add(result);
+                logger.log(java.util.logging.Level.SEVERE, "Stage " + result.name() + " failed after "
+                        + result.durationMillis() + " ms: " + result.error().getMessage(), result.error());
+            }
+        }
+        logger.fine("Generated " + results.size() + " stage(s) with parallelism " + parallelism);
+        if (failed.isEmpty()) {
+            return;
+        }
+        StringBuilder message = new StringBuilder("Failed to generate complete project: ");
+        for (int i = 0; i < failed.size(); i++) {
+            StageScheduler.StageResult result = failed.get(i);
+            message.append(i == 0 ? "" : "; ").append(result.name()).append(": ").append(result.error().getMessage());
+        }
+        GenerationException exception = new GenerationException(message.toString(), failed.get(0).error());
+        for (int i = 1; i < failed.size(); i++) {
+            exception.addSuppressed(failed.get(i).error());
+        }
+        throw exception;
+    }
+
     /**
      * Run generated tests
      *
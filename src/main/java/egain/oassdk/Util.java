@@ -1,12 +1,18 @@
 package egain.oassdk;
 
+import egain.oassdk.core.logging.LoggerConfig;
+
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.logging.Logger;
 
 public class Util {
 
+    private static final Logger logger = LoggerConfig.getLogger(Util.class);
+
     public static Map<String, Object> asStringObjectMap(Object value) {
         if (value == null) {
             return null;
@@ -84,4 +90,34 @@ public class Util {
         return out;
     }
 
+    /**
+     * Parses a duration in milliseconds: a number, or a string such as {@code 200ms}, {@code 1.5s} or {@code 800us}.
+     * Returns {@code fallback} when the value is missing or not a duration.
+     */
+    public static double parseMillis(Object value, double fallback) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (!(value instanceof String text) || text.isBlank()) {
+            return fallback;
+        }
+        String trimmed = text.trim().toLowerCase(Locale.ROOT);
+        double scale = 1.0;
+        if (trimmed.endsWith("ms")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 2);
+        } else if (trimmed.endsWith("us")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 2);
+            scale = 0.001;
+        } else if (trimmed.endsWith("s")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+            scale = 1000.0;
+        }
+        try {
+            return Double.parseDouble(trimmed.trim()) * scale;
+        } catch (NumberFormatException e) {
+            logger.warning("Ignoring value that is not a duration: " + text);
+            return fallback;
+        }
+    }
+
 }
@@ -66,6 +66,10 @@ public class OASSDKCLI implements Callable<Integer> {
         @Option(names = {"--spec-zip"}, description = "Path to ZIP file containing specs; specPath is then an entry path inside the ZIP")
         private String specZipPath;
 
+        @Option(names = {"--spec-cache"},
+                description = "Directory for caching resolved specs between runs; reused while the spec and its referenced files are unchanged")
+        private String specCacheDir;
+
         @Option(names = {"--authorization-data"}, description = "Generate Java classes from x-egain-authorization-data on component schemas")
         private boolean authorizationData;
 
@@ -92,6 +96,9 @@ public class OASSDKCLI implements Callable<Integer> {
                 if (specZipPath != null && !specZipPath.isEmpty()) {
                     configBuilder.specZipPath(specZipPath);
                 }
+                if (specCacheDir != null && !specCacheDir.isEmpty()) {
+                    configBuilder.specCacheDir(specCacheDir);
+                }
                 if (standaloneMode) {
                     Map<String, Object> extra = new HashMap<>();
                     extra.put("standaloneMode", "true");
@@ -139,6 +146,10 @@ public class OASSDKCLI implements Callable<Integer> {
         @Option(names = {"--url", "--base-url"}, description = "Base URL for schemathesis.properties when generating schemathesis tests")
         private String baseUrl;
 
+        @Option(names = {"--spec-cache"},
+                description = "Directory for caching resolved specs between runs; reused while the spec and its referenced files are unchanged")
+        private String specCacheDir;
+
         @Option(names = {"--run"}, description = "After generation, run ./run-schemathesis.sh when types include schemathesis (requires bash and st on PATH)")
         private boolean runSchemathesis;
 
@@ -153,7 +164,11 @@ public class OASSDKCLI implements Callable<Integer> {
                         .testFramework(framework)
                         .additionalProperties(extra.isEmpty() ? null : extra)
                         .build();
-                try (OASSDK sdk = new OASSDK(null, testConfig, null)) {
+                // Cache-only config: language/framework left null so they are not copied into the test config
+                GeneratorConfig generatorConfig = specCacheDir != null && !specCacheDir.isEmpty()
+                        ? GeneratorConfig.builder().language(null).framework(null).specCacheDir(specCacheDir).build()
+                        : null;
+                try (OASSDK sdk = new OASSDK(generatorConfig, testConfig, null)) {
                     // Load specification
                     sdk.loadSpec(specPath);
 
@@ -294,6 +309,14 @@ public class OASSDKCLI implements Callable<Integer> {
                 description = "Path(s) to search for external $ref (e.g. published root). Comma-separated or repeated.")
         private List<String> searchPaths;
 
+        @Option(names = {"--spec-cache"},
+                description = "Directory for caching resolved specs between runs; reused while the spec and its referenced files are unchanged")
+        private String specCacheDir;
+
+        @Option(names = {"--parallelism"}, defaultValue = "1",
+                description = "Number of generation stages to run concurrently (0 = available processors)")
+        private int parallelism;
+
         @Option(names = {"--jakarta"}, description = "Use Jakarta EE namespace (jakarta.*) instead of Java EE namespace (javax.*) in generated code")
         private boolean useJakartaNamespace;
 
@@ -311,7 +334,11 @@ public class OASSDKCLI implements Callable<Integer> {
                         .packageName(packageName)
                         .outputDir(output)
                         .searchPaths(searchPaths != null && !searchPaths.isEmpty() ? searchPaths : null)
-                        .useJakartaNamespace(useJakartaNamespace);
+                        .useJakartaNamespace(useJakartaNamespace)
+                        .generationParallelism(parallelism);
+                if (specCacheDir != null && !specCacheDir.isEmpty()) {
+                    configBuilder.specCacheDir(specCacheDir);
+                }
                 if (standaloneMode) {
                     Map<String, Object> extra = new HashMap<>();
                     extra.put("standaloneMode", "true");
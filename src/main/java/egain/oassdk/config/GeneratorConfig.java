@@ -29,6 +29,36 @@ public class GeneratorConfig {
     // ZIP-based spec loading: when set, specs and $ref resolution are read from this ZIP (entry paths use forward slashes)
     private String specZipPath;
 
+    /** Directory for the on-disk cache of resolved specs (null = no caching). */
+    private String specCacheDir;
+
+    /** Number of generateAll stages run concurrently (1 = sequential, below 1 = available processors). */
+    private int generationParallelism;
+
+    /** Threads rendering Jersey model classes (1 = sequential, 0 or less = automatic). */
+    private int modelGenerationThreads;
+
+    /** Worker threading of the generated Jersey application's Grizzly server (overridable at runtime). */
+    private ServerThreading serverThreading;
+
+    /** Worker count for {@link ServerThreading#FIXED_POOL} (0 or less = twice the available processors). */
+    private int serverWorkerThreads;
+
+    /** Queue limit for {@link ServerThreading#FIXED_POOL} (-1 = unbounded). */
+    private int serverWorkerQueueSize;
+
+    /** Shape of generated Jersey resource methods (synchronous or asynchronous). */
+    private ResourceMode resourceMode;
+
+    /** When true, array and single-array collection responses are streamed (operations can opt out with {@code x-streaming: false}). */
+    private boolean streamCollectionResponses;
+
+    /** When true, the generated application's ObjectMapper uses Blackbird and pre-builds the model (de)serializers. */
+    private boolean optimizedObjectMapper;
+
+    /** When true, a script that trains an AppCDS archive for the generated application is emitted. */
+    private boolean startupTrainingScript;
+
     private boolean modelsOnly; // If true, only generate models and skip resources, services, and other non-model output.
 
     /** When true, emit Java *AuthorizationData classes from {@code x-egain-authorization-data} on component schemas. */
@@ -47,6 +77,12 @@ public class GeneratorConfig {
      */
     private boolean jsonOnlyResourceMediaTypes;
 
+    /**
+     * When true, models are plain Jackson-annotated classes without JAXB annotations, {@code JAXBBean},
+     * {@code ObjectFactory} or {@code jaxb.index}, and the generated application is JSON-only.
+     */
+    private boolean jsonOnlyModels;
+
     /**
      * When true, simple two-branch {@code oneOf} XOR models use legacy nested-{@code id} predicates and longer
      * messages; method names stay {@code isValid*} in both modes. When false (default), predicates follow OpenAPI
@@ -73,10 +109,21 @@ public class GeneratorConfig {
         this.includeOperations = null;
         this.searchPaths = null;
         this.specZipPath = null;
+        this.specCacheDir = null;
+        this.generationParallelism = 1;
+        this.modelGenerationThreads = 0;
+        this.serverThreading = ServerThreading.DEFAULT;
+        this.serverWorkerThreads = 0;
+        this.serverWorkerQueueSize = 1024;
+        this.resourceMode = ResourceMode.SYNC;
+        this.streamCollectionResponses = false;
+        this.optimizedObjectMapper = false;
+        this.startupTrainingScript = false;
         this.authorizationDataGenerationEnabled = false;
         this.defaultAuthorizationDataExtends = null;
         this.useJakartaNamespace = false;
         this.jsonOnlyResourceMediaTypes = false;
+        this.jsonOnlyModels = false;
         this.legacyXorNestedIdAsserts = false;
         this.observabilityConfig = new ObservabilityConfig();
     }
@@ -99,10 +146,21 @@ public class GeneratorConfig {
         this.includeOperations = null;
         this.searchPaths = null;
         this.specZipPath = null;
+        this.specCacheDir = null;
+        this.generationParallelism = 1;
+        this.modelGenerationThreads = 0;
+        this.serverThreading = ServerThreading.DEFAULT;
+        this.serverWorkerThreads = 0;
+        this.serverWorkerQueueSize = 1024;
+        this.resourceMode = ResourceMode.SYNC;
+        this.streamCollectionResponses = false;
+        this.optimizedObjectMapper = false;
+        this.startupTrainingScript = false;
         this.authorizationDataGenerationEnabled = false;
         this.defaultAuthorizationDataExtends = null;
         this.useJakartaNamespace = false;
         this.jsonOnlyResourceMediaTypes = false;
+        this.jsonOnlyModels = false;
         this.legacyXorNestedIdAsserts = false;
         this.observabilityConfig = new ObservabilityConfig();
     }
@@ -180,6 +238,22 @@ public class GeneratorConfig {
         this.jsonOnlyResourceMediaTypes = jsonOnlyResourceMediaTypes;
     }
 
+    /**
+     * Whether models are generated for JSON only: Jackson annotations bind the fields
+     * ({@code @JsonAutoDetect}, {@code @JsonPropertyOrder}, {@code @JsonProperty}) and no JAXB annotations,
+     * {@code JAXBBean} implementation, {@code ObjectFactory} or {@code jaxb.index} are emitted. Resources
+     * then only produce and consume JSON (as with {@link #isJsonOnlyResourceMediaTypes()}), and the
+     * generated pom leaves out the JAXB API, runtime and Jersey JAXB provider, so no {@code JAXBContext}
+     * is built at startup.
+     */
+    public boolean isJsonOnlyModels() {
+        return jsonOnlyModels;
+    }
+
+    public void setJsonOnlyModels(boolean jsonOnlyModels) {
+        this.jsonOnlyModels = jsonOnlyModels;
+    }
+
     public boolean isLegacyXorNestedIdAsserts() {
         return legacyXorNestedIdAsserts;
     }
@@ -271,6 +345,137 @@ public class GeneratorConfig {
         this.specZipPath = specZipPath;
     }
 
+    /**
+     * Directory where loadSpec() keeps resolved specs between runs. An entry is reused only while the root
+     * spec and every file it references are unchanged. Null (default) disables the cache.
+     */
+    public String getSpecCacheDir() {
+        return specCacheDir;
+    }
+
+    public void setSpecCacheDir(String specCacheDir) {
+        this.specCacheDir = specCacheDir;
+    }
+
+    /**
+     * How many independent generateAll stages (application, each test type, mock data, SLA, docs) may run
+     * at once. 1 (default) runs them one after another; 0 or less uses the number of available processors.
+     */
+    public int getGenerationParallelism() {
+        return generationParallelism;
+    }
+
+    public void setGenerationParallelism(int generationParallelism) {
+        this.generationParallelism = generationParallelism;
+    }
+
+    /**
+     * How many threads render and write Jersey model classes. 1 renders them one after another on the
+     * calling thread; 0 (default) or less picks a count from the available processors. Output does not
+     * depend on this setting.
+     */
+    public int getModelGenerationThreads() {
+        return modelGenerationThreads;
+    }
+
+    public void setModelGenerationThreads(int modelGenerationThreads) {
+        this.modelGenerationThreads = modelGenerationThreads;
+    }
+
+    /**
+     * Worker threading of the Grizzly server started by the generated Jersey application's {@code main}.
+     * This is the default baked into the generated class; operators can still switch it with the
+     * {@code server.threading} system property or {@code SERVER_THREADING} environment variable.
+     */
+    public ServerThreading getServerThreading() {
+        return serverThreading;
+    }
+
+    public void setServerThreading(ServerThreading serverThreading) {
+        this.serverThreading = serverThreading != null ? serverThreading : ServerThreading.DEFAULT;
+    }
+
+    /**
+     * Default worker count of the {@link ServerThreading#FIXED_POOL} server; 0 (default) or less sizes the
+     * pool at twice the available processors of the machine running the application.
+     */
+    public int getServerWorkerThreads() {
+        return serverWorkerThreads;
+    }
+
+    public void setServerWorkerThreads(int serverWorkerThreads) {
+        this.serverWorkerThreads = serverWorkerThreads;
+    }
+
+    /**
+     * Default number of requests the {@link ServerThreading#FIXED_POOL} server queues while all workers are
+     * busy (default 1024, -1 for unbounded). Requests beyond it are rejected instead of piling up.
+     */
+    public int getServerWorkerQueueSize() {
+        return serverWorkerQueueSize;
+    }
+
+    public void setServerWorkerQueueSize(int serverWorkerQueueSize) {
+        this.serverWorkerQueueSize = serverWorkerQueueSize;
+    }
+
+    /**
+     * How generated Jersey resource methods hand back their response. In the asynchronous modes each
+     * operation delegates to a {@code CompletionStage<Response>} method of the generated {@code ApiService}, so the
+     * request thread is released while the service waits on downstream I/O; operations with an
+     * {@code x-sla-response-time} (on the operation, its path item or {@code info}) time out after it with 503.
+     */
+    public ResourceMode getResourceMode() {
+        return resourceMode;
+    }
+
+    public void setResourceMode(ResourceMode resourceMode) {
+        this.resourceMode = resourceMode != null ? resourceMode : ResourceMode.SYNC;
+    }
+
+    /**
+     * Whether every operation whose JSON success response is an array, or an object holding a single array
+     * property, gets a streaming resource method: the resource writes items with a {@code JsonGenerator} as
+     * they are pulled from a {@code Stream} returned by {@code ApiService}, instead of serializing a fully
+     * built list. Operations can opt in individually with {@code x-streaming: true} (default false) and
+     * opt out with {@code x-streaming: false}.
+     */
+    public boolean isStreamCollectionResponses() {
+        return streamCollectionResponses;
+    }
+
+    public void setStreamCollectionResponses(boolean streamCollectionResponses) {
+        this.streamCollectionResponses = streamCollectionResponses;
+    }
+
+    /**
+     * Whether the generated application tunes its shared ObjectMapper for throughput: the Jackson Blackbird
+     * module replaces reflective property access, unknown JSON properties are ignored instead of failing the
+     * request, and the serializer and deserializer of every generated model class are built at startup
+     * rather than on the first request that needs them. Adds the {@code jackson-module-blackbird} dependency.
+     */
+    public boolean isOptimizedObjectMapper() {
+        return optimizedObjectMapper;
+    }
+
+    public void setOptimizedObjectMapper(boolean optimizedObjectMapper) {
+        this.optimizedObjectMapper = optimizedObjectMapper;
+    }
+
+    /**
+     * Whether {@code scripts/train-startup.sh} is emitted next to the generated pom. The script runs the
+     * application once to archive the classes loaded up to its first requests in an AppCDS archive
+     * ({@code -XX:ArchiveClassesAtExit}), then reports the time to the first response with and without the
+     * archive.
+     */
+    public boolean isStartupTrainingScript() {
+        return startupTrainingScript;
+    }
+
+    public void setStartupTrainingScript(boolean startupTrainingScript) {
+        this.startupTrainingScript = startupTrainingScript;
+    }
+
     public ObservabilityConfig getObservabilityConfig() {
         return observabilityConfig;
     }
@@ -279,6 +484,30 @@ public class GeneratorConfig {
         this.observabilityConfig = observabilityConfig;
     }
 
+    /**
+     * Worker threading of the HTTP server in generated Jersey applications.
+     */
+    public enum ServerThreading {
+        /** Grizzly's own worker pool. */
+        DEFAULT,
+        /** One virtual thread per request (Java 21+); suits handlers that block on I/O. */
+        VIRTUAL_THREADS,
+        /** A fixed number of platform worker threads with a bounded request queue. */
+        FIXED_POOL
+    }
+
+    /**
+     * Shape of the resource methods generated for Jersey applications.
+     */
+    public enum ResourceMode {
+        /** Methods return {@code Response} on the request thread. */
+        SYNC,
+        /** Methods return {@code CompletionStage<Response>} from the async {@code ApiService}. */
+        COMPLETION_STAGE,
+        /** Methods take a {@code @Suspended AsyncResponse} and resume it when the {@code ApiService} stage completes. */
+        ASYNC_RESPONSE
+    }
+
     /**
      * Builder class for GeneratorConfig
      */
@@ -295,11 +524,22 @@ public class GeneratorConfig {
         private Map<String, List<String>> includeOperations = null;
         private List<String> searchPaths = null;
         private String specZipPath = null;
+        private String specCacheDir = null;
+        private int generationParallelism = 1;
+        private int modelGenerationThreads = 0;
+        private ServerThreading serverThreading = ServerThreading.DEFAULT;
+        private int serverWorkerThreads = 0;
+        private int serverWorkerQueueSize = 1024;
+        private ResourceMode resourceMode = ResourceMode.SYNC;
+        private boolean streamCollectionResponses = false;
+        private boolean optimizedObjectMapper = false;
+        private boolean startupTrainingScript = false;
         private boolean modelsOnly = false;
         private boolean authorizationDataGenerationEnabled = false;
         private String defaultAuthorizationDataExtends = null;
         private boolean useJakartaNamespace = false;
         private boolean jsonOnlyResourceMediaTypes = false;
+        private boolean jsonOnlyModels = false;
         private boolean legacyXorNestedIdAsserts = false;
         private ObservabilityConfig observabilityConfig = new ObservabilityConfig();
 
@@ -370,6 +610,56 @@ public class GeneratorConfig {
             return this;
         }
 
+        public Builder specCacheDir(String specCacheDir) {
+            this.specCacheDir = specCacheDir;
+            return this;
+        }
+
+        public Builder generationParallelism(int generationParallelism) {
+            this.generationParallelism = generationParallelism;
+            return this;
+        }
+
+        public Builder modelGenerationThreads(int modelGenerationThreads) {
+            this.modelGenerationThreads = modelGenerationThreads;
+            return this;
+        }
+
+        public Builder serverThreading(ServerThreading serverThreading) {
+            this.serverThreading = serverThreading;
+            return this;
+        }
+
+        public Builder serverWorkerThreads(int serverWorkerThreads) {
+            this.serverWorkerThreads = serverWorkerThreads;
+            return this;
+        }
+
+        public Builder serverWorkerQueueSize(int serverWorkerQueueSize) {
+            this.serverWorkerQueueSize = serverWorkerQueueSize;
+            return this;
+        }
+
+        public Builder resourceMode(ResourceMode resourceMode) {
+            this.resourceMode = resourceMode;
+            return this;
+        }
+
+        public Builder streamCollectionResponses(boolean streamCollectionResponses) {
+            this.streamCollectionResponses = streamCollectionResponses;
+            return this;
+        }
+
+        public Builder optimizedObjectMapper(boolean optimizedObjectMapper) {
+            this.optimizedObjectMapper = optimizedObjectMapper;
+            return this;
+        }
+
+        public Builder startupTrainingScript(boolean startupTrainingScript) {
+            this.startupTrainingScript = startupTrainingScript;
+            return this;
+        }
+
         public Builder modelsOnly(boolean modelsOnly) {
             this.modelsOnly = modelsOnly;
             return this;
@@ -395,6 +685,11 @@ public class GeneratorConfig {
             return this;
         }
 
+        public Builder jsonOnlyModels(boolean jsonOnlyModels) {
+            this.jsonOnlyModels = jsonOnlyModels;
+            return this;
+        }
+
         public Builder legacyXorNestedIdAsserts(boolean legacyXorNestedIdAsserts) {
             this.legacyXorNestedIdAsserts = legacyXorNestedIdAsserts;
             return this;
@@ -417,11 +712,22 @@ public class GeneratorConfig {
             config.setIncludeOperations(includeOperations);
             config.setSearchPaths(searchPaths);
             config.setSpecZipPath(specZipPath);
+            config.setSpecCacheDir(specCacheDir);
+            config.setGenerationParallelism(generationParallelism);
+            config.setModelGenerationThreads(modelGenerationThreads);
+            config.setServerThreading(serverThreading);
+            config.setServerWorkerThreads(serverWorkerThreads);
+            config.setServerWorkerQueueSize(serverWorkerQueueSize);
+            config.setResourceMode(resourceMode);
+            config.setStreamCollectionResponses(streamCollectionResponses);
+            config.setOptimizedObjectMapper(optimizedObjectMapper);
+            config.setStartupTrainingScript(startupTrainingScript);
             config.setModelsOnly(modelsOnly);
             config.setAuthorizationDataGenerationEnabled(authorizationDataGenerationEnabled);
             config.setDefaultAuthorizationDataExtends(defaultAuthorizationDataExtends);
             config.setUseJakartaNamespace(useJakartaNamespace);
             config.setJsonOnlyResourceMediaTypes(jsonOnlyResourceMediaTypes);
+            config.setJsonOnlyModels(jsonOnlyModels);
             config.setLegacyXorNestedIdAsserts(legacyXorNestedIdAsserts);
             config.setObservabilityConfig(observabilityConfig);
             return config;
@@ -452,11 +758,22 @@ public class GeneratorConfig {
                 ", includeOperations=" + includeOperations +
                 ", searchPaths=" + searchPaths +
                 ", specZipPath=" + specZipPath +
+                ", specCacheDir=" + specCacheDir +
+                ", generationParallelism=" + generationParallelism +
+                ", modelGenerationThreads=" + modelGenerationThreads +
+                ", serverThreading=" + serverThreading +
+                ", serverWorkerThreads=" + serverWorkerThreads +
+                ", serverWorkerQueueSize=" + serverWorkerQueueSize +
+                ", resourceMode=" + resourceMode +
+                ", streamCollectionResponses=" + streamCollectionResponses +
+                ", optimizedObjectMapper=" + optimizedObjectMapper +
+                ", startupTrainingScript=" + startupTrainingScript +
                 ", modelsOnly=" + modelsOnly +
                 ", authorizationDataGenerationEnabled=" + authorizationDataGenerationEnabled +
                 ", defaultAuthorizationDataExtends='" + defaultAuthorizationDataExtends + '\'' +
                 ", useJakartaNamespace=" + useJakartaNamespace +
                 ", jsonOnlyResourceMediaTypes=" + jsonOnlyResourceMediaTypes +
+                ", jsonOnlyModels=" + jsonOnlyModels +
                 ", legacyXorNestedIdAsserts=" + legacyXorNestedIdAsserts +
                 ", observabilityConfig=" + observabilityConfig +
                 '}';
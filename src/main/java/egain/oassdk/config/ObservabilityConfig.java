@@ -19,6 +19,8 @@ public class ObservabilityConfig {
     private String serviceName;           // defaults to OAS info.title
     private String otlpEndpoint;
     private Map<String, String> resourceAttributes;
+    private double traceSampleRatio;      // share of traces sampled, 0.0 to 1.0
+    private boolean parentBasedSampling;  // follow the sampling decision of an incoming trace context
 
     /**
      * Default constructor — observability enabled with Prometheus metrics + OTLP tracing
@@ -33,6 +35,8 @@ public class ObservabilityConfig {
         this.serviceName = null;
         this.otlpEndpoint = "http://localhost:4318";
         this.resourceAttributes = new HashMap<>();
+        this.traceSampleRatio = 1.0;
+        this.parentBasedSampling = true;
     }
 
     public ObservabilityConfig(boolean enabled, boolean enableMetrics, boolean enableTracing,
@@ -48,6 +52,8 @@ public class ObservabilityConfig {
         this.serviceName = serviceName;
         this.otlpEndpoint = otlpEndpoint;
         this.resourceAttributes = resourceAttributes != null ? new HashMap<>(resourceAttributes) : new HashMap<>();
+        this.traceSampleRatio = 1.0;
+        this.parentBasedSampling = true;
     }
 
     // Getters and Setters
@@ -124,6 +130,33 @@ public class ObservabilityConfig {
         this.resourceAttributes = resourceAttributes != null ? new HashMap<>(resourceAttributes) : new HashMap<>();
     }
 
+    /**
+     * Share of traces the generated application samples, from 0.0 (none) to 1.0 (all, the default). Operations
+     * override it with {@code x-trace-sample-ratio} on the operation or its path item.
+     */
+    public double getTraceSampleRatio() {
+        return traceSampleRatio;
+    }
+
+    public void setTraceSampleRatio(double traceSampleRatio) {
+        if (!(traceSampleRatio >= 0.0 && traceSampleRatio <= 1.0)) {
+            throw new IllegalArgumentException("traceSampleRatio must be between 0.0 and 1.0, got " + traceSampleRatio);
+        }
+        this.traceSampleRatio = traceSampleRatio;
+    }
+
+    /**
+     * Whether a request carrying a trace context is sampled as its parent was (the default), so traces are
+     * either complete or absent across services. When false every request is sampled by its ratio.
+     */
+    public boolean isParentBasedSampling() {
+        return parentBasedSampling;
+    }
+
+    public void setParentBasedSampling(boolean parentBasedSampling) {
+        this.parentBasedSampling = parentBasedSampling;
+    }
+
     /**
      * Builder for ObservabilityConfig
      */
@@ -137,6 +170,8 @@ public class ObservabilityConfig {
         private String serviceName;
         private String otlpEndpoint = "http://localhost:4318";
         private Map<String, String> resourceAttributes = new HashMap<>();
+        private double traceSampleRatio = 1.0;
+        private boolean parentBasedSampling = true;
 
         public Builder enabled(boolean enabled) {
             this.enabled = enabled;
@@ -183,9 +218,22 @@ public class ObservabilityConfig {
             return this;
         }
 
+        public Builder traceSampleRatio(double traceSampleRatio) {
+            this.traceSampleRatio = traceSampleRatio;
+            return this;
+        }
+
+        public Builder parentBasedSampling(boolean parentBasedSampling) {
+            this.parentBasedSampling = parentBasedSampling;
+            return this;
+        }
+
         public ObservabilityConfig build() {
-            return new ObservabilityConfig(enabled, enableMetrics, enableTracing, enableLogging,
+            ObservabilityConfig config = new ObservabilityConfig(enabled, enableMetrics, enableTracing, enableLogging,
                     metricsExporter, tracingExporter, serviceName, otlpEndpoint, resourceAttributes);
+            config.setTraceSampleRatio(traceSampleRatio);
+            config.setParentBasedSampling(parentBasedSampling);
+            return config;
         }
     }
 
@@ -205,6 +253,8 @@ public class ObservabilityConfig {
                 ", serviceName='" + serviceName + '\'' +
                 ", otlpEndpoint='" + otlpEndpoint + '\'' +
                 ", resourceAttributes=" + resourceAttributes +
+                ", traceSampleRatio=" + traceSampleRatio +
+                ", parentBasedSampling=" + parentBasedSampling +
                 '}';
     }
 }
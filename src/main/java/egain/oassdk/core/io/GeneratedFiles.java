@@ -0,0 +1,315 @@
+package egain.oassdk.core.io;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Write layer for generated files that leaves unchanged files alone.
+ *
+ * <p>{@link #write(Path, String)} compares the rendered content with what is on disk and only rewrites
+ * the file when it differs, so timestamps of unchanged files survive a regeneration and incremental
+ * builds (Maven, IDE indexers) only see real changes.
+ *
+ * <p>Inside a {@link Session} every write under the session root is also recorded in a manifest
+ * ({@code <root>/.oas-sdk/<scope>.manifest}) holding the SHA-256, size and timestamp of each file.
+ * The manifest lets later runs skip unchanged files without reading them. When the session finishes, files
+ * listed by the previous run of the same scope but not produced this time are deleted, unless they were
+ * edited since they were generated. Sessions are thread-safe and writes are routed to the session whose
+ * root contains the file, so generators running on several threads need no extra wiring.
+ */
+public final class GeneratedFiles {
+
+    private static final Logger logger = Logger.getLogger(GeneratedFiles.class.getName());
+
+    /** Directory under the session root holding one manifest per scope. */
+    public static final String MANIFEST_DIR = ".oas-sdk";
+
+    private static final String MANIFEST_HEADER = "# oas-sdk generated files v1";
+
+    private static final List<Session> ACTIVE_SESSIONS = new CopyOnWriteArrayList<>();
+
+    private GeneratedFiles() {
+    }
+
+    /** Outcome of a single write. */
+    public enum Status {
+        ADDED, CHANGED, UNCHANGED
+    }
+
+    /**
+     * Counts for one session.
+     *
+     * @param added     files that did not exist before
+     * @param changed   files whose content was rewritten
+     * @param unchanged files left untouched because their content was already up to date
+     * @param removed   files from the previous run that were no longer generated and were deleted
+     */
+    public record WriteReport(int added, int changed, int unchanged, int removed) {
+        @Override
+        public String toString() {
+            return added + " added, " + changed + " changed, " + unchanged + " unchanged, " + removed + " removed";
+        }
+    }
+
+    /**
+     * Write UTF-8 content, creating parent directories as needed. The file is only rewritten when its
+     * content differs from what is on disk.
+     */
+    public static Status write(Path path, String content) throws IOException {
+        return write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Write bytes, creating parent directories as needed. The file is only rewritten when its content
+     * differs from what is on disk.
+     */
+    public static Status write(Path path, byte[] content) throws IOException {
+        Path target = path.toAbsolutePath().normalize();
+        Session session = sessionFor(target);
+        if (session != null) {
+            return session.write(target, content);
+        }
+        return writeIfChanged(target, content, null).status();
+    }
+
+    /**
+     * Start tracking writes under {@code root}. Close the session in a finally block (try-with-resources);
+     * call {@link Session#finish()} once generation succeeded to prune stale files and get the counts.
+     *
+     * @param root  output directory the session covers
+     * @param scope name of the kind of generation writing there (one manifest per scope, so e.g. application
+     *              and test generation into the same directory never prune each other's files)
+     */
+    public static Session open(Path root, String scope) throws IOException {
+        Session session = new Session(root.toAbsolutePath().normalize(), scope);
+        ACTIVE_SESSIONS.add(session);
+        return session;
+    }
+
+    private static Session sessionFor(Path target) {
+        Session best = null;
+        for (Session session : ACTIVE_SESSIONS) {
+            if (target.startsWith(session.root)
+                    && (best == null || session.root.getNameCount() > best.root.getNameCount())) {
+                best = session;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Tracks the files written under one root during one generation run.
+     */
+    public static final class Session implements AutoCloseable {
+        private final Path root;
+        private final String scope;
+        private final Path manifest;
+        private final Map<String, Entry> previous;
+        private final Map<String, Entry> current = new ConcurrentHashMap<>();
+        private final Map<String, Status> statuses = new ConcurrentHashMap<>();
+        private boolean done;
+
+        private Session(Path root, String scope) throws IOException {
+            this.root = root;
+            this.scope = scope;
+            this.manifest = root.resolve(MANIFEST_DIR).resolve(scope.replaceAll("[^A-Za-z0-9._-]", "_") + ".manifest");
+            this.previous = readManifest(manifest);
+        }
+
+        public Path getRoot() {
+            return root;
+        }
+
+        public String getScope() {
+            return scope;
+        }
+
+        private Status write(Path target, byte[] content) throws IOException {
+            // Manifest keys are root-relative paths with forward slashes
+            String key = root.relativize(target).toString().replace('\\', '/');
+            Written written = writeIfChanged(target, content, previous.get(key));
+            current.put(key, written.entry());
+            // A file written twice in one run reports the strongest change it saw
+            statuses.merge(key, written.status(), (first, second) ->
+                    first == Status.UNCHANGED ? second : first);
+            return written.status();
+        }
+
+        /**
+         * Delete files the previous run of this scope generated but this run did not, save the manifest
+         * and return the counts.
+         */
+        public synchronized WriteReport finish() throws IOException {
+            if (done) {
+                throw new IllegalStateException("Session for " + root + " already finished");
+            }
+            int removed = 0;
+            for (Map.Entry<String, Entry> stale : previous.entrySet()) {
+                if (!current.containsKey(stale.getKey()) && deleteIfUnmodified(stale.getKey(), stale.getValue())) {
+                    removed++;
+                }
+            }
+            writeManifest(current);
+            done = true;
+            ACTIVE_SESSIONS.remove(this);
+
+            int added = 0;
+            int changed = 0;
+            int unchanged = 0;
+            for (Status status : statuses.values()) {
+                switch (status) {
+                    case ADDED -> added++;
+                    case CHANGED -> changed++;
+                    case UNCHANGED -> unchanged++;
+                }
+            }
+            return new WriteReport(added, changed, unchanged, removed);
+        }
+
+        /**
+         * Stop tracking. When {@link #finish()} was not called (generation failed) nothing is deleted and
+         * the manifest keeps the previous entries as well as this run's, so a later successful run can
+         * still clean up after both.
+         */
+        @Override
+        public synchronized void close() {
+            if (done) {
+                return;
+            }
+            done = true;
+            ACTIVE_SESSIONS.remove(this);
+            Map<String, Entry> merged = new HashMap<>(previous);
+            merged.putAll(current);
+            try {
+                writeManifest(merged);
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Failed to save generated-files manifest " + manifest + ": " + e.getMessage(), e);
+            }
+        }
+
+        private boolean deleteIfUnmodified(String key, Entry entry) throws IOException {
+            Path file = root.resolve(key).normalize();
+            if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+                return false;
+            }
+            if (Files.size(file) != entry.size() || !entry.hash().equals(sha256Hex(Files.readAllBytes(file)))) {
+                logger.info("Keeping " + file + ": no longer generated but edited since the last run");
+                return false;
+            }
+            Files.delete(file);
+            // Drop directories the stale file leaves empty, up to (not including) the root
+            for (Path dir = file.getParent(); dir != null && !dir.equals(root) && dir.startsWith(root); dir = dir.getParent()) {
+                try {
+                    Files.delete(dir);
+                } catch (DirectoryNotEmptyException | NoSuchFileException e) {
+                    break;
+                }
+            }
+            return true;
+        }
+
+        private void writeManifest(Map<String, Entry> entries) throws IOException {
+            if (entries.isEmpty() && !Files.exists(manifest)) {
+                return;
+            }
+            Files.createDirectories(manifest.getParent());
+            Path tmp = Files.createTempFile(manifest.getParent(), manifest.getFileName().toString(), ".tmp");
+            try (BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                out.write(MANIFEST_HEADER);
+                out.write('\n');
+                for (Map.Entry<String, Entry> e : new TreeMap<>(entries).entrySet()) {
+                    Entry entry = e.getValue();
+                    out.write(entry.hash() + "\t" + entry.size() + "\t" + entry.modified() + "\t" + e.getKey());
+                    out.write('\n');
+                }
+            }
+            Files.move(tmp, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /** Manifest record of one generated file. */
+    private record Entry(String hash, long size, long modified) {
+    }
+
+    private record Written(Status status, Entry entry) {
+    }
+
+    private static Written writeIfChanged(Path target, byte[] content, Entry recorded) throws IOException {
+        String hash = sha256Hex(content);
+        BasicFileAttributes attrs = null;
+        try {
+            attrs = Files.readAttributes(target, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            // new file
+        }
+        if (attrs != null && attrs.isRegularFile()) {
+            long modified = attrs.lastModifiedTime().toMillis();
+            // The manifest proves the file still holds what was generated last time: no need to read it
+            if (recorded != null && recorded.hash().equals(hash)
+                    && recorded.size() == attrs.size() && recorded.modified() == modified) {
+                return new Written(Status.UNCHANGED, recorded);
+            }
+            if (attrs.size() == content.length && Arrays.equals(Files.readAllBytes(target), content)) {
+                return new Written(Status.UNCHANGED, new Entry(hash, content.length, modified));
+            }
+            Files.write(target, content);
+            return new Written(Status.CHANGED, new Entry(hash, content.length, Files.getLastModifiedTime(target).toMillis()));
+        }
+        Path parent = target.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(target, content);
+        return new Written(Status.ADDED, new Entry(hash, content.length, Files.getLastModifiedTime(target).toMillis()));
+    }
+
+    private static Map<String, Entry> readManifest(Path manifest) throws IOException {
+        Map<String, Entry> entries = new HashMap<>();
+        if (!Files.isRegularFile(manifest)) {
+            return entries;
+        }
+        List<String> lines = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !MANIFEST_HEADER.equals(lines.get(0))) {
+            logger.warning("Ignoring generated-files manifest with unknown format: " + manifest);
+            return entries;
+        }
+        for (String line : lines.subList(1, lines.size())) {
+            String[] parts = line.split("\t", 4);
+            if (parts.length == 4) {
+                try {
+                    entries.put(parts[3], new Entry(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+                } catch (NumberFormatException e) {
+                    logger.fine("Skipping malformed manifest line: " + line);
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
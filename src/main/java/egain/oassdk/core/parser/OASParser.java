@@ -12,6 +12,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Parser for OpenAPI and SLA YAML files
@@ -23,6 +27,15 @@ public class OASParser {
     private final PathResolver pathResolver;
     private final FileSystem zipFs;
 
+    /**
+     * External files parsed ahead of time by {@link #prefetchExternalFiles}, keyed like loadedFiles.
+     * Entries are consumed by {@link #loadExternalFile} and the map is cleared after each resolveReferences call.
+     */
+    private final Map<String, Map<String, Object>> prefetchedFiles = new ConcurrentHashMap<>();
+
+    /** Keys of every file loaded by the most recent resolveReferences call, root first. */
+    private volatile List<String> lastResolvedFiles = List.of();
+
     public OASParser() {
         this(null, null, null);
     }
@@ -244,6 +257,38 @@ public class OASParser {
         return last == 0 ? "" : unix.substring(0, last);
     }
 
+    /** Path of a spec file as resolveReferences sees it: a normalized ZIP entry or an absolute filesystem path. */
+    private Path toSpecPath(String filePath) {
+        String sanitized = sanitizeFilePath(filePath);
+        if (zipFs != null && sanitized.startsWith("/") && sanitized.length() > 1) {
+            sanitized = sanitized.substring(1);
+        }
+        return (zipFs != null)
+                ? zipFs.getPath(sanitized).normalize()
+                : Paths.get(sanitized).normalize().toAbsolutePath();
+    }
+
+    /**
+     * Return the normalized key resolveReferences uses for the given spec file; it is the first
+     * entry of {@link #getLastResolvedFiles()} after resolving that file.
+     *
+     * @param filePath spec file path (ZIP entry path when this parser reads from a ZIP)
+     * @return normalized file key
+     */
+    public String fileKey(String filePath) {
+        return normalizePathKey(toSpecPath(filePath));
+    }
+
+    /**
+     * Return the keys of every file loaded by the most recent {@link #resolveReferences} call: the root
+     * spec first, then each external file it pulled in. Used to fingerprint a resolved spec.
+     *
+     * @return immutable list of normalized file keys
+     */
+    public List<String> getLastResolvedFiles() {
+        return lastResolvedFiles;
+    }
+
     /**
      * Resolve all $ref references in the specification
      * This includes both internal references (#/components/...) and external file references
@@ -265,13 +310,7 @@ public class OASParser {
         Map<String, Map<String, Object>> loadedFiles = new HashMap<>();
 
         // Load the base file into the cache (use normalized key for cross-platform consistency)
-        String sanitizedBase = sanitizeFilePath(baseFilePath);
-        if (zipFs != null && sanitizedBase.startsWith("/") && sanitizedBase.length() > 1) {
-            sanitizedBase = sanitizedBase.substring(1);
-        }
-        Path basePath = (zipFs != null)
-                ? zipFs.getPath(sanitizedBase).normalize()
-                : Paths.get(sanitizedBase).normalize().toAbsolutePath();
+        Path basePath = toSpecPath(baseFilePath);
         String baseFileKey = normalizePathKey(basePath);
         loadedFiles.put(baseFileKey, resolvedSpec);
 
@@ -280,6 +319,18 @@ public class OASParser {
             baseDir = zipFs.getPath("/");
         }
 
+        // Phase one: discover the transitive external-file graph and parse it concurrently.
+        // Phase two below still loads lazily in the same order, so results are identical; it just finds files already parsed.
+        prefetchExternalFiles(resolvedSpec, baseDir, baseFileKey);
+        try {
+            return resolveAllReferences(resolvedSpec, baseDir, baseFileKey, loadedFiles);
+        } finally {
+            prefetchedFiles.clear();
+        }
+    }
+
+    private Map<String, Object> resolveAllReferences(Map<String, Object> resolvedSpec, Path baseDir, String baseFileKey,
+                                                     Map<String, Map<String, Object>> loadedFiles) throws OASSDKException {
         // Track references currently being resolved to detect circular references
         Set<String> resolvingRefs = new HashSet<>();
         // Track visited objects to prevent infinite recursion
@@ -302,9 +353,147 @@ public class OASParser {
             }
         }
 
+        List<String> resolvedFiles = new ArrayList<>(loadedFiles.size());
+        resolvedFiles.add(baseFileKey);
+        for (String fileKey : loadedFiles.keySet()) {
+            if (!fileKey.equals(baseFileKey)) {
+                resolvedFiles.add(fileKey);
+            }
+        }
+        lastResolvedFiles = List.copyOf(resolvedFiles);
+
         return resolvedSpec;
     }
 
+    /** Upper bound on threads used to parse external files during prefetch. */
+    private static final int PREFETCH_MAX_THREADS = 8;
+
+    /**
+     * Discover every external file reachable from the spec through $ref and parse them concurrently into
+     * {@link #prefetchedFiles}. Discovery runs breadth-first: each wave of newly found files is parsed in parallel,
+     * then the $refs inside them form the next wave. This is best effort: a ref whose file cannot be located or
+     * parsed here is skipped and left to the lazy load in phase two, which reports errors exactly as before.
+     */
+    private void prefetchExternalFiles(Map<String, Object> spec, Path baseDir, String baseFileKey) {
+        Set<String> seen = new HashSet<>();
+        seen.add(baseFileKey);
+        List<Path> wave = new ArrayList<>();
+        collectExternalFilePaths(spec, baseDir, seen, wave);
+        if (wave.isEmpty()) {
+            return;
+        }
+        int threads = Math.min(PREFETCH_MAX_THREADS, Math.max(1, Runtime.getRuntime().availableProcessors()));
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "oas-ref-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        })) {
+            while (!wave.isEmpty()) {
+                List<Future<Map<String, Object>>> parsed = new ArrayList<>(wave.size());
+                for (Path file : wave) {
+                    parsed.add(executor.submit(() -> parse(PathUtils.toUnixPath(file))));
+                }
+                List<Path> next = new ArrayList<>();
+                for (int i = 0; i < wave.size(); i++) {
+                    Path file = wave.get(i);
+                    Map<String, Object> content;
+                    try {
+                        content = parsed.get(i).get();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        continue;
+                    }
+                    if (content == null) {
+                        continue;
+                    }
+                    prefetchedFiles.put(normalizePathKey(file), content);
+                    collectExternalFilePaths(content, file.getParent(), seen, next);
+                }
+                wave = next;
+            }
+        }
+    }
+
+    /**
+     * Collect external files named by $ref values under obj, resolved against the directory of the file
+     * that contains them. Files already in {@code seen} are skipped.
+     */
+    private void collectExternalFilePaths(Object obj, Path dir, Set<String> seen, List<Path> out) {
+        Deque<Object> stack = new ArrayDeque<>();
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        stack.push(obj);
+        while (!stack.isEmpty()) {
+            Object current = stack.pop();
+            if (current == null || !visited.add(current)) {
+                continue;
+            }
+            if (current instanceof Map<?, ?> map) {
+                if (map.get("$ref") instanceof String ref) {
+                    Path file = locateExternalFile(ref, dir);
+                    if (file != null && seen.add(normalizePathKey(file))) {
+                        out.add(file);
+                    }
+                }
+                for (Object value : map.values()) {
+                    if (value instanceof Map || value instanceof List) {
+                        stack.push(value);
+                    }
+                }
+            } else if (current instanceof List<?> list) {
+                for (Object item : list) {
+                    if (item instanceof Map || item instanceof List) {
+                        stack.push(item);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Resolve the file part of a $ref the way {@link #resolveReference} does first; null for internal refs or when not found. */
+    private Path locateExternalFile(String ref, Path dir) {
+        String filePath;
+        int hash = ref.indexOf('#');
+        if (hash >= 0) {
+            filePath = ref.substring(0, hash);
+        } else if (ref.endsWith(".yaml") || ref.endsWith(".yml") || ref.endsWith(".json")) {
+            filePath = ref;
+        } else {
+            return null;
+        }
+        if (filePath.isEmpty()) {
+            return null;
+        }
+        try {
+            if (zipFs != null && dir != null
+                    && (filePath.contains("../") || filePath.contains("..\\") || filePath.startsWith("./"))) {
+                String resolvedStr = PathResolver.resolveRelativePathString(PathUtils.toUnixPath(dir), filePath);
+                if (resolvedStr != null) {
+                    Path candidate = zipFs.getPath(resolvedStr);
+                    if (Files.exists(candidate) && Files.isRegularFile(candidate)) {
+                        return candidate;
+                    }
+                }
+            }
+            return pathResolver.resolveReference(filePath, dir);
+        } catch (OASSDKException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Return the parsed content of an external file, taking it from the prefetch cache when phase one
+     * already parsed it. The result is a fresh mutable copy, as callers resolve refs in place.
+     */
+    private Map<String, Object> loadExternalFile(Path refPath, String fileKey) throws OASSDKException {
+        Map<String, Object> content = prefetchedFiles.remove(fileKey);
+        if (content == null) {
+            content = parse(PathUtils.toUnixPath(refPath));
+        }
+        return new HashMap<>(content);
+    }
+
     /** Sentinel in referencedFragmentsByFile meaning the entire file was referenced (e.g. ref without fragment). */
     private static final String REF_FRAGMENT_WHOLE_FILE = "/";
 
@@ -782,10 +971,8 @@ public class OASParser {
                 String fileKey = normalizePathKey(refPath);
                 Map<String, Object> externalSpec = loadedFiles.get(fileKey);
                 if (externalSpec == null) {
-                    // Parse the external file (always use Unix-style path)
-                    externalSpec = parse(PathUtils.toUnixPath(refPath));
-                    // Create a copy to avoid modifying the original
-                    externalSpec = new HashMap<>(externalSpec);
+                    // Parse the external file (always use Unix-style path; copy so the original stays unmodified)
+                    externalSpec = loadExternalFile(refPath, fileKey);
                     loadedFiles.put(fileKey, externalSpec);
                     // Resolve references in the external file recursively
                     // Share the same resolving set to detect cross-file circular references
@@ -896,8 +1083,7 @@ public class OASParser {
                 String fileKey = normalizePathKey(refPath);
                 Map<String, Object> externalSpec = loadedFiles.get(fileKey);
                 if (externalSpec == null) {
-                    externalSpec = parse(PathUtils.toUnixPath(refPath));
-                    externalSpec = new HashMap<>(externalSpec);
+                    externalSpec = loadExternalFile(refPath, fileKey);
                     loadedFiles.put(fileKey, externalSpec);
                     resolveReferencesRecursive(externalSpec, refPath.getParent(), fileKey, baseFileKey, loadedFiles, resolvingRefs, visitedObjects, referencedFragmentsByFile);
                 }
@@ -978,8 +1164,7 @@ public class OASParser {
                     String fileKey = normalizePathKey(resolvedPath);
                     Map<String, Object> externalSpec = loadedFiles.get(fileKey);
                     if (externalSpec == null) {
-                        externalSpec = parse(PathUtils.toUnixPath(resolvedPath));
-                        externalSpec = new HashMap<>(externalSpec);
+                        externalSpec = loadExternalFile(resolvedPath, fileKey);
                         loadedFiles.put(fileKey, externalSpec);
                         resolveReferencesRecursive(externalSpec, resolvedPath.getParent(), fileKey, baseFileKey, loadedFiles, resolvingRefs, visitedObjects, referencedFragmentsByFile);
                     }
@@ -0,0 +1,293 @@
+package egain.oassdk.core.parser;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * On-disk cache of fully resolved specifications (output of {@link OASParser#parse} followed by
+ * {@link OASParser#resolveReferences}), stored as Jackson Smile.
+ *
+ * <p>Each entry records every file that was loaded while resolving the spec, with the SHA-256 of its
+ * content. An entry is only returned when all of those files still hash to the same value, so editing
+ * any fragment (on disk or inside the spec ZIP) invalidates it. Checking an entry costs one hash per
+ * file instead of a YAML parse and $ref resolution.
+ *
+ * <p>The resolved tree shares sub-objects (and may contain cycles from recursive schemas); the encoding
+ * preserves that sharing. Maps come back as {@link LinkedHashMap} in the iteration order they had when
+ * stored. Failures to read or write the cache are logged and treated as a miss.
+ */
+public class ParsedSpecCache {
+
+    private static final Logger logger = Logger.getLogger(ParsedSpecCache.class.getName());
+
+    /** Bump when the encoding below changes so old entries are ignored. */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String LIST_TAG = "l";
+    private static final String BACK_REF_TAG = "r";
+
+    private final Path cacheDir;
+    private final FileSystem zipFs;
+    private final String sourceId;
+    private final SmileFactory smileFactory = new SmileFactory();
+
+    /**
+     * @param cacheDir    directory holding cache entries (created on first store)
+     * @param zipFs       the spec ZIP file system, or null for filesystem-based loading
+     * @param zipPath     path of the spec ZIP when zipFs is non-null (part of the entry key)
+     * @param searchPaths search paths given to the parser (part of the entry key, they affect resolution)
+     */
+    public ParsedSpecCache(Path cacheDir, FileSystem zipFs, String zipPath, List<String> searchPaths) {
+        this.cacheDir = cacheDir;
+        this.zipFs = zipFs;
+        StringBuilder id = new StringBuilder();
+        if (zipPath != null) {
+            id.append("zip:").append(PathUtils.toUnixPath(Paths.get(zipPath).toAbsolutePath().normalize()));
+        }
+        if (searchPaths != null) {
+            for (String searchPath : searchPaths) {
+                id.append("|search:").append(PathUtils.toUnixPath(searchPath));
+            }
+        }
+        this.sourceId = id.toString();
+    }
+
+    /**
+     * Return the cached resolved spec for the given root, or null when there is no entry or any file it
+     * was built from has changed.
+     *
+     * @param rootFileKey normalized key of the root spec, as returned by {@link OASParser#fileKey(String)}
+     */
+    public Map<String, Object> load(String rootFileKey) {
+        Path entry = entryPath(rootFileKey);
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(entry);
+             JsonParser parser = smileFactory.createParser(in)) {
+            expect(parser.nextToken(), JsonToken.START_ARRAY);
+            if (parser.nextToken() != JsonToken.VALUE_NUMBER_INT || parser.getIntValue() != FORMAT_VERSION) {
+                return null;
+            }
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fileKey = parser.currentName();
+                parser.nextToken();
+                String expected = parser.getText();
+                if (!expected.equals(currentHash(fileKey))) {
+                    logger.fine(() -> "Spec cache entry for " + rootFileKey + " is stale: " + fileKey + " changed");
+                    return null;
+                }
+            }
+            parser.nextToken();
+            Object tree = readValue(parser, new ArrayList<>());
+            if (!(tree instanceof Map)) {
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> spec = (Map<String, Object>) tree;
+            return spec;
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Ignoring unreadable spec cache entry " + entry + ": " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Store a resolved spec together with the hashes of the files it was built from.
+     *
+     * @param rootFileKey normalized key of the root spec
+     * @param spec        the resolved spec
+     * @param fileKeys    every file loaded while resolving (root included)
+     */
+    public void store(String rootFileKey, Map<String, Object> spec, List<String> fileKeys) {
+        Path entry = entryPath(rootFileKey);
+        Path tmp = null;
+        try {
+            Files.createDirectories(cacheDir);
+            tmp = Files.createTempFile(cacheDir, entry.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp);
+                 JsonGenerator gen = smileFactory.createGenerator(out)) {
+                gen.writeStartArray();
+                gen.writeNumber(FORMAT_VERSION);
+                gen.writeStartObject();
+                for (String fileKey : fileKeys) {
+                    gen.writeStringField(fileKey, contentHash(fileKey));
+                }
+                gen.writeEndObject();
+                writeValue(gen, spec, new IdentityHashMap<>());
+                gen.writeEndArray();
+            }
+            Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Failed to write spec cache entry " + entry + ": " + e.getMessage(), e);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // best effort
+                }
+            }
+        }
+    }
+
+    private Path entryPath(String rootFileKey) {
+        return cacheDir.resolve(sha256Hex((sourceId + "|root:" + rootFileKey).getBytes(StandardCharsets.UTF_8)) + ".smile");
+    }
+
+    /** Hash of the file as it is now, or null when it can no longer be read (which makes the entry stale). */
+    private String currentHash(String fileKey) {
+        try {
+            return contentHash(fileKey);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private String contentHash(String fileKey) throws IOException {
+        Path file = zipFs != null ? zipFs.getPath(fileKey) : Paths.get(fileKey);
+        return sha256Hex(Files.readAllBytes(file));
+    }
+
+    private static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Maps are written as objects, lists as arrays tagged with {@link #LIST_TAG}. A map or list that was
+     * already written is replaced by a {@link #BACK_REF_TAG} array holding its index in write order.
+     */
+    private static void writeValue(JsonGenerator gen, Object value, IdentityHashMap<Object, Integer> written) throws IOException {
+        if (value instanceof Map<?, ?> || value instanceof List<?>) {
+            Integer ref = written.get(value);
+            if (ref != null) {
+                gen.writeStartArray();
+                gen.writeString(BACK_REF_TAG);
+                gen.writeNumber(ref);
+                gen.writeEndArray();
+                return;
+            }
+            written.put(value, written.size());
+        }
+        if (value == null) {
+            gen.writeNull();
+        } else if (value instanceof Map<?, ?> map) {
+            gen.writeStartObject();
+            for (Map.Entry<?, ?> e : map.entrySet()) {
+                gen.writeFieldName(String.valueOf(e.getKey()));
+                writeValue(gen, e.getValue(), written);
+            }
+            gen.writeEndObject();
+        } else if (value instanceof List<?> list) {
+            gen.writeStartArray();
+            gen.writeString(LIST_TAG);
+            for (Object item : list) {
+                writeValue(gen, item, written);
+            }
+            gen.writeEndArray();
+        } else if (value instanceof String s) {
+            gen.writeString(s);
+        } else if (value instanceof Boolean b) {
+            gen.writeBoolean(b);
+        } else if (value instanceof Integer i) {
+            gen.writeNumber(i);
+        } else if (value instanceof Long l) {
+            gen.writeNumber(l);
+        } else if (value instanceof Double d) {
+            gen.writeNumber(d);
+        } else if (value instanceof Float f) {
+            gen.writeNumber(f);
+        } else if (value instanceof BigInteger bi) {
+            gen.writeNumber(bi);
+        } else if (value instanceof BigDecimal bd) {
+            gen.writeNumber(bd);
+        } else {
+            throw new IOException("Unsupported value type in spec: " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(JsonParser parser, List<Object> read) throws IOException {
+        JsonToken token = parser.currentToken();
+        switch (token) {
+            case START_OBJECT -> {
+                Map<String, Object> map = new LinkedHashMap<>();
+                read.add(map);
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = parser.currentName();
+                    parser.nextToken();
+                    map.put(key, readValue(parser, read));
+                }
+                return map;
+            }
+            case START_ARRAY -> {
+                parser.nextToken();
+                String tag = parser.getText();
+                if (BACK_REF_TAG.equals(tag)) {
+                    parser.nextToken();
+                    Object target = read.get(parser.getIntValue());
+                    expect(parser.nextToken(), JsonToken.END_ARRAY);
+                    return target;
+                }
+                if (!LIST_TAG.equals(tag)) {
+                    throw new IOException("Unexpected array tag: " + tag);
+                }
+                List<Object> list = new ArrayList<>();
+                read.add(list);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readValue(parser, read));
+                }
+                return list;
+            }
+            case VALUE_STRING -> {
+                return parser.getText();
+            }
+            case VALUE_TRUE -> {
+                return Boolean.TRUE;
+            }
+            case VALUE_FALSE -> {
+                return Boolean.FALSE;
+            }
+            case VALUE_NULL -> {
+                return null;
+            }
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                return parser.getNumberValue();
+            }
+            default -> throw new IOException("Unexpected token in spec cache: " + token);
+        }
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Corrupt spec cache entry: expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -67,6 +67,11 @@ public class ApiCallExtractor {
         return calls;
     }
 
+    /** {@link #extract} the spec's operations and index them for chain discovery. */
+    public OperationGraph extractGraph(Map<String, Object> spec) {
+        return OperationGraph.of(extract(spec));
+    }
+
     /** Right-most non-empty, non-templated path segment; fallback {@code "resource"}. */
     static String extractResourceName(String path) {
         String[] segments = path.split("/");
@@ -119,6 +124,10 @@ public class ApiCallExtractor {
      *       pluralizations) of any POST in the spec. First match wins.</li>
      * </ol>
      *
+     * <p>Each call scans {@code allCalls}; callers resolving many
+     * parameters should build an {@link OperationGraph} once and use
+     * {@link OperationGraph#findProducerForParam} instead.
+     *
      * @return the producer POST, or {@code null} if none found.
      */
     public static ApiCallInfo findProducerForParam(ApiCallInfo consumer, String paramName,
@@ -172,7 +181,7 @@ public class ApiCallExtractor {
         return null;
     }
 
-    private static String stripIdSuffix(String param) {
+    static String stripIdSuffix(String param) {
         if (param == null) {
             return "";
         }
@@ -1,5 +1,7 @@
 package egain.oassdk.core.sequence;
 
+import java.time.Duration;
+
 /**
  * Knobs governing {@link ChainEnumerator}. Defaults keep the emitted
  * matrix small (green-path) and are tuned for a useful starting point on
@@ -10,12 +12,27 @@ package egain.oassdk.core.sequence;
  * {@code 1 + c + c*(c-1) + ... + P(c, L-1)} — roughly {@code c!} when
  * {@code L >= c + 1}. Setting {@code allowRepeats = true} inflates that
  * to {@code c^(L-1)}.
+ *
+ * <p>{@code maxChains} and {@code timeBudget} cut that growth off: once
+ * either is spent, {@link ChainEnumerator} stops emitting tails and each
+ * remaining family contributes only its minimal chain (prefix + seed), so
+ * every POST is still covered. {@code 0} and {@code null} mean no limit.
+ *
+ * <p>{@code selection} replaces the exhaustive tail permutations with a
+ * greedy covering set: every ordered pair (or triple) of consumers that
+ * can follow each other in some exhaustive tail is still exercised, by a
+ * much smaller number of chains. {@code randomSeed} makes the sampled set
+ * reproducible.
  */
 public record ChainConfig(
         int maxChainLength,
         boolean deleteLastOnly,
         boolean allowRepeats,
-        UnresolvedParamPolicy unresolvedParamPolicy) {
+        UnresolvedParamPolicy unresolvedParamPolicy,
+        int maxChains,
+        Duration timeBudget,
+        Selection selection,
+        long randomSeed) {
 
     public ChainConfig {
         if (maxChainLength < 1) {
@@ -24,6 +41,21 @@ public record ChainConfig(
         if (unresolvedParamPolicy == null) {
             unresolvedParamPolicy = UnresolvedParamPolicy.SKIP;
         }
+        if (maxChains < 0) {
+            throw new IllegalArgumentException("maxChains must be >= 0, got " + maxChains);
+        }
+        if (timeBudget != null && timeBudget.isNegative()) {
+            throw new IllegalArgumentException("timeBudget must not be negative, got " + timeBudget);
+        }
+        if (selection == null) {
+            selection = Selection.EXHAUSTIVE;
+        }
+    }
+
+    public ChainConfig(int maxChainLength, boolean deleteLastOnly, boolean allowRepeats,
+                       UnresolvedParamPolicy unresolvedParamPolicy) {
+        this(maxChainLength, deleteLastOnly, allowRepeats, unresolvedParamPolicy, 0, null,
+                Selection.EXHAUSTIVE, 0L);
     }
 
     public static ChainConfig defaults() {
@@ -49,11 +81,41 @@ public record ChainConfig(
         EMIT_WITH_MARKER
     }
 
+    /**
+     * Which tails of each chain family are emitted.
+     */
+    public enum Selection {
+        /** Every tail permutation up to {@code maxChainLength}. */
+        EXHAUSTIVE(0),
+        /** A greedy covering set of tails containing every feasible ordered consumer pair back to back. */
+        PAIRWISE(2),
+        /**
+         * As {@link #PAIRWISE}, for every feasible run of three consumers; families with more than
+         * 256 consumers fall back to pairwise ({@link ChainCoverage#strength()} reports it).
+         */
+        THREE_WISE(3);
+
+        private final int strength;
+
+        Selection(int strength) {
+            this.strength = strength;
+        }
+
+        /** Length of the consumer runs covered, or {@code 0} for {@link #EXHAUSTIVE}. */
+        public int strength() {
+            return strength;
+        }
+    }
+
     public static final class Builder {
         private int maxChainLength = 4;
         private boolean deleteLastOnly = true;
         private boolean allowRepeats = false;
         private UnresolvedParamPolicy unresolvedParamPolicy = UnresolvedParamPolicy.SKIP;
+        private int maxChains = 0;
+        private Duration timeBudget = null;
+        private Selection selection = Selection.EXHAUSTIVE;
+        private long randomSeed = 0L;
 
         public Builder maxChainLength(int v) { this.maxChainLength = v; return this; }
         public Builder deleteLastOnly(boolean v) { this.deleteLastOnly = v; return this; }
@@ -62,9 +124,17 @@ public record ChainConfig(
             this.unresolvedParamPolicy = v == null ? UnresolvedParamPolicy.SKIP : v;
             return this;
         }
+        public Builder maxChains(int v) { this.maxChains = v; return this; }
+        public Builder timeBudget(Duration v) { this.timeBudget = v; return this; }
+        public Builder selection(Selection v) {
+            this.selection = v == null ? Selection.EXHAUSTIVE : v;
+            return this;
+        }
+        public Builder randomSeed(long v) { this.randomSeed = v; return this; }
 
         public ChainConfig build() {
-            return new ChainConfig(maxChainLength, deleteLastOnly, allowRepeats, unresolvedParamPolicy);
+            return new ChainConfig(maxChainLength, deleteLastOnly, allowRepeats, unresolvedParamPolicy,
+                    maxChains, timeBudget, selection, randomSeed);
         }
     }
 }
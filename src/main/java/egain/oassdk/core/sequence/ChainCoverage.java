@@ -0,0 +1,39 @@
+package egain.oassdk.core.sequence;
+
+/**
+ * Transition coverage of one chain family as emitted by
+ * {@link ChainEnumerator}, measured against the exhaustive enumeration.
+ *
+ * <p>A transition is a run of {@code strength} tail consumers executed
+ * back to back. {@code targetTransitions} counts those appearing in some
+ * exhaustive tail; {@code coveredTransitions} those appearing in an
+ * emitted one. Budget cut-offs ({@code maxChains}, {@code timeBudget})
+ * can leave the two apart, as can the rare chain deduped against another
+ * family's identical chain.
+ *
+ * @param seedPost            the family's seed POST
+ * @param strength            run length measured: the selection's
+ *                            strength, {@code 2} for exhaustive selection,
+ *                            capped at the family's longest tail and
+ *                            lowered for very large tail pools (three-wise
+ *                            beyond 256 consumers)
+ * @param targetTransitions   transitions in the exhaustive tails
+ * @param coveredTransitions  transitions in the emitted tails
+ * @param emittedChains       chains emitted for the family, minimal chain included
+ * @param exhaustiveChains    chains the exhaustive enumeration visits for the
+ *                            family, minimal chain included (before dedup;
+ *                            saturates at {@link Long#MAX_VALUE})
+ */
+public record ChainCoverage(
+        ApiCallInfo seedPost,
+        int strength,
+        int targetTransitions,
+        int coveredTransitions,
+        int emittedChains,
+        long exhaustiveChains) {
+
+    /** Covered share of the target transitions; {@code 1.0} when there are none. */
+    public double ratio() {
+        return targetTransitions == 0 ? 1.0 : (double) coveredTransitions / targetTransitions;
+    }
+}
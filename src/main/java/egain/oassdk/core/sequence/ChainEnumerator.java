@@ -2,8 +2,19 @@ package egain.oassdk.core.sequence;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Enumerates workflow chains out of a flat list of {@link ApiCallInfo}.
@@ -17,7 +28,7 @@ import java.util.Set;
  *   <li><b>Seed POST.</b> The POST this family is built around.</li>
  *   <li><b>Prefix.</b> Predecessor POSTs whose outputs resolve the seed's
  *       path parameters. Computed recursively via
- *       {@link ApiCallExtractor#findProducerForParam}. If any path
+ *       {@link OperationGraph#findProducerForParam}. If any path
  *       parameter cannot be resolved the family is either dropped or
  *       emitted with a marker per
  *       {@link ChainConfig.UnresolvedParamPolicy}.</li>
@@ -27,7 +38,7 @@ import java.util.Set;
  *       Permutations of length up to {@code maxChainLength - prefix.size - 1}.</li>
  * </ul>
  *
- * <p>Filters applied after enumeration:
+ * <p>Rules applied while enumerating:
  * <ol>
  *   <li>{@code maxChainLength} caps the total step count, not just the tail.</li>
  *   <li>{@code deleteLastOnly} rejects tails where DELETE is not the final step.</li>
@@ -35,10 +46,27 @@ import java.util.Set;
  *       the same consumer twice.</li>
  *   <li>Chains with an identical method+path signature across all steps
  *       are deduped globally.</li>
+ *   <li>{@code maxChains} and {@code timeBudget} stop tail enumeration;
+ *       families not yet reached still emit their minimal chain.</li>
  * </ol>
+ *
+ * <p>With a {@link ChainConfig.Selection} other than {@code EXHAUSTIVE}
+ * the tails of a family are a greedy covering set built from
+ * {@code randomSeed} and the seed's signature instead, so a family's
+ * selection does not change when other operations are added to the spec.
+ *
+ * <p>{@link #stream} yields chains lazily: a family's prefix and tail pool
+ * are looked up in an {@link OperationGraph} when the stream reaches it, and tails are produced one at a
+ * time, so no family's permutations are ever held in memory. Chains come
+ * out in seed order, then by tail length, then in lexicographic order of
+ * the tail pool (or in covering-set order); {@link #enumerate} collects
+ * the same sequence.
  */
 public class ChainEnumerator {
 
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     private final ChainConfig config;
 
     public ChainEnumerator() {
@@ -50,48 +78,303 @@ public class ChainEnumerator {
     }
 
     public List<EnumeratedChain> enumerate(List<ApiCallInfo> allCalls) {
-        List<EnumeratedChain> out = new ArrayList<>();
-        Set<String> seenSignatures = new HashSet<>();
+        return stream(allCalls).collect(Collectors.toCollection(ArrayList::new));
+    }
 
-        for (ApiCallInfo post : allCalls) {
-            if (!"POST".equalsIgnoreCase(post.method())) {
-                continue;
+    /**
+     * Lazily enumerates the chains {@link #enumerate} returns, in the same
+     * order. The {@code timeBudget} clock starts when the first chain is
+     * requested, so it also covers the consumer's work between chains.
+     */
+    public Stream<EnumeratedChain> stream(List<ApiCallInfo> allCalls) {
+        return stream(allCalls, null);
+    }
+
+    /**
+     * As {@link #stream(List)}, also handing {@code coverageListener} the
+     * {@link ChainCoverage} of each family once its last chain has been
+     * produced.
+     */
+    public Stream<EnumeratedChain> stream(List<ApiCallInfo> allCalls, Consumer<ChainCoverage> coverageListener) {
+        return stream(OperationGraph.of(allCalls), coverageListener);
+    }
+
+    /**
+     * As {@link #stream(List, Consumer)}, over the operations of an
+     * already built graph.
+     */
+    public Stream<EnumeratedChain> stream(OperationGraph graph, Consumer<ChainCoverage> coverageListener) {
+        Spliterator<EnumeratedChain> spliterator = Spliterators.spliteratorUnknownSize(
+                new ChainIterator(graph, coverageListener),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Walks the seed POSTs in call order and, per family, the minimal chain
+     * followed by every tail of length 1..maxTail, or by the family's
+     * covering set.
+     */
+    private final class ChainIterator implements Iterator<EnumeratedChain> {
+
+        private final OperationGraph graph;
+        private final List<ApiCallInfo> allCalls;
+        private final Consumer<ChainCoverage> coverageListener;
+        // Chains are deduped on a 64-bit hash of their method+path signature
+        // rather than the concatenated string. Only spec entries repeating a
+        // method+path produce duplicates at all; a false collision between
+        // distinct chains is ~n^2 / 2^65 for n chains.
+        private final Set<Long> seenSignatures = new HashSet<>();
+        private final Map<ApiCallInfo, Long> stepHashes = new IdentityHashMap<>();
+
+        private int seedIndex = -1;
+        private ApiCallInfo seed;
+        private List<ApiCallInfo> prefix;
+        private boolean unresolved;
+        private List<ApiCallInfo> tailPool;
+        private boolean[] tailIsDelete;
+        private int maxTail;
+
+        private int tailLen;
+        private int[] tailIdx;
+        private boolean[] used;
+        private boolean tailStarted;
+        private List<int[]> sampledTails;
+        private int sampledPos;
+
+        private TransitionCoverage coverage;
+        private int familyEmitted;
+
+        private long deadline;
+        private boolean clockStarted;
+        private int emitted;
+        private EnumeratedChain pending;
+
+        private ChainIterator(OperationGraph graph, Consumer<ChainCoverage> coverageListener) {
+            this.graph = graph;
+            this.allCalls = graph.calls();
+            this.coverageListener = coverageListener;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pending == null) {
+                pending = advance();
             }
-            PrefixResult prefix = buildPrefix(post, allCalls, new HashSet<>());
-            boolean unresolved = prefix.hasUnresolved();
-            if (unresolved && config.unresolvedParamPolicy() == ChainConfig.UnresolvedParamPolicy.SKIP) {
-                continue;
+            return pending != null;
+        }
+
+        @Override
+        public EnumeratedChain next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
+            EnumeratedChain chain = pending;
+            pending = null;
+            emitted++;
+            return chain;
+        }
 
-            int prefixSize = prefix.steps().size();
-            int seedLen = prefixSize + 1;
-            if (seedLen > config.maxChainLength()) {
-                // Prefix alone already exceeds the budget.
-                continue;
+        private EnumeratedChain advance() {
+            if (!clockStarted) {
+                clockStarted = true;
+                deadline = config.timeBudget() == null ? 0 : System.nanoTime() + config.timeBudget().toNanos();
+            }
+            while (true) {
+                if (seed != null && !budgetSpent()) {
+                    while (nextTail()) {
+                        EnumeratedChain chain = uniqueChain(currentTail());
+                        if (chain != null) {
+                            if (coverage != null) {
+                                coverage.record(tailIdx);
+                            }
+                            return chain;
+                        }
+                        if (budgetSpent()) {
+                            break;
+                        }
+                    }
+                }
+                finishFamily();
+                if (!nextFamily()) {
+                    return null;
+                }
+                EnumeratedChain chain = uniqueChain(List.of());
+                if (chain != null) {
+                    return chain;
+                }
+            }
+        }
+
+        private boolean budgetSpent() {
+            return (config.maxChains() > 0 && emitted >= config.maxChains())
+                    || (config.timeBudget() != null && System.nanoTime() - deadline >= 0);
+        }
+
+        private void finishFamily() {
+            if (seed != null && coverageListener != null) {
+                int deletes = 0;
+                for (boolean isDelete : tailIsDelete) {
+                    deletes += isDelete ? 1 : 0;
+                }
+                long exhaustive = TransitionCoverage.exhaustiveTails(tailPool.size(), deletes, maxTail,
+                        config.allowRepeats(), config.deleteLastOnly());
+                coverageListener.accept(new ChainCoverage(seed, coverage.strength(), coverage.targetCount(),
+                        coverage.coveredCount(), familyEmitted,
+                        exhaustive == Long.MAX_VALUE ? exhaustive : exhaustive + 1));
             }
+            seed = null;
+        }
+
+        /**
+         * Moves to the next seed POST that yields a family, building its
+         * prefix and tail pool (and covering set, if sampling).
+         */
+        private boolean nextFamily() {
+            while (++seedIndex < allCalls.size()) {
+                ApiCallInfo post = allCalls.get(seedIndex);
+                if (!"POST".equalsIgnoreCase(post.method())) {
+                    continue;
+                }
+                PrefixResult prefixResult = buildPrefix(post, graph, new HashSet<>());
+                if (prefixResult.hasUnresolved()
+                        && config.unresolvedParamPolicy() == ChainConfig.UnresolvedParamPolicy.SKIP) {
+                    continue;
+                }
+                int seedLen = prefixResult.steps().size() + 1;
+                if (seedLen > config.maxChainLength()) {
+                    // Prefix alone already exceeds the budget.
+                    continue;
+                }
+                seed = post;
+                prefix = prefixResult.steps();
+                unresolved = prefixResult.hasUnresolved();
+                tailPool = graph.consumersOf(post);
+                tailIsDelete = new boolean[tailPool.size()];
+                for (int i = 0; i < tailIsDelete.length; i++) {
+                    tailIsDelete[i] = "DELETE".equalsIgnoreCase(tailPool.get(i).method());
+                }
+                int tailBudget = config.maxChainLength() - seedLen;
+                maxTail = config.allowRepeats() ? tailBudget : Math.min(tailBudget, tailPool.size());
+                startTailLength(1);
+                familyEmitted = 0;
+                ChainConfig.Selection selection = config.selection();
+                sampledTails = null;
+                if (selection != ChainConfig.Selection.EXHAUSTIVE) {
+                    // Families reached after the budget is spent emit no tails, so skip their construction
+                    sampledTails = budgetSpent() ? List.of() : newCoverage(selection.strength())
+                            .sample(new Random(config.randomSeed() ^ stepHash(post)));
+                    sampledPos = 0;
+                }
+                coverage = coverageListener == null ? null
+                        : newCoverage(selection == ChainConfig.Selection.EXHAUSTIVE ? 2 : selection.strength());
+                return true;
+            }
+            return false;
+        }
 
-            addIfUnique(composeSteps(prefix.steps(), post, List.of()), post, unresolved,
-                    out, seenSignatures);
+        private TransitionCoverage newCoverage(int strength) {
+            return new TransitionCoverage(tailIsDelete, strength, maxTail,
+                    config.allowRepeats(), config.deleteLastOnly());
+        }
 
-            List<ApiCallInfo> tailPool = buildTailPool(post, allCalls);
-            int tailBudget = config.maxChainLength() - seedLen;
-            int maxTail;
-            if (config.allowRepeats()) {
-                maxTail = tailBudget;
+        /**
+         * Moves {@code tailIdx} to the family's next tail: the next covering
+         * tail when sampling, else the next permutation, moving on to longer
+         * tails as each length is exhausted.
+         */
+        private boolean nextTail() {
+            if (sampledTails != null) {
+                if (sampledPos == sampledTails.size()) {
+                    return false;
+                }
+                tailIdx = sampledTails.get(sampledPos++);
+                tailLen = tailIdx.length;
+                return true;
+            }
+            while (tailLen <= maxTail) {
+                if (nextPermutation()) {
+                    return true;
+                }
+                startTailLength(tailLen + 1);
+            }
+            return false;
+        }
+
+        private void startTailLength(int length) {
+            tailLen = length;
+            tailIdx = new int[length];
+            used = new boolean[tailPool.size()];
+            tailStarted = false;
+        }
+
+        /**
+         * Advances {@code tailIdx} to the next tuple of the current length in
+         * lexicographic order, skipping reused consumers (unless repeats are
+         * allowed) and non-final DELETEs (under {@code deleteLastOnly}).
+         */
+        private boolean nextPermutation() {
+            int pos;
+            if (!tailStarted) {
+                tailStarted = true;
+                pos = 0;
+                tailIdx[0] = -1;
             } else {
-                maxTail = Math.min(tailBudget, tailPool.size());
+                pos = tailLen - 1;
             }
-            for (int tailLen = 1; tailLen <= maxTail; tailLen++) {
-                for (List<ApiCallInfo> tail : permutations(tailPool, tailLen, config.allowRepeats())) {
-                    if (config.deleteLastOnly() && hasDeleteBeforeEnd(tail)) {
-                        continue;
-                    }
-                    addIfUnique(composeSteps(prefix.steps(), post, tail), post, unresolved,
-                            out, seenSignatures);
+            while (pos >= 0) {
+                if (tailIdx[pos] >= 0) {
+                    used[tailIdx[pos]] = false;
+                }
+                int candidate = nextCandidate(pos, tailIdx[pos] + 1);
+                if (candidate < 0) {
+                    tailIdx[pos] = -1;
+                    pos--;
+                    continue;
+                }
+                tailIdx[pos] = candidate;
+                used[candidate] = true;
+                if (pos == tailLen - 1) {
+                    return true;
+                }
+                tailIdx[++pos] = -1;
+            }
+            return false;
+        }
+
+        private int nextCandidate(int pos, int from) {
+            for (int i = from; i < tailPool.size(); i++) {
+                if (!config.allowRepeats() && used[i]) {
+                    continue;
+                }
+                if (config.deleteLastOnly() && pos < tailLen - 1 && tailIsDelete[i]) {
+                    continue;
                 }
+                return i;
             }
+            return -1;
+        }
+
+        private List<ApiCallInfo> currentTail() {
+            List<ApiCallInfo> tail = new ArrayList<>(tailLen);
+            for (int i : tailIdx) {
+                tail.add(tailPool.get(i));
+            }
+            return tail;
+        }
+
+        private EnumeratedChain uniqueChain(List<ApiCallInfo> tail) {
+            List<ApiCallInfo> steps = composeSteps(prefix, seed, tail);
+            long signature = FNV_OFFSET_BASIS;
+            for (ApiCallInfo step : steps) {
+                signature = (signature ^ stepHashes.computeIfAbsent(step, ChainEnumerator::stepHash)) * FNV_PRIME;
+            }
+            if (!seenSignatures.add(signature)) {
+                return null;
+            }
+            familyEmitted++;
+            return new EnumeratedChain(seed, steps, unresolved);
         }
-        return out;
     }
 
     /**
@@ -100,7 +383,7 @@ public class ChainEnumerator {
      * that resolves multiple params appears once, and breaks cycles
      * defensively.
      */
-    private PrefixResult buildPrefix(ApiCallInfo post, List<ApiCallInfo> allCalls,
+    private PrefixResult buildPrefix(ApiCallInfo post, OperationGraph graph,
                                      Set<ApiCallInfo> visiting) {
         if (post.pathParamNames().isEmpty()) {
             return new PrefixResult(List.of(), false);
@@ -116,7 +399,7 @@ public class ChainEnumerator {
         boolean anyUnresolved = false;
 
         for (String param : post.pathParamNames()) {
-            ApiCallInfo producer = ApiCallExtractor.findProducerForParam(post, param, allCalls);
+            ApiCallInfo producer = graph.findProducerForParam(post, param);
             if (producer == null) {
                 anyUnresolved = true;
                 continue;
@@ -124,7 +407,7 @@ public class ChainEnumerator {
             if (included.contains(producer)) {
                 continue;
             }
-            PrefixResult sub = buildPrefix(producer, allCalls, nextVisiting);
+            PrefixResult sub = buildPrefix(producer, graph, nextVisiting);
             if (sub.hasUnresolved()) {
                 anyUnresolved = true;
             }
@@ -140,51 +423,6 @@ public class ChainEnumerator {
         return new PrefixResult(List.copyOf(steps), anyUnresolved);
     }
 
-    /**
-     * Tail pool for a seed POST: non-POST path-templated consumers whose
-     * path is the seed's own or a descendant under the seed's tree, and
-     * whose path parameters are all bound by (prefix + seed).
-     *
-     * <p>Ancestor consumers belong to a different seed's family. POSTs are
-     * always seeds themselves, never tail members.
-     */
-    private static List<ApiCallInfo> buildTailPool(ApiCallInfo seed, List<ApiCallInfo> allCalls) {
-        Set<String> boundParams = new HashSet<>(seed.pathParamNames());
-        String seedPath = seed.path();
-        String descendantScan = seedPath + "/{";
-        for (ApiCallInfo c : allCalls) {
-            if (c.path().startsWith(descendantScan)) {
-                int start = descendantScan.length();
-                int end = c.path().indexOf('}', start);
-                if (end > start) {
-                    boundParams.add(c.path().substring(start, end));
-                    break;
-                }
-            }
-        }
-
-        List<ApiCallInfo> pool = new ArrayList<>();
-        for (ApiCallInfo c : allCalls) {
-            if (c == seed) {
-                continue;
-            }
-            if (!c.isConsumer()) {
-                continue;
-            }
-            if ("POST".equalsIgnoreCase(c.method())) {
-                continue;
-            }
-            if (!(c.path().equals(seedPath) || c.path().startsWith(seedPath + "/"))) {
-                continue;
-            }
-            if (!boundParams.containsAll(c.pathParamNames())) {
-                continue;
-            }
-            pool.add(c);
-        }
-        return pool;
-    }
-
     private static List<ApiCallInfo> composeSteps(List<ApiCallInfo> prefix, ApiCallInfo seed,
                                                   List<ApiCallInfo> tail) {
         List<ApiCallInfo> steps = new ArrayList<>(prefix.size() + 1 + tail.size());
@@ -194,62 +432,16 @@ public class ChainEnumerator {
         return steps;
     }
 
-    private static void addIfUnique(List<ApiCallInfo> steps, ApiCallInfo seed, boolean unresolved,
-                                    List<EnumeratedChain> out, Set<String> seenSignatures) {
-        StringBuilder sig = new StringBuilder();
-        for (ApiCallInfo c : steps) {
-            sig.append(c.method()).append(' ').append(c.path()).append('|');
-        }
-        if (seenSignatures.add(sig.toString())) {
-            out.add(new EnumeratedChain(seed, steps, unresolved));
-        }
-    }
-
     /**
-     * All ordered tuples of length {@code k} drawn from {@code pool}.
-     * When {@code withRepeats = false} this is
-     * {@code P(n, k) = n!/(n-k)!}; when true, it is {@code n^k}.
+     * 64-bit FNV-1a hash of a step's {@code "METHOD path"} signature.
      */
-    static <T> List<List<T>> permutations(List<T> pool, int k, boolean withRepeats) {
-        List<List<T>> out = new ArrayList<>();
-        if (k == 0) {
-            out.add(List.of());
-            return out;
-        }
-        if (!withRepeats && k > pool.size()) {
-            return out;
-        }
-        boolean[] used = new boolean[pool.size()];
-        permuteInto(pool, k, new ArrayList<>(k), used, withRepeats, out);
-        return out;
-    }
-
-    private static <T> void permuteInto(List<T> pool, int k, List<T> current,
-                                        boolean[] used, boolean withRepeats,
-                                        List<List<T>> out) {
-        if (current.size() == k) {
-            out.add(List.copyOf(current));
-            return;
-        }
-        for (int i = 0; i < pool.size(); i++) {
-            if (!withRepeats && used[i]) {
-                continue;
-            }
-            current.add(pool.get(i));
-            used[i] = true;
-            permuteInto(pool, k, current, used, withRepeats, out);
-            current.remove(current.size() - 1);
-            used[i] = false;
-        }
-    }
-
-    private static boolean hasDeleteBeforeEnd(List<ApiCallInfo> tail) {
-        for (int i = 0; i < tail.size() - 1; i++) {
-            if ("DELETE".equalsIgnoreCase(tail.get(i).method())) {
-                return true;
-            }
+    private static long stepHash(ApiCallInfo call) {
+        long hash = FNV_OFFSET_BASIS;
+        String signature = call.method() + ' ' + call.path();
+        for (int i = 0; i < signature.length(); i++) {
+            hash = (hash ^ signature.charAt(i)) * FNV_PRIME;
         }
-        return false;
+        return hash;
     }
 
     private record PrefixResult(List<ApiCallInfo> steps, boolean hasUnresolved) {
@@ -0,0 +1,259 @@
+package egain.oassdk.core.sequence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Index over the operations {@link ApiCallExtractor#extract} returns,
+ * answering the lookups chain discovery repeats for every POST without
+ * rescanning the call list:
+ * <ul>
+ *   <li>a trie of path segments, so the POSTs at a path and the calls
+ *       under a path are found in {@code O(depth)} (plus the size of the
+ *       answer);</li>
+ *   <li>POSTs by lowercased resource name, for the name-stem fallback of
+ *       {@link #findProducerForParam};</li>
+ *   <li>per seed POST, its consumer adjacency list (the chain tail pool),
+ *       computed on first use.</li>
+ * </ul>
+ *
+ * <p>Every answer is the one the corresponding scan over the call list
+ * gives, in call order. Build it once per spec with {@link #of} (or
+ * {@link ApiCallExtractor#extractGraph}) and share it; it is not
+ * thread-safe because adjacency lists are filled in lazily.
+ */
+public final class OperationGraph {
+
+    private final List<ApiCallInfo> calls;
+    private final Map<ApiCallInfo, Integer> indexOf = new IdentityHashMap<>();
+    private final Node root = new Node();
+    private final Map<String, List<ApiCallInfo>> postsByResourceName = new HashMap<>();
+    private final Map<ApiCallInfo, List<ApiCallInfo>> tailPools = new IdentityHashMap<>();
+
+    private OperationGraph(List<ApiCallInfo> calls) {
+        this.calls = List.copyOf(calls);
+        for (int i = 0; i < this.calls.size(); i++) {
+            ApiCallInfo call = this.calls.get(i);
+            indexOf.putIfAbsent(call, i);
+            Node node = root;
+            node.firstIndex = Math.min(node.firstIndex, i);
+            for (String segment : segments(call.path())) {
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+                node.firstIndex = Math.min(node.firstIndex, i);
+            }
+            node.calls.add(i);
+            if (isPost(call)) {
+                node.posts.add(call);
+                String resourceName = call.resourceName() == null ? "" : call.resourceName().toLowerCase(Locale.ROOT);
+                if (!resourceName.isEmpty()) {
+                    postsByResourceName.computeIfAbsent(resourceName, k -> new ArrayList<>()).add(call);
+                }
+            }
+        }
+    }
+
+    public static OperationGraph of(List<ApiCallInfo> calls) {
+        return new OperationGraph(calls);
+    }
+
+    /** The indexed operations, in extraction order. */
+    public List<ApiCallInfo> calls() {
+        return calls;
+    }
+
+    /**
+     * Indexed equivalent of
+     * {@link ApiCallExtractor#findProducerForParam(ApiCallInfo, String, List)}
+     * over {@link #calls()}: the POST at the path before {@code {paramName}},
+     * else the first POST whose resource name matches the parameter's stem.
+     *
+     * @return the producer POST, or {@code null} if none found.
+     */
+    public ApiCallInfo findProducerForParam(ApiCallInfo consumer, String paramName) {
+        if (consumer == null || paramName == null) {
+            return null;
+        }
+        String consumerPath = consumer.path();
+        int idx = consumerPath.indexOf("{" + paramName + "}");
+        if (idx < 0) {
+            return null;
+        }
+        String prefix = consumerPath.substring(0, idx);
+        if (prefix.endsWith("/")) {
+            prefix = prefix.substring(0, prefix.length() - 1);
+        }
+        Node node = find(prefix);
+        if (node != null) {
+            ApiCallInfo producer = firstOtherThan(node.posts, consumer);
+            if (producer != null) {
+                return producer;
+            }
+        }
+
+        String stem = ApiCallExtractor.stripIdSuffix(paramName).toLowerCase(Locale.ROOT);
+        if (stem.isEmpty()) {
+            return null;
+        }
+        // The scan accepts the first POST whose name is the stem, its plural, or its singular
+        ApiCallInfo best = null;
+        for (String name : stemCandidates(stem)) {
+            ApiCallInfo candidate = firstOtherThan(postsByResourceName.get(name), consumer);
+            if (candidate != null && (best == null || indexOf.get(candidate) < indexOf.get(best))) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Chain tail pool of a seed POST: non-POST path-templated consumers at
+     * the seed's path or below it whose path parameters are all bound by
+     * the seed, or by the first templated segment directly under it. In
+     * call order; computed once per seed.
+     *
+     * <p>Ancestor consumers belong to a different seed's family. POSTs are
+     * always seeds themselves, never tail members.
+     */
+    public List<ApiCallInfo> consumersOf(ApiCallInfo seed) {
+        List<ApiCallInfo> pool = tailPools.get(seed);
+        if (pool == null) {
+            pool = buildConsumers(seed);
+            tailPools.put(seed, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * All operations at {@code path} or below it, in call order.
+     */
+    List<ApiCallInfo> callsUnder(String path) {
+        Node node = find(path);
+        if (node == null) {
+            return List.of();
+        }
+        int[] indices = collect(node);
+        List<ApiCallInfo> out = new ArrayList<>(indices.length);
+        for (int i : indices) {
+            out.add(calls.get(i));
+        }
+        return out;
+    }
+
+    private List<ApiCallInfo> buildConsumers(ApiCallInfo seed) {
+        Node seedNode = find(seed.path());
+        if (seedNode == null) {
+            return List.of();
+        }
+        List<String> boundParams = new ArrayList<>(seed.pathParamNames());
+        String descendantParam = firstDescendantParam(seedNode);
+        if (descendantParam != null) {
+            boundParams.add(descendantParam);
+        }
+        List<ApiCallInfo> pool = new ArrayList<>();
+        for (int i : collect(seedNode)) {
+            ApiCallInfo c = calls.get(i);
+            if (c == seed || !c.isConsumer() || isPost(c)) {
+                continue;
+            }
+            if (!boundParams.containsAll(c.pathParamNames())) {
+                continue;
+            }
+            pool.add(c);
+        }
+        return List.copyOf(pool);
+    }
+
+    /**
+     * Name of the templated segment directly under {@code seedNode} that
+     * the earliest call reaches, as the scan over {@code seedPath + "/{"}
+     * picks it.
+     */
+    private static String firstDescendantParam(Node seedNode) {
+        String best = null;
+        int bestIndex = Integer.MAX_VALUE;
+        for (Map.Entry<String, Node> child : seedNode.children.entrySet()) {
+            String segment = child.getKey();
+            if (!segment.startsWith("{") || child.getValue().firstIndex >= bestIndex) {
+                continue;
+            }
+            int end = segment.indexOf('}');
+            if (end > 1) {
+                best = segment.substring(1, end);
+                bestIndex = child.getValue().firstIndex;
+            }
+        }
+        return best;
+    }
+
+    private Node find(String path) {
+        Node node = root;
+        for (String segment : segments(path)) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    /** Indices of the calls in {@code node}'s subtree, ascending. */
+    private static int[] collect(Node node) {
+        List<Node> pending = new ArrayList<>();
+        pending.add(node);
+        int size = 0;
+        int[] out = new int[8];
+        while (!pending.isEmpty()) {
+            Node next = pending.remove(pending.size() - 1);
+            for (int i : next.calls) {
+                if (size == out.length) {
+                    out = Arrays.copyOf(out, size * 2);
+                }
+                out[size++] = i;
+            }
+            pending.addAll(next.children.values());
+        }
+        out = Arrays.copyOf(out, size);
+        Arrays.sort(out);
+        return out;
+    }
+
+    private static ApiCallInfo firstOtherThan(List<ApiCallInfo> candidates, ApiCallInfo excluded) {
+        if (candidates != null) {
+            for (ApiCallInfo c : candidates) {
+                if (c != excluded) {
+                    return c;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<String> stemCandidates(String stem) {
+        List<String> names = new ArrayList<>(List.of(stem, stem + "s", stem + "es"));
+        if (stem.endsWith("s")) {
+            names.add(stem.substring(0, stem.length() - 1));
+        }
+        return names;
+    }
+
+    // Splitting keeps empty segments, so "/a/b" + "/" is a prefix of a path exactly when the path's node is below
+    private static String[] segments(String path) {
+        return path.split("/", -1);
+    }
+
+    private static boolean isPost(ApiCallInfo call) {
+        return "POST".equalsIgnoreCase(call.method());
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<Integer> calls = new ArrayList<>(1);
+        private final List<ApiCallInfo> posts = new ArrayList<>(1);
+        private int firstIndex = Integer.MAX_VALUE;
+    }
+}
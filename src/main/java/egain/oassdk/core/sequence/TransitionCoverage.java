@@ -0,0 +1,232 @@
+package egain.oassdk.core.sequence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The {@code t}-way transitions of one chain family's tail pool: every run
+ * of {@code t} consumers (by pool index) that appears back to back in some
+ * tail the exhaustive enumeration would emit, and which of them the tails
+ * recorded so far contain.
+ *
+ * <p>A run is such a transition exactly when it is a valid tail on its
+ * own — no reused consumer unless repeats are allowed, DELETE only in the
+ * last position under {@code deleteLastOnly} — so the target set is
+ * enumerated directly instead of from the exhaustive tails.
+ *
+ * <p>Runs are coded as base-{@code poolSize} numbers in a bit set. When
+ * {@code poolSize^t} exceeds {@link #MAX_CODE_SPACE}, {@code t} is lowered
+ * until it fits (three-wise falls back to pairwise beyond 256 consumers,
+ * pairwise to single consumers beyond 4096), and {@link #strength()}
+ * reports the strength actually covered.
+ */
+final class TransitionCoverage {
+
+    // Candidate tails built per greedy step; the longest (most new transitions) is kept
+    private static final int CANDIDATES = 20;
+    // Largest number of run codes tracked: a 2 MB bit set
+    static final int MAX_CODE_SPACE = 1 << 24;
+
+    private final boolean[] isDelete;
+    private final int poolSize;
+    private final int strength;
+    private final int maxTail;
+    private final boolean allowRepeats;
+    private final boolean deleteLastOnly;
+    private final BitSet uncovered = new BitSet();
+    private final int codeSpace;
+    private int targetCount;
+    private int uncoveredCount;
+
+    /**
+     * @param isDelete  per pool index, whether the consumer is a DELETE
+     * @param strength  run length {@code t}; capped at {@code maxTail}, and
+     *                  lowered while {@code poolSize^t} exceeds {@link #MAX_CODE_SPACE}
+     */
+    TransitionCoverage(boolean[] isDelete, int strength, int maxTail, boolean allowRepeats, boolean deleteLastOnly) {
+        this.isDelete = isDelete;
+        this.poolSize = isDelete.length;
+        int t = Math.max(0, Math.min(strength, maxTail));
+        while (t > 1 && pow(poolSize, t) > MAX_CODE_SPACE) {
+            t--;
+        }
+        this.strength = t;
+        this.maxTail = maxTail;
+        this.allowRepeats = allowRepeats;
+        this.deleteLastOnly = deleteLastOnly;
+        this.codeSpace = this.strength == 0 || poolSize == 0 ? 0 : (int) pow(poolSize, this.strength);
+        if (codeSpace > 0) {
+            collectTargets(new int[this.strength], 0, new boolean[poolSize]);
+        }
+        uncoveredCount = targetCount;
+    }
+
+    int strength() {
+        return strength;
+    }
+
+    int targetCount() {
+        return targetCount;
+    }
+
+    int coveredCount() {
+        return targetCount - uncoveredCount;
+    }
+
+    /**
+     * Marks the transitions contained in {@code tail}; returns how many were
+     * not covered before.
+     */
+    int record(int[] tail) {
+        int gain = 0;
+        for (int start = 0; start + strength <= tail.length && strength > 0; start++) {
+            int code = 0;
+            for (int i = start; i < start + strength; i++) {
+                code = code * poolSize + tail[i];
+            }
+            if (uncovered.get(code)) {
+                uncovered.clear(code);
+                uncoveredCount--;
+                gain++;
+            }
+        }
+        return gain;
+    }
+
+    /**
+     * Greedily builds tails until every transition is covered, recording
+     * them as it goes. Each step builds {@link #CANDIDATES} random tails,
+     * each opened by an uncovered transition and extended only by consumers
+     * completing another uncovered one, and keeps the longest: the AETG
+     * construction for covering arrays, applied to sequences.
+     */
+    List<int[]> sample(Random random) {
+        List<int[]> tails = new ArrayList<>();
+        while (uncoveredCount > 0) {
+            int[] best = null;
+            for (int c = 0; c < CANDIDATES; c++) {
+                int[] candidate = candidate(random);
+                if (best == null || candidate.length > best.length) {
+                    best = candidate;
+                }
+            }
+            record(best);
+            tails.add(best);
+        }
+        return tails;
+    }
+
+    private int[] candidate(Random random) {
+        int startCode = uncovered.nextSetBit(random.nextInt(codeSpace));
+        if (startCode < 0) {
+            startCode = uncovered.nextSetBit(0);
+        }
+        int[] tail = new int[maxTail];
+        boolean[] used = new boolean[poolSize];
+        for (int i = strength - 1, code = startCode; i >= 0; i--, code /= poolSize) {
+            tail[i] = code % poolSize;
+            used[tail[i]] = true;
+        }
+        int length = strength;
+        BitSet taken = new BitSet();
+        taken.set(startCode);
+        int[] options = new int[poolSize];
+        int[] deleteOptions = new int[poolSize];
+        while (length < maxTail && !(deleteLastOnly && isDelete[tail[length - 1]])) {
+            int prefixCode = 0;
+            for (int i = length - strength + 1; i < length; i++) {
+                prefixCode = prefixCode * poolSize + tail[i];
+            }
+            int optionCount = 0;
+            int deleteOptionCount = 0;
+            for (int next = 0; next < poolSize; next++) {
+                int code = prefixCode * poolSize + next;
+                if ((!allowRepeats && used[next]) || !uncovered.get(code) || taken.get(code)) {
+                    continue;
+                }
+                // A DELETE ends the tail under deleteLastOnly, so it is only taken when nothing else extends it
+                if (deleteLastOnly && isDelete[next]) {
+                    deleteOptions[deleteOptionCount++] = next;
+                } else {
+                    options[optionCount++] = next;
+                }
+            }
+            int next;
+            if (optionCount > 0) {
+                next = options[random.nextInt(optionCount)];
+            } else if (deleteOptionCount > 0) {
+                next = deleteOptions[random.nextInt(deleteOptionCount)];
+            } else {
+                break;
+            }
+            taken.set(prefixCode * poolSize + next);
+            tail[length++] = next;
+            used[next] = true;
+        }
+        return Arrays.copyOf(tail, length);
+    }
+
+    private void collectTargets(int[] run, int position, boolean[] used) {
+        if (position == strength) {
+            int code = 0;
+            for (int index : run) {
+                code = code * poolSize + index;
+            }
+            uncovered.set(code);
+            targetCount++;
+            return;
+        }
+        for (int index = 0; index < poolSize; index++) {
+            if (!allowRepeats && used[index]) {
+                continue;
+            }
+            if (deleteLastOnly && isDelete[index] && position < strength - 1) {
+                continue;
+            }
+            run[position] = index;
+            used[index] = true;
+            collectTargets(run, position + 1, used);
+            used[index] = false;
+        }
+    }
+
+    /**
+     * Number of tails of length 1..{@code maxTail} the exhaustive
+     * enumeration visits for a pool of {@code poolSize} consumers, of which
+     * {@code deletes} are DELETEs (before signature dedup). Saturates at
+     * {@link Long#MAX_VALUE}.
+     */
+    static long exhaustiveTails(int poolSize, int deletes, int maxTail, boolean allowRepeats,
+                                boolean deleteLastOnly) {
+        // Positions before the last may not hold a DELETE under deleteLastOnly
+        int leading = deleteLastOnly ? poolSize - deletes : poolSize;
+        long total = 0;
+        for (int length = 1; length <= maxTail; length++) {
+            long count = 1;
+            for (int i = 0; i < length - 1; i++) {
+                count = saturatingMultiply(count, allowRepeats ? leading : Math.max(0, leading - i));
+            }
+            count = saturatingMultiply(count, allowRepeats ? poolSize : Math.max(0, poolSize - (length - 1)));
+            total = total > Long.MAX_VALUE - count ? Long.MAX_VALUE : total + count;
+        }
+        return total;
+    }
+
+    private static long saturatingMultiply(long a, long b) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        return high != 0 || low < 0 ? Long.MAX_VALUE : low;
+    }
+
+    // Saturates at Long.MAX_VALUE
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result = saturatingMultiply(result, base);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,243 @@
+package egain.oassdk.core.stage;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Runs independent generation stages, optionally in parallel.
+ *
+ * <p>Stages are grouped into lanes. Stages in the same lane run one after another in the order they were
+ * added (use a shared lane for stages that write the same files); different lanes run concurrently on up to
+ * {@code parallelism} threads. With a parallelism of 1 every stage runs on the calling thread in the order
+ * it was added and all stages see the same spec instance, exactly like calling them one by one.
+ *
+ * <p>When running in parallel each stage receives its own copy of its spec, since several generators add
+ * entries to the spec they are given. Copies keep shared sub-objects shared and keep map iteration order.
+ *
+ * <p>A failing stage does not stop the others. Every stage reports a {@link StageResult} with its duration,
+ * its error (if any) and the log records emitted under the {@code egain} logger while it ran.
+ */
+public class StageScheduler {
+
+    private static final String CAPTURED_LOGGER = "egain";
+
+    private final int parallelism;
+    private final List<Stage> stages = new ArrayList<>();
+
+    /**
+     * A unit of work run against a spec.
+     */
+    @FunctionalInterface
+    public interface StageAction {
+        void run(Map<String, Object> spec) throws Exception;
+    }
+
+    /**
+     * @param name   stage name used in results and logs
+     * @param lane   stages sharing a lane never run concurrently
+     * @param spec   spec handed to the action (copied when running in parallel)
+     * @param action the work
+     */
+    public record Stage(String name, String lane, Map<String, Object> spec, StageAction action) {
+        public Stage {
+            Objects.requireNonNull(name, "Stage name cannot be null");
+            Objects.requireNonNull(lane, "Stage lane cannot be null");
+            Objects.requireNonNull(action, "Stage action cannot be null");
+        }
+    }
+
+    /**
+     * Outcome of one stage.
+     *
+     * @param name           stage name
+     * @param durationMillis wall-clock time spent in the stage
+     * @param error          exception thrown by the stage, or null on success
+     * @param logs           log records emitted by the stage's thread while it ran
+     */
+    public record StageResult(String name, long durationMillis, Throwable error, List<LogRecord> logs) {
+        public boolean succeeded() {
+            return error == null;
+        }
+    }
+
+    /**
+     * @param parallelism maximum number of lanes run at once; values below 1 use the number of available processors
+     */
+    public StageScheduler(int parallelism) {
+        this.parallelism = parallelism >= 1 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Add a stage. Stages are reported in the order they were added.
+     */
+    public StageScheduler add(String name, String lane, Map<String, Object> spec, StageAction action) {
+        stages.add(new Stage(name, lane, spec, action));
+        return this;
+    }
+
+    /**
+     * Run every stage and wait for all of them to finish.
+     *
+     * @return one result per stage, in the order the stages were added
+     */
+    public List<StageResult> run() {
+        StageLogCapture capture = new StageLogCapture();
+        Logger captured = Logger.getLogger(CAPTURED_LOGGER);
+        captured.addHandler(capture);
+        try {
+            if (parallelism == 1 || stages.size() <= 1) {
+                List<StageResult> results = new ArrayList<>(stages.size());
+                for (Stage stage : stages) {
+                    results.add(runStage(stage, stage.spec(), capture));
+                }
+                return results;
+            }
+            return runParallel(capture);
+        } finally {
+            captured.removeHandler(capture);
+        }
+    }
+
+    private List<StageResult> runParallel(StageLogCapture capture) {
+        Map<String, List<Integer>> lanes = new LinkedHashMap<>();
+        for (int i = 0; i < stages.size(); i++) {
+            lanes.computeIfAbsent(stages.get(i).lane(), k -> new ArrayList<>()).add(i);
+        }
+        StageResult[] results = new StageResult[stages.size()];
+        AtomicInteger threadIndex = new AtomicInteger();
+        int threads = Math.min(parallelism, lanes.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "oas-stage-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        })) {
+            List<Future<?>> futures = new ArrayList<>(lanes.size());
+            for (List<Integer> lane : lanes.values()) {
+                futures.add(executor.submit(() -> {
+                    for (int index : lane) {
+                        Stage stage = stages.get(index);
+                        results[index] = runStage(stage, copySpec(stage.spec()), capture);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    executor.shutdownNow();
+                    break;
+                } catch (ExecutionException e) {
+                    // runStage never throws; nothing to record beyond the stage results
+                }
+            }
+        }
+        List<StageResult> ordered = new ArrayList<>(results.length);
+        for (int i = 0; i < results.length; i++) {
+            ordered.add(results[i] != null ? results[i]
+                    : new StageResult(stages.get(i).name(), 0, new InterruptedException("Stage was not run"), List.of()));
+        }
+        return ordered;
+    }
+
+    private static StageResult runStage(Stage stage, Map<String, Object> spec, StageLogCapture capture) {
+        List<LogRecord> logs = new ArrayList<>();
+        capture.begin(logs);
+        long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            stage.action().run(spec);
+        } catch (Exception | LinkageError | AssertionError e) {
+            error = e;
+        } finally {
+            capture.end();
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000L;
+        return new StageResult(stage.name(), millis, error, List.copyOf(logs));
+    }
+
+    /**
+     * Deep copy of a spec tree. Shared sub-objects stay shared (and cycles are preserved); maps become
+     * {@link LinkedHashMap}s with the source's iteration order.
+     */
+    static Map<String, Object> copySpec(Map<String, Object> spec) {
+        if (spec == null) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> copy = (Map<String, Object>) copyValue(spec, new IdentityHashMap<>());
+        return copy;
+    }
+
+    private static Object copyValue(Object value, IdentityHashMap<Object, Object> copies) {
+        if (!(value instanceof Map<?, ?>) && !(value instanceof List<?>)) {
+            return value;
+        }
+        Object existing = copies.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>(Math.max(16, (int) (map.size() / 0.75f) + 1));
+            copies.put(value, copy);
+            for (Map.Entry<?, ?> e : map.entrySet()) {
+                copy.put(e.getKey(), copyValue(e.getValue(), copies));
+            }
+            return copy;
+        }
+        List<?> list = (List<?>) value;
+        List<Object> copy = new ArrayList<>(list.size());
+        copies.put(value, copy);
+        for (Object item : list) {
+            copy.add(copyValue(item, copies));
+        }
+        return copy;
+    }
+
+    /**
+     * Routes log records to the stage running on the publishing thread.
+     */
+    private static final class StageLogCapture extends Handler {
+        private final ThreadLocal<List<LogRecord>> current = new ThreadLocal<>();
+
+        void begin(List<LogRecord> sink) {
+            current.set(sink);
+        }
+
+        void end() {
+            current.remove();
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            List<LogRecord> sink = current.get();
+            if (sink != null) {
+                sink.add(record);
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
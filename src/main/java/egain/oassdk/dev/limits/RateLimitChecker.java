@@ -3,6 +3,7 @@ package egain.oassdk.dev.limits;
 import egain.oassdk.core.exceptions.GenerationException;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -45,124 +46,28 @@ public class RateLimitChecker {
     }
 
     /**
-     * Generate rate limiter
+     * Generate rate limiter.
+     *
+     * <p>The emitted limiter keeps constant state per client: one GCRA "theoretical arrival time" per
+     * quota window (minute, hour, day) in a {@code long[]}, updated with compare-and-set on
+     * {@code System.nanoTime()} values. No timestamps are stored, no lock is taken, and keys whose
+     * windows have fully drained are evicted by whichever caller notices a sweep is due.
+     *
+     * <p>The class is spec-independent, so it is kept as compilable source under
+     * {@code src/main/resources/runtime/limits} and copied verbatim; the benchmarks profile compiles
+     * that directory too.
      */
     private void generateRateLimiter(Map<String, Object> slaSpec, String outputDir) throws IOException {
-        String content = """
-                package com.example.limits;
-                
-                import jakarta.inject.Singleton;
-                import java.util.concurrent.ConcurrentHashMap;
-                import java.util.concurrent.atomic.AtomicLong;
-                import java.time.LocalDateTime;
-                import java.time.temporal.ChronoUnit;
-                
-                @Singleton
-                public class RateLimiter {
-                
-                    private final ConcurrentHashMap<String, RateLimitData> rateLimitMap = new ConcurrentHashMap<>();
-                    private final int maxRequestsPerMinute;
-                    private final int maxRequestsPerHour;
-                    private final int maxRequestsPerDay;
-                
-                    public RateLimiter() {
-                        // Default values - these would be loaded from SLA spec
-                        this.maxRequestsPerMinute = 1000;
-                        this.maxRequestsPerHour = 10000;
-                        this.maxRequestsPerDay = 100000;
-                    }
-                
-                    public RateLimiter(int maxRequestsPerMinute, int maxRequestsPerHour, int maxRequestsPerDay) {
-                        this.maxRequestsPerMinute = maxRequestsPerMinute;
-                        this.maxRequestsPerHour = maxRequestsPerHour;
-                        this.maxRequestsPerDay = maxRequestsPerDay;
-                    }
-                
-                    public boolean isAllowed(String key) {
-                        return isAllowed(key, maxRequestsPerMinute, ChronoUnit.MINUTES);
-                    }
-                
-                    public boolean isAllowed(String key, int maxRequests, ChronoUnit timeUnit) {
-                        RateLimitData data = rateLimitMap.computeIfAbsent(key, k -> new RateLimitData());
-                
-                        LocalDateTime now = LocalDateTime.now();
-                        LocalDateTime windowStart = now.minus(1, timeUnit);
-                
-                        // Clean old entries
-                        data.cleanOldEntries(windowStart);
-                
-                        // Check if limit is exceeded
-                        if (data.getRequestCount(windowStart) >= maxRequests) {
-                            return false;
-                        }
-                
-                        // Add new request
-                        data.addRequest(now);
-                        return true;
-                    }
-                
-                    public boolean isAllowedPerMinute(String key) {
-                        return isAllowed(key, maxRequestsPerMinute, ChronoUnit.MINUTES);
-                    }
-                
-                    public boolean isAllowedPerHour(String key) {
-                        return isAllowed(key, maxRequestsPerHour, ChronoUnit.HOURS);
-                    }
-                
-                    public boolean isAllowedPerDay(String key) {
-                        return isAllowed(key, maxRequestsPerDay, ChronoUnit.DAYS);
-                    }
-                
-                    public int getRemainingRequests(String key, ChronoUnit timeUnit) {
-                        RateLimitData data = rateLimitMap.get(key);
-                        if (data == null) {
-                            return getMaxRequests(timeUnit);
-                        }
-                
-                        LocalDateTime now = LocalDateTime.now();
-                        LocalDateTime windowStart = now.minus(1, timeUnit);
-                        data.cleanOldEntries(windowStart);
-                
-                        int currentCount = data.getRequestCount(windowStart);
-                        int maxRequests = getMaxRequests(timeUnit);
-                
-                        return Math.max(0, maxRequests - currentCount);
-                    }
-                
-                    private int getMaxRequests(ChronoUnit timeUnit) {
-                        switch (timeUnit) {
-                            case MINUTES:
-                                return maxRequestsPerMinute;
-                            case HOURS:
-                                return maxRequestsPerHour;
-                            case DAYS:
-                                return maxRequestsPerDay;
-                            default:
-                                return maxRequestsPerMinute;
-                        }
-                    }
-                
-                    private static class RateLimitData {
-                        private final List<LocalDateTime> requests = new ArrayList<>();
-                
-                        public synchronized void addRequest(LocalDateTime timestamp) {
-                            requests.add(timestamp);
-                        }
-                
-                        public synchronized int getRequestCount(LocalDateTime windowStart) {
-                            return (int) requests.stream()
-                                    .filter(timestamp -> timestamp.isAfter(windowStart))
-                                    .count();
-                        }
-                
-                        public synchronized void cleanOldEntries(LocalDateTime windowStart) {
-                            requests.removeIf(timestamp -> timestamp.isBefore(windowStart));
-                        }
-                    }
-                }
-                """;
+        Files.write(Paths.get(outputDir, "RateLimiter.java"), readRuntimeResource("runtime/limits/RateLimiter.java"));
+    }
 
-        Files.write(Paths.get(outputDir, "RateLimiter.java"), content.getBytes(StandardCharsets.UTF_8));
+    private static byte[] readRuntimeResource(String resourcePath) throws IOException {
+        try (InputStream in = RateLimitChecker.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            if (in == null) {
+                throw new IOException("Missing runtime resource on classpath: " + resourcePath);
+            }
+            return in.readAllBytes();
+        }
     }
 
     /**
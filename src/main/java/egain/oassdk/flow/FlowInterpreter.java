@@ -1,94 +1,27 @@
 package egain.oassdk.flow;
 
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.Map;
 
 public final class FlowInterpreter {
 
     public void execute(FlowAst.FlowDefinition flow, Runtime runtime) {
-        Map<String, String> vars = new HashMap<>();
-        Runtime.Response last = null;
-        for (FlowAst.FlowStep step : flow.steps()) {
-            if (step instanceof FlowAst.CallStep call) {
-                Map<String, String> pathVars = new HashMap<>();
-                for (FlowAst.PathBind bind : call.pathBinds()) {
-                    pathVars.put(bind.parameterName(), vars.get(bind.variableName()));
-                }
-                Map<String, String> headers = new HashMap<>();
-                for (FlowAst.HeaderBind bind : call.headerBinds()) {
-                    headers.put(bind.headerName(), vars.get(bind.variableName()));
-                }
-                String body = null;
-                if (call.poison() != null) {
-                    body = runtime.bodyFactory().withViolation(call.operationId(), call.poison());
-                } else if (runtime.bodyFactory().hasBody(call.operationId())) {
-                    body = runtime.bodyFactory().valid(call.operationId());
-                }
-                last = runtime.client().call(call.operationId(), pathVars, headers, body);
-                if (call.expect() != null) {
-                    assertStatus(last.statusCode(), call.expect().status());
-                }
-            } else if (step instanceof FlowAst.ExtractStep extract) {
-                ensureLast(last, "extract");
-                String value;
-                if (extract.source() == FlowAst.ExtractSource.HEADER) {
-                    value = last.header(extract.key());
-                    if (extract.lastSegment() && value != null) {
-                        int slash = value.lastIndexOf('/');
-                        value = slash >= 0 ? value.substring(slash + 1) : value;
-                    }
-                } else {
-                    value = last.jsonPath(extract.key());
-                }
-                if (value == null) {
-                    throw new IllegalStateException("extract failed for " + extract.variable());
-                }
-                vars.put(extract.variable(), value);
-            } else if (step instanceof FlowAst.WaitStep waitStep) {
-                ensureLast(last, "wait");
-                assertStatus(last.statusCode(), waitStep.status());
-            } else if (step instanceof FlowAst.PollStep pollStep) {
-                ensureLast(last, "poll");
-                String target = last.header(pollStep.headerName());
-                Duration timeout = parseTimeout(pollStep.timeout(), runtime.defaultPollTimeout());
-                last = runtime.client().poll(target, pollStep.untilStatus(), timeout);
-                vars.put(pollStep.variable(), target);
-            }
-        }
-    }
-
-    private static Duration parseTimeout(String timeout, Duration defaultTimeout) {
-        if (timeout == null || timeout.isBlank()) {
-            return defaultTimeout;
-        }
-        String t = timeout.trim().toLowerCase();
-        if (t.endsWith("s")) {
-            return Duration.ofSeconds(Long.parseLong(t.substring(0, t.length() - 1)));
-        }
-        return Duration.ofSeconds(Long.parseLong(t));
+        execute(flow, runtime, null);
     }
 
-    private static void ensureLast(Runtime.Response last, String action) {
-        if (last == null) {
-            throw new IllegalStateException(action + " requires previous response");
-        }
-    }
-
-    private static void assertStatus(int actual, String expected) {
-        if (expected == null || expected.isBlank()) {
-            return;
-        }
-        if ("2xx".equalsIgnoreCase(expected)) {
-            if (actual < 200 || actual >= 300) {
-                throw new IllegalStateException("Expected 2xx but got " + actual);
-            }
-            return;
-        }
-        int e = Integer.parseInt(expected);
-        if (actual != e) {
-            throw new IllegalStateException("Expected status " + e + " but got " + actual);
-        }
+    /**
+     * Runs {@code flow} like {@link #execute(FlowAst.FlowDefinition, Runtime)}, reporting every step
+     * to {@code observer} (when non-null) once it completes or fails. Variables live for this call only,
+     * so concurrent executions sharing a thread-safe {@code runtime} do not see each other's values.
+     *
+     * <p>The flow is compiled into a {@link FlowPlan} without a catalog on every call; compile it once
+     * with {@link FlowPlan#compile} to run it repeatedly.
+     *
+     * @throws IllegalArgumentException if an expected status ({@code INVALID_STATUS}) or poll timeout
+     *                                  ({@code INVALID_TIMEOUT}) cannot be parsed, before any step runs
+     */
+    public void execute(FlowAst.FlowDefinition flow, Runtime runtime, StepObserver observer) {
+        FlowPlan.of(flow).execute(runtime, observer);
     }
 
     public interface Runtime {
@@ -96,9 +29,45 @@ public final class FlowInterpreter {
         BodyFactory bodyFactory();
         Duration defaultPollTimeout();
 
+        /**
+         * Delay between poll attempts. When non-null, {@code poll} steps issue single
+         * {@link Client#fetch} requests on a shared timer instead of calling {@link Client#poll},
+         * so a waiting flow holds no thread between attempts. {@code null} (the default) leaves
+         * polling to {@link Client#poll}.
+         */
+        default Duration pollInterval() {
+            return null;
+        }
+
         interface Client {
             Response call(String operationId, Map<String, String> pathBinds, Map<String, String> headerBinds, String body);
-            Response poll(String targetUrl, String expectedStatus, Duration timeout);
+
+            /**
+             * Call issued by a {@link FlowPlan}, which resolved {@code operation} when it was compiled;
+             * clients may override it to skip their own operation lookup.
+             */
+            default Response call(OpenApiOperationCatalog.OperationMeta operation, Map<String, String> pathBinds,
+                                  Map<String, String> headerBinds, String body) {
+                return call(operation.operationId(), pathBinds, headerBinds, body);
+            }
+
+            /**
+             * One GET of {@code targetUrl}, for {@code poll} steps when {@link Runtime#pollInterval} is set
+             * and for the default {@link #poll}. A client implements this, {@link #poll}, or both; the default
+             * throws, so it is only reached by a client that implements neither.
+             */
+            default Response fetch(String targetUrl) {
+                throw new UnsupportedOperationException(getClass().getName()
+                        + " implements neither Client.fetch nor Client.poll; poll steps need one of them");
+            }
+
+            /**
+             * Polls {@code targetUrl} until {@code expectedStatus}; used when {@link Runtime#pollInterval} is
+             * null. By default {@link #fetch}es it once a second, waiting on a shared timer between attempts.
+             */
+            default Response poll(String targetUrl, String expectedStatus, Duration timeout) {
+                return FlowPoller.poll(this, targetUrl, expectedStatus, timeout, FlowPoller.DEFAULT_INTERVAL);
+            }
         }
 
         interface BodyFactory {
@@ -113,4 +82,10 @@ public final class FlowInterpreter {
             String jsonPath(String jsonPath);
         }
     }
+
+    /** Receives every executed step with its duration; {@code error} is null when the step succeeded. */
+    @FunctionalInterface
+    public interface StepObserver {
+        void stepCompleted(FlowAst.FlowDefinition flow, int stepIndex, FlowAst.FlowStep step, long nanos, Throwable error);
+    }
 }
@@ -0,0 +1,410 @@
+package egain.oassdk.flow;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A {@link FlowAst.FlowDefinition} compiled once against an {@link OpenApiOperationCatalog} for
+ * repeated execution. Compiling validates the flow with {@link FlowValidator}, numbers its
+ * variables into slots, looks up every called operation, and parses expected statuses and poll
+ * timeouts up front.
+ *
+ * <p>Each execution then allocates one slot array for its variables and, per call, read-only
+ * views over the slots for the path and header binds, instead of variable and bind maps; steps
+ * dispatch virtually rather than through {@code instanceof} checks. A plan is immutable and may
+ * be executed concurrently; executions share nothing but the runtime.
+ *
+ * <p>{@link FlowInterpreter} runs the same steps, compiled per execution without a catalog.
+ */
+public final class FlowPlan {
+
+    // Expected statuses compile to an exact code, or one of these
+    private static final int ANY_STATUS = -1;
+    private static final int ANY_2XX = -2;
+
+    private final FlowAst.FlowDefinition flow;
+    private final List<String> variables;
+    private final Step[] steps;
+
+    private FlowPlan(FlowAst.FlowDefinition flow, List<String> variables, Step[] steps) {
+        this.flow = flow;
+        this.variables = variables;
+        this.steps = steps;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the flow fails {@link FlowValidator}, or an expected
+     *                                  status ({@code INVALID_STATUS}) or poll timeout
+     *                                  ({@code INVALID_TIMEOUT}) cannot be parsed
+     */
+    public static FlowPlan compile(FlowAst.FlowDefinition flow, OpenApiOperationCatalog catalog) {
+        new FlowValidator().validate(flow, catalog);
+        return build(flow, catalog);
+    }
+
+    /**
+     * Compiles {@code flow} without validating it or resolving operations; calls go to
+     * {@link FlowInterpreter.Runtime.Client#call(String, Map, Map, String)}. What {@link FlowInterpreter} runs.
+     */
+    static FlowPlan of(FlowAst.FlowDefinition flow) {
+        return build(flow, null);
+    }
+
+    private static FlowPlan build(FlowAst.FlowDefinition flow, OpenApiOperationCatalog catalog) {
+        Map<String, Integer> slots = new LinkedHashMap<>();
+        List<FlowAst.FlowStep> source = flow.steps();
+        Step[] steps = new Step[source.size()];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = switch (source.get(i)) {
+                case FlowAst.CallStep call ->
+                        compileCall(call, catalog == null ? null : catalog.operation(call.operationId()), slots);
+                case FlowAst.ExtractStep extract -> new ExtractStep(extract, slot(slots, extract.variable()));
+                case FlowAst.WaitStep wait -> new WaitStep(wait, expectedStatus(wait.status()));
+                case FlowAst.PollStep poll -> new PollStep(poll, slot(slots, poll.variable()), timeout(poll.timeout()));
+            };
+        }
+        return new FlowPlan(flow, List.copyOf(slots.keySet()), steps);
+    }
+
+    public FlowAst.FlowDefinition flow() {
+        return flow;
+    }
+
+    /** Variable names by slot, in order of first use. */
+    public List<String> variables() {
+        return variables;
+    }
+
+    public void execute(FlowInterpreter.Runtime runtime) {
+        execute(runtime, null);
+    }
+
+    /** Executes the plan, reporting each step to {@code observer} (when non-null) as {@link FlowInterpreter} does. */
+    public void execute(FlowInterpreter.Runtime runtime, FlowInterpreter.StepObserver observer) {
+        String[] values = new String[variables.size()];
+        FlowInterpreter.Runtime.Response last = null;
+        for (int i = 0; i < steps.length; i++) {
+            Step step = steps[i];
+            long start = observer == null ? 0L : System.nanoTime();
+            try {
+                last = step.run(runtime, values, last);
+            } catch (RuntimeException | Error e) {
+                if (observer != null) {
+                    observer.stepCompleted(flow, i, step.source, System.nanoTime() - start, e);
+                }
+                throw e;
+            }
+            if (observer != null) {
+                observer.stepCompleted(flow, i, step.source, System.nanoTime() - start, null);
+            }
+        }
+    }
+
+    private static CallStep compileCall(FlowAst.CallStep call, OpenApiOperationCatalog.OperationMeta operation,
+                                        Map<String, Integer> slots) {
+        // A name bound twice keeps its first position and its last variable, as a map would
+        Map<String, Integer> pathBinds = new LinkedHashMap<>();
+        for (FlowAst.PathBind bind : call.pathBinds()) {
+            pathBinds.put(bind.parameterName(), slot(slots, bind.variableName()));
+        }
+        Map<String, Integer> headerBinds = new LinkedHashMap<>();
+        for (FlowAst.HeaderBind bind : call.headerBinds()) {
+            headerBinds.put(bind.headerName(), slot(slots, bind.variableName()));
+        }
+        int expected = call.expect() == null ? ANY_STATUS : expectedStatus(call.expect().status());
+        return new CallStep(call, operation, names(pathBinds), slots(pathBinds), names(headerBinds),
+                slots(headerBinds), expected);
+    }
+
+    private static String[] names(Map<String, Integer> binds) {
+        return binds.keySet().toArray(new String[0]);
+    }
+
+    private static int[] slots(Map<String, Integer> binds) {
+        return binds.values().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int slot(Map<String, Integer> slots, String variable) {
+        return slots.computeIfAbsent(variable, v -> slots.size());
+    }
+
+    private static int expectedStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return ANY_STATUS;
+        }
+        if ("2xx".equalsIgnoreCase(status)) {
+            return ANY_2XX;
+        }
+        try {
+            return Integer.parseInt(status);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("INVALID_STATUS: " + status);
+        }
+    }
+
+    /** {@code null} for a blank timeout, which leaves it to {@link FlowInterpreter.Runtime#defaultPollTimeout}. */
+    private static Duration timeout(String timeout) {
+        if (timeout == null || timeout.isBlank()) {
+            return null;
+        }
+        String t = timeout.trim().toLowerCase();
+        try {
+            return Duration.ofSeconds(Long.parseLong(t.endsWith("s") ? t.substring(0, t.length() - 1) : t));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("INVALID_TIMEOUT: " + timeout);
+        }
+    }
+
+    /** Whether {@code actual} satisfies an expected status: blank (any), {@code 2xx}, or an exact code. */
+    static boolean statusMatches(int actual, String expected) {
+        return statusMatches(actual, expectedStatus(expected));
+    }
+
+    private static boolean statusMatches(int actual, int expected) {
+        return switch (expected) {
+            case ANY_STATUS -> true;
+            case ANY_2XX -> actual >= 200 && actual < 300;
+            default -> actual == expected;
+        };
+    }
+
+    private static void assertStatus(int actual, int expected) {
+        if (statusMatches(actual, expected)) {
+            return;
+        }
+        if (expected == ANY_2XX) {
+            throw new IllegalStateException("Expected 2xx but got " + actual);
+        }
+        throw new IllegalStateException("Expected status " + expected + " but got " + actual);
+    }
+
+    private static void ensureLast(FlowInterpreter.Runtime.Response last, String action) {
+        if (last == null) {
+            throw new IllegalStateException(action + " requires previous response");
+        }
+    }
+
+    private abstract static class Step {
+        private final FlowAst.FlowStep source;
+
+        Step(FlowAst.FlowStep source) {
+            this.source = source;
+        }
+
+        abstract FlowInterpreter.Runtime.Response run(FlowInterpreter.Runtime runtime, String[] values,
+                                                      FlowInterpreter.Runtime.Response last);
+    }
+
+    private static final class CallStep extends Step {
+        private final String operationId;
+        private final OpenApiOperationCatalog.OperationMeta operation;
+        private final FlowAst.PoisonClause poison;
+        private final String[] pathNames;
+        private final int[] pathSlots;
+        private final String[] headerNames;
+        private final int[] headerSlots;
+        private final int expected;
+
+        CallStep(FlowAst.CallStep source, OpenApiOperationCatalog.OperationMeta operation, String[] pathNames,
+                 int[] pathSlots, String[] headerNames, int[] headerSlots, int expected) {
+            super(source);
+            this.operationId = source.operationId();
+            this.operation = operation;
+            this.poison = source.poison();
+            this.pathNames = pathNames;
+            this.pathSlots = pathSlots;
+            this.headerNames = headerNames;
+            this.headerSlots = headerSlots;
+            this.expected = expected;
+        }
+
+        @Override
+        FlowInterpreter.Runtime.Response run(FlowInterpreter.Runtime runtime, String[] values,
+                                             FlowInterpreter.Runtime.Response last) {
+            FlowInterpreter.Runtime.BodyFactory bodyFactory = runtime.bodyFactory();
+            String body = null;
+            if (poison != null) {
+                body = bodyFactory.withViolation(operationId, poison);
+            } else if (bodyFactory.hasBody(operationId)) {
+                body = bodyFactory.valid(operationId);
+            }
+            Map<String, String> pathBinds = SlotView.of(pathNames, pathSlots, values);
+            Map<String, String> headerBinds = SlotView.of(headerNames, headerSlots, values);
+            FlowInterpreter.Runtime.Response response = operation == null
+                    ? runtime.client().call(operationId, pathBinds, headerBinds, body)
+                    : runtime.client().call(operation, pathBinds, headerBinds, body);
+            assertStatus(response.statusCode(), expected);
+            return response;
+        }
+    }
+
+    private static final class ExtractStep extends Step {
+        private final int slot;
+        private final boolean fromHeader;
+        private final String key;
+        private final boolean lastSegment;
+        private final String failure;
+
+        ExtractStep(FlowAst.ExtractStep source, int slot) {
+            super(source);
+            this.slot = slot;
+            this.fromHeader = source.source() == FlowAst.ExtractSource.HEADER;
+            this.key = source.key();
+            this.lastSegment = source.lastSegment();
+            this.failure = "extract failed for " + source.variable();
+        }
+
+        @Override
+        FlowInterpreter.Runtime.Response run(FlowInterpreter.Runtime runtime, String[] values,
+                                             FlowInterpreter.Runtime.Response last) {
+            ensureLast(last, "extract");
+            String value;
+            if (fromHeader) {
+                value = last.header(key);
+                if (lastSegment && value != null) {
+                    int slash = value.lastIndexOf('/');
+                    value = slash >= 0 ? value.substring(slash + 1) : value;
+                }
+            } else {
+                value = last.jsonPath(key);
+            }
+            if (value == null) {
+                throw new IllegalStateException(failure);
+            }
+            values[slot] = value;
+            return last;
+        }
+    }
+
+    private static final class WaitStep extends Step {
+        private final int expected;
+
+        WaitStep(FlowAst.WaitStep source, int expected) {
+            super(source);
+            this.expected = expected;
+        }
+
+        @Override
+        FlowInterpreter.Runtime.Response run(FlowInterpreter.Runtime runtime, String[] values,
+                                             FlowInterpreter.Runtime.Response last) {
+            ensureLast(last, "wait");
+            assertStatus(last.statusCode(), expected);
+            return last;
+        }
+    }
+
+    private static final class PollStep extends Step {
+        private final int slot;
+        private final String headerName;
+        private final String untilStatus;
+        private final Duration timeout;
+
+        PollStep(FlowAst.PollStep source, int slot, Duration timeout) {
+            super(source);
+            this.slot = slot;
+            this.headerName = source.headerName();
+            this.untilStatus = source.untilStatus();
+            this.timeout = timeout;
+        }
+
+        @Override
+        FlowInterpreter.Runtime.Response run(FlowInterpreter.Runtime runtime, String[] values,
+                                             FlowInterpreter.Runtime.Response last) {
+            ensureLast(last, "poll");
+            String target = last.header(headerName);
+            Duration wait = timeout == null ? runtime.defaultPollTimeout() : timeout;
+            Duration interval = runtime.pollInterval();
+            FlowInterpreter.Runtime.Response response = interval == null
+                    ? runtime.client().poll(target, untilStatus, wait)
+                    : FlowPoller.poll(runtime.client(), target, untilStatus, wait, interval);
+            values[slot] = target;
+            return response;
+        }
+    }
+
+    /**
+     * Read-only map of bind names to the current values of their variable slots; what
+     * {@link FlowInterpreter.Runtime.Client#call} receives instead of a freshly filled map. It is
+     * only meant to be read during the call; unset variables map to {@code null}.
+     */
+    private static final class SlotView extends AbstractMap<String, String> {
+        private static final Map<String, String> EMPTY = Map.of();
+
+        private final String[] names;
+        private final int[] slots;
+        private final String[] values;
+
+        private SlotView(String[] names, int[] slots, String[] values) {
+            this.names = names;
+            this.slots = slots;
+            this.values = values;
+        }
+
+        static Map<String, String> of(String[] names, int[] slots, String[] values) {
+            return names.length == 0 ? EMPTY : new SlotView(names, slots, values);
+        }
+
+        @Override
+        public int size() {
+            return names.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public String get(Object key) {
+            int i = indexOf(key);
+            return i < 0 ? null : values[slots[i]];
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return names.length;
+                }
+
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<>() {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < names.length;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (next >= names.length) {
+                                throw new NoSuchElementException();
+                            }
+                            int i = next++;
+                            return new SimpleImmutableEntry<>(names[i], values[slots[i]]);
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package egain.oassdk.flow;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Polling for {@code poll} steps without a thread per waiting flow: each attempt is one
+ * {@link FlowInterpreter.Runtime.Client#fetch} on a fresh virtual thread, and the next one is
+ * scheduled on a single shared timer. The flow that polls parks on the result until the
+ * expected status arrives or the timeout passes, even if a fetch never returns; a fetch still in
+ * flight at the timeout is interrupted.
+ */
+final class FlowPoller {
+
+    /** Interval of {@link FlowInterpreter.Runtime.Client#poll}'s default implementation. */
+    static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(1);
+
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "flow-poll-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private FlowPoller() {
+    }
+
+    static FlowInterpreter.Runtime.Response poll(FlowInterpreter.Runtime.Client client, String targetUrl,
+                                                 String expectedStatus, Duration timeout, Duration interval) {
+        if (targetUrl == null) {
+            throw new IllegalStateException("poll target missing");
+        }
+        CompletableFuture<FlowInterpreter.Runtime.Response> result = new CompletableFuture<>();
+        AtomicReference<Thread> fetching = new AtomicReference<>();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        attempt(client, targetUrl, expectedStatus, deadline, Math.max(1L, interval.toNanos()), result, fetching);
+        try {
+            return result.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // The deadline passed with a fetch still running; stop it and any attempt after it
+            IllegalStateException timedOut = timeout(expectedStatus);
+            result.completeExceptionally(timedOut);
+            interrupt(fetching);
+            throw timedOut;
+        } catch (InterruptedException e) {
+            result.cancel(false);
+            interrupt(fetching);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("poll interrupted waiting for status " + expectedStatus, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static void attempt(FlowInterpreter.Runtime.Client client, String targetUrl, String expectedStatus,
+                                long deadline, long intervalNanos,
+                                CompletableFuture<FlowInterpreter.Runtime.Response> result,
+                                AtomicReference<Thread> fetching) {
+        Thread.ofVirtual().name("flow-poll").start(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            fetching.set(Thread.currentThread());
+            try {
+                FlowInterpreter.Runtime.Response response = client.fetch(targetUrl);
+                if (FlowPlan.statusMatches(response.statusCode(), expectedStatus)) {
+                    result.complete(response);
+                    return;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    result.completeExceptionally(timeout(expectedStatus));
+                    return;
+                }
+                // The last attempt lands on the deadline rather than an interval past it
+                TIMER.schedule(() -> attempt(client, targetUrl, expectedStatus, deadline, intervalNanos, result,
+                        fetching), Math.min(intervalNanos, remaining), TimeUnit.NANOSECONDS);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                fetching.compareAndSet(Thread.currentThread(), null);
+            }
+        });
+    }
+
+    private static IllegalStateException timeout(String expectedStatus) {
+        return new IllegalStateException("poll timeout waiting for status " + expectedStatus);
+    }
+
+    private static void interrupt(AtomicReference<Thread> fetching) {
+        Thread thread = fetching.get();
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+}
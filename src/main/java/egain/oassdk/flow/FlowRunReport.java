@@ -0,0 +1,80 @@
+package egain.oassdk.flow;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Outcome of a {@link FlowRunner} run: per flow, how many instances ran and failed; per step,
+ * its latency histogram and errors.
+ *
+ * @param elapsed wall time from the first instance start to the last instance end
+ * @param flows   one entry per flow, in the order given to the runner
+ * @param steps   one entry per flow step, grouped by flow in the same order
+ */
+public record FlowRunReport(Duration elapsed, List<FlowStats> flows, List<StepStats> steps) {
+
+    public FlowRunReport {
+        flows = List.copyOf(flows);
+        steps = List.copyOf(steps);
+    }
+
+    public long instances() {
+        return flows.stream().mapToLong(FlowStats::instances).sum();
+    }
+
+    public long failures() {
+        return flows.stream().mapToLong(FlowStats::failures).sum();
+    }
+
+    /** Plain-text summary: one line per flow, then one per step with count, errors and percentiles. */
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%d instances, %d failed in %d ms%n",
+                instances(), failures(), elapsed.toMillis()));
+        for (FlowStats flow : flows) {
+            out.append(String.format(Locale.ROOT, "flow %s: %d instances, %d failed%n",
+                    flow.flow(), flow.instances(), flow.failures()));
+            for (StepStats step : steps) {
+                if (!step.flow().equals(flow.flow())) {
+                    continue;
+                }
+                LatencyHistogram latency = step.latency();
+                out.append(String.format(Locale.ROOT,
+                        "  #%d %-32s count=%d errors=%d p50=%s p90=%s p99=%s max=%s%n",
+                        step.stepIndex(), step.label(), latency.count(), step.errors(),
+                        millis(latency.percentileNanos(0.50)), millis(latency.percentileNanos(0.90)),
+                        millis(latency.percentileNanos(0.99)), millis(latency.maxNanos())));
+                for (Map.Entry<String, Long> error : step.errorsByKind().entrySet()) {
+                    out.append(String.format(Locale.ROOT, "      %d x %s%n", error.getValue(), error.getKey()));
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000.0);
+    }
+
+    /**
+     * @param flow      flow name
+     * @param instances instances started
+     * @param failures  instances that ended with an error
+     */
+    public record FlowStats(String flow, long instances, long failures) {
+    }
+
+    /**
+     * @param flow         flow name
+     * @param stepIndex    position of the step in the flow
+     * @param label        step kind and subject, e.g. {@code call createFolder}
+     * @param latency      durations of every execution of the step, failed ones included
+     * @param errors       executions that failed
+     * @param errorsByKind failures by exception type and message, most frequent first
+     */
+    public record StepStats(String flow, int stepIndex, String label, LatencyHistogram latency, long errors,
+                            Map<String, Long> errorsByKind) {
+    }
+}
@@ -0,0 +1,235 @@
+package egain.oassdk.flow;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs many independent instances of flows at once, for soak and load scenarios.
+ *
+ * <p>Every instance is one {@link FlowPlan#execute} on its own virtual thread, with its own
+ * variables; instances only share the {@link FlowInterpreter.Runtime}, which must therefore be
+ * thread-safe. At most
+ * {@code concurrency} instances are in flight, and their starts are spread evenly over
+ * {@code rampUp}. Instances of the given flows are interleaved, so each flow runs
+ * {@code iterations} times under a similar load. Give the runtime a
+ * {@link FlowInterpreter.Runtime#pollInterval} so that {@code poll} steps wait on a timer instead of
+ * inside the client.
+ *
+ * <p>A failed instance is counted and stops there; the others go on.
+ */
+public final class FlowRunner {
+
+    // Distinct error kinds kept per step; the rest are counted under OTHER_ERRORS
+    private static final int MAX_ERROR_KINDS = 20;
+    private static final String OTHER_ERRORS = "(other)";
+
+    private final int concurrency;
+    private final int iterations;
+    private final Duration rampUp;
+
+    private FlowRunner(Builder builder) {
+        if (builder.concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be >= 1, got " + builder.concurrency);
+        }
+        if (builder.iterations < 1) {
+            throw new IllegalArgumentException("iterations must be >= 1, got " + builder.iterations);
+        }
+        if (builder.rampUp == null || builder.rampUp.isNegative()) {
+            throw new IllegalArgumentException("rampUp must not be null or negative, got " + builder.rampUp);
+        }
+        this.concurrency = builder.concurrency;
+        this.iterations = builder.iterations;
+        this.rampUp = builder.rampUp;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs {@code iterations} instances of every flow and waits for all of them. Each flow is
+     * compiled once, as {@link FlowInterpreter} would compile it, before any instance starts.
+     *
+     * @throws IllegalArgumentException if a flow has an expected status or poll timeout that cannot
+     *                                  be parsed
+     * @throws InterruptedException     if interrupted while starting instances; those already started
+     *                                  are still waited for
+     */
+    public FlowRunReport run(List<FlowAst.FlowDefinition> flows, FlowInterpreter.Runtime runtime)
+            throws InterruptedException {
+        List<FlowPlan> plans = new ArrayList<>(flows.size());
+        for (FlowAst.FlowDefinition flow : flows) {
+            plans.add(FlowPlan.of(flow));
+        }
+        return runInstances(flows, (index, observer) -> plans.get(index).execute(runtime, observer));
+    }
+
+    /**
+     * Like {@link #run}, executing compiled plans: the flows are validated and resolved once, not
+     * per instance.
+     */
+    public FlowRunReport runPlans(List<FlowPlan> plans, FlowInterpreter.Runtime runtime) throws InterruptedException {
+        List<FlowAst.FlowDefinition> flows = new ArrayList<>(plans.size());
+        for (FlowPlan plan : plans) {
+            flows.add(plan.flow());
+        }
+        return runInstances(flows, (index, observer) -> plans.get(index).execute(runtime, observer));
+    }
+
+    private FlowRunReport runInstances(List<FlowAst.FlowDefinition> flows, Instance instance)
+            throws InterruptedException {
+        List<FlowMetrics> metrics = new ArrayList<>(flows.size());
+        for (FlowAst.FlowDefinition flow : flows) {
+            metrics.add(new FlowMetrics(flow));
+        }
+        long total = (long) flows.size() * iterations;
+        long rampNanos = rampUp.toNanos();
+        Semaphore inFlight = new Semaphore(concurrency);
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long n = 0; n < total; n++) {
+                long delay = started + (long) ((double) rampNanos * n / total) - System.nanoTime();
+                if (delay > 0) {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                }
+                inFlight.acquire();
+                int index = (int) (n % flows.size());
+                FlowMetrics flowMetrics = metrics.get(index);
+                flowMetrics.instances.increment();
+                executor.execute(() -> {
+                    try {
+                        instance.run(index, flowMetrics);
+                    } catch (RuntimeException | Error e) {
+                        // The same throwables the step observer records, so every failure has a failed step
+                        flowMetrics.failures.increment();
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        List<FlowRunReport.FlowStats> flowStats = new ArrayList<>();
+        List<FlowRunReport.StepStats> stepStats = new ArrayList<>();
+        for (FlowMetrics flowMetrics : metrics) {
+            String name = flowMetrics.flow.name();
+            flowStats.add(new FlowRunReport.FlowStats(name, flowMetrics.instances.sum(), flowMetrics.failures.sum()));
+            List<FlowAst.FlowStep> steps = flowMetrics.flow.steps();
+            for (int i = 0; i < steps.size(); i++) {
+                StepMetrics step = flowMetrics.steps[i];
+                stepStats.add(new FlowRunReport.StepStats(name, i, label(steps.get(i)), step.latency,
+                        step.errors.sum(), step.errorsByKind()));
+            }
+        }
+        return new FlowRunReport(elapsed, flowStats, stepStats);
+    }
+
+    private static String label(FlowAst.FlowStep step) {
+        return switch (step) {
+            case FlowAst.CallStep call -> "call " + call.operationId();
+            case FlowAst.ExtractStep extract -> "extract " + extract.variable();
+            case FlowAst.WaitStep wait -> "wait " + wait.status();
+            case FlowAst.PollStep poll -> "poll " + poll.variable();
+        };
+    }
+
+    @FunctionalInterface
+    private interface Instance {
+        void run(int flowIndex, FlowInterpreter.StepObserver observer);
+    }
+
+    private static final class FlowMetrics implements FlowInterpreter.StepObserver {
+        private final FlowAst.FlowDefinition flow;
+        private final StepMetrics[] steps;
+        private final LongAdder instances = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private FlowMetrics(FlowAst.FlowDefinition flow) {
+            this.flow = flow;
+            this.steps = new StepMetrics[flow.steps().size()];
+            for (int i = 0; i < steps.length; i++) {
+                steps[i] = new StepMetrics();
+            }
+        }
+
+        @Override
+        public void stepCompleted(FlowAst.FlowDefinition flow, int stepIndex, FlowAst.FlowStep step, long nanos,
+                                  Throwable error) {
+            steps[stepIndex].record(nanos, error);
+        }
+    }
+
+    private static final class StepMetrics {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final Map<String, LongAdder> errorKinds = new ConcurrentHashMap<>();
+
+        private void record(long nanos, Throwable error) {
+            latency.record(nanos);
+            if (error == null) {
+                return;
+            }
+            errors.increment();
+            String kind = error.getClass().getSimpleName()
+                    + (error.getMessage() == null ? "" : ": " + error.getMessage());
+            LongAdder counter = errorKinds.get(kind);
+            if (counter == null) {
+                // Racing threads may each add a kind past the cap; the overshoot is bounded by their number
+                kind = errorKinds.size() < MAX_ERROR_KINDS ? kind : OTHER_ERRORS;
+                counter = errorKinds.computeIfAbsent(kind, k -> new LongAdder());
+            }
+            counter.increment();
+        }
+
+        private Map<String, Long> errorsByKind() {
+            Map<String, Long> out = new LinkedHashMap<>();
+            errorKinds.entrySet().stream()
+                    .sorted(Map.Entry.<String, LongAdder>comparingByValue(Comparator.comparingLong(LongAdder::sum))
+                            .reversed())
+                    .forEach(e -> out.put(e.getKey(), e.getValue().sum()));
+            return out;
+        }
+    }
+
+    public static final class Builder {
+        private int concurrency = 16;
+        private int iterations = 1;
+        private Duration rampUp = Duration.ZERO;
+
+        private Builder() {
+        }
+
+        /** Maximum instances in flight at once. Default 16. */
+        public Builder concurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /** Instances of each flow. Default 1. */
+        public Builder iterations(int iterations) {
+            this.iterations = iterations;
+            return this;
+        }
+
+        /** Period over which instance starts are spread evenly. Default zero (all at once, up to concurrency). */
+        public Builder rampUp(Duration rampUp) {
+            this.rampUp = rampUp;
+            return this;
+        }
+
+        public FlowRunner build() {
+            return new FlowRunner(this);
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package egain.oassdk.generators.java;
 
+import egain.oassdk.config.GeneratorConfig;
+
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -12,6 +18,7 @@ import java.util.Map;
  *   <li>CorsFilter configuration</li>
  *   <li>GenericExceptionMapper</li>
  *   <li>pom.xml and web.xml</li>
+ *   <li>scripts/train-startup.sh, when {@link GeneratorConfig#isStartupTrainingScript()}</li>
  * </ul>
  *
  * <p>The fixed boilerplate for each artifact is stored verbatim under
@@ -29,13 +36,23 @@ class JerseyBuildGenerator {
 
     /**
      * Generate the main JAX-RS Application class with Grizzly server support.
+     *
+     * @param resourceClasses simple names of the generated resource classes, registered one by one
+     * @param bindApiService  whether resources inject {@code ApiService} (async or streaming resource methods)
      */
-    public void generateMainApplicationClass(Map<String, Object> spec, String outputDir, String packageName) throws IOException {
+    public void generateMainApplicationClass(Map<String, Object> spec, String outputDir, String packageName,
+                                             Collection<String> resourceClasses, boolean bindApiService) throws IOException {
         String packagePath = packageName != null ? packageName : "com.example.api";
-        String className = JerseyGenerationContext.getAPITitle(spec).replaceAll("[^a-zA-Z0-9]", "") + "Application";
+        String className = JerseyGenerationContext.getApplicationClassName(spec);
 
         String content = JerseyGenerationContext.readRuntimeResource("runtime/jersey/Application.java")
+                .replace("__RESOURCE_REGISTRATION__\n", getResourceRegistration(packagePath, resourceClasses))
+                .replace("__SERVICE_REGISTRATION__\n", bindApiService ? getServiceRegistration(packagePath) : "")
+                .replace("__OBJECT_MAPPER_TUNING__\n", getObjectMapperTuning())
                 .replace("__OBSERVABILITY_REGISTRATION__", getObservabilityRegistration(packagePath))
+                .replace("__SERVER_THREADING__", serverThreadingName())
+                .replace("__SERVER_WORKER_THREADS__", String.valueOf(ctx.config != null ? ctx.config.getServerWorkerThreads() : 0))
+                .replace("__SERVER_WORKER_QUEUE_SIZE__", String.valueOf(ctx.config != null ? ctx.config.getServerWorkerQueueSize() : 1024))
                 .replace("__CLASS_NAME__", className)
                 .replace("__WS_NS__", ctx.getWsNs())
                 .replace("__PACKAGE__", packagePath);
@@ -43,6 +60,56 @@ class JerseyBuildGenerator {
         JerseyGenerationContext.writeFile(outputDir + "/src/main/java/" + packagePath.replace(".", "/") + "/" + className + ".java", content);
     }
 
+    /**
+     * Value of the generated application's {@code server.threading} setting for the configured
+     * {@link GeneratorConfig.ServerThreading}.
+     */
+    private String serverThreadingName() {
+        GeneratorConfig.ServerThreading threading = ctx.config != null ? ctx.config.getServerThreading() : null;
+        if (threading == null) {
+            return "default";
+        }
+        return switch (threading) {
+            case VIRTUAL_THREADS -> "virtual";
+            case FIXED_POOL -> "fixed";
+            case DEFAULT -> "default";
+        };
+    }
+
+    /**
+     * Returns one {@code register(...)} line per resource class, which replaces a {@code packages(...)} scan
+     * of the resources package.
+     */
+    private static String getResourceRegistration(String packagePath, Collection<String> resourceClasses) {
+        StringBuilder registration = new StringBuilder();
+        for (String resourceClass : resourceClasses) {
+            registration.append("        register(").append(packagePath).append(".resources.")
+                    .append(resourceClass).append(".class);\n");
+        }
+        return registration.toString();
+    }
+
+    /**
+     * Returns the binder registering {@code ApiService} for injection into the resources.
+     */
+    private String getServiceRegistration(String packagePath) throws IOException {
+        return JerseyGenerationContext
+                .readRuntimeResource("runtime/jersey/fragments/app-service-registration.txt")
+                .replace("__INJECT_NS__", ctx.injectNs)
+                .replace("__PACKAGE__", packagePath) + "\n";
+    }
+
+    /**
+     * Returns the ObjectMapper tuning lines (Blackbird, lenient unknown properties, serializer warm-up for
+     * every model class), or an empty string unless {@link GeneratorConfig#isOptimizedObjectMapper()}.
+     */
+    private String getObjectMapperTuning() throws IOException {
+        if (!ctx.isOptimizedObjectMapper()) {
+            return "";
+        }
+        return JerseyGenerationContext.readRuntimeResource("runtime/jersey/fragments/app-object-mapper-tuning.txt");
+    }
+
     /**
      * Returns observability class registration lines for the Application class constructor,
      * or an empty string if observability is not enabled.
@@ -57,11 +124,55 @@ class JerseyBuildGenerator {
     }
 
     /**
-     * Generate ApiService stub class.
+     * Generate ApiService stub class with a stub for each method the resources delegate to: async methods
+     * returning {@code CompletionStage<Response>}, and {@code Stream} methods for streamed collections.
      */
-    public void generateServices(String outputDir, String packageName) throws IOException {
+    public void generateServices(String outputDir, String packageName,
+                                 List<JerseyResourceGenerator.ServiceMethod> serviceMethods) throws IOException {
         String packagePath = packageName != null ? packageName : "com.example.api";
+        StringBuilder imports = new StringBuilder();
+        StringBuilder methods = new StringBuilder();
+        if (!serviceMethods.isEmpty()) {
+            boolean hasAsync = serviceMethods.stream().anyMatch(m -> m.streamedType() == null);
+            boolean hasStreamed = serviceMethods.stream().anyMatch(m -> m.streamedType() != null);
+            if (hasAsync) {
+                imports.append("import ").append(ctx.getWsNs()).append(".core.Response;\n");
+            }
+            imports.append("import ").append(packagePath).append(".model.*;\n");
+            if (serviceMethods.stream().anyMatch(JerseyResourceGenerator.ServiceMethod::needsList)) {
+                imports.append("import java.util.List;\n");
+            }
+            if (hasAsync) {
+                imports.append("import java.util.concurrent.CompletableFuture;\n");
+                imports.append("import java.util.concurrent.CompletionStage;\n");
+            }
+            if (hasStreamed) {
+                imports.append("import java.util.stream.Stream;\n");
+            }
+            for (JerseyResourceGenerator.ServiceMethod method : serviceMethods) {
+                methods.append("\n    /**\n");
+                methods.append("     * ").append(method.description().replace("*/", "*&#47;")).append("\n");
+                if (method.streamedType() != null) {
+                    methods.append("     * <p>The stream is consumed while the response is written and closed afterwards.\n");
+                }
+                methods.append("     */\n");
+                String returnType = method.streamedType() != null
+                        ? "Stream<" + method.streamedType() + ">" : "CompletionStage<Response>";
+                methods.append("    public ").append(returnType).append(" ").append(method.name()).append("(")
+                        .append(String.join(", ", method.parameters())).append(") {\n");
+                if (method.streamedType() != null) {
+                    methods.append("        // Replace with a lazily evaluated stream (e.g. over a database cursor) so items are not all held in memory\n");
+                    methods.append("        return Stream.empty();\n");
+                } else {
+                    methods.append("        // Replace with a non-blocking implementation that completes the stage when the work is done\n");
+                    methods.append("        return CompletableFuture.completedFuture(Response.ok().build());\n");
+                }
+                methods.append("    }\n");
+            }
+        }
         String content = JerseyGenerationContext.readRuntimeResource("runtime/jersey/ApiService.java")
+                .replace("__SERVICE_IMPORTS__", imports.toString())
+                .replace("__SERVICE_METHODS__", methods.toString())
                 .replace("__INJECT_NS__", ctx.injectNs)
                 .replace("__PACKAGE__", packagePath);
         JerseyGenerationContext.writeFile(outputDir + "/src/main/java/" + packagePath.replace(".", "/") + "/service/ApiService.java", content);
@@ -90,11 +201,28 @@ class JerseyBuildGenerator {
     }
 
     /**
-     * Orchestrate generation of pom.xml and web.xml.
+     * Orchestrate generation of pom.xml and web.xml, and of the startup training script when enabled.
      */
     public void generateBuildFiles(Map<String, Object> spec, String outputDir, String packageName) throws IOException {
         JerseyGenerationContext.writeFile(outputDir + "/pom.xml", generatePomXml(spec, packageName));
         JerseyGenerationContext.writeFile(outputDir + "/src/main/webapp/WEB-INF/web.xml", generateWebXml(packageName));
+        if (ctx.config != null && ctx.config.isStartupTrainingScript()) {
+            generateStartupTrainingScript(spec, outputDir, packageName);
+        }
+    }
+
+    /**
+     * Generate scripts/train-startup.sh, which archives the classes the application loads up to its first
+     * requests in an AppCDS archive and reports the time to the first response with and without it.
+     */
+    public void generateStartupTrainingScript(Map<String, Object> spec, String outputDir, String packageName) throws IOException {
+        String packagePath = packageName != null ? packageName : "com.example.api";
+        String content = JerseyGenerationContext.readRuntimeResource("runtime/jersey/train-startup.sh")
+                .replace("__CLASS_NAME__", JerseyGenerationContext.getApplicationClassName(spec))
+                .replace("__PACKAGE__", packagePath);
+        Path scriptPath = Paths.get(outputDir, "scripts", "train-startup.sh");
+        JerseyGenerationContext.writeFile(scriptPath.toString(), content);
+        scriptPath.toFile().setExecutable(true);
     }
 
     /**
@@ -102,7 +230,9 @@ class JerseyBuildGenerator {
      */
     public String generatePomXml(Map<String, Object> spec, String packageName) throws IOException {
         return JerseyGenerationContext.readRuntimeResource("runtime/jersey/pom.xml")
+                .replace("__JAXB_PROVIDER_DEP__\n", getJaxbProviderDependency())
                 .replace("__NAMESPACE_DEPS__", getNamespaceDependencies())
+                .replace("    __JACKSON_DEPS__\n", getJacksonDependencies())
                 .replace("__OBSERVABILITY_DEPS__", getObservabilityDependencies())
                 .replace("__GROUP_ID__", packageName != null ? packageName : "com.example.api")
                 .replace("__ARTIFACT_ID__", JerseyGenerationContext.getAPITitle(spec).toLowerCase(Locale.ROOT).replaceAll("[^a-zA-Z0-9]", "-"))
@@ -112,12 +242,40 @@ class JerseyBuildGenerator {
     }
 
     /**
-     * Returns the namespace-specific (javax/jakarta) Maven dependency XML block for the pom.
+     * Returns the namespace-specific (javax/jakarta) Maven dependency XML block for the pom. The JAXB API
+     * and runtime are left out for JSON-only models.
      */
     public String getNamespaceDependencies() throws IOException {
-        return JerseyGenerationContext.readRuntimeResource(
+        String apis = JerseyGenerationContext.readRuntimeResource(
                 ctx.useJakarta ? "runtime/jersey/fragments/pom-deps-jakarta.xml"
                                : "runtime/jersey/fragments/pom-deps-javax.xml");
+        if (ctx.isJsonOnlyModels()) {
+            return apis;
+        }
+        return JerseyGenerationContext.readRuntimeResource(
+                ctx.useJakarta ? "runtime/jersey/fragments/pom-deps-jaxb-jakarta.xml"
+                               : "runtime/jersey/fragments/pom-deps-jaxb-javax.xml") + apis;
+    }
+
+    /**
+     * Returns the Jersey JAXB provider dependency, or empty string for JSON-only models (without it Jersey
+     * registers no XML message body readers and writers).
+     */
+    private String getJaxbProviderDependency() throws IOException {
+        if (ctx.isJsonOnlyModels()) {
+            return "";
+        }
+        return JerseyGenerationContext.readRuntimeResource("runtime/jersey/fragments/pom-deps-jaxb-provider.xml");
+    }
+
+    /**
+     * Returns the Blackbird module dependency XML block, or empty string unless the tuned ObjectMapper is enabled.
+     */
+    public String getJacksonDependencies() throws IOException {
+        if (!ctx.isOptimizedObjectMapper()) {
+            return "";
+        }
+        return JerseyGenerationContext.readRuntimeResource("runtime/jersey/fragments/pom-deps-blackbird.xml");
     }
 
     /**
@@ -135,7 +293,7 @@ class JerseyBuildGenerator {
      */
     public String generateWebXml(String packageName) throws IOException {
         String packagePath = packageName != null ? packageName : "com.example.api";
-        String className = JerseyGenerationContext.getAPITitle(ctx.spec).replaceAll("[^a-zA-Z0-9]", "") + "Application";
+        String className = JerseyGenerationContext.getApplicationClassName(ctx.spec);
         String resource = ctx.useJakarta ? "runtime/jersey/web-jakarta.xml" : "runtime/jersey/web-javax.xml";
         return JerseyGenerationContext.readRuntimeResource(resource)
                 .replace("__WS_NS__", ctx.getWsNs())
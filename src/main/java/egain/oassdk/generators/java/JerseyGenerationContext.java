@@ -2,14 +2,14 @@ package egain.oassdk.generators.java;
 
 import egain.oassdk.Util;
 import egain.oassdk.config.GeneratorConfig;
+import egain.oassdk.core.io.GeneratedFiles;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,7 +27,7 @@ public final class JerseyGenerationContext {
     final String packageName;
     final boolean modelsOnly;
     final boolean useJakarta;
-    final Map<Object, String> inlinedSchemas = new IdentityHashMap<>();
+    private volatile Map<Object, String> inlinedSchemas = new IdentityHashMap<>();
 
     /** javax/jakarta namespace prefix — "javax" or "jakarta" depending on config. */
     final String wsNs;          // "javax.ws.rs" or "jakarta.ws.rs"
@@ -53,12 +53,29 @@ public final class JerseyGenerationContext {
     }
 
     /**
-     * Mutable map of inlined anonymous schema objects to generated simple class names.
+     * Map of inlined anonymous schema objects to generated simple class names. Mutable until
+     * {@link #freezeInlinedSchemas()} is called.
      */
     public Map<Object, String> getInlinedSchemas() {
         return inlinedSchemas;
     }
 
+    /**
+     * Replace the inlined-schema map with a read-only snapshot. Called once collection is complete and
+     * before models are rendered on several threads; any later attempt to add an entry fails fast
+     * instead of racing with those readers.
+     */
+    void freezeInlinedSchemas() {
+        Map<Object, String> current = inlinedSchemas;
+        if (!isInlinedSchemasFrozen()) {
+            inlinedSchemas = Collections.unmodifiableMap(new IdentityHashMap<>(current));
+        }
+    }
+
+    boolean isInlinedSchemasFrozen() {
+        return !(inlinedSchemas instanceof IdentityHashMap);
+    }
+
     public String getXmlBindNs() {
         return xmlBindNs;
     }
@@ -82,15 +99,11 @@ public final class JerseyGenerationContext {
     }
 
     /**
-     * Write content to a file, creating parent directories as needed.
+     * Write content to a file, creating parent directories as needed. Files whose content is unchanged
+     * are left untouched (see {@link GeneratedFiles}).
      */
     public static void writeFile(String filePath, String content) throws IOException {
-        Path path = Paths.get(filePath);
-        Path parent = path.getParent();
-        if (parent != null) {
-            Files.createDirectories(parent);
-        }
-        Files.writeString(path, content);
+        GeneratedFiles.write(Paths.get(filePath), content);
     }
 
     /**
@@ -102,6 +115,13 @@ public final class JerseyGenerationContext {
         return info != null ? (String) info.get("title") : "API";
     }
 
+    /**
+     * Simple name of the generated JAX-RS Application class, derived from the API title.
+     */
+    static String getApplicationClassName(Map<String, Object> spec) {
+        return getAPITitle(spec).replaceAll("[^a-zA-Z0-9]", "") + "Application";
+    }
+
     /**
      * Extract API description from spec info block.
      */
@@ -150,6 +170,20 @@ public final class JerseyGenerationContext {
         return config != null && config.getObservabilityConfig() != null && config.getObservabilityConfig().isEnabled();
     }
 
+    /**
+     * Helper to check if models are generated without JAXB (see {@link GeneratorConfig#isJsonOnlyModels()}).
+     */
+    boolean isJsonOnlyModels() {
+        return config != null && config.isJsonOnlyModels();
+    }
+
+    /**
+     * Helper to check if the generated application gets the tuned (Blackbird, pre-warmed) ObjectMapper.
+     */
+    boolean isOptimizedObjectMapper() {
+        return config != null && config.isOptimizedObjectMapper() && !modelsOnly;
+    }
+
     /**
      * Extract base path from server URL (path portion after domain).
      * Examples:
@@ -22,8 +22,6 @@ public class JerseyGenerator implements CodeGenerator, ConfigurableGenerator {
 
     private GeneratorConfig config;
     private boolean isModelsOnly = false;
-    private final Map<Object, String> inlinedSchemas = new IdentityHashMap<>();
-    private final ThreadLocal<Map<String, Object>> currentSpecForResolution = new ThreadLocal<>();
 
     // -----------------------------------------------------------------------
     //  CodeGenerator / ConfigurableGenerator interface
@@ -49,7 +47,6 @@ public class JerseyGenerator implements CodeGenerator, ConfigurableGenerator {
         this.config = config;
 
         try {
-            currentSpecForResolution.set(spec);
             this.isModelsOnly = config != null && config.isModelsOnly();
 
             if (!isModelsOnly) {
@@ -62,10 +59,10 @@ public class JerseyGenerator implements CodeGenerator, ConfigurableGenerator {
             JerseyModelGenerator modelGenerator = new JerseyModelGenerator(ctx, typeUtils, schemaCollector);
 
             schemaCollector.collectInlinedSchemas(spec);
-            this.inlinedSchemas.putAll(ctx.getInlinedSchemas());
 
             modelGenerator.generateModels(spec, outputDir, packageName);
-            this.inlinedSchemas.putAll(ctx.getInlinedSchemas());
+            // No more inlined schemas after model generation; from here on type lookups are memoized
+            ctx.freezeInlinedSchemas();
 
             if (config != null && config.isAuthorizationDataGenerationEnabled()) {
                 new JerseyAuthorizationDataGenerator().generate(spec, outputDir, config);
@@ -84,14 +81,15 @@ public class JerseyGenerator implements CodeGenerator, ConfigurableGenerator {
 
             if (!isModelsOnly) {
                 JerseyBuildGenerator buildGenerator = new JerseyBuildGenerator(ctx);
-                buildGenerator.generateMainApplicationClass(spec, outputDir, packageName);
-
-                new JerseyResourceGenerator(ctx, this::getJavaType).generate();
+                JerseyResourceGenerator resourceGenerator = new JerseyResourceGenerator(ctx, typeUtils::getJavaType);
+                resourceGenerator.generate();
+                buildGenerator.generateMainApplicationClass(spec, outputDir, packageName,
+                        resourceGenerator.getResourceClassNames(), !resourceGenerator.getServiceMethods().isEmpty());
                 // Standalone builds have no eGain platform on the classpath, so emit local stubs for
                 // the authorization types (Actor/ActorType/OAuthScope) the resources reference.
                 new JerseyAuthorizationFrameworkGenerator(ctx).generate();
 
-                buildGenerator.generateServices(outputDir, packageName);
+                buildGenerator.generateServices(outputDir, packageName, resourceGenerator.getServiceMethods());
                 buildGenerator.generateConfiguration(outputDir, packageName);
                 buildGenerator.generateExceptionMappers(outputDir, packageName);
                 buildGenerator.generateBuildFiles(spec, outputDir, packageName);
@@ -102,8 +100,6 @@ public class JerseyGenerator implements CodeGenerator, ConfigurableGenerator {
         } catch (Exception e) {
             logger.log(java.util.logging.Level.SEVERE, "Failed to generate Jersey application: " + e.getMessage(), e);
             throw new GenerationException("Failed to generate Jersey application: " + e.getMessage(), e);
-        } finally {
-            currentSpecForResolution.remove();
         }
     }
 
@@ -132,19 +128,4 @@ public class JerseyGenerator implements CodeGenerator, ConfigurableGenerator {
             Files.createDirectories(Paths.get(dir));
         }
     }
-
-    // -----------------------------------------------------------------------
-    //  Type resolution delegate (passed as this::getJavaType to sub-generators)
-    // -----------------------------------------------------------------------
-
-    private String getJavaType(Map<String, Object> schema) {
-        if (schema == null) {
-            return "Object";
-        }
-        Map<String, Object> spec = currentSpecForResolution.get();
-        JerseyGenerationContext tempCtx = new JerseyGenerationContext(spec, null, config, null);
-        tempCtx.getInlinedSchemas().putAll(this.inlinedSchemas);
-        return new JerseyTypeUtils(tempCtx).getJavaType(schema);
-    }
-
 }
@@ -4,6 +4,11 @@ import egain.oassdk.Util;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 /**
@@ -15,6 +20,12 @@ class JerseyModelGenerator {
 
     private static final Logger logger = egain.oassdk.core.logging.LoggerConfig.getLogger(JerseyModelGenerator.class);
 
+    /** Below this many models per thread, rendering on one thread is faster than starting a pool. */
+    private static final int MIN_MODELS_PER_THREAD = 16;
+
+    /** Cap on threads picked automatically; rendering is cheap and the rest is file I/O. */
+    private static final int MAX_AUTO_MODEL_THREADS = 8;
+
     private final JerseyGenerationContext ctx;
     private final JerseyTypeUtils typeUtils;
     private final JerseySchemaCollector schemaCollector;
@@ -47,6 +58,24 @@ class JerseyModelGenerator {
         }
     }
 
+    /**
+     * Emit the class-level Jackson annotations of a JSON-only model: fields are bound directly, as JAXB's
+     * {@code XmlAccessType.FIELD} does for the JAXB variant, so {@code isSetXxx()} and validation methods are
+     * not mistaken for properties, and properties keep the schema order.
+     */
+    private static void appendJsonOnlyClassAnnotations(StringBuilder content, String indent, List<String> jsonNames) {
+        content.append(indent).append("@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE,\n");
+        content.append(indent).append("        isGetterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)\n");
+        if (!jsonNames.isEmpty()) {
+            content.append(indent).append("@JsonPropertyOrder({\n");
+            for (int i = 0; i < jsonNames.size(); i++) {
+                content.append(indent).append("    \"").append(JerseyNamingUtils.escapeJavaString(jsonNames.get(i))).append("\"");
+                content.append(i < jsonNames.size() - 1 ? ",\n" : "\n");
+            }
+            content.append(indent).append("})\n");
+        }
+    }
+
     private boolean legacyXorNestedIdAsserts() {
         return ctx.config != null && ctx.config.isLegacyXorNestedIdAsserts();
     }
@@ -74,16 +103,51 @@ class JerseyModelGenerator {
      * Generate models.
      * Generates only schemas that are referenced (directly or transitively) from paths or components.
      * Skips schemas that are only used via allOf/oneOf/anyOf in other schemas.
+     *
+     * <p>Runs in two passes: a single-threaded analysis pass decides which classes to emit (and collects
+     * inlined schemas), then the classes are rendered and written in parallel. The spec and the inlined
+     * schema map are only read during rendering, and every class is written by exactly one task, so the
+     * output does not depend on the number of threads.
      */
     void generateModels(Map<String, Object> spec, String outputDir, String packageName) throws IOException {
+        String packagePath = packageName != null ? packageName : "com.example.api";
+
         Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
-        if (components == null) return;
+        Map<String, Object> schemas = components != null ? Util.asStringObjectMap(components.get("schemas")) : null;
+        if (schemas == null) {
+            // The tuned ObjectMapper iterates ModelClasses, so it is written even when there are no models
+            if (ctx.isOptimizedObjectMapper()) {
+                generateModelClasses(Set.of(), outputDir, packagePath);
+            }
+            return;
+        }
 
-        Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
-        if (schemas == null) return;
+        Set<String> generatedTopLevelClassNames = new HashSet<>();
+        List<ModelToGenerate> models = planModels(schemas, spec, generatedTopLevelClassNames);
+        ctx.freezeInlinedSchemas();
 
-        String packagePath = packageName != null ? packageName : "com.example.api";
+        renderModels(models, outputDir, packagePath, spec);
+
+        // When not models-only: single shared ObjectFactory and jaxb.index for all models
+        if (!ctx.modelsOnly && !ctx.isJsonOnlyModels()) {
+            generateObjectFactory(generatedTopLevelClassNames, outputDir, packagePath);
+            generateJaxbIndex(generatedTopLevelClassNames, outputDir, packagePath);
+        }
+        if (ctx.isOptimizedObjectMapper()) {
+            generateModelClasses(generatedTopLevelClassNames, outputDir, packagePath);
+        }
+    }
 
+    /** A model class to emit: simple class name and the schema it is rendered from. */
+    record ModelToGenerate(String className, Map<String, Object> schema) {
+    }
+
+    /**
+     * Analysis pass: decide which top-level and inlined schemas become model classes, in emission order.
+     * When two schemas map to the same class (and therefore the same file) the later one wins, as it did
+     * when files were written one after another.
+     */
+    List<ModelToGenerate> planModels(Map<String, Object> schemas, Map<String, Object> spec, Set<String> generatedTopLevelClassNames) {
         // Collect all schema names referenced from paths (responses, requestBody, parameters) and components
         Set<String> allReferencedNames = new HashSet<>();
         try {
@@ -111,8 +175,7 @@ class JerseyModelGenerator {
         // Collect inline object schemas only from referenced top-level schemas
         schemaCollector.collectInlinedSchemasFromProperties(schemas, spec, allReferencedNames);
 
-        // Set of top-level class names we generate (for ObjectFactory / jaxb.index)
-        Set<String> generatedTopLevelClassNames = new HashSet<>();
+        Map<String, ModelToGenerate> byClassName = new LinkedHashMap<>();
 
         // Generate only referenced top-level schemas
         for (Map.Entry<String, Object> schemaEntry : schemas.entrySet()) {
@@ -166,33 +229,82 @@ class JerseyModelGenerator {
             String javaClassName = JerseyNamingUtils.toJavaClassName(schemaName);
 
             generatedTopLevelClassNames.add(javaClassName);
-            generateModel(javaClassName, schema, outputDir, packagePath, spec);
-            if (ctx.modelsOnly) {
-                generateObjectFactory(javaClassName, outputDir, packagePath);
-                generateJaxbIndex(javaClassName, outputDir, packagePath);
-            }
+            byClassName.remove(javaClassName);
+            byClassName.put(javaClassName, new ModelToGenerate(javaClassName, schema));
         }
 
-        // Generate models for in-lined schemas
+        // Models for in-lined schemas
         for (Map.Entry<Object, String> entry : ctx.getInlinedSchemas().entrySet()) {
-            Object schemaObj = entry.getKey();
-            String modelName = entry.getValue();
-
-            Map<String, Object> schema = Util.asStringObjectMap(schemaObj);
+            Map<String, Object> schema = Util.asStringObjectMap(entry.getKey());
             if (schema != null) {
-                generateModel(modelName, schema, outputDir, packagePath, spec);
-                if (ctx.modelsOnly) {
-                    generateObjectFactory(modelName, outputDir, packagePath);
-                    generateJaxbIndex(modelName, outputDir, packagePath);
+                String modelName = entry.getValue();
+                byClassName.remove(modelName);
+                byClassName.put(modelName, new ModelToGenerate(modelName, schema));
+            }
+        }
+
+        return new ArrayList<>(byClassName.values());
+    }
+
+    /**
+     * Render and write the planned models, in parallel when there are enough of them to be worth it.
+     */
+    private void renderModels(List<ModelToGenerate> models, String outputDir, String packagePath, Map<String, Object> spec) throws IOException {
+        int threads = Math.min(modelGenerationThreads(), models.size() / MIN_MODELS_PER_THREAD);
+        if (threads <= 1) {
+            for (ModelToGenerate model : models) {
+                renderModel(model, outputDir, packagePath, spec);
+            }
+            return;
+        }
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "oas-model-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        })) {
+            List<Future<?>> futures = new ArrayList<>(models.size());
+            for (ModelToGenerate model : models) {
+                futures.add(executor.submit(() -> {
+                    renderModel(model, outputDir, packagePath, spec);
+                    return null;
+                }));
+            }
+            // Report the failure of the earliest model in plan order, like the sequential loop would
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    executor.shutdownNow();
+                    throw new IOException("Interrupted while generating models", e);
+                } catch (ExecutionException e) {
+                    executor.shutdownNow();
+                    Throwable cause = e.getCause();
+                    if (cause instanceof IOException io) throw io;
+                    if (cause instanceof RuntimeException re) throw re;
+                    if (cause instanceof Error err) throw err;
+                    throw new IOException("Failed to generate models: " + cause.getMessage(), cause);
                 }
             }
         }
+    }
 
-        // When not models-only: single shared ObjectFactory and jaxb.index for all models
-        if (!ctx.modelsOnly) {
-            generateObjectFactory(generatedTopLevelClassNames, outputDir, packagePath);
-            generateJaxbIndex(generatedTopLevelClassNames, outputDir, packagePath);
+    private void renderModel(ModelToGenerate model, String outputDir, String packagePath, Map<String, Object> spec) throws IOException {
+        generateModel(model.className(), model.schema(), outputDir, packagePath, spec);
+        if (ctx.modelsOnly && !ctx.isJsonOnlyModels()) {
+            generateObjectFactory(model.className(), outputDir, packagePath);
+            generateJaxbIndex(model.className(), outputDir, packagePath);
+        }
+    }
+
+    private int modelGenerationThreads() {
+        int configured = ctx.config != null ? ctx.config.getModelGenerationThreads() : 0;
+        if (configured >= 1) {
+            return configured;
         }
+        return Math.min(Runtime.getRuntime().availableProcessors(), MAX_AUTO_MODEL_THREADS);
     }
 
     // ---------------------------------------------------------------------------
@@ -302,16 +414,25 @@ class JerseyModelGenerator {
         }
 
         content.append("package ").append(packagePath).append(ctx.modelsOnly?"."+JerseyNamingUtils.sanitizePackageName(schemaName)+";\n\n":".model;\n\n");
-        boolean includeJaxbBean = !isStandaloneMode();
+        boolean jsonOnly = ctx.isJsonOnlyModels();
+        boolean includeJaxbBean = !isStandaloneMode() && !jsonOnly;
         if (includeJaxbBean) {
             content.append("import com.egain.platform.common.JAXBBean;\n");
         }
+        if (jsonOnly) {
+            content.append("import com.fasterxml.jackson.annotation.JsonAutoDetect;\n");
+        }
         content.append("import com.fasterxml.jackson.annotation.JsonProperty;\n");
+        if (jsonOnly) {
+            content.append("import com.fasterxml.jackson.annotation.JsonPropertyOrder;\n");
+        }
         content.append("import ").append(ctx.validationNs).append(".constraints.*;\n");
         content.append("import ").append(ctx.validationNs).append(".Valid;\n");
-        content.append("import ").append(ctx.getXmlBindNs()).append(".annotation.*;\n");
-        content.append("import ").append(ctx.getXmlBindNs()).append(".JAXBElement;\n");
-        content.append("import javax.xml.namespace.QName;\n");
+        if (!jsonOnly) {
+            content.append("import ").append(ctx.getXmlBindNs()).append(".annotation.*;\n");
+            content.append("import ").append(ctx.getXmlBindNs()).append(".JAXBElement;\n");
+            content.append("import javax.xml.namespace.QName;\n");
+        }
         content.append("import java.io.Serializable;\n");
         content.append("import java.util.Objects;\n");
         content.append("import java.util.List;\n");
@@ -324,22 +445,26 @@ class JerseyModelGenerator {
         }
         content.append("\n");
 
-        // Add JAXB annotations
-        content.append("@XmlRootElement(name = \"").append(schemaName).append("\")\n");
-        content.append("@XmlAccessorType(XmlAccessType.FIELD)\n");
-        content.append("@XmlType(name = \"").append(schemaName).append("\", propOrder = {\n");
+        if (jsonOnly) {
+            appendJsonOnlyClassAnnotations(content, "", fieldNames);
+        } else {
+            // Add JAXB annotations
+            content.append("@XmlRootElement(name = \"").append(schemaName).append("\")\n");
+            content.append("@XmlAccessorType(XmlAccessType.FIELD)\n");
+            content.append("@XmlType(name = \"").append(schemaName).append("\", propOrder = {\n");
 
-        if (!fieldNames.isEmpty()) {
-            for (int i = 0; i < fieldNames.size(); i++) {
-                content.append("    \"").append(JerseyNamingUtils.toPropOrderName(JerseyNamingUtils.toModelFieldName(fieldNames.get(i)))).append("\"");
-                if (i < fieldNames.size() - 1) {
-                    content.append(",\n");
-                } else {
-                    content.append("\n");
+            if (!fieldNames.isEmpty()) {
+                for (int i = 0; i < fieldNames.size(); i++) {
+                    content.append("    \"").append(JerseyNamingUtils.toPropOrderName(JerseyNamingUtils.toModelFieldName(fieldNames.get(i)))).append("\"");
+                    if (i < fieldNames.size() - 1) {
+                        content.append(",\n");
+                    } else {
+                        content.append("\n");
+                    }
                 }
             }
+            content.append("})\n");
         }
-        content.append("})\n");
 
         if (includeJaxbBean) {
             content.append("public class ").append(schemaName).append(" implements Serializable, JAXBBean {\n\n");
@@ -371,7 +496,9 @@ class JerseyModelGenerator {
                 String xorJava0 = JerseyNamingUtils.toModelFieldName(xorJson0);
                 String xorJava1 = JerseyNamingUtils.toModelFieldName(xorJson1);
                 String xorMessage = "Either " + xorJson0 + " or " + xorJson1 + " must be set";
-                oneOfXorAssertBlock.append("    @XmlTransient\n");
+                if (!jsonOnly) {
+                    oneOfXorAssertBlock.append("    @XmlTransient\n");
+                }
                 oneOfXorAssertBlock.append("    @Valid\n");
                 oneOfXorAssertBlock.append("    @AssertTrue(message = \"").append(JerseyNamingUtils.escapeJavaString(xorMessage)).append("\")\n");
                 oneOfXorAssertBlock.append("    public boolean isValidRequiredMutuallyExclusive() {\n");
@@ -403,15 +530,19 @@ class JerseyModelGenerator {
 
             // Wrapper type: single @XmlElement(name=fieldName). Direct list: @XmlElementWrapper + @XmlElement(). Else: @XmlElement(name=fieldName).
             if (isWrapperType) {
-                content.append("@XmlElement(name = \"").append(fieldName).append("\")\n    ");
+                if (!jsonOnly) {
+                    content.append("@XmlElement(name = \"").append(fieldName).append("\")\n    ");
+                }
             } else if (fieldType.startsWith("List<")) {
-                content.append("@XmlElementWrapper(name = \"").append(fieldName).append("\")\n    ");
-                content.append("@XmlElement()\n    ");
+                if (!jsonOnly) {
+                    content.append("@XmlElementWrapper(name = \"").append(fieldName).append("\")\n    ");
+                    content.append("@XmlElement()\n    ");
+                }
                 if (isArrayType && fieldName.equals("items") && schema.containsKey("maxItems")) {
                     Object maxItems = schema.get("maxItems");
                     content.append("@Size(max = ").append(maxItems).append(")\n    ");
                 }
-            } else {
+            } else if (!jsonOnly) {
                 content.append("@XmlElement(name = \"").append(fieldName).append("\"");
                 boolean effectiveRequired = allRequired.contains(fieldName)
                         && !xorExclusiveJsonNames.contains(fieldName);
@@ -422,7 +553,7 @@ class JerseyModelGenerator {
             }
 
             // Add @JsonProperty for name mapping and/or readOnly/writeOnly access
-            appendJsonPropertyAccessAnnotation(content, "    ", fieldName, javaFieldName, fieldSchema,
+            appendJsonPropertyAccessAnnotation(content, "    ", jsonOnly, fieldName, javaFieldName, fieldSchema,
                     xorExclusiveJsonNames.contains(fieldName));
 
             // Add validation annotations based on schema constraints
@@ -759,7 +890,9 @@ class JerseyModelGenerator {
         String msg = legacyXorNestedIdAsserts
                 ? xorJsonName + ".id must be set when " + xorJsonName + " attribute is set"
                 : "If " + xorJsonName + " is set then " + xorJsonName + ".id must be set";
-        content.append("    @XmlTransient\n");
+        if (!ctx.isJsonOnlyModels()) {
+            content.append("    @XmlTransient\n");
+        }
         content.append("    @Valid\n");
         content.append("    @AssertTrue(message = \"").append(JerseyNamingUtils.escapeJavaString(msg)).append("\")\n");
         content.append("    public boolean isValid").append(methodCap).append("() {\n");
@@ -865,11 +998,13 @@ class JerseyModelGenerator {
 
     /**
      * Emit {@code @JsonProperty} when JSON name differs from the Java field or when {@code readOnly}/{@code writeOnly}
-     * access must be reflected in Jackson annotations.
+     * access must be reflected in Jackson annotations. {@code atIndent} is true when the line is already indented
+     * (no JAXB annotation precedes it).
      */
     private static void appendJsonPropertyAccessAnnotation(
             StringBuilder content,
             String indent,
+            boolean atIndent,
             String fieldName,
             String javaFieldName,
             Map<String, Object> fieldSchema,
@@ -889,7 +1024,7 @@ class JerseyModelGenerator {
         if (!needName && accessStr == null) {
             return;
         }
-        content.append(indent).append("@JsonProperty(");
+        content.append(atIndent ? "" : indent).append("@JsonProperty(");
         if (needName) {
             content.append("value = \"").append(fieldName).append("\"");
         }
@@ -949,14 +1084,20 @@ class JerseyModelGenerator {
             }
         }
 
-        content.append("\n").append(indentClass).append("@XmlAccessorType(XmlAccessType.FIELD)\n");
-        content.append(indentClass).append("@XmlType(name = \"\", propOrder = {\n");
-        for (int i = 0; i < fieldNames.size(); i++) {
-            content.append(indentBody).append("\"").append(JerseyNamingUtils.toPropOrderName(JerseyNamingUtils.toModelFieldName(fieldNames.get(i)))).append("\"");
-            content.append(i < fieldNames.size() - 1 ? ",\n" : "\n");
+        boolean jsonOnly = ctx.isJsonOnlyModels();
+        content.append("\n");
+        if (jsonOnly) {
+            appendJsonOnlyClassAnnotations(content, indentClass, fieldNames);
+        } else {
+            content.append(indentClass).append("@XmlAccessorType(XmlAccessType.FIELD)\n");
+            content.append(indentClass).append("@XmlType(name = \"\", propOrder = {\n");
+            for (int i = 0; i < fieldNames.size(); i++) {
+                content.append(indentBody).append("\"").append(JerseyNamingUtils.toPropOrderName(JerseyNamingUtils.toModelFieldName(fieldNames.get(i)))).append("\"");
+                content.append(i < fieldNames.size() - 1 ? ",\n" : "\n");
+            }
+            content.append(indentClass).append("})\n");
         }
-        content.append(indentClass).append("})\n");
-        if (!isStandaloneMode()) {
+        if (!isStandaloneMode() && !jsonOnly) {
             content.append(indentClass).append("public static class ").append(innerClassName).append(" implements Serializable, JAXBBean {\n\n");
         } else {
             content.append(indentClass).append("public static class ").append(innerClassName).append(" implements Serializable {\n\n");
@@ -969,10 +1110,12 @@ class JerseyModelGenerator {
             String fieldType = typeUtils.getFieldTypeForModelProperty(fullEnclosing, fieldName, fieldSchema, false, spec);
             String javaFieldName = JerseyNamingUtils.toModelFieldName(fieldName);
             content.append(indentBody);
-            content.append("@XmlElement(name = \"").append(fieldName).append("\"");
-            if (allRequired.contains(fieldName)) content.append(", required = true");
-            content.append(")\n").append(indentBody);
-            appendJsonPropertyAccessAnnotation(content, indentBody, fieldName, javaFieldName, fieldSchema, false);
+            if (!jsonOnly) {
+                content.append("@XmlElement(name = \"").append(fieldName).append("\"");
+                if (allRequired.contains(fieldName)) content.append(", required = true");
+                content.append(")\n").append(indentBody);
+            }
+            appendJsonPropertyAccessAnnotation(content, indentBody, jsonOnly, fieldName, javaFieldName, fieldSchema, false);
             String validationAnnotations = typeUtils.generateValidationAnnotations(fieldSchema, allRequired.contains(fieldName));
             if (!validationAnnotations.isEmpty()) {
                 content.append(validationAnnotations.replace("\n    ", "\n" + indentBody));
@@ -1068,6 +1211,8 @@ class JerseyModelGenerator {
             content.append(indentBody).append("}\n\n");
         }
 
+        // JAXBBean dynamic attribute methods (not part of JSON-only models)
+        if (!jsonOnly) {
         appendJaxbBeanOverride(content, indentBody);
         content.append(indentBody).append("public Object getAttribute(String name) {\n");
         for (String fn : fieldNames) {
@@ -1114,6 +1259,7 @@ class JerseyModelGenerator {
             }
         }
         content.append(indentBody).append("}\n");
+        } // end JAXBBean dynamic attribute methods
 
         for (Map.Entry<String, Map<String, Object>> entry : nestedInners) {
             appendInnerClassForInlineObject(content, fullEnclosing, entry.getKey(), entry.getValue(), spec);
@@ -1129,15 +1275,27 @@ class JerseyModelGenerator {
         String innerJavaField = JerseyNamingUtils.toModelFieldName(w.innerPropertyName);
         String innerCapitalized = JerseyNamingUtils.getCapitalizedPropertyNameForAccessor(innerJavaField);
 
-        content.append("\n    @XmlAccessorType(XmlAccessType.FIELD)\n");
-        content.append("    @XmlType(name = \"\", propOrder = {\"").append(innerJavaField).append("\"})\n");
-        if (!isStandaloneMode()) {
+        boolean jsonOnly = ctx.isJsonOnlyModels();
+        content.append("\n");
+        if (jsonOnly) {
+            appendJsonOnlyClassAnnotations(content, "    ", List.of());
+        } else {
+            content.append("    @XmlAccessorType(XmlAccessType.FIELD)\n");
+            content.append("    @XmlType(name = \"\", propOrder = {\"").append(innerJavaField).append("\"})\n");
+        }
+        if (!isStandaloneMode() && !jsonOnly) {
             content.append("    public static class ").append(w.wrapperClassName).append(" implements Serializable, JAXBBean {\n\n");
         } else {
             content.append("    public static class ").append(w.wrapperClassName).append(" implements Serializable {\n\n");
         }
         content.append("        private static final long serialVersionUID = 1L;\n\n");
-        content.append("        @XmlElement(name = \"").append(w.innerPropertyName).append("\")\n");
+        if (jsonOnly) {
+            if (!w.innerPropertyName.equals(innerJavaField)) {
+                content.append("        @JsonProperty(\"").append(w.innerPropertyName).append("\")\n");
+            }
+        } else {
+            content.append("        @XmlElement(name = \"").append(w.innerPropertyName).append("\")\n");
+        }
         if (typeUtils.isEligibleForCascadingValidation(w.innerPropertyName)) {
             content.append("        @Valid\n");
         }
@@ -1155,7 +1313,12 @@ class JerseyModelGenerator {
         content.append("        }\n\n");
         content.append("        public void unset").append(innerCapitalized).append("() {\n");
         content.append("            this.").append(innerJavaField).append(" = null;\n");
-        content.append("        }\n\n");
+        content.append("        }\n");
+        if (jsonOnly) {
+            content.append("    }\n");
+            return;
+        }
+        content.append("\n");
         appendJaxbBeanOverride(content, "        ");
         content.append("        public Object getAttribute(String name) {\n");
         content.append("            if (\"").append(w.innerPropertyName).append("\".equals(name)) {\n");
@@ -1299,6 +1462,33 @@ class JerseyModelGenerator {
         JerseyGenerationContext.writeFile(modelDir + "/jaxb.index", indexContent);
     }
 
+    /**
+     * Generate {@code ModelClasses}, listing every top-level model class (sorted, so the file is stable across
+     * runs) for the application's ObjectMapper to build serializers for at startup.
+     */
+    void generateModelClasses(Set<String> generatedTopLevelClassNames, String outputDir, String packagePath) throws IOException {
+        List<String> classNames = new ArrayList<>(collectJaxbModelClassNames(generatedTopLevelClassNames));
+        Collections.sort(classNames);
+
+        StringBuilder content = new StringBuilder();
+        content.append("package ").append(packagePath).append(".model;\n\n");
+        content.append("import java.util.List;\n\n");
+        content.append("/**\n");
+        content.append(" * Every generated model class, for building their JSON serializers at startup.\n");
+        content.append(" */\n");
+        content.append("public final class ModelClasses {\n\n");
+        content.append("    public static final List<Class<?>> ALL = List.of(");
+        for (int i = 0; i < classNames.size(); i++) {
+            content.append(i == 0 ? "\n" : ",\n").append("            ").append(classNames.get(i)).append(".class");
+        }
+        content.append(");\n\n");
+        content.append("    private ModelClasses() {\n");
+        content.append("    }\n");
+        content.append("}\n");
+
+        JerseyGenerationContext.writeFile(outputDir + "/src/main/java/" + packagePath.replace(".", "/") + "/model/ModelClasses.java", content.toString());
+    }
+
     /**
      * Collect the set of JAXB model class names (same set used for ObjectFactory and jaxb.index).
      */
@@ -1,26 +1,43 @@
 package egain.oassdk.generators.java;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
+import egain.oassdk.Util;
+import egain.oassdk.config.ObservabilityConfig;
+import egain.oassdk.core.Constants;
 import egain.oassdk.core.logging.LoggerConfig;
 
 /**
- * Copies the observability instrumentation classes (MetricsFilter, TracingFilter, MetricsEndpoint,
- * ObservabilityBootstrap) into the generated application when observability is enabled.
+ * Copies the observability instrumentation classes (MetricsFilter, TracingFilter, RouteTemplates,
+ * RouteSampler, MetricsEndpoint, ObservabilityBootstrap) into the generated application when observability
+ * is enabled.
  *
- * <p>These classes are fixed and spec-independent, so they are stored verbatim under
- * {@code src/main/resources/runtime/jersey/observability} and copied with only the package and
- * javax/jakarta namespace placeholders substituted.
+ * <p>These classes are fixed, so they are stored verbatim under
+ * {@code src/main/resources/runtime/jersey/observability} and copied with the package and javax/jakarta
+ * namespace placeholders substituted. The spec-derived values are the operation count, which sizes the
+ * MetricsFilter meter-handle cache, and the per-operation trace sample ratios ({@code x-trace-sample-ratio})
+ * that RouteSampler applies on top of the {@link ObservabilityConfig} sampling settings.
  */
 class JerseyObservabilityGenerator {
 
     private static final Logger logger = LoggerConfig.getLogger(JerseyObservabilityGenerator.class);
 
     private static final String[] OBSERVABILITY_CLASSES = {
-            "MetricsFilter", "TracingFilter", "MetricsEndpoint", "ObservabilityBootstrap",
+            "MetricsFilter", "TracingFilter", "RouteTemplates", "RouteSampler", "MetricsEndpoint", "ObservabilityBootstrap",
     };
 
+    static final String X_TRACE_SAMPLE_RATIO = "x-trace-sample-ratio";
+
+    /**
+     * Trace sample ratio of one operation, from {@code x-trace-sample-ratio}.
+     */
+    record RouteSampleRatio(String method, String path, double ratio) {
+    }
+
     private final JerseyGenerationContext ctx;
 
     JerseyObservabilityGenerator(JerseyGenerationContext ctx) {
@@ -34,7 +51,7 @@ class JerseyObservabilityGenerator {
         generateObservability(ctx.outputDir, ctx.packageName, ctx.spec);
     }
 
-    private void generateObservability(String outputDir, String packageName, java.util.Map<String, Object> spec) throws IOException {
+    private void generateObservability(String outputDir, String packageName, Map<String, Object> spec) throws IOException {
         if (!ctx.isObservabilityEnabled()) {
             return;
         }
@@ -42,20 +59,97 @@ class JerseyObservabilityGenerator {
         String packagePath = packageName != null ? packageName : "com.example.api";
         String obsDir = outputDir + "/src/main/java/" + packagePath.replace(".", "/") + "/observability";
 
-        String serviceName = ctx.config.getObservabilityConfig().getServiceName();
+        ObservabilityConfig observabilityConfig = ctx.config.getObservabilityConfig();
+        String serviceName = observabilityConfig.getServiceName();
         if (serviceName == null || serviceName.isBlank()) {
             serviceName = JerseyGenerationContext.getAPITitle(spec);
         }
 
+        String operationCount = String.valueOf(countOperations(spec));
+        StringBuilder routeSampleRatios = new StringBuilder();
+        for (RouteSampleRatio ratio : collectRouteSampleRatios(spec)) {
+            routeSampleRatios.append("            new RouteRatio(\"").append(ratio.method()).append("\", \"")
+                    .append(JerseyNamingUtils.escapeJavaString(ratio.path())).append("\", ").append(ratio.ratio()).append("),\n");
+        }
         for (String className : OBSERVABILITY_CLASSES) {
             String content = JerseyGenerationContext
                     .readRuntimeResource("runtime/jersey/observability/" + className + ".java")
                     .replace("__WS_NS__", ctx.getWsNs())
                     .replace("__INJECT_NS__", ctx.injectNs)
-                    .replace("__PACKAGE__", packagePath);
+                    .replace("__PACKAGE__", packagePath)
+                    .replace("__OPERATION_COUNT__", operationCount)
+                    .replace("__TRACE_SAMPLE_RATIO__", String.valueOf(observabilityConfig.getTraceSampleRatio()))
+                    .replace("__TRACE_PARENT_BASED__", String.valueOf(observabilityConfig.isParentBasedSampling()))
+                    .replace("__ROUTE_SAMPLE_RATIOS__", routeSampleRatios.toString());
             JerseyGenerationContext.writeFile(obsDir + "/" + className + ".java", content);
         }
 
         logger.info("Generated observability instrumentation for service: " + serviceName);
     }
+
+    /**
+     * Trace sample ratios of the operations that declare {@code x-trace-sample-ratio} (0.0 to 1.0) on the
+     * operation or, for all its operations, on the path item. Values that are not a number in that range are
+     * ignored with a warning.
+     */
+    static List<RouteSampleRatio> collectRouteSampleRatios(Map<String, Object> spec) {
+        List<RouteSampleRatio> ratios = new ArrayList<>();
+        Map<String, Object> paths = spec != null ? Util.asStringObjectMap(spec.get("paths")) : null;
+        if (paths == null) {
+            return ratios;
+        }
+        for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
+            Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+            if (pathItem == null) {
+                continue;
+            }
+            Double pathRatio = sampleRatioOf(pathItem, null, pathEntry.getKey());
+            for (String method : Constants.HTTP_METHODS) {
+                Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                if (operation == null) {
+                    continue;
+                }
+                Double ratio = sampleRatioOf(operation, pathRatio, method.toUpperCase() + " " + pathEntry.getKey());
+                if (ratio != null) {
+                    ratios.add(new RouteSampleRatio(method.toUpperCase(), pathEntry.getKey(), ratio));
+                }
+            }
+        }
+        return ratios;
+    }
+
+    private static Double sampleRatioOf(Map<String, Object> node, Double fallback, String location) {
+        Object value = node.get(X_TRACE_SAMPLE_RATIO);
+        if (value == null) {
+            return fallback;
+        }
+        if (value instanceof Number number && number.doubleValue() >= 0.0 && number.doubleValue() <= 1.0) {
+            return number.doubleValue();
+        }
+        logger.warning("Ignoring " + X_TRACE_SAMPLE_RATIO + " '" + value + "' on " + location
+                + ": expected a number from 0.0 to 1.0");
+        return fallback;
+    }
+
+    /**
+     * Count the operations (path + HTTP method pairs) declared in the spec.
+     */
+    static int countOperations(Map<String, Object> spec) {
+        Map<String, Object> paths = spec != null ? Util.asStringObjectMap(spec.get("paths")) : null;
+        if (paths == null) {
+            return 0;
+        }
+        int count = 0;
+        String[] methods = {"get", "post", "put", "delete", "patch"};
+        for (Object pathValue : paths.values()) {
+            Map<String, Object> pathItem = Util.asStringObjectMap(pathValue);
+            if (pathItem == null) continue;
+            for (String method : methods) {
+                if (pathItem.containsKey(method)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
 }
@@ -462,6 +462,9 @@ class JerseyQueryParamValidatorGenerator {
 
     /**
      * Generate ValidationMapHelper.java file.
+     *
+     * <p>Each endpoint's {@code Validator} is built once when the class is initialized and shared by all
+     * requests, so {@code validate} does no builder or action allocation per call.
      */
     private void generateValidationMapHelperFile(String outputDir, List<EndpointValidator> validators, String packageName) throws IOException {
         String validatorPackage = packageName != null ? packageName : "egain.ws.oas.gen";
@@ -469,20 +472,20 @@ class JerseyQueryParamValidatorGenerator {
 
         StringBuilder content = new StringBuilder();
         content.append("package ").append(validatorPackage).append(";\n\n");
-        content.append("import egain.framework.validation.ValidationBuilder;\n");
+        content.append("import egain.framework.validation.ValidationError;\n");
+        content.append("import egain.framework.validation.Validator;\n");
         content.append("import egain.ws.oas.RequestInfo;\n");
         content.append("import egain.ws.oas.Validations.ParameterValidatorMapKey;\n");
-        content.append("import java.util.Map;\n");
-        content.append("import java.util.function.Supplier;\n\n");
+        content.append("import java.util.Map;\n\n");
         content.append("public class ValidationMapHelper {\n");
-        content.append("  public static final Map<ParameterValidatorMapKey, Supplier<ValidationBuilder<RequestInfo>>> validationsListMap = Map.<ParameterValidatorMapKey, Supplier<ValidationBuilder<RequestInfo>>> ofEntries(\n");
+        content.append("  public static final Map<ParameterValidatorMapKey, Validator<RequestInfo>> validationsListMap = Map.<ParameterValidatorMapKey, Validator<RequestInfo>> ofEntries(\n");
 
         // Generate map entries
         for (int i = 0; i < validators.size(); i++) {
             EndpointValidator validator = validators.get(i);
             content.append("    Map.entry(new ParameterValidatorMapKey(\"").append(validator.path)
-                    .append("\", \"").append(validator.httpMethod).append("\"), QueryParamValidators::")
-                    .append(validator.methodName);
+                    .append("\", \"").append(validator.httpMethod).append("\"), QueryParamValidators.")
+                    .append(validator.methodName).append("().build()");
             if (i < validators.size() - 1) {
                 content.append("),\n");
             } else {
@@ -500,15 +503,9 @@ class JerseyQueryParamValidatorGenerator {
         content.append("   * @param requestInfo The RequestInfo object containing path and query parameters\n");
         content.append("   * @return ValidationError if validation fails, null if validation passes\n");
         content.append("   */\n");
-        content.append("  public static egain.framework.validation.ValidationError validate(\n");
-        content.append("      String path, String httpMethod, egain.ws.oas.RequestInfo requestInfo) {\n");
-        content.append("    ParameterValidatorMapKey key = new ParameterValidatorMapKey(path, httpMethod);\n");
-        content.append("    Supplier<ValidationBuilder<RequestInfo>> supplier = validationsListMap.get(key);\n");
-        content.append("    if (supplier != null) {\n");
-        content.append("      ValidationBuilder<RequestInfo> validationBuilder = supplier.get();\n");
-        content.append("      return validationBuilder.build().validate(requestInfo).stream().findFirst().orElse(null);\n");
-        content.append("    }\n");
-        content.append("    return null;\n");
+        content.append("  public static ValidationError validate(String path, String httpMethod, RequestInfo requestInfo) {\n");
+        content.append("    Validator<RequestInfo> validator = validationsListMap.get(new ParameterValidatorMapKey(path, httpMethod));\n");
+        content.append("    return validator != null ? validator.validateFirst(requestInfo) : null;\n");
         content.append("  }\n");
         content.append("}\n");
 
@@ -1,18 +1,30 @@
 package egain.oassdk.generators.java;
 
 import egain.oassdk.Util;
+import egain.oassdk.config.GeneratorConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.logging.LoggerConfig;
 
 import java.io.IOException;
 import java.util.*;
 import java.util.function.Function;
+import java.util.logging.Logger;
 
 /**
  * Generates JAX-RS resource (controller) classes from OpenAPI path definitions.
  * Each resource groups operations by their first path segment (parent path).
+ *
+ * <p>In the asynchronous {@link GeneratorConfig.ResourceMode}s every resource method delegates to a
+ * {@code CompletionStage<Response>} method of {@code ApiService}. Operations returning a collection that is
+ * streamed ({@code x-streaming}, {@link GeneratorConfig#isStreamCollectionResponses()}) delegate to a
+ * {@code Stream} method in every mode and write it through {@code JsonStreamingOutput}. The service
+ * methods needed are collected in {@link #getServiceMethods()} for the service stub, and the generated classes
+ * in {@link #getResourceClassNames()} for the Application's explicit registration.
  */
 class JerseyResourceGenerator {
 
+    private static final Logger logger = LoggerConfig.getLogger(JerseyResourceGenerator.class);
+
     private static final java.util.regex.Pattern VERSION_PATTERN = java.util.regex.Pattern.compile("(/v\\d+)");
 
     static final String X_EGAIN_RESOURCE_CLASS_NAME = "x-egain-resource-class-name";
@@ -24,9 +36,56 @@ class JerseyResourceGenerator {
      */
     private final Function<Map<String, Object>, String> javaTypeResolver;
 
+    private final GeneratorConfig.ResourceMode resourceMode;
+    private final boolean streamCollectionResponses;
+    private final List<ServiceMethod> serviceMethods = new ArrayList<>();
+    private final Set<String> serviceMethodNames = new HashSet<>();
+    private final Set<String> resourceClassNames = new LinkedHashSet<>();
+    /** Set when the resource class being generated uses {@code TimeUnit}. */
+    private boolean timeUnitUsed;
+
+    /**
+     * An {@code ApiService} method a resource method delegates to.
+     *
+     * @param name         method name, unique within {@code ApiService}
+     * @param parameters   parameter declarations ({@code "String id"}), in call order
+     * @param description  HTTP method, path and summary of the operation, for the stub's javadoc
+     * @param needsList    whether a parameter or item type uses {@link List}
+     * @param streamedType item type of the {@code Stream} the method returns for a streamed collection, or null
+     *                     for an async method returning {@code CompletionStage<Response>}
+     */
+    record ServiceMethod(String name, List<String> parameters, String description, boolean needsList, String streamedType) {
+    }
+
+    /**
+     * Success response body written item by item.
+     *
+     * @param itemType        Java type of the items
+     * @param wrapperProperty property holding the array when the body is a single-array object, else null
+     */
+    private record StreamedCollection(String itemType, String wrapperProperty) {
+    }
+
     JerseyResourceGenerator(JerseyGenerationContext ctx, Function<Map<String, Object>, String> javaTypeResolver) {
         this.ctx = ctx;
         this.javaTypeResolver = javaTypeResolver;
+        this.resourceMode = ctx.config != null ? ctx.config.getResourceMode() : GeneratorConfig.ResourceMode.SYNC;
+        this.streamCollectionResponses = ctx.config != null && ctx.config.isStreamCollectionResponses();
+    }
+
+    /**
+     * ApiService methods the generated resources call, in generation order; empty in
+     * {@link GeneratorConfig.ResourceMode#SYNC} mode.
+     */
+    List<ServiceMethod> getServiceMethods() {
+        return serviceMethods;
+    }
+
+    /**
+     * Simple names of the generated resource classes (in the {@code resources} package), in generation order.
+     */
+    Set<String> getResourceClassNames() {
+        return resourceClassNames;
     }
 
     /**
@@ -34,6 +93,15 @@ class JerseyResourceGenerator {
      */
     void generate() throws IOException, GenerationException {
         generateResources(ctx.spec, ctx.outputDir, ctx.packageName);
+        if (serviceMethods.stream().anyMatch(m -> m.streamedType() != null)) {
+            String packagePath = ctx.packageName != null ? ctx.packageName : "com.example.api";
+            String content = JerseyGenerationContext.readRuntimeResource("runtime/jersey/JsonStreamingOutput.java")
+                    .replace("__CLASS_NAME__", JerseyGenerationContext.getApplicationClassName(ctx.spec))
+                    .replace("__WS_NS__", ctx.getWsNs())
+                    .replace("__PACKAGE__", packagePath);
+            JerseyGenerationContext.writeFile(ctx.outputDir + "/src/main/java/" + packagePath.replace(".", "/")
+                    + "/resources/JsonStreamingOutput.java", content);
+        }
     }
 
     /**
@@ -347,7 +415,8 @@ class JerseyResourceGenerator {
     }
 
     private void appendClassLevelMediaAnnotations(StringBuilder content, List<PathOperation> operations) {
-        boolean jsonOnlyConfig = ctx.config != null && ctx.config.isJsonOnlyResourceMediaTypes();
+        // Models without JAXB bindings cannot be written as XML
+        boolean jsonOnlyConfig = ctx.config != null && ctx.config.isJsonOnlyResourceMediaTypes() || ctx.isJsonOnlyModels();
         Set<String> collected = new LinkedHashSet<>();
         for (PathOperation po : operations) {
             collectMediaTypesFromOperation(po.operation, ctx.spec, collected);
@@ -447,11 +516,14 @@ class JerseyResourceGenerator {
         content.append("import egain.framework.OAuthScope;\n");
 
         boolean needsListImport = false;
+        timeUnitUsed = false;
+        int firstServiceMethod = serviceMethods.size();
         StringBuilder body = new StringBuilder();
         for (PathOperation pathOp : operations) {
             String relativePath = getRelativePath(parentPath, pathOp.path);
+            long timeoutMillis = responseTimeoutMillis(spec, pathOp);
             try {
-                if (generateResourceMethod(pathOp.method, pathOp.operation, relativePath, body)) {
+                if (generateResourceMethod(pathOp, relativePath, timeoutMillis, body)) {
                     needsListImport = true;
                 }
             } catch (GenerationException e) {
@@ -462,6 +534,22 @@ class JerseyResourceGenerator {
         if (needsListImport) {
             content.append("import java.util.List;\n");
         }
+        List<ServiceMethod> classServiceMethods = serviceMethods.subList(firstServiceMethod, serviceMethods.size());
+        boolean usesService = !classServiceMethods.isEmpty();
+        boolean hasAsyncMethods = classServiceMethods.stream().anyMatch(m -> m.streamedType() == null);
+        if (usesService) {
+            content.append("import ").append(ctx.injectNs).append(".Inject;\n");
+        }
+        if (hasAsyncMethods && resourceMode == GeneratorConfig.ResourceMode.ASYNC_RESPONSE) {
+            content.append("import ").append(ctx.getWsNs()).append(".container.AsyncResponse;\n");
+            content.append("import ").append(ctx.getWsNs()).append(".container.Suspended;\n");
+            content.append("import java.util.concurrent.CompletionException;\n");
+        } else if (hasAsyncMethods) {
+            content.append("import java.util.concurrent.CompletionStage;\n");
+        }
+        if (timeUnitUsed) {
+            content.append("import java.util.concurrent.TimeUnit;\n");
+        }
         content.append("\n");
 
         // Extract API version from path and construct @Path
@@ -470,10 +558,27 @@ class JerseyResourceGenerator {
         appendClassLevelMediaAnnotations(content, operations);
 
         content.append("public class ").append(resourceName).append(" {\n\n");
+        if (usesService) {
+            content.append("    @Inject\n");
+            content.append("    private ApiService apiService;\n\n");
+        }
         content.append(body);
+        if (hasAsyncMethods && resourceMode == GeneratorConfig.ResourceMode.ASYNC_RESPONSE) {
+            content.append("""
+                        private static void resume(AsyncResponse asyncResponse, Response response, Throwable failure) {
+                            if (failure == null) {
+                                asyncResponse.resume(response);
+                            } else {
+                                asyncResponse.resume(failure instanceof CompletionException && failure.getCause() != null
+                                        ? failure.getCause() : failure);
+                            }
+                        }
+                    """);
+        }
         content.append("}\n");
 
         JerseyGenerationContext.writeFile(outputDir + "/src/main/java/" + packagePath.replace(".", "/") + "/resources/" + resourceName + ".java", content.toString());
+        resourceClassNames.add(resourceName);
     }
 
     /**
@@ -500,12 +605,35 @@ class JerseyResourceGenerator {
         return fullPath;
     }
 
+    /**
+     * Response-time budget of an operation in milliseconds from {@code x-sla-response-time} on the operation,
+     * its path item or the spec {@code info}; -1 when none is set or in {@link GeneratorConfig.ResourceMode#SYNC} mode.
+     */
+    private long responseTimeoutMillis(Map<String, Object> spec, PathOperation pathOp) {
+        if (resourceMode == GeneratorConfig.ResourceMode.SYNC) {
+            return -1;
+        }
+        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> pathItem = paths != null ? Util.asStringObjectMap(paths.get(pathOp.path)) : null;
+        Map<String, Object> info = Util.asStringObjectMap(spec.get("info"));
+        for (Map<String, Object> node : Arrays.asList(pathOp.operation, pathItem, info)) {
+            if (node != null && node.containsKey("x-sla-response-time")) {
+                double millis = Util.parseMillis(node.get("x-sla-response-time"), -1);
+                return millis > 0 ? (long) Math.ceil(millis) : -1;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Generate resource method.
      *
+     * @param timeoutMillis response-time budget of an async method, -1 for none
      * @return true if the signature uses {@link List} and {@code import java.util.List} is required
      */
-    private boolean generateResourceMethod(String method, Map<String, Object> operation, String relativePath, StringBuilder content) throws GenerationException {
+    private boolean generateResourceMethod(PathOperation pathOp, String relativePath, long timeoutMillis, StringBuilder content) throws GenerationException {
+        String method = pathOp.method;
+        Map<String, Object> operation = pathOp.operation;
         String operationId = (String) operation.get("operationId");
         String summary = (String) operation.get("summary");
 
@@ -528,12 +656,24 @@ class JerseyResourceGenerator {
 
         content.append(generateActorAnnotationForOperation(operation));
 
+        StreamedCollection streamed = streamedCollection(operation, httpMethod + " " + pathOp.path);
+
         List<Map<String, Object>> params = Util.asStringObjectMapList(operation.get("parameters"));
         List<String> parameterList = new ArrayList<>();
+        List<String> serviceParameters = new ArrayList<>();
+        List<String> argumentNames = new ArrayList<>();
         boolean needsList = false;
 
+        if (streamed != null && streamed.itemType().contains("List<")) {
+            needsList = true;
+        }
+        if (resourceMode == GeneratorConfig.ResourceMode.ASYNC_RESPONSE && streamed == null) {
+            parameterList.add("@Suspended AsyncResponse asyncResponse");
+        }
         if (hasRequestBody) {
             parameterList.add("Object requestBody");
+            serviceParameters.add("Object requestBody");
+            argumentNames.add("requestBody");
         }
 
         if (params != null) {
@@ -563,12 +703,19 @@ class JerseyResourceGenerator {
                             javaType + " " + sanitizedName;
 
                     parameterList.add(paramBuilder);
+                    serviceParameters.add(javaType + " " + sanitizedName);
+                    argumentNames.add(sanitizedName);
                 }
             }
         }
 
         String methodName = (operationId != null && !operationId.isEmpty()) ? JerseyNamingUtils.toJavaMethodName(operationId) : method;
-        content.append("    public Response ").append(methodName).append("(");
+        String returnType = streamed != null ? "Response" : switch (resourceMode) {
+            case SYNC -> "Response";
+            case COMPLETION_STAGE -> "CompletionStage<Response>";
+            case ASYNC_RESPONSE -> "void";
+        };
+        content.append("    public ").append(returnType).append(" ").append(methodName).append("(");
         if (!parameterList.isEmpty()) {
             for (int i = 0; i < parameterList.size(); i++) {
                 if (i > 0) {
@@ -581,14 +728,130 @@ class JerseyResourceGenerator {
             content.append("\n        ");
         }
         content.append(") {\n");
-        content.append("        // Implementation placeholder for ").append(summary != null ? summary : method).append("\n");
-        content.append("        // Replace this with actual business logic implementation\n");
-        content.append("        return Response.ok().build();\n");
+        if (streamed != null) {
+            String serviceMethod = uniqueServiceMethodName(methodName);
+            serviceMethods.add(new ServiceMethod(serviceMethod, serviceParameters,
+                    httpMethod + " " + pathOp.path + (summary != null ? ": " + summary : ""), needsList, streamed.itemType()));
+            String call = "apiService." + serviceMethod + "(" + String.join(", ", argumentNames) + ")";
+            String output = streamed.wrapperProperty() != null
+                    ? "JsonStreamingOutput.wrapped(\"" + streamed.wrapperProperty() + "\", " + call + ")"
+                    : "JsonStreamingOutput.array(" + call + ")";
+            if (timeoutMillis > 0) {
+                // The 200 is committed before the stream is consumed, so a response timeout cannot apply
+                logger.warning("Ignoring x-sla-response-time on " + httpMethod + " " + pathOp.path
+                        + ": streamed responses are committed before their items are written");
+                content.append("        // x-sla-response-time (").append(timeoutMillis)
+                        .append(" ms) is not enforced: the response is committed before the stream is consumed\n");
+            }
+            content.append("        // Items are written to the response as the service stream yields them\n");
+            content.append("        return Response.ok(").append(output).append(", MediaType.APPLICATION_JSON_TYPE).build();\n");
+        } else if (resourceMode == GeneratorConfig.ResourceMode.SYNC) {
+            content.append("        // Implementation placeholder for ").append(summary != null ? summary : method).append("\n");
+            content.append("        // Replace this with actual business logic implementation\n");
+            content.append("        return Response.ok().build();\n");
+        } else {
+            String serviceMethod = uniqueServiceMethodName(methodName);
+            serviceMethods.add(new ServiceMethod(serviceMethod, serviceParameters,
+                    httpMethod + " " + pathOp.path + (summary != null ? ": " + summary : ""), needsList, null));
+            String call = "apiService." + serviceMethod + "(" + String.join(", ", argumentNames) + ")";
+            if (resourceMode == GeneratorConfig.ResourceMode.ASYNC_RESPONSE) {
+                if (timeoutMillis > 0) {
+                    timeUnitUsed = true;
+                    // x-sla-response-time: the suspended response resumes with 503 when it runs out
+                    content.append("        asyncResponse.setTimeout(").append(timeoutMillis).append(", TimeUnit.MILLISECONDS);\n");
+                }
+                content.append("        ").append(call)
+                        .append(".whenComplete((response, failure) -> resume(asyncResponse, response, failure));\n");
+            } else if (timeoutMillis > 0) {
+                timeUnitUsed = true;
+                // x-sla-response-time: the TimeoutException is mapped to 503 by GenericExceptionMapper
+                content.append("        return ").append(call).append("\n");
+                content.append("                .toCompletableFuture()\n");
+                content.append("                .orTimeout(").append(timeoutMillis).append(", TimeUnit.MILLISECONDS);\n");
+            } else {
+                content.append("        return ").append(call).append(";\n");
+            }
+        }
         content.append("    }\n\n");
 
         return needsList;
     }
 
+    /**
+     * The collection an operation's JSON success response is streamed as: a top-level array, or an object
+     * with a single array property of a component schema. Applies to operations with {@code x-streaming: true}
+     * and, when {@link GeneratorConfig#isStreamCollectionResponses()} is on, to every such operation that does
+     * not set {@code x-streaming: false}.
+     *
+     * @return the streamed collection, or null when the operation returns a regular entity
+     */
+    private StreamedCollection streamedCollection(Map<String, Object> operation, String description) {
+        Object flag = operation.get("x-streaming");
+        boolean optedIn = flag != null && Boolean.parseBoolean(String.valueOf(flag));
+        if (!optedIn && (flag != null || !streamCollectionResponses)) {
+            return null;
+        }
+        Map<String, Object> schema = JerseySchemaUtils.resolveRefInSchema(successJsonSchema(operation), ctx.spec);
+        if (schema != null && "array".equals(schema.get("type"))) {
+            Map<String, Object> items = Util.asStringObjectMap(schema.get("items"));
+            String itemType = items != null ? javaTypeResolver.apply(items) : null;
+            return new StreamedCollection(itemType != null ? itemType : "Object", null);
+        }
+        JerseySchemaUtils.ObjectWithSingleArrayInfo collection = JerseySchemaUtils.getObjectWithSingleArrayInfo(schema, ctx.spec);
+        if (collection != null) {
+            return new StreamedCollection(collection.itemTypeName, collection.innerPropertyName);
+        }
+        if (optedIn) {
+            logger.warning("Ignoring x-streaming on " + description
+                    + ": its success response is neither an array nor an object with a single array property");
+        }
+        return null;
+    }
+
+    /**
+     * Schema of the JSON body of the operation's 200 response, or of its first 2xx response.
+     */
+    private Map<String, Object> successJsonSchema(Map<String, Object> operation) {
+        Map<String, Object> responses = Util.asStringObjectMap(operation.get("responses"));
+        if (responses == null) {
+            return null;
+        }
+        Object success = responses.get("200");
+        if (success == null) {
+            success = responses.entrySet().stream()
+                    .filter(e -> e.getKey().startsWith("2"))
+                    .map(Map.Entry::getValue)
+                    .findFirst().orElse(null);
+        }
+        Map<String, Object> response = Util.asStringObjectMap(success);
+        if (response == null) {
+            return null;
+        }
+        Map<String, Object> content = Util.asStringObjectMap(resolveResponseRef(response, ctx.spec).get("content"));
+        if (content == null) {
+            return null;
+        }
+        for (Map.Entry<String, Object> media : content.entrySet()) {
+            if (media.getKey().toLowerCase(Locale.ROOT).contains("json")) {
+                Map<String, Object> mediaType = Util.asStringObjectMap(media.getValue());
+                return mediaType != null ? Util.asStringObjectMap(mediaType.get("schema")) : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Service method name for a resource method; resource classes may repeat a name (e.g. the {@code get}
+     * fallback for operations without operationId) that must stay unique in the single ApiService.
+     */
+    private String uniqueServiceMethodName(String methodName) {
+        String name = methodName;
+        for (int i = 2; !serviceMethodNames.add(name); i++) {
+            name = methodName + i;
+        }
+        return name;
+    }
+
     /**
      * Get parameter annotation based on parameter location.
      */
@@ -3,6 +3,7 @@ package egain.oassdk.generators.java;
 import egain.oassdk.Util;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Type-resolution and validation-annotation utilities for the Jersey generator.
@@ -12,11 +13,39 @@ public final class JerseyTypeUtils {
 
     private final JerseyGenerationContext ctx;
 
-    /** Visited set for getJavaType to prevent infinite recursion (identity-based cycle detection). */
-    private final Set<Object> javaTypeVisited = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * Per-thread recursion state for getJavaType, so one instance can resolve types from several
+     * model-rendering threads at once.
+     */
+    private final ThreadLocal<JavaTypeVisitState> javaTypeVisitState = ThreadLocal.withInitial(JavaTypeVisitState::new);
+
+    private static final class JavaTypeVisitState {
+        /** Visited set for getJavaType to prevent infinite recursion (identity-based cycle detection). */
+        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        /** Name-based visited set as a secondary guard against cycles through $ref resolution. */
+        final Set<String> visitedNames = new HashSet<>();
+    }
 
-    /** Name-based visited set as a secondary guard against cycles through $ref resolution. */
-    private final Set<String> javaTypeVisitedNames = new HashSet<>();
+    /**
+     * Memo of top-level getJavaType results, keyed by schema identity. Only used once the inlined-schema
+     * map is frozen (results depend on it) and only for outermost calls, whose results do not depend on
+     * the cycle-detection state. Shared by every sub-generator of a run, on any thread.
+     */
+    private final ConcurrentHashMap<SchemaKey, String> javaTypeMemo = new ConcurrentHashMap<>();
+
+    /** Identity-based map key for a schema object. */
+    private record SchemaKey(Object schema) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SchemaKey other && other.schema == schema;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(schema);
+        }
+    }
 
     /** Types that do not require a model import (primitives, java/javax types, current class). */
     private static final Set<String> MODEL_IMPORT_EXCLUDES = Set.of(
@@ -39,6 +68,19 @@ public final class JerseyTypeUtils {
             return "Object";
         }
 
+        JavaTypeVisitState state = javaTypeVisitState.get();
+        Set<Object> javaTypeVisited = state.visited;
+        Set<String> javaTypeVisitedNames = state.visitedNames;
+
+        // Outermost call on this thread: the result only depends on the schema, the spec and the inlined schemas
+        SchemaKey memoKey = javaTypeVisited.isEmpty() && ctx.isInlinedSchemasFrozen() ? new SchemaKey(schema) : null;
+        if (memoKey != null) {
+            String cached = javaTypeMemo.get(memoKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         // Cycle detection: identity-based for same object reference
         if (javaTypeVisited.contains(schema)) {
             return "Object"; // Return default to break cycle
@@ -55,7 +97,11 @@ public final class JerseyTypeUtils {
             javaTypeVisitedNames.add(schemaRef);
         }
         try {
-            return getJavaTypeInternal(schema);
+            String javaType = getJavaTypeInternal(schema);
+            if (memoKey != null) {
+                javaTypeMemo.putIfAbsent(memoKey, javaType);
+            }
+            return javaType;
         } finally {
             javaTypeVisited.remove(schema);
             if (schemaRef != null) {
@@ -124,6 +124,7 @@ class JerseyValidationGenerator {
 
                 import java.util.ArrayList;
                 import java.util.List;
+                import java.util.regex.Pattern;
 
                 import egain.framework.validation.ValidationError;
                 import egain.framework.validation.ValidationErrorHelper;
@@ -136,6 +137,7 @@ class JerseyValidationGenerator {
                 {
                     private final String parameterName;
                     private final String val;
+                    private final Pattern pattern;
                     private final String l10nKey;
                     private final List<String> arguments;
                     private final List<String> localizedArgs;
@@ -147,6 +149,8 @@ class JerseyValidationGenerator {
                     {
                         this.parameterName = parameterName;
                         this.val = val;
+                        // Compiled once per validator instance, not on every request
+                        this.pattern = Pattern.compile(val);
                         this.l10nKey = l10nKey;
                         this.arguments = new ArrayList<>(arguments);
                         this.localizedArgs = new ArrayList<>(localizedArguments);
@@ -166,7 +170,7 @@ class JerseyValidationGenerator {
                                 String[] items = input.split(",");
                                 for (String item : items)
                                 {
-                                    if (!Validations.matchesPattern.apply(item, this.val))
+                                    if (!pattern.matcher(item).matches())
                                     {
                                         return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
                                     }
@@ -174,7 +178,7 @@ class JerseyValidationGenerator {
                             }
                             else
                             {
-                                if (!Validations.matchesPattern.apply(input, this.val))
+                                if (!pattern.matcher(input).matches())
                                 {
                                     return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
                                 }
@@ -606,6 +610,7 @@ class JerseyValidationGenerator {
                 import java.util.ArrayList;
                 import java.util.Arrays;
                 import java.util.List;
+                import java.util.Set;
 
                 import egain.framework.validation.ValidationError;
                 import egain.framework.validation.ValidationErrorHelper;
@@ -618,6 +623,7 @@ class JerseyValidationGenerator {
                 {
                     private final String parameterName;
                     private final String enumValues;
+                    private final Set<String> allowedValues;
                     private final String l10nKey;
                     private final List<String> arguments;
                     private final List<String> localizedArgs;
@@ -629,6 +635,7 @@ class JerseyValidationGenerator {
                     {
                         this.parameterName = parameterName;
                         this.enumValues = enumValues;
+                        this.allowedValues = Set.copyOf(Arrays.asList(enumValues.split(",")));
                         this.l10nKey = l10nKey;
                         this.arguments = new ArrayList<>(arguments);
                         this.localizedArgs = new ArrayList<>(localizedArguments);
@@ -643,7 +650,6 @@ class JerseyValidationGenerator {
                             : Validations.getPathParameterValue.apply(val, parameterName);
                         if (input != null)
                         {
-                            List<String> allowedValues = Arrays.asList(enumValues.split(","));
                             if (isArray)
                             {
                                 String[] items = input.split(",");
@@ -767,6 +773,8 @@ class JerseyValidationGenerator {
                 {
                     private final String parameterName;
                     private final String format;
+                    private final Pattern formatPattern;
+                    private final boolean numericFormat;
                     private final String l10nKey;
                     private final List<String> arguments;
                     private final List<String> localizedArgs;
@@ -785,6 +793,8 @@ class JerseyValidationGenerator {
                     {
                         this.parameterName = parameterName;
                         this.format = format;
+                        this.formatPattern = getPatternForFormat(format);
+                        this.numericFormat = isNumericFormat(format);
                         this.l10nKey = l10nKey;
                         this.arguments = new ArrayList<>(arguments);
                         this.localizedArgs = new ArrayList<>(localizedArguments);
@@ -799,15 +809,14 @@ class JerseyValidationGenerator {
                             : Validations.getPathParameterValue.apply(val, parameterName);
                         if (input != null)
                         {
-                            Pattern pattern = getPatternForFormat(format);
-                            if (pattern != null)
+                            if (formatPattern != null)
                             {
                                 if (isArray)
                                 {
                                     String[] items = input.split(",");
                                     for (String item : items)
                                     {
-                                        if (!pattern.matcher(item.trim()).matches())
+                                        if (!formatPattern.matcher(item.trim()).matches())
                                         {
                                             return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
                                         }
@@ -815,13 +824,13 @@ class JerseyValidationGenerator {
                                 }
                                 else
                                 {
-                                    if (!pattern.matcher(input.trim()).matches())
+                                    if (!formatPattern.matcher(input.trim()).matches())
                                     {
                                         return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
                                     }
                                 }
                             }
-                            else if (isNumericFormat(format))
+                            else if (numericFormat)
                             {
                                 if (isArray)
                                 {
@@ -846,7 +855,7 @@ class JerseyValidationGenerator {
                         return null;
                     }
 
-                    private boolean isNumericFormat(String format)
+                    private static boolean isNumericFormat(String format)
                     {
                         if (format == null) return false;
                         String f = format.toLowerCase();
@@ -889,7 +898,7 @@ class JerseyValidationGenerator {
                         }
                     }
 
-                    private Pattern getPatternForFormat(String format)
+                    private static Pattern getPatternForFormat(String format)
                     {
                         if ("email".equalsIgnoreCase(format))
                         {
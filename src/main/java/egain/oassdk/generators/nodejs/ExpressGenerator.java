@@ -4,16 +4,17 @@ import egain.oassdk.Util;
 import egain.oassdk.config.GeneratorConfig;
 import egain.oassdk.config.ObservabilityConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.core.logging.LoggerConfig;
 import egain.oassdk.generators.CodeGenerator;
 import egain.oassdk.generators.ConfigurableGenerator;
 
 import java.io.File;
 import java.util.logging.Logger;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Paths;
 import java.util.*;
 
 /**
@@ -911,17 +912,10 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
     }
 
     /**
-     * Write content to file
+     * Write content to file (skipped when the file already has this content)
      */
     private void writeFile(String filePath, String content) throws IOException {
-        File file = new File(filePath);
-        boolean result = file.getParentFile().mkdirs();
-
-        logger.fine("Directory creation result: " + result);
-
-        try (FileWriter writer = new FileWriter(file)) {
-            writer.write(content);
-        }
+        GeneratedFiles.write(Paths.get(filePath), content);
     }
 
     /**
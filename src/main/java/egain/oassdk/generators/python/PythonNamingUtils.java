@@ -1,7 +1,7 @@
 package egain.oassdk.generators.python;
 
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import egain.oassdk.core.io.GeneratedFiles;
+
 import java.nio.file.Paths;
 import java.util.Locale;
 import java.util.Set;
@@ -178,7 +178,7 @@ public final class PythonNamingUtils {
     }
 
     public static void writeFile(String filePath, String content) throws java.io.IOException {
-        Files.write(Paths.get(filePath), content.getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(filePath), content);
     }
 
     public static void createInitFile(String dirPath) throws java.io.IOException {
@@ -7,6 +7,7 @@ import egain.oassdk.core.exceptions.GenerationException;
 import egain.oassdk.core.logging.LoggerConfig;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.logging.Logger;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -242,6 +243,11 @@ public class SLAProcessor {
         String monitoringController = generateSLAMonitoringController(spec, slaSpec);
         Files.write(Paths.get(outputDir, "SLAMonitoringController.java"), monitoringController.getBytes(StandardCharsets.UTF_8));
 
+        // Generate latency histogram, recorder filter and the route-template helper both filters share
+        Files.write(Paths.get(outputDir, "LatencyHistogram.java"), generateLatencyHistogram().getBytes(StandardCharsets.UTF_8));
+        Files.write(Paths.get(outputDir, "SLARecorderFilter.java"), generateSLARecorderFilter().getBytes(StandardCharsets.UTF_8));
+        Files.write(Paths.get(outputDir, "RouteTemplates.java"), generateRouteTemplates().getBytes(StandardCharsets.UTF_8));
+
         // Generate SLA configuration
         String slaConfig = generateSLAConfig(spec, slaSpec);
         Files.write(Paths.get(outputDir, "SLAConfig.java"), slaConfig.getBytes(StandardCharsets.UTF_8));
@@ -252,58 +258,115 @@ public class SLAProcessor {
     }
 
     /**
-     * Generate Java SLA validator
+     * Request limit of one operation, in requests per minute.
+     */
+    record RouteLimit(String method, String path, int requestsPerMinute) {
+    }
+
+    /**
+     * Per-operation request limits from {@code x-sla-rate-limit} on the operation, falling back to its path
+     * item and then to {@code info}; operations without any get {@code defaultLimit}.
+     */
+    static List<RouteLimit> collectRouteLimits(Map<String, Object> spec, int defaultLimit) {
+        List<RouteLimit> limits = new ArrayList<>();
+        Map<String, Object> paths = spec != null ? Util.asStringObjectMap(spec.get("paths")) : null;
+        if (paths == null) {
+            return limits;
+        }
+        for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
+            Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+            if (pathItem == null) {
+                continue;
+            }
+            int pathLimit = rateLimitOf(pathItem, defaultLimit);
+            for (String method : Constants.HTTP_METHODS) {
+                Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                if (operation != null) {
+                    limits.add(new RouteLimit(method.toUpperCase(), pathEntry.getKey(), rateLimitOf(operation, pathLimit)));
+                }
+            }
+        }
+        return limits;
+    }
+
+    private static int rateLimitOf(Map<String, Object> node, int fallback) {
+        Object value = node != null ? node.get("x-sla-rate-limit") : null;
+        return value instanceof Number number ? number.intValue() : fallback;
+    }
+
+    private static String javaString(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    /**
+     * Generate Java SLA validator.
+     *
+     * <p>The filter rate limits per route template and client with the limits of {@link #collectRouteLimits}.
+     * Counters are packed {@code long}s (window index and count) updated by CAS, held in a fixed number of
+     * shards per route with a per-shard capacity, and swept of idle clients as windows roll over.
      */
     private String generateJavaSLAValidator(Map<String, Object> spec, Map<String, Object> slaSpec) {
+        Map<String, Object> info = spec != null ? Util.asStringObjectMap(spec.get("info")) : null;
+        int defaultLimit = rateLimitOf(info, 1000);
+        StringBuilder routeLimits = new StringBuilder();
+        for (RouteLimit limit : collectRouteLimits(spec, defaultLimit)) {
+            routeLimits.append("        new RouteLimit(").append(javaString(limit.method())).append(", ")
+                    .append(javaString(limit.path())).append(", ").append(limit.requestsPerMinute()).append("),\n");
+        }
+
         return """
                 package com.example.sla;
 
                 import jakarta.inject.Singleton;
                 import jakarta.ws.rs.container.ContainerRequestContext;
                 import jakarta.ws.rs.container.ContainerRequestFilter;
-                import jakarta.ws.rs.ext.Provider;
                 import jakarta.ws.rs.core.Response;
+                import jakarta.ws.rs.ext.Provider;
                 import java.io.IOException;
                 import java.util.concurrent.ConcurrentHashMap;
+                import java.util.concurrent.atomic.AtomicInteger;
                 import java.util.concurrent.atomic.AtomicLong;
-                import java.util.concurrent.atomic.AtomicReference;
 
+                /**
+                 * Rate limits requests per route template and client with the limits declared in the OpenAPI spec
+                 * ({@code x-sla-rate-limit}, requests per minute, on the operation, its path item or {@code info}).
+                 *
+                 * <p>Each route keeps its clients in {@value #SHARDS} shards. A client's state is one {@code long}
+                 * packing the window index (high 32 bits) and the request count (low 32 bits), updated by CAS,
+                 * so counting a request allocates nothing. A shard holds at most {@value #MAX_CLIENTS_PER_SHARD}
+                 * clients; once the window rolls over, the first request in the shard removes clients that were
+                 * idle for a whole window. Clients arriving while a shard is full share its overflow counter.
+                 */
                 @Provider
                 @Singleton
                 public class SLAValidator implements ContainerRequestFilter {
 
                     private static final long WINDOW_MS = 60_000L;
-                    private static final long MAX_REQUESTS_PER_WINDOW = 1000L;
+                    private static final int DEFAULT_REQUESTS_PER_WINDOW = __DEFAULT_LIMIT__;
+                    private static final int SHARDS = 16;
+                    private static final int MAX_CLIENTS_PER_SHARD = 4096;
+                    private static final long COUNT_MASK = 0xFFFF_FFFFL;
 
-                    /**
-                     * Sliding window state holding the window start time and
-                     * the request count within that window. Immutable so it can
-                     * be swapped atomically via AtomicReference.
-                     */
-                    private static final class WindowState {
-                        final long windowStart;
-                        final long count;
+                    /** Limits per operation, from the OpenAPI spec this application was generated from. */
+                    private static final RouteLimit[] ROUTE_LIMITS = {
+                __ROUTE_LIMITS__    };
 
-                        WindowState(long windowStart, long count) {
-                            this.windowStart = windowStart;
-                            this.count = count;
-                        }
+                    private record RouteLimit(String method, String path, int requestsPerWindow) {
                     }
 
-                    private final ConcurrentHashMap<String, AtomicReference<WindowState>> windows =
-                            new ConcurrentHashMap<>();
+                    // Keyed by the matched ResourceMethod, or by the HTTP method string for requests that matched no resource
+                    private final ConcurrentHashMap<Object, RouteState> routes = new ConcurrentHashMap<>();
 
                     @Override
                     public void filter(ContainerRequestContext requestContext) throws IOException {
-                        String endpoint = requestContext.getUriInfo().getPath();
-                        String method = requestContext.getMethod();
-                        String key = method + ":" + endpoint;
+                        RouteState route = routeState(requestContext);
 
                         // Check rate limiting
-                        if (!checkRateLimit(key)) {
+                        if (!route.tryAcquire(clientKey(requestContext), System.currentTimeMillis() / WINDOW_MS)) {
                             requestContext.abortWith(
                                 Response.status(Response.Status.TOO_MANY_REQUESTS)
                                     .entity("Rate limit exceeded")
+                                    .header("Retry-After", String.valueOf(WINDOW_MS / 1000))
                                     .build()
                             );
                             return;
@@ -319,27 +382,46 @@ public class SLAProcessor {
                         }
                     }
 
-                    private boolean checkRateLimit(String key) {
-                        long now = System.currentTimeMillis();
-                        AtomicReference<WindowState> ref = windows.computeIfAbsent(key,
-                                k -> new AtomicReference<>(new WindowState(now, 0L)));
+                    private RouteState routeState(ContainerRequestContext requestContext) {
+                        Object key = RouteTemplates.operationKey(requestContext);
+                        RouteState state = routes.get(key);
+                        if (state == null) {
+                            String method = requestContext.getMethod();
+                            String route = RouteTemplates.routeTemplate(requestContext);
+                            state = routes.computeIfAbsent(key, k -> new RouteState(limitFor(method, route)));
+                        }
+                        return state;
+                    }
 
-                        // CAS loop: atomically increment count or reset window
-                        while (true) {
-                            WindowState current = ref.get();
-                            WindowState next;
-                            if (now - current.windowStart >= WINDOW_MS) {
-                                // Window expired -- start a new window with count = 1
-                                next = new WindowState(now, 1L);
-                            } else {
-                                // Same window -- increment count
-                                next = new WindowState(current.windowStart, current.count + 1);
-                            }
-                            if (ref.compareAndSet(current, next)) {
-                                return next.count <= MAX_REQUESTS_PER_WINDOW;
+                    /**
+                     * Limit of the spec operation matching the route; the longest matching path wins.
+                     */
+                    private static int limitFor(String method, String route) {
+                        RouteLimit best = null;
+                        for (RouteLimit limit : ROUTE_LIMITS) {
+                            if (limit.method().equalsIgnoreCase(method) && RouteTemplates.matches(route, limit.path())
+                                    && (best == null || limit.path().length() > best.path().length())) {
+                                best = limit;
                             }
-                            // CAS failed, another thread updated; retry
                         }
+                        return best != null ? best.requestsPerWindow() : DEFAULT_REQUESTS_PER_WINDOW;
+                    }
+
+                    private static String clientKey(ContainerRequestContext requestContext) {
+                        String apiKey = requestContext.getHeaderString("X-API-Key");
+                        if (apiKey != null && !apiKey.isEmpty()) {
+                            return apiKey;
+                        }
+                        String xForwardedFor = requestContext.getHeaderString("X-Forwarded-For");
+                        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+                            int comma = xForwardedFor.indexOf(',');
+                            return (comma < 0 ? xForwardedFor : xForwardedFor.substring(0, comma)).trim();
+                        }
+                        String xRealIP = requestContext.getHeaderString("X-Real-IP");
+                        if (xRealIP != null && !xRealIP.isEmpty()) {
+                            return xRealIP;
+                        }
+                        return "anonymous";
                     }
 
                     private boolean checkSLARequirements(ContainerRequestContext requestContext) {
@@ -347,14 +429,416 @@ public class SLAProcessor {
                         // Check response time, availability, etc.
                         return true;
                     }
+
+                    /**
+                     * Counters of one route.
+                     */
+                    private static final class RouteState {
+                        private final int limit;
+                        private final Shard[] shards = new Shard[SHARDS];
+
+                        RouteState(int limit) {
+                            this.limit = limit;
+                            for (int i = 0; i < SHARDS; i++) {
+                                shards[i] = new Shard();
+                            }
+                        }
+
+                        boolean tryAcquire(String client, long window) {
+                            int hash = client.hashCode();
+                            Shard shard = shards[(hash ^ (hash >>> 16)) & (SHARDS - 1)];
+                            shard.sweepIfDue(window);
+                            return acquire(shard.counterFor(client), window, limit);
+                        }
+
+                        private static boolean acquire(AtomicLong counter, long window, int limit) {
+                            while (true) {
+                                long current = counter.get();
+                                long count = (current >>> 32) == window ? current & COUNT_MASK : 0;
+                                if (count >= limit) {
+                                    return false;
+                                }
+                                if (counter.compareAndSet(current, (window << 32) | (count + 1))) {
+                                    return true;
+                                }
+                            }
+                        }
+                    }
+
+                    /**
+                     * Clients of one route that hash to the same shard.
+                     */
+                    private static final class Shard {
+                        private final ConcurrentHashMap<String, AtomicLong> clients = new ConcurrentHashMap<>();
+                        private final AtomicInteger size = new AtomicInteger();
+                        private final AtomicLong overflow = new AtomicLong();
+                        private final AtomicLong sweptWindow = new AtomicLong();
+
+                        AtomicLong counterFor(String client) {
+                            AtomicLong counter = clients.get(client);
+                            if (counter != null) {
+                                return counter;
+                            }
+                            if (size.incrementAndGet() > MAX_CLIENTS_PER_SHARD) {
+                                size.decrementAndGet();
+                                return overflow;
+                            }
+                            AtomicLong created = new AtomicLong();
+                            counter = clients.putIfAbsent(client, created);
+                            if (counter != null) {
+                                size.decrementAndGet();
+                                return counter;
+                            }
+                            return created;
+                        }
+
+                        /**
+                         * Once per window, drop clients with no request in the previous window: their counters
+                         * would reset on the next request anyway.
+                         */
+                        void sweepIfDue(long window) {
+                            long swept = sweptWindow.get();
+                            if (swept >= window || !sweptWindow.compareAndSet(swept, window)) {
+                                return;
+                            }
+                            clients.entrySet().removeIf(entry -> {
+                                if ((entry.getValue().get() >>> 32) < window - 1) {
+                                    size.decrementAndGet();
+                                    return true;
+                                }
+                                return false;
+                            });
+                        }
+                    }
+                }
+                """
+                .replace("__DEFAULT_LIMIT__", String.valueOf(defaultLimit))
+                .replace("__ROUTE_LIMITS__", routeLimits.toString());
+    }
+
+    /**
+     * Latency targets of one operation in milliseconds; -1 where no target is set.
+     */
+    record LatencyTarget(String method, String path, double p50Ms, double p95Ms, double p99Ms, double p999Ms) {
+        boolean hasAny() {
+            return p50Ms >= 0 || p95Ms >= 0 || p99Ms >= 0 || p999Ms >= 0;
+        }
+    }
+
+    private static final String[] PERCENTILE_EXTENSIONS = {"x-sla-p50", "x-sla-p95", "x-sla-p99", "x-sla-p999"};
+
+    /**
+     * Default latency targets from the SLA spec ({@code sla.requirements.performance.response_time}, keys
+     * {@code p50}, {@code p95}, {@code p99} and {@code p99.9}), overridden by {@code x-sla-p50} ... {@code x-sla-p999}
+     * on the OpenAPI {@code info}.
+     */
+    static LatencyTarget defaultLatencyTarget(Map<String, Object> spec, Map<String, Object> slaSpec) {
+        double[] targets = {-1, -1, -1, -1};
+        Map<String, Object> responseTime = slaSpec != null ? Util.asStringObjectMap(slaSpec.get("sla")) : null;
+        for (String key : new String[]{"requirements", "performance", "response_time"}) {
+            responseTime = responseTime != null ? Util.asStringObjectMap(responseTime.get(key)) : null;
+        }
+        if (responseTime != null) {
+            String[] keys = {"p50", "p95", "p99", "p99.9"};
+            for (int i = 0; i < keys.length; i++) {
+                Object value = responseTime.containsKey(keys[i]) ? responseTime.get(keys[i]) : responseTime.get(keys[i].replace(".", ""));
+                targets[i] = Util.parseMillis(value, targets[i]);
+            }
+        }
+        Map<String, Object> info = spec != null ? Util.asStringObjectMap(spec.get("info")) : null;
+        applyLatencyExtensions(info, targets);
+        return new LatencyTarget("", "", targets[0], targets[1], targets[2], targets[3]);
+    }
+
+    /**
+     * Latency targets of every operation with {@code x-sla-p50} ... {@code x-sla-p999} on the operation or its
+     * path item; unset percentiles fall back to {@code defaults}. Operations without any extension are left out.
+     */
+    static List<LatencyTarget> collectLatencyTargets(Map<String, Object> spec, LatencyTarget defaults) {
+        List<LatencyTarget> targets = new ArrayList<>();
+        Map<String, Object> paths = spec != null ? Util.asStringObjectMap(spec.get("paths")) : null;
+        if (paths == null) {
+            return targets;
+        }
+        double[] fallback = {defaults.p50Ms(), defaults.p95Ms(), defaults.p99Ms(), defaults.p999Ms()};
+        for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
+            Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+            if (pathItem == null) {
+                continue;
+            }
+            double[] pathTargets = fallback.clone();
+            boolean pathHasTargets = applyLatencyExtensions(pathItem, pathTargets);
+            for (String method : Constants.HTTP_METHODS) {
+                Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                if (operation == null) {
+                    continue;
+                }
+                double[] operationTargets = pathTargets.clone();
+                if (applyLatencyExtensions(operation, operationTargets) || pathHasTargets) {
+                    targets.add(new LatencyTarget(method.toUpperCase(), pathEntry.getKey(), operationTargets[0],
+                            operationTargets[1], operationTargets[2], operationTargets[3]));
+                }
+            }
+        }
+        return targets;
+    }
+
+    private static boolean applyLatencyExtensions(Map<String, Object> node, double[] targets) {
+        boolean applied = false;
+        if (node == null) {
+            return false;
+        }
+        for (int i = 0; i < PERCENTILE_EXTENSIONS.length; i++) {
+            if (node.containsKey(PERCENTILE_EXTENSIONS[i])) {
+                targets[i] = Util.parseMillis(node.get(PERCENTILE_EXTENSIONS[i]), targets[i]);
+                applied = true;
+            }
+        }
+        return applied;
+    }
+
+    private static String latencyTargetArgs(LatencyTarget target) {
+        return target.p50Ms() + ", " + target.p95Ms() + ", " + target.p99Ms() + ", " + target.p999Ms();
+    }
+
+    /**
+     * Generate the latency histogram used by the SLA monitoring controller.
+     */
+    private String generateLatencyHistogram() {
+        return """
+                package com.example.sla;
+
+                import java.lang.invoke.MethodHandles;
+                import java.lang.invoke.VarHandle;
+                import java.util.concurrent.atomic.AtomicLongArray;
+
+                /**
+                 * Fixed-memory, lock-free latency histogram with log-linear buckets.
+                 *
+                 * <p>Values (microseconds) below 16 get a bucket each; above that every power of two is split into
+                 * 16 equal buckets, so a value is reported with at most 1/16 relative error. Values up to 2^36
+                 * microseconds (about 19 hours) take {@value #BUCKETS} counters; larger ones land in the last bucket.
+                 * Recording is one atomic increment, and histograms merge by adding their counters.
+                 */
+                public final class LatencyHistogram {
+
+                    private static final int SUB_BUCKET_BITS = 4;
+                    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+                    private static final long MAX_VALUE = (1L << 36) - 1;
+                    public static final int BUCKETS = 528;
+
+                    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+                    public void record(long micros) {
+                        counts.incrementAndGet(bucketIndex(micros));
+                    }
+
+                    /**
+                     * Adds this histogram's counts to {@code merged}, an array of {@link #BUCKETS} counters.
+                     */
+                    public void addTo(long[] merged) {
+                        for (int i = 0; i < BUCKETS; i++) {
+                            merged[i] += counts.get(i);
+                        }
+                    }
+
+                    public void clear() {
+                        for (int i = 0; i < BUCKETS; i++) {
+                            counts.set(i, 0);
+                        }
+                    }
+
+                    /**
+                     * Value at the given percentile (0-100] of merged counts, as the highest value of its bucket;
+                     * 0 when nothing was recorded.
+                     */
+                    public static long percentile(long[] merged, double percentile) {
+                        long total = count(merged);
+                        if (total == 0) {
+                            return 0;
+                        }
+                        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+                        long seen = 0;
+                        for (int i = 0; i < merged.length; i++) {
+                            seen += merged[i];
+                            if (seen >= rank) {
+                                return highestValue(i);
+                            }
+                        }
+                        return MAX_VALUE;
+                    }
+
+                    public static long count(long[] merged) {
+                        long total = 0;
+                        for (long bucket : merged) {
+                            total += bucket;
+                        }
+                        return total;
+                    }
+
+                    static int bucketIndex(long micros) {
+                        long value = Math.min(Math.max(micros, 0), MAX_VALUE);
+                        if (value < SUB_BUCKETS) {
+                            return (int) value;
+                        }
+                        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+                        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+                    }
+
+                    static long highestValue(int index) {
+                        if (index < SUB_BUCKETS) {
+                            return index;
+                        }
+                        int shift = index / SUB_BUCKETS - 1;
+                        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+                        return lowest + (1L << shift) - 1;
+                    }
+
+                    /**
+                     * Rolling window made of a ring of histograms, one per time slot. A slot is cleared by the first
+                     * recorder that reaches it in a new period; samples racing with that clear may be lost.
+                     */
+                    public static final class Rolling {
+                        private static final VarHandle PERIOD = MethodHandles.arrayElementVarHandle(long[].class);
+                        private static final long UNUSED = Long.MIN_VALUE;
+
+                        private final long slotNanos;
+                        private final LatencyHistogram[] slots;
+                        private final long[] slotPeriods;
+
+                        public Rolling(int slotCount, long slotNanos) {
+                            this.slotNanos = slotNanos;
+                            this.slots = new LatencyHistogram[slotCount];
+                            this.slotPeriods = new long[slotCount];
+                            for (int i = 0; i < slotCount; i++) {
+                                slots[i] = new LatencyHistogram();
+                                slotPeriods[i] = UNUSED;
+                            }
+                        }
+
+                        /**
+                         * Records a value; returns true when this call started a new slot.
+                         */
+                        public boolean record(long micros, long nowNanos) {
+                            long period = Math.floorDiv(nowNanos, slotNanos);
+                            int index = (int) Math.floorMod(period, (long) slots.length);
+                            boolean started = false;
+                            long seen = (long) PERIOD.getVolatile(slotPeriods, index);
+                            if (seen != period && (seen == UNUSED || seen < period)
+                                    && PERIOD.compareAndSet(slotPeriods, index, seen, period)) {
+                                slots[index].clear();
+                                started = true;
+                            }
+                            slots[index].record(micros);
+                            return started;
+                        }
+
+                        /**
+                         * Merged counts of the slots that fall inside the window ending now.
+                         */
+                        public long[] snapshot(long nowNanos) {
+                            long[] merged = new long[BUCKETS];
+                            long period = Math.floorDiv(nowNanos, slotNanos);
+                            for (int i = 0; i < slots.length; i++) {
+                                long slotPeriod = (long) PERIOD.getVolatile(slotPeriods, i);
+                                if (slotPeriod != UNUSED && period - slotPeriod < slots.length) {
+                                    slots[i].addTo(merged);
+                                }
+                            }
+                            return merged;
+                        }
+                    }
+                }
+                """;
+    }
+
+    /**
+     * Generate the route-template helper shared by the generated SLA filters, from the same runtime template the
+     * Jersey observability filters are generated from.
+     */
+    private String generateRouteTemplates() throws IOException {
+        String resourcePath = "runtime/jersey/observability/RouteTemplates.java";
+        try (InputStream in = SLAProcessor.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            if (in == null) {
+                throw new IOException("Missing runtime resource on classpath: " + resourcePath);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8)
+                    .replace("__PACKAGE__.observability", "com.example.sla")
+                    .replace("__WS_NS__", "jakarta.ws.rs");
+        }
+    }
+
+    /**
+     * Generate the filter feeding request latencies into the SLA monitoring controller.
+     */
+    private String generateSLARecorderFilter() {
+        return """
+                package com.example.sla;
+
+                import jakarta.inject.Singleton;
+                import jakarta.ws.rs.container.ContainerRequestContext;
+                import jakarta.ws.rs.container.ContainerRequestFilter;
+                import jakarta.ws.rs.container.ContainerResponseContext;
+                import jakarta.ws.rs.container.ContainerResponseFilter;
+                import jakarta.ws.rs.ext.Provider;
+                import java.io.IOException;
+                import java.util.concurrent.ConcurrentHashMap;
+
+                /**
+                 * Times every request and records it with {@link SLAMonitoringController} under its route template.
+                 * Operation handles are resolved once per matched resource method.
+                 */
+                @Provider
+                @Singleton
+                public class SLARecorderFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+                    private static final String START_TIME_PROPERTY = "sla.startTime";
+
+                    private final ConcurrentHashMap<Object, SLAMonitoringController.OperationStats> operations =
+                            new ConcurrentHashMap<>();
+
+                    @Override
+                    public void filter(ContainerRequestContext requestContext) throws IOException {
+                        requestContext.setProperty(START_TIME_PROPERTY, System.nanoTime());
+                    }
+
+                    @Override
+                    public void filter(ContainerRequestContext requestContext,
+                                       ContainerResponseContext responseContext) throws IOException {
+                        if (requestContext.getProperty(START_TIME_PROPERTY) instanceof Long startTime) {
+                            operationStats(requestContext).record(System.nanoTime() - startTime, responseContext.getStatus() >= 400);
+                        }
+                    }
+
+                    private SLAMonitoringController.OperationStats operationStats(ContainerRequestContext requestContext) {
+                        Object key = RouteTemplates.operationKey(requestContext);
+                        SLAMonitoringController.OperationStats stats = operations.get(key);
+                        if (stats == null) {
+                            String method = requestContext.getMethod();
+                            String route = RouteTemplates.routeTemplate(requestContext);
+                            stats = operations.computeIfAbsent(key, k -> SLAMonitoringController.operation(method, route));
+                        }
+                        return stats;
+                    }
                 }
                 """;
     }
 
     /**
-     * Generate SLA monitoring controller
+     * Generate SLA monitoring controller.
+     *
+     * <p>Latency is recorded per operation into {@code LatencyHistogram} rolling windows (1 and 5 minutes), and
+     * p50/p95/p99/p99.9 are checked against the targets of {@link #defaultLatencyTarget} and
+     * {@link #collectLatencyTargets} whenever a window slot rolls over and whenever metrics are read.
      */
     private String generateSLAMonitoringController(Map<String, Object> spec, Map<String, Object> slaSpec) {
+        LatencyTarget defaults = defaultLatencyTarget(spec, slaSpec);
+        StringBuilder latencyTargets = new StringBuilder();
+        for (LatencyTarget target : collectLatencyTargets(spec, defaults)) {
+            latencyTargets.append("        new LatencyTarget(").append(javaString(target.method())).append(", ")
+                    .append(javaString(target.path())).append(", ").append(latencyTargetArgs(target)).append("),\n");
+        }
+
         return """
                 package com.example.sla;
 
@@ -362,28 +846,84 @@ public class SLAProcessor {
                 import jakarta.ws.rs.core.MediaType;
                 import jakarta.ws.rs.core.Response;
                 import jakarta.inject.Singleton;
-                import java.util.HashMap;
+                import java.util.ArrayList;
+                import java.util.LinkedHashMap;
+                import java.util.List;
                 import java.util.Map;
+                import java.util.TreeMap;
                 import java.util.concurrent.ConcurrentHashMap;
+                import java.util.concurrent.TimeUnit;
                 import java.util.concurrent.atomic.AtomicLong;
+                import java.util.logging.Logger;
 
+                /**
+                 * SLA status and latency metrics.
+                 *
+                 * <p>{@link SLARecorderFilter} records every request per operation (route template) into lock-free
+                 * {@link LatencyHistogram} rolling windows of 1 minute (six 10 s slots) and 5 minutes (five 1 min slots).
+                 * {@code /sla/metrics} reports p50, p95, p99 and p99.9 per operation and overall. Percentile targets from
+                 * the SLA spec and {@code x-sla-p50} ... {@code x-sla-p999} are checked against the 1 minute window each
+                 * time a slot rolls over and whenever metrics are read; breaches are logged when they start and end.
+                 * State is static so every controller and filter instance shares it.
+                 */
                 @Path("/sla")
                 @Produces(MediaType.APPLICATION_JSON)
                 @Singleton
                 public class SLAMonitoringController {
 
-                    private final long startTimeMillis = System.currentTimeMillis();
+                    private static final Logger logger = Logger.getLogger(SLAMonitoringController.class.getName());
 
-                    // Real counters for instrumentation
-                    private final AtomicLong totalRequests = new AtomicLong(0);
-                    private final AtomicLong errorCount = new AtomicLong(0);
-                    private final AtomicLong totalResponseTimeNanos = new AtomicLong(0);
+                    private static final double[] PERCENTILES = {50.0, 95.0, 99.0, 99.9};
+                    private static final String[] PERCENTILE_NAMES = {"p50", "p95", "p99", "p99.9"};
+                    private static final long SHORT_SLOT_NANOS = TimeUnit.SECONDS.toNanos(10);
+                    private static final long LONG_SLOT_NANOS = TimeUnit.MINUTES.toNanos(1);
 
-                    // Per-endpoint tracking
-                    private final ConcurrentHashMap<String, AtomicLong> endpointRequests =
-                            new ConcurrentHashMap<>();
-                    private final ConcurrentHashMap<String, AtomicLong> endpointResponseTimeNanos =
-                            new ConcurrentHashMap<>();
+                    /** Latency targets in milliseconds (p50, p95, p99, p99.9; -1 = none) from the SLA and OpenAPI specs. */
+                    private static final LatencyTarget DEFAULT_TARGET = new LatencyTarget("", "", __DEFAULT_TARGET__);
+                    private static final LatencyTarget[] LATENCY_TARGETS = {
+                __LATENCY_TARGETS__    };
+
+                    private static final long START_TIME_MILLIS = System.currentTimeMillis();
+
+                    // Totals across operations
+                    private static final AtomicLong TOTAL_REQUESTS = new AtomicLong();
+                    private static final AtomicLong ERROR_COUNT = new AtomicLong();
+                    private static final AtomicLong TOTAL_RESPONSE_TIME_NANOS = new AtomicLong();
+
+                    // Keyed by "METHOD /route/template"
+                    private static final ConcurrentHashMap<String, OperationStats> OPERATIONS = new ConcurrentHashMap<>();
+
+                    private record LatencyTarget(String method, String path, double p50Ms, double p95Ms, double p99Ms, double p999Ms) {
+                        double forPercentile(int index) {
+                            return switch (index) {
+                                case 0 -> p50Ms;
+                                case 1 -> p95Ms;
+                                case 2 -> p99Ms;
+                                default -> p999Ms;
+                            };
+                        }
+                    }
+
+                    /**
+                     * Handle for recording one operation; resolve it once and keep it.
+                     */
+                    public static OperationStats operation(String method, String route) {
+                        String key = method + " " + route;
+                        OperationStats stats = OPERATIONS.get(key);
+                        return stats != null ? stats
+                                : OPERATIONS.computeIfAbsent(key, k -> new OperationStats(k, targetFor(method, route)));
+                    }
+
+                    private static LatencyTarget targetFor(String method, String route) {
+                        LatencyTarget best = null;
+                        for (LatencyTarget target : LATENCY_TARGETS) {
+                            if (target.method().equalsIgnoreCase(method) && RouteTemplates.matches(route, target.path())
+                                    && (best == null || target.path().length() > best.path().length())) {
+                                best = target;
+                            }
+                        }
+                        return best != null ? best : DEFAULT_TARGET;
+                    }
 
                     /**
                      * Record a completed request for metrics tracking.
@@ -392,37 +932,40 @@ public class SLAProcessor {
                      * @param isError        true if the response was an error (4xx/5xx)
                      */
                     public void recordRequest(long responseTimeMs, boolean isError) {
-                        totalRequests.incrementAndGet();
-                        totalResponseTimeNanos.addAndGet(responseTimeMs * 1_000_000L);
-                        if (isError) {
-                            errorCount.incrementAndGet();
-                        }
+                        recordTotals(TimeUnit.MILLISECONDS.toNanos(responseTimeMs), isError);
                     }
 
                     /**
                      * Record a completed request with endpoint detail.
                      *
-                     * @param endpoint       the request path
+                     * @param endpoint       the operation, e.g. {@code GET /items/{id}}
                      * @param responseTimeMs response time in milliseconds
                      * @param isError        true if the response was an error
                      */
                     public void recordRequest(String endpoint, long responseTimeMs, boolean isError) {
-                        recordRequest(responseTimeMs, isError);
-                        endpointRequests.computeIfAbsent(endpoint, k -> new AtomicLong(0)).incrementAndGet();
-                        endpointResponseTimeNanos.computeIfAbsent(endpoint, k -> new AtomicLong(0))
-                                .addAndGet(responseTimeMs * 1_000_000L);
+                        OPERATIONS.computeIfAbsent(endpoint, k -> new OperationStats(k, DEFAULT_TARGET))
+                                .record(TimeUnit.MILLISECONDS.toNanos(responseTimeMs), isError);
+                    }
+
+                    private static void recordTotals(long durationNanos, boolean isError) {
+                        TOTAL_REQUESTS.incrementAndGet();
+                        TOTAL_RESPONSE_TIME_NANOS.addAndGet(durationNanos);
+                        if (isError) {
+                            ERROR_COUNT.incrementAndGet();
+                        }
                     }
 
                     @GET
                     @Path("/status")
                     public Response getSLAStatus() {
-                        Map<String, Object> status = new HashMap<>();
+                        Map<String, Object> status = new LinkedHashMap<>();
                         status.put("status", "healthy");
                         status.put("timestamp", System.currentTimeMillis());
                         status.put("uptime", getUptime());
                         status.put("responseTime", getAverageResponseTime());
                         status.put("errorRate", getErrorRate());
-                        status.put("totalRequests", totalRequests.get());
+                        status.put("totalRequests", TOTAL_REQUESTS.get());
+                        status.put("slaCompliant", evaluateAll(System.nanoTime()).isEmpty());
 
                         return Response.ok(status).build();
                     }
@@ -430,36 +973,95 @@ public class SLAProcessor {
                     @GET
                     @Path("/metrics")
                     public Response getMetrics() {
-                        Map<String, Object> metrics = new HashMap<>();
+                        long now = System.nanoTime();
+                        Map<String, Object> metrics = new LinkedHashMap<>();
                         metrics.put("requestsPerSecond", getRequestsPerSecond());
                         metrics.put("averageResponseTime", getAverageResponseTime());
                         metrics.put("errorRate", getErrorRate());
                         metrics.put("availability", getAvailability());
-                        metrics.put("totalRequests", totalRequests.get());
-                        metrics.put("totalErrors", errorCount.get());
-                        metrics.put("endpointRequests", new HashMap<>(endpointRequests));
+                        metrics.put("totalRequests", TOTAL_REQUESTS.get());
+                        metrics.put("totalErrors", ERROR_COUNT.get());
+
+                        // Overall percentiles merge every operation's histograms
+                        long[] shortWindow = new long[LatencyHistogram.BUCKETS];
+                        long[] longWindow = new long[LatencyHistogram.BUCKETS];
+                        Map<String, Object> operations = new TreeMap<>();
+                        Map<String, Long> endpointRequests = new TreeMap<>();
+                        boolean compliant = true;
+                        for (OperationStats stats : OPERATIONS.values()) {
+                            long[] shortCounts = stats.shortWindow.snapshot(now);
+                            long[] longCounts = stats.longWindow.snapshot(now);
+                            merge(shortWindow, shortCounts);
+                            merge(longWindow, longCounts);
+                            // One evaluation per operation, so a read logs at most one breach or recovery
+                            List<String> breaches = stats.evaluate(shortCounts);
+                            compliant &= breaches.isEmpty();
+                            operations.put(stats.key, stats.describe(shortCounts, longCounts, breaches));
+                            endpointRequests.put(stats.key, stats.requests.get());
+                        }
+                        metrics.put("latency", windows(shortWindow, longWindow));
+                        metrics.put("endpointRequests", endpointRequests);
+                        metrics.put("operations", operations);
+                        metrics.put("slaCompliant", compliant);
 
                         return Response.ok(metrics).build();
                     }
 
+                    private static Map<String, List<String>> evaluateAll(long now) {
+                        Map<String, List<String>> breaches = new TreeMap<>();
+                        for (OperationStats stats : OPERATIONS.values()) {
+                            List<String> operationBreaches = stats.evaluate(stats.shortWindow.snapshot(now));
+                            if (!operationBreaches.isEmpty()) {
+                                breaches.put(stats.key, operationBreaches);
+                            }
+                        }
+                        return breaches;
+                    }
+
+                    private static void merge(long[] into, long[] counts) {
+                        for (int i = 0; i < into.length; i++) {
+                            into[i] += counts[i];
+                        }
+                    }
+
+                    private static Map<String, Object> windows(long[] shortCounts, long[] longCounts) {
+                        Map<String, Object> windows = new LinkedHashMap<>();
+                        windows.put("1m", percentiles(shortCounts));
+                        windows.put("5m", percentiles(longCounts));
+                        return windows;
+                    }
+
+                    private static Map<String, Object> percentiles(long[] counts) {
+                        Map<String, Object> result = new LinkedHashMap<>();
+                        result.put("count", LatencyHistogram.count(counts));
+                        for (int i = 0; i < PERCENTILES.length; i++) {
+                            result.put(PERCENTILE_NAMES[i], percentileMillis(counts, i));
+                        }
+                        return result;
+                    }
+
+                    private static double percentileMillis(long[] counts, int index) {
+                        return LatencyHistogram.percentile(counts, PERCENTILES[index]) / 1000.0;
+                    }
+
                     private long getUptime() {
-                        return System.currentTimeMillis() - startTimeMillis;
+                        return System.currentTimeMillis() - START_TIME_MILLIS;
                     }
 
                     private double getAverageResponseTime() {
-                        long count = totalRequests.get();
+                        long count = TOTAL_REQUESTS.get();
                         if (count == 0) {
                             return 0.0;
                         }
-                        return (totalResponseTimeNanos.get() / 1_000_000.0) / count;
+                        return (TOTAL_RESPONSE_TIME_NANOS.get() / 1_000_000.0) / count;
                     }
 
                     private double getErrorRate() {
-                        long count = totalRequests.get();
+                        long count = TOTAL_REQUESTS.get();
                         if (count == 0) {
                             return 0.0;
                         }
-                        return (double) errorCount.get() / count;
+                        return (double) ERROR_COUNT.get() / count;
                     }
 
                     private double getRequestsPerSecond() {
@@ -467,18 +1069,90 @@ public class SLAProcessor {
                         if (uptimeSeconds == 0) {
                             return 0.0;
                         }
-                        return (double) totalRequests.get() / uptimeSeconds;
+                        return (double) TOTAL_REQUESTS.get() / uptimeSeconds;
                     }
 
                     private double getAvailability() {
-                        long count = totalRequests.get();
+                        long count = TOTAL_REQUESTS.get();
                         if (count == 0) {
                             return 100.0;
                         }
-                        return (1.0 - (double) errorCount.get() / count) * 100.0;
+                        return (1.0 - (double) ERROR_COUNT.get() / count) * 100.0;
+                    }
+
+                    /**
+                     * Counters, latency windows and target state of one operation.
+                     */
+                    public static final class OperationStats {
+                        private final String key;
+                        private final LatencyTarget target;
+                        private final AtomicLong requests = new AtomicLong();
+                        private final AtomicLong errors = new AtomicLong();
+                        private final LatencyHistogram.Rolling shortWindow = new LatencyHistogram.Rolling(6, SHORT_SLOT_NANOS);
+                        private final LatencyHistogram.Rolling longWindow = new LatencyHistogram.Rolling(5, LONG_SLOT_NANOS);
+                        private volatile List<String> breaches = List.of();
+
+                        private OperationStats(String key, LatencyTarget target) {
+                            this.key = key;
+                            this.target = target;
+                        }
+
+                        public void record(long durationNanos, boolean isError) {
+                            long now = System.nanoTime();
+                            long micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+                            recordTotals(durationNanos, isError);
+                            requests.incrementAndGet();
+                            if (isError) {
+                                errors.incrementAndGet();
+                            }
+                            longWindow.record(micros, now);
+                            if (shortWindow.record(micros, now)) {
+                                // A new slot started: re-check the targets against the last minute
+                                evaluate(shortWindow.snapshot(now));
+                            }
+                        }
+
+                        List<String> evaluate(long[] shortCounts) {
+                            List<String> current = new ArrayList<>();
+                            if (LatencyHistogram.count(shortCounts) > 0) {
+                                for (int i = 0; i < PERCENTILES.length; i++) {
+                                    double targetMs = target.forPercentile(i);
+                                    double actualMs = percentileMillis(shortCounts, i);
+                                    if (targetMs >= 0 && actualMs > targetMs) {
+                                        current.add(PERCENTILE_NAMES[i] + " " + actualMs + "ms > " + targetMs + "ms");
+                                    }
+                                }
+                            }
+                            List<String> previous = breaches;
+                            breaches = List.copyOf(current);
+                            if (previous.isEmpty() && !current.isEmpty()) {
+                                logger.warning("SLA latency target breached for " + key + ": " + current);
+                            } else if (!previous.isEmpty() && current.isEmpty()) {
+                                logger.info("SLA latency targets met again for " + key);
+                            }
+                            return breaches;
+                        }
+
+                        private Map<String, Object> describe(long[] shortCounts, long[] longCounts, List<String> breaches) {
+                            Map<String, Object> description = new LinkedHashMap<>();
+                            description.put("requests", requests.get());
+                            description.put("errors", errors.get());
+                            description.put("latency", windows(shortCounts, longCounts));
+                            Map<String, Object> targets = new LinkedHashMap<>();
+                            for (int i = 0; i < PERCENTILES.length; i++) {
+                                if (target.forPercentile(i) >= 0) {
+                                    targets.put(PERCENTILE_NAMES[i], target.forPercentile(i));
+                                }
+                            }
+                            description.put("targets", targets);
+                            description.put("breaches", breaches);
+                            return description;
+                        }
                     }
                 }
-                """;
+                """
+                .replace("__DEFAULT_TARGET__", latencyTargetArgs(defaults))
+                .replace("__LATENCY_TARGETS__", latencyTargets.toString());
     }
 
     /**
@@ -4,6 +4,7 @@ import egain.oassdk.Util;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.Constants;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.testgenerators.common.TestCodegenSupport;
 import egain.oassdk.testgenerators.common.TestMavenSupport;
 import egain.oassdk.testgenerators.common.TestOutputLayout;
@@ -122,7 +123,7 @@ public class IntegrationTestGenerator implements TestGenerator, ConfigurableTest
             Files.createDirectories(Paths.get(packageDir));
 
             String testClassContent = generateTestClass(basePackage, className, tag, operations, spec, baseUrl);
-            Files.write(Paths.get(packageDir, className + ".java"), testClassContent.getBytes());
+            GeneratedFiles.write(Paths.get(packageDir, className + ".java"), testClassContent);
         }
     }
 
@@ -1006,14 +1007,14 @@ public class IntegrationTestGenerator implements TestGenerator, ConfigurableTest
                 "# integrationMaxInvalidBodyFieldsPerOperation=40\n" +
                 "# integrationMaxInvalidParamCasesPerOperation=25\n";
 
-        Files.write(Paths.get(outputDir, "test-config.properties"), configContent.getBytes());
+        GeneratedFiles.write(Paths.get(outputDir, "test-config.properties"), configContent);
     }
 
     private void generatePomXml(String outputDir, String basePackage) throws IOException {
         String pomContent = TestMavenSupport.pomHeader("api-integration-tests", basePackage)
                 + TestMavenSupport.standardTestSupportModuleDependencies()
                 + TestMavenSupport.buildSectionWithTestSupport();
-        Files.write(Paths.get(outputDir, "pom.xml"), pomContent.getBytes());
+        GeneratedFiles.write(Paths.get(outputDir, "pom.xml"), pomContent);
     }
 
     /**
@@ -1022,8 +1023,7 @@ public class IntegrationTestGenerator implements TestGenerator, ConfigurableTest
     private void generateTestUtilities(String outputDir, String basePackage) throws IOException {
         String packageDir = TestOutputLayout.testJavaDir(outputDir, basePackage);
         Files.createDirectories(Paths.get(packageDir));
-        Files.write(Paths.get(packageDir, "IntegrationTestUtils.java"),
-                generateIntegrationTestUtilsClass(basePackage).getBytes());
+        GeneratedFiles.write(Paths.get(packageDir, "IntegrationTestUtils.java"), generateIntegrationTestUtilsClass(basePackage));
     }
 
     /**
@@ -4,13 +4,13 @@ import egain.oassdk.Util;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.Constants;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.testgenerators.ConfigurableTestGenerator;
 import egain.oassdk.testgenerators.TestGenerator;
 import egain.oassdk.testgenerators.common.TestMavenSupport;
 import egain.oassdk.testgenerators.common.TestOutputLayout;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -34,10 +34,10 @@ public class LifecycleTestGenerator implements TestGenerator, ConfigurableTestGe
             Files.createDirectories(testDir);
 
             Map<String, OperationMeta> operations = extractOperations(spec);
-            Files.writeString(testDir.resolve("OpenApiCatalog.java"), openApiCatalogSource(basePackage, operations), StandardCharsets.UTF_8);
-            Files.writeString(testDir.resolve("FlowTestHarness.java"), harnessSource(basePackage), StandardCharsets.UTF_8);
-            Files.writeString(moduleDir.resolve("run-lifecycle.sh"), runLifecycleScript(), StandardCharsets.UTF_8);
-            Files.writeString(moduleDir.resolve("pom.xml"), pomSource(basePackage), StandardCharsets.UTF_8);
+            GeneratedFiles.write(testDir.resolve("OpenApiCatalog.java"), openApiCatalogSource(basePackage, operations));
+            GeneratedFiles.write(testDir.resolve("FlowTestHarness.java"), harnessSource(basePackage));
+            GeneratedFiles.write(moduleDir.resolve("run-lifecycle.sh"), runLifecycleScript());
+            GeneratedFiles.write(moduleDir.resolve("pom.xml"), pomSource(basePackage));
         } catch (IOException e) {
             throw new GenerationException("Failed to generate lifecycle tests: " + e.getMessage(), e);
         }
@@ -164,6 +164,11 @@ public class LifecycleTestGenerator implements TestGenerator, ConfigurableTestGe
                         public Duration defaultPollTimeout() {
                             return Duration.ofSeconds(Long.parseLong(TestEnv.get("test.flows.poll.timeout.seconds", "60")));
                         }
+
+                        @Override
+                        public Duration pollInterval() {
+                            return Duration.ofSeconds(Long.parseLong(TestEnv.get("test.flows.poll.interval.seconds", "2")));
+                        }
                     }
 
                     private static final class FactoryBridge implements FlowInterpreter.Runtime.BodyFactory {
@@ -214,22 +219,8 @@ public class LifecycleTestGenerator implements TestGenerator, ConfigurableTestGe
                         }
 
                         @Override
-                        public FlowInterpreter.Runtime.Response poll(String targetUrl, String expectedStatus, Duration timeout) {
-                            long deadlineNanos = System.nanoTime() + timeout.toNanos();
-                            int sleepMs = Integer.parseInt(TestEnv.get("test.flows.poll.interval.seconds", "2")) * 1000;
-                            while (System.nanoTime() < deadlineNanos) {
-                                Response response = TestClient.givenAuth().get(targetUrl);
-                                if (Integer.toString(response.getStatusCode()).equals(expectedStatus)) {
-                                    return new RestResponse(response);
-                                }
-                                try {
-                                    Thread.sleep(sleepMs);
-                                } catch (InterruptedException e) {
-                                    Thread.currentThread().interrupt();
-                                    break;
-                                }
-                            }
-                            throw new IllegalStateException("poll timeout waiting for status " + expectedStatus);
+                        public FlowInterpreter.Runtime.Response fetch(String targetUrl) {
+                            return new RestResponse(TestClient.givenAuth().get(targetUrl));
                         }
                     }
 
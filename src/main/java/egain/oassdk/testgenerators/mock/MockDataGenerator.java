@@ -5,6 +5,7 @@ import egain.oassdk.Util;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.Constants;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.testgenerators.IntegrationScenarioSupport;
 import egain.oassdk.testgenerators.ConfigurableTestGenerator;
 import egain.oassdk.testgenerators.TestGenerator;
@@ -91,7 +92,7 @@ public class MockDataGenerator implements TestGenerator, ConfigurableTestGenerat
                 }
 
                 String fileName = schemaName + "_" + i + ".json";
-                Files.write(Paths.get(outputDir, fileName), jsonContent.getBytes());
+                GeneratedFiles.write(Paths.get(outputDir, fileName), jsonContent);
             }
         }
 
@@ -560,7 +561,7 @@ public class MockDataGenerator implements TestGenerator, ConfigurableTestGenerat
                 }
                 String json = bindMockRequestPlaceholders(
                         IntegrationScenarioSupport.generateRequestBodyFromSchemaRaw(operation, spec));
-                Files.writeString(Paths.get(outputDir, opId + "_request.json"), json);
+                GeneratedFiles.write(Paths.get(outputDir, opId + "_request.json"), json);
             }
         }
     }
@@ -603,7 +604,7 @@ public class MockDataGenerator implements TestGenerator, ConfigurableTestGenerat
         }
 
         String jsonContent = convertToJson(sampleData, 0);
-        Files.write(Paths.get(outputDir, "sample-data.json"), jsonContent.getBytes());
+        GeneratedFiles.write(Paths.get(outputDir, "sample-data.json"), jsonContent);
     }
 
     /**
@@ -666,7 +667,7 @@ public class MockDataGenerator implements TestGenerator, ConfigurableTestGenerat
 
         String packageDir = outputDir + "/com/example/api";
         Files.createDirectories(Paths.get(packageDir));
-        Files.write(Paths.get(packageDir, "MockDataGenerator.java"), classContent.getBytes());
+        GeneratedFiles.write(Paths.get(packageDir, "MockDataGenerator.java"), classContent);
     }
 
     /**
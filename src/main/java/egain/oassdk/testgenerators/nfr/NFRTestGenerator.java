@@ -3,6 +3,7 @@ package egain.oassdk.testgenerators.nfr;
 import egain.oassdk.Util;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.testgenerators.common.TestCodegenSupport;
 import egain.oassdk.testgenerators.common.TestMavenSupport;
 import egain.oassdk.testgenerators.common.TestOutputLayout;
@@ -73,7 +74,7 @@ public class NFRTestGenerator implements TestGenerator, ConfigurableTestGenerato
         // Generate comprehensive NFR test class
         String className = "NFRTest";
         String testClassContent = generateNFRTestClass(basePackage, className, spec, baseUrl);
-        Files.write(Paths.get(packageDir, className + ".java"), testClassContent.getBytes());
+        GeneratedFiles.write(Paths.get(packageDir, className + ".java"), testClassContent);
     }
 
     /**
@@ -306,7 +307,7 @@ public class NFRTestGenerator implements TestGenerator, ConfigurableTestGenerato
         String pom = TestMavenSupport.pomHeader("api-nfr-tests", basePackage)
                 + TestMavenSupport.standardRestAssuredTestDependencies()
                 + TestMavenSupport.buildSectionWithTestSupport();
-        Files.write(Paths.get(outputDir, "pom.xml"), pom.getBytes());
+        GeneratedFiles.write(Paths.get(outputDir, "pom.xml"), pom);
     }
 
     private void generateNFRConfiguration(String outputDir, String baseUrl) throws IOException {
@@ -319,7 +320,7 @@ public class NFRTestGenerator implements TestGenerator, ConfigurableTestGenerato
                 "max.error.rate=0.01\n" +
                 "timeout.seconds=30\n";
 
-        Files.write(Paths.get(outputDir, "nfr-config.properties"), configContent.getBytes());
+        GeneratedFiles.write(Paths.get(outputDir, "nfr-config.properties"), configContent);
     }
 
     private static String escapeJavaString(String s) {
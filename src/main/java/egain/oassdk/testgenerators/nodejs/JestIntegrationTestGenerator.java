@@ -4,13 +4,13 @@ import egain.oassdk.Util;
 import egain.oassdk.core.Constants;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.testgenerators.common.TestSpecUtils;
 import egain.oassdk.testgenerators.ConfigurableTestGenerator;
 import egain.oassdk.testgenerators.IntegrationScenarioSupport;
 import egain.oassdk.testgenerators.TestGenerator;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -101,7 +101,7 @@ public class JestIntegrationTestGenerator implements TestGenerator, Configurable
             String fileName = toKebabCase(tag) + ".integration.test.js";
 
             String testFileContent = generateTestFile(fileName, tag, operations, spec, baseUrl);
-            Files.write(Paths.get(outputDir, fileName), testFileContent.getBytes(StandardCharsets.UTF_8));
+            GeneratedFiles.write(Paths.get(outputDir, fileName), testFileContent);
         }
     }
 
@@ -541,7 +541,7 @@ public class JestIntegrationTestGenerator implements TestGenerator, Configurable
         sb.append("  },\n");
         sb.append("};\n");
 
-        Files.write(Paths.get(outputDir, "jest.config.js"), sb.toString().getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "jest.config.js"), sb.toString());
     }
 
     /**
@@ -572,7 +572,7 @@ public class JestIntegrationTestGenerator implements TestGenerator, Configurable
         sb.append("  setupTestEnvironment\n");
         sb.append("};\n");
 
-        Files.write(Paths.get(outputDir, "setup.js"), sb.toString().getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "setup.js"), sb.toString());
     }
 
     /**
@@ -595,7 +595,7 @@ public class JestIntegrationTestGenerator implements TestGenerator, Configurable
         sb.append("  }\n");
         sb.append("}\n");
 
-        Files.write(Paths.get(outputDir, "package.json"), sb.toString().getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "package.json"), sb.toString());
     }
 
     // Helper methods
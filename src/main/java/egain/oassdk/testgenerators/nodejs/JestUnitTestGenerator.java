@@ -4,12 +4,12 @@ import egain.oassdk.Util;
 import egain.oassdk.core.Constants;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.testgenerators.common.TestSpecUtils;
 import egain.oassdk.testgenerators.ConfigurableTestGenerator;
 import egain.oassdk.testgenerators.TestGenerator;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -93,7 +93,7 @@ public class JestUnitTestGenerator implements TestGenerator, ConfigurableTestGen
             String fileName = toKebabCase(tag) + ".unit.test.js";
 
             String testFileContent = generateTestFile(fileName, tag, operations, spec);
-            Files.write(Paths.get(outputDir, fileName), testFileContent.getBytes(StandardCharsets.UTF_8));
+            GeneratedFiles.write(Paths.get(outputDir, fileName), testFileContent);
         }
     }
 
@@ -260,7 +260,7 @@ public class JestUnitTestGenerator implements TestGenerator, ConfigurableTestGen
         sb.append("  },\n");
         sb.append("};\n");
 
-        Files.write(Paths.get(outputDir, "jest.config.js"), sb.toString().getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "jest.config.js"), sb.toString());
     }
 
     /**
@@ -282,7 +282,7 @@ public class JestUnitTestGenerator implements TestGenerator, ConfigurableTestGen
         sb.append("  }\n");
         sb.append("}\n");
 
-        Files.write(Paths.get(outputDir, "package.json"), sb.toString().getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "package.json"), sb.toString());
     }
 
     // Helper methods
@@ -3,6 +3,7 @@ package egain.oassdk.testgenerators.performance;
 import egain.oassdk.Util;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.testgenerators.common.TestCodegenSupport;
 import egain.oassdk.testgenerators.common.TestMavenSupport;
 import egain.oassdk.testgenerators.common.TestOutputLayout;
@@ -72,7 +73,7 @@ public class PerformanceTestGenerator implements TestGenerator, ConfigurableTest
         // Generate performance test class
         String className = "PerformanceTest";
         String testClassContent = generatePerformanceTestClass(basePackage, className, spec, baseUrl);
-        Files.write(Paths.get(packageDir, className + ".java"), testClassContent.getBytes());
+        GeneratedFiles.write(Paths.get(packageDir, className + ".java"), testClassContent);
     }
 
     /**
@@ -407,7 +408,7 @@ public class PerformanceTestGenerator implements TestGenerator, ConfigurableTest
         String pom = TestMavenSupport.pomHeader("api-performance-tests", basePackage)
                 + TestMavenSupport.standardTestSupportModuleDependencies()
                 + TestMavenSupport.buildSectionWithTestSupport();
-        Files.write(Paths.get(outputDir, "pom.xml"), pom.getBytes());
+        GeneratedFiles.write(Paths.get(outputDir, "pom.xml"), pom);
     }
 
     private void generatePerformanceConfiguration(String outputDir, String baseUrl) throws IOException {
@@ -421,7 +422,7 @@ public class PerformanceTestGenerator implements TestGenerator, ConfigurableTest
                 "stress.test.users=100\n" +
                 "timeout.seconds=30\n";
 
-        Files.write(Paths.get(outputDir, "performance-config.properties"), configContent.getBytes());
+        GeneratedFiles.write(Paths.get(outputDir, "performance-config.properties"), configContent);
     }
 
     @Override
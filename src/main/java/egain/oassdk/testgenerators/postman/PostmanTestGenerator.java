@@ -6,13 +6,13 @@ import egain.oassdk.Util;
 import egain.oassdk.core.Constants;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.testgenerators.common.TestSpecUtils;
 import egain.oassdk.testgenerators.ConfigurableTestGenerator;
 import egain.oassdk.testgenerators.IntegrationScenarioSupport;
 import egain.oassdk.testgenerators.TestGenerator;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
@@ -131,7 +131,7 @@ public class PostmanTestGenerator implements TestGenerator, ConfigurableTestGene
 
         // Write to file
         String fileName = safeTitle.replaceAll("[^a-zA-Z0-9]", "-") + "-API.postman_collection.json";
-        Files.write(Paths.get(outputDir, fileName), json.getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, fileName), json);
     }
 
     /**
@@ -658,7 +658,7 @@ public class PostmanTestGenerator implements TestGenerator, ConfigurableTestGene
 
         String json = convertToJson(environment);
         String fileName = safeTitle.replaceAll("[^a-zA-Z0-9]", "-") + "-Environment.postman_environment.json";
-        Files.write(Paths.get(outputDir, fileName), json.getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, fileName), json);
     }
 
     /**
@@ -670,11 +670,11 @@ public class PostmanTestGenerator implements TestGenerator, ConfigurableTestGene
 
         // Generate Newman test script
         String newmanScript = generateNewmanScript(safeTitle);
-        Files.write(Paths.get(outputDir, "run-tests.sh"), newmanScript.getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "run-tests.sh"), newmanScript);
 
         // Generate curl commands
         String curlScript = generateCurlScript(spec);
-        Files.write(Paths.get(outputDir, "curl-commands.sh"), curlScript.getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "curl-commands.sh"), curlScript);
     }
 
     /**
@@ -4,13 +4,13 @@ import egain.oassdk.Util;
 import egain.oassdk.core.Constants;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.testgenerators.common.TestSpecUtils;
 import egain.oassdk.testgenerators.ConfigurableTestGenerator;
 import egain.oassdk.testgenerators.IntegrationScenarioSupport;
 import egain.oassdk.testgenerators.TestGenerator;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -94,7 +94,7 @@ public class PytestIntegrationTestGenerator implements TestGenerator, Configurab
         }
 
         // Create __init__.py to make it a package
-        Files.write(Paths.get(outputDir, "__init__.py"), "".getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "__init__.py"), "");
 
         // Generate test module for each tag
         for (Map.Entry<String, List<OperationInfo>> tagEntry : operationsByTag.entrySet()) {
@@ -104,7 +104,7 @@ public class PytestIntegrationTestGenerator implements TestGenerator, Configurab
             String moduleName = "test_" + toSnakeCase(tag) + "_integration";
 
             String testModuleContent = generateTestModule(moduleName, tag, operations, spec, baseUrl);
-            Files.write(Paths.get(outputDir, moduleName + ".py"), testModuleContent.getBytes(StandardCharsets.UTF_8));
+            GeneratedFiles.write(Paths.get(outputDir, moduleName + ".py"), testModuleContent);
         }
     }
 
@@ -549,7 +549,7 @@ public class PytestIntegrationTestGenerator implements TestGenerator, Configurab
                 "# API_BEARER_TOKEN= / API_TOKEN= (fallbacks)\n" +
                 "# Caps (TestConfig additionalProperties): integrationMaxInvalidBodyFieldsPerOperation, integrationMaxInvalidParamCasesPerOperation\n";
 
-        Files.write(Paths.get(outputDir, "pytest.ini"), configContent.getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "pytest.ini"), configContent);
     }
 
     /**
@@ -590,7 +590,7 @@ public class PytestIntegrationTestGenerator implements TestGenerator, Configurab
         sb.append("        return {'Authorization': f'Bearer {token}'}\n");
         sb.append("    return {}\n");
 
-        Files.write(Paths.get(outputDir, "conftest.py"), sb.toString().getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "conftest.py"), sb.toString());
     }
 
     /**
@@ -603,7 +603,7 @@ public class PytestIntegrationTestGenerator implements TestGenerator, Configurab
                 "requests>=2.28.0\n" +
                 "python-dotenv>=0.19.0\n";
 
-        Files.write(Paths.get(outputDir, "requirements.txt"), requirements.getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "requirements.txt"), requirements);
     }
 
     // Helper methods
@@ -4,12 +4,12 @@ import egain.oassdk.Util;
 import egain.oassdk.core.Constants;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.testgenerators.common.TestSpecUtils;
 import egain.oassdk.testgenerators.ConfigurableTestGenerator;
 import egain.oassdk.testgenerators.TestGenerator;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -89,7 +89,7 @@ public class PytestUnitTestGenerator implements TestGenerator, ConfigurableTestG
         }
 
         // Create __init__.py to make it a package
-        Files.write(Paths.get(outputDir, "__init__.py"), "".getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "__init__.py"), "");
 
         // Generate test module for each tag
         for (Map.Entry<String, List<OperationInfo>> tagEntry : operationsByTag.entrySet()) {
@@ -99,7 +99,7 @@ public class PytestUnitTestGenerator implements TestGenerator, ConfigurableTestG
             String moduleName = "test_" + toSnakeCase(tag) + "_unit";
 
             String testModuleContent = generateTestModule(moduleName, tag, operations, spec);
-            Files.write(Paths.get(outputDir, moduleName + ".py"), testModuleContent.getBytes(StandardCharsets.UTF_8));
+            GeneratedFiles.write(Paths.get(outputDir, moduleName + ".py"), testModuleContent);
         }
     }
 
@@ -279,7 +279,7 @@ public class PytestUnitTestGenerator implements TestGenerator, ConfigurableTestG
         sb.append("    response.json.return_value = {}\n");
         sb.append("    return response\n");
 
-        Files.write(Paths.get(outputDir, "conftest.py"), sb.toString().getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "conftest.py"), sb.toString());
     }
 
     /**
@@ -291,7 +291,7 @@ public class PytestUnitTestGenerator implements TestGenerator, ConfigurableTestG
                 "pytest-cov>=4.0.0\n" +
                 "pytest-mock>=3.10.0\n";
 
-        Files.write(Paths.get(outputDir, "requirements.txt"), requirements.getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "requirements.txt"), requirements);
     }
 
     /**
@@ -309,7 +309,7 @@ public class PytestUnitTestGenerator implements TestGenerator, ConfigurableTestG
                 "markers =\n" +
                 "    unit: Unit tests\n";
 
-        Files.write(Paths.get(outputDir, "pytest.ini"), configContent.getBytes(StandardCharsets.UTF_8));
+        GeneratedFiles.write(Paths.get(outputDir, "pytest.ini"), configContent);
     }
 
     // Helper methods
@@ -3,12 +3,12 @@ package egain.oassdk.testgenerators.schemathesis;
 import egain.oassdk.Util;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.core.io.OpenApiMapYamlWriter;
 import egain.oassdk.testgenerators.ConfigurableTestGenerator;
 import egain.oassdk.testgenerators.TestGenerator;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -81,7 +81,7 @@ public class SchemathesisTestGenerator implements TestGenerator, ConfigurableTes
             Path bundleDir = resolveBundleDirectory(outputDir, config);
             Files.createDirectories(bundleDir);
 
-            Files.writeString(bundleDir.resolve("schemathesis.toml"), DEFAULT_SCHEMATHESIS_TOML, StandardCharsets.UTF_8);
+            GeneratedFiles.write(bundleDir.resolve("schemathesis.toml"), DEFAULT_SCHEMATHESIS_TOML);
 
             String specFileName = propString(config, "schemathesis.specFileName", "openapi.yaml");
             new OpenApiMapYamlWriter().write(spec, bundleDir.resolve(specFileName));
@@ -96,10 +96,10 @@ public class SchemathesisTestGenerator implements TestGenerator, ConfigurableTes
 
             String script = buildRunScript(specFileName);
             Path scriptPath = bundleDir.resolve("run-schemathesis.sh");
-            Files.writeString(scriptPath, script, StandardCharsets.UTF_8);
+            GeneratedFiles.write(scriptPath, script);
             scriptPath.toFile().setExecutable(true);
 
-            Files.writeString(bundleDir.resolve("README-schemathesis.md"), buildReadme(), StandardCharsets.UTF_8);
+            GeneratedFiles.write(bundleDir.resolve("README-schemathesis.md"), buildReadme());
 
         } catch (IOException e) {
             throw new GenerationException("Failed to generate Schemathesis bundle: " + e.getMessage(), e);
@@ -186,7 +186,7 @@ public class SchemathesisTestGenerator implements TestGenerator, ConfigurableTes
         for (Map.Entry<String, String> e : values.entrySet()) {
             sb.append(e.getKey()).append('=').append(e.getValue()).append('\n');
         }
-        Files.writeString(path, sb.toString(), StandardCharsets.UTF_8);
+        GeneratedFiles.write(path, sb.toString());
     }
 
     private static String propString(TestConfig config, String key, String defaultValue) {
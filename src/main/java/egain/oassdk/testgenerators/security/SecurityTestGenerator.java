@@ -4,6 +4,7 @@ import egain.oassdk.Util;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.Constants;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.testgenerators.common.TestCodegenSupport;
 import egain.oassdk.testgenerators.common.TestMavenSupport;
 import egain.oassdk.testgenerators.common.TestOutputLayout;
@@ -73,7 +74,7 @@ public class SecurityTestGenerator implements TestGenerator, ConfigurableTestGen
         // Generate security test class
         String className = "SecurityTest";
         String testClassContent = generateSecurityTestClass(basePackage, className, spec, baseUrl);
-        Files.write(Paths.get(packageDir, className + ".java"), testClassContent.getBytes());
+        GeneratedFiles.write(Paths.get(packageDir, className + ".java"), testClassContent);
     }
 
     /**
@@ -621,7 +622,7 @@ public class SecurityTestGenerator implements TestGenerator, ConfigurableTestGen
         String pom = TestMavenSupport.pomHeader("api-security-tests", basePackage)
                 + TestMavenSupport.standardTestSupportModuleDependencies()
                 + TestMavenSupport.buildSectionWithTestSupport();
-        Files.write(Paths.get(outputDir, "pom.xml"), pom.getBytes());
+        GeneratedFiles.write(Paths.get(outputDir, "pom.xml"), pom);
     }
 
     private void generateSecurityConfiguration(String outputDir, String baseUrl) throws IOException {
@@ -637,7 +638,7 @@ public class SecurityTestGenerator implements TestGenerator, ConfigurableTestGen
                 "test.xss=true\n" +
                 "test.path.traversal=true\n";
 
-        Files.write(Paths.get(outputDir, "security-config.properties"), configContent.getBytes());
+        GeneratedFiles.write(Paths.get(outputDir, "security-config.properties"), configContent);
     }
 
     private String sanitizePath(String path) {
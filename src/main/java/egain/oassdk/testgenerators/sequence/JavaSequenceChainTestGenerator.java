@@ -3,6 +3,7 @@ package egain.oassdk.testgenerators.sequence;
 import egain.oassdk.Util;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.core.sequence.ApiCallExtractor;
 import egain.oassdk.core.sequence.ApiCallInfo;
 import egain.oassdk.core.sequence.ChainConfig;
@@ -17,7 +18,6 @@ import egain.oassdk.testgenerators.common.TestOutputLayout;
 import egain.oassdk.testgenerators.common.TestSpecUtils;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -53,14 +53,14 @@ public class JavaSequenceChainTestGenerator implements TestGenerator, Configurab
             for (Map.Entry<String, List<EnumeratedChain>> e : byResource.entrySet()) {
                 String className = capitalize(e.getKey()) + "WorkflowTest";
                 String content = renderWorkflowClass(basePackage, className, e.getValue(), spec, extractor, order);
-                Files.writeString(testDir.resolve(className + ".java"), content, StandardCharsets.UTF_8);
+                GeneratedFiles.write(testDir.resolve(className + ".java"), content);
                 order += 100;
             }
 
             String pom = TestMavenSupport.pomHeader("api-sequence-java-tests", basePackage)
                     + TestMavenSupport.standardTestSupportModuleDependencies()
                     + TestMavenSupport.buildSectionWithTestSupport();
-            Files.writeString(moduleDir.resolve("pom.xml"), pom, StandardCharsets.UTF_8);
+            GeneratedFiles.write(moduleDir.resolve("pom.xml"), pom);
 
         } catch (IOException ex) {
             throw new GenerationException("Failed to generate Java sequence tests: " + ex.getMessage(), ex);
@@ -3,9 +3,11 @@ package egain.oassdk.testgenerators.sequence;
 import egain.oassdk.Util;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.core.sequence.ApiCallExtractor;
 import egain.oassdk.core.sequence.ApiCallInfo;
 import egain.oassdk.core.sequence.ChainConfig;
+import egain.oassdk.core.sequence.ChainCoverage;
 import egain.oassdk.core.sequence.ChainEnumerator;
 import egain.oassdk.core.sequence.EnumeratedChain;
 import egain.oassdk.testgenerators.ConfigurableTestGenerator;
@@ -13,16 +15,20 @@ import egain.oassdk.testgenerators.IntegrationScenarioSupport;
 import egain.oassdk.testgenerators.TestGenerator;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.stream.Stream;
 
 /**
  * Emits a pytest bundle of <i>enumerated</i> API-call chains (one test per
@@ -37,6 +43,7 @@ import java.util.TreeMap;
  *   requirements.txt       pytest, requests
  *   README-sequence.md     run instructions
  *   test_chain_&lt;res&gt;.py    one file per resource; one def test_&lt;shape&gt; per chain
+ *   chain-coverage.md      transition coverage per seed POST (sampled selections only)
  * </pre>
  *
  * <p>Validity of every chain is guaranteed at enumeration time by
@@ -52,9 +59,22 @@ import java.util.TreeMap;
  *   <li>{@code sequence.unresolvedParamPolicy} — {@code SKIP} (default)
  *       or {@code EMIT_WITH_MARKER}; controls handling of sub-resource
  *       POSTs whose path parameters have no producer POST in the spec</li>
+ *   <li>{@code sequence.maxChains} (int, default 0 = unlimited) and
+ *       {@code sequence.timeBudgetMs} (long, default unlimited) — stop
+ *       enumerating tails once spent; every POST still gets its minimal
+ *       chain</li>
+ *   <li>{@code sequence.selection} — {@code EXHAUSTIVE} (default),
+ *       {@code PAIRWISE} or {@code THREE_WISE}; see
+ *       {@link ChainConfig.Selection}</li>
+ *   <li>{@code sequence.randomSeed} (long, default 0) — seed of the
+ *       sampled selections</li>
  *   <li>{@code sequence.baseUrl} — baked into conftest as the default
  *       {@code API_BASE_URL} when the env var is unset</li>
  * </ul>
+ *
+ * <p>Chains are consumed from {@link ChainEnumerator#stream} and rendered
+ * as they are produced; a resource's file is written as soon as the
+ * enumeration has passed its last seed POST.
  */
 public class SequenceChainTestGenerator implements TestGenerator, ConfigurableTestGenerator {
 
@@ -72,15 +92,22 @@ public class SequenceChainTestGenerator implements TestGenerator, ConfigurableTe
 
             ApiCallExtractor extractor = new ApiCallExtractor();
             List<ApiCallInfo> calls = extractor.extract(spec);
-            ChainEnumerator enumerator = new ChainEnumerator(readChainConfig(config));
-            List<EnumeratedChain> chains = enumerator.enumerate(calls);
+            ChainConfig chainConfig = readChainConfig(config);
+            ChainEnumerator enumerator = new ChainEnumerator(chainConfig);
 
             String baseUrl = resolveBaseUrl(spec, config);
             writeConftest(dir, baseUrl);
             writePytestIni(dir);
             writeRequirements(dir);
             writeReadme(dir);
-            writeChainTestFiles(dir, chains, spec, extractor);
+            boolean sampled = chainConfig.selection() != ChainConfig.Selection.EXHAUSTIVE;
+            List<ChainCoverage> coverage = new ArrayList<>();
+            try (Stream<EnumeratedChain> chains = enumerator.stream(calls, sampled ? coverage::add : null)) {
+                writeChainTestFiles(dir, chains, calls, spec, extractor);
+            }
+            if (sampled) {
+                writeCoverageReport(dir, chainConfig, coverage);
+            }
 
         } catch (IOException e) {
             throw new GenerationException("Failed to generate sequence chain tests: " + e.getMessage(), e);
@@ -110,6 +137,38 @@ public class SequenceChainTestGenerator implements TestGenerator, ConfigurableTe
                 // Leave the builder's default (SKIP) in place for unknown values.
             }
         }
+        Integer maxChains = propInt(tc, "sequence.maxChains", null);
+        if (maxChains != null && maxChains >= 0) {
+            b.maxChains(maxChains);
+        }
+        String timeBudgetMs = propString(tc, "sequence.timeBudgetMs", null);
+        if (timeBudgetMs != null) {
+            try {
+                long millis = Long.parseLong(timeBudgetMs.trim());
+                if (millis >= 0) {
+                    b.timeBudget(Duration.ofMillis(millis));
+                }
+            } catch (NumberFormatException ignored) {
+                // No time budget for unparseable values.
+            }
+        }
+        String selection = propString(tc, "sequence.selection", null);
+        if (selection != null) {
+            try {
+                b.selection(ChainConfig.Selection.valueOf(
+                        selection.trim().toUpperCase(Locale.ROOT).replace('-', '_')));
+            } catch (IllegalArgumentException ignored) {
+                // Leave the builder's default (EXHAUSTIVE) in place for unknown values.
+            }
+        }
+        String randomSeed = propString(tc, "sequence.randomSeed", null);
+        if (randomSeed != null) {
+            try {
+                b.randomSeed(Long.parseLong(randomSeed.trim()));
+            } catch (NumberFormatException ignored) {
+                // Keep the default seed for unparseable values.
+            }
+        }
         return b.build();
     }
 
@@ -189,7 +248,7 @@ public class SequenceChainTestGenerator implements TestGenerator, ConfigurableTe
                             return str(value)
                     return None
                 """.formatted(escapePy(baseUrl));
-        Files.writeString(dir.resolve("conftest.py"), content, StandardCharsets.UTF_8);
+        GeneratedFiles.write(dir.resolve("conftest.py"), content);
     }
 
     private void writePytestIni(Path dir) throws IOException {
@@ -200,7 +259,7 @@ public class SequenceChainTestGenerator implements TestGenerator, ConfigurableTe
                 python_files = test_*.py
                 python_functions = test_*
                 """;
-        Files.writeString(dir.resolve("pytest.ini"), content, StandardCharsets.UTF_8);
+        GeneratedFiles.write(dir.resolve("pytest.ini"), content);
     }
 
     private void writeRequirements(Path dir) throws IOException {
@@ -209,7 +268,7 @@ public class SequenceChainTestGenerator implements TestGenerator, ConfigurableTe
                 pytest>=7.0.0
                 requests>=2.28.0
                 """;
-        Files.writeString(dir.resolve("requirements.txt"), content, StandardCharsets.UTF_8);
+        GeneratedFiles.write(dir.resolve("requirements.txt"), content);
     }
 
     private void writeReadme(Path dir) throws IOException {
@@ -255,33 +314,105 @@ public class SequenceChainTestGenerator implements TestGenerator, ConfigurableTe
                 every emitted test's expected outcome is `2xx` at every step.
                 Any failure is a real bug.
                 """;
-        Files.writeString(dir.resolve("README-sequence.md"), content, StandardCharsets.UTF_8);
+        GeneratedFiles.write(dir.resolve("README-sequence.md"), content);
     }
 
-    private void writeChainTestFiles(Path dir, List<EnumeratedChain> chains,
+    /**
+     * Renders each chain into its resource's file as the enumerator yields
+     * it. Seeds are enumerated in call order, so once a chain's seed comes
+     * after a resource's last seed POST, that resource's file is complete
+     * and is written out.
+     */
+    private void writeChainTestFiles(Path dir, Stream<EnumeratedChain> chains, List<ApiCallInfo> calls,
                                      Map<String, Object> spec, ApiCallExtractor extractor) throws IOException {
-        Map<String, List<EnumeratedChain>> byResource = groupChainsByResource(chains);
-        for (Map.Entry<String, List<EnumeratedChain>> e : byResource.entrySet()) {
-            String resource = e.getKey();
-            String fileName = "test_chain_" + sanitizeModuleName(resource) + ".py";
-            String content = renderChainTestFile(resource, e.getValue(), spec, extractor);
-            Files.writeString(dir.resolve(fileName), content, StandardCharsets.UTF_8);
+        Map<ApiCallInfo, Integer> seedIndex = new IdentityHashMap<>();
+        Map<String, Integer> lastSeedIndex = new HashMap<>();
+        for (int i = 0; i < calls.size(); i++) {
+            ApiCallInfo call = calls.get(i);
+            if ("POST".equalsIgnoreCase(call.method())) {
+                seedIndex.put(call, i);
+                lastSeedIndex.put(call.resourceName(), i);
+            }
         }
-    }
 
-    private Map<String, List<EnumeratedChain>> groupChainsByResource(List<EnumeratedChain> chains) {
-        Map<String, List<EnumeratedChain>> byResource = new TreeMap<>();
-        for (EnumeratedChain chain : chains) {
+        Map<String, StringBuilder> openFiles = new HashMap<>();
+        Iterator<EnumeratedChain> it = chains.iterator();
+        while (it.hasNext()) {
+            EnumeratedChain chain = it.next();
             if (chain.steps().isEmpty()) {
                 continue;
             }
-            byResource.computeIfAbsent(chain.seedPost().resourceName(), k -> new java.util.ArrayList<>()).add(chain);
+            int index = seedIndex.get(chain.seedPost());
+            Iterator<Map.Entry<String, StringBuilder>> open = openFiles.entrySet().iterator();
+            while (open.hasNext()) {
+                Map.Entry<String, StringBuilder> e = open.next();
+                if (lastSeedIndex.get(e.getKey()) < index) {
+                    writeChainTestFile(dir, e.getKey(), e.getValue());
+                    open.remove();
+                }
+            }
+            openFiles.computeIfAbsent(chain.seedPost().resourceName(), SequenceChainTestGenerator::chainTestFileHeader)
+                    .append(renderOneTest(chain, spec, extractor))
+                    .append('\n');
+        }
+        for (Map.Entry<String, StringBuilder> e : openFiles.entrySet()) {
+            writeChainTestFile(dir, e.getKey(), e.getValue());
         }
-        return byResource;
     }
 
-    private String renderChainTestFile(String resource, List<EnumeratedChain> chains,
-                                       Map<String, Object> spec, ApiCallExtractor extractor) {
+    /**
+     * Per seed POST: chains emitted against the exhaustive enumeration, and
+     * the consumer transitions they cover.
+     */
+    private static void writeCoverageReport(Path dir, ChainConfig chainConfig, List<ChainCoverage> coverage)
+            throws IOException {
+        long emitted = 0;
+        long exhaustive = 0;
+        long covered = 0;
+        long target = 0;
+        StringBuilder rows = new StringBuilder();
+        for (ChainCoverage c : coverage) {
+            emitted += c.emittedChains();
+            exhaustive = exhaustive > Long.MAX_VALUE - c.exhaustiveChains()
+                    ? Long.MAX_VALUE : exhaustive + c.exhaustiveChains();
+            covered += c.coveredTransitions();
+            target += c.targetTransitions();
+            rows.append("| `").append(c.seedPost().method()).append(' ').append(c.seedPost().path())
+                    .append("` | ").append(c.emittedChains())
+                    .append(" | ").append(c.exhaustiveChains())
+                    .append(" | ").append(c.strength())
+                    .append(" | ").append(c.coveredTransitions()).append(" / ").append(c.targetTransitions())
+                    .append(" | ").append(percent(c.ratio()))
+                    .append(" |\n");
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("# Chain coverage\n\n");
+        sb.append("Selection `").append(chainConfig.selection()).append("` (random seed ")
+                .append(chainConfig.randomSeed()).append("): ")
+                .append(emitted).append(" chains instead of ").append(exhaustive)
+                .append(" exhaustive, covering ").append(covered).append(" of ").append(target)
+                .append(" consumer transitions (")
+                .append(percent(target == 0 ? 1.0 : (double) covered / target)).append(").\n\n");
+        sb.append("A transition is a run of consumers (one pair, or triple, per the\n");
+        sb.append("strength) executed back to back after the seed POST; the target is every\n");
+        sb.append("run that occurs in some exhaustively enumerated chain. Chain counts include\n");
+        sb.append("each seed's minimal chain.\n\n");
+        sb.append("| Seed POST | Chains | Exhaustive chains | Strength | Transitions covered | Coverage |\n");
+        sb.append("| --- | --- | --- | --- | --- | --- |\n");
+        sb.append(rows);
+        GeneratedFiles.write(dir.resolve("chain-coverage.md"), sb.toString());
+    }
+
+    private static String percent(double ratio) {
+        return String.format(Locale.ROOT, "%.1f%%", ratio * 100);
+    }
+
+    private static void writeChainTestFile(Path dir, String resource, StringBuilder content) throws IOException {
+        String fileName = "test_chain_" + sanitizeModuleName(resource) + ".py";
+        GeneratedFiles.write(dir.resolve(fileName), content.toString());
+    }
+
+    private static StringBuilder chainTestFileHeader(String resource) {
         StringBuilder sb = new StringBuilder();
         sb.append("\"\"\"Enumerated workflow chains for resource: ").append(resource).append(".\n\n");
         sb.append("Generated by SequenceChainTestGenerator. Every chain is valid by\n");
@@ -289,11 +420,7 @@ public class SequenceChainTestGenerator implements TestGenerator, ConfigurableTe
         sb.append("\"\"\"\n");
         sb.append("import pytest\n");
         sb.append("from conftest import extract_id\n\n");
-        for (EnumeratedChain chain : chains) {
-            sb.append(renderOneTest(chain, spec, extractor));
-            sb.append('\n');
-        }
-        return sb.toString();
+        return sb;
     }
 
     private String renderOneTest(EnumeratedChain chain, Map<String, Object> spec, ApiCallExtractor extractor) {
@@ -2,6 +2,7 @@ package egain.oassdk.testgenerators.support;
 
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.testgenerators.common.TestOutputLayout;
 import egain.oassdk.testgenerators.common.TestSpecUtils;
 
@@ -97,7 +98,7 @@ public class TestSupportGenerator {
     }
 
     private static void write(Path path, String content) throws IOException {
-        Files.writeString(path, content, StandardCharsets.UTF_8);
+        GeneratedFiles.write(path, content);
     }
 
     private static void pruneObsoleteSupportSources(Path supportDir) throws IOException {
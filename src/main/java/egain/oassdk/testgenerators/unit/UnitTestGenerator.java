@@ -4,6 +4,7 @@ import egain.oassdk.Util;
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.Constants;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.io.GeneratedFiles;
 import egain.oassdk.testgenerators.common.TestCodegenSupport;
 import egain.oassdk.testgenerators.common.TestMavenSupport;
 import egain.oassdk.testgenerators.common.TestOutputLayout;
@@ -100,7 +101,7 @@ public class UnitTestGenerator implements TestGenerator, ConfigurableTestGenerat
             Files.createDirectories(Paths.get(packageDir));
 
             String testClassContent = generateTestClass(basePackage, className, tag, operations, spec);
-            Files.write(Paths.get(packageDir, className + ".java"), testClassContent.getBytes());
+            GeneratedFiles.write(Paths.get(packageDir, className + ".java"), testClassContent);
         }
     }
 
@@ -858,8 +859,8 @@ public class UnitTestGenerator implements TestGenerator, ConfigurableTestGenerat
     private void generateTestUtilities(String outputDir, String basePackage) throws IOException {
         String packageDir = TestOutputLayout.testJavaDir(outputDir, basePackage);
         Files.createDirectories(Paths.get(packageDir));
-        Files.write(Paths.get(packageDir, "TestUtils.java"), generateTestUtilsClass(basePackage).getBytes());
-        Files.write(Paths.get(packageDir, "UnitTestUtils.java"), generateUnitTestUtilsClass(basePackage).getBytes());
+        GeneratedFiles.write(Paths.get(packageDir, "TestUtils.java"), generateTestUtilsClass(basePackage));
+        GeneratedFiles.write(Paths.get(packageDir, "UnitTestUtils.java"), generateUnitTestUtilsClass(basePackage));
     }
 
     private String generateUnitTestUtilsClass(String basePackage) {
@@ -988,7 +989,7 @@ public class UnitTestGenerator implements TestGenerator, ConfigurableTestGenerat
         String pomContent = TestMavenSupport.pomHeader("api-contract-tests", basePackage)
                 + TestMavenSupport.standardRestAssuredTestDependencies()
                 + TestMavenSupport.buildSectionWithTestSupport();
-        Files.write(Paths.get(outputDir, "pom.xml"), pomContent.getBytes());
+        GeneratedFiles.write(Paths.get(outputDir, "pom.xml"), pomContent);
     }
 
     private String generateTestUtilsClass(String basePackage) {
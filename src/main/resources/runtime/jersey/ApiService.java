@@ -1,12 +1,12 @@
 package __PACKAGE__.service;
 
 import __INJECT_NS__.Singleton;
-
+__SERVICE_IMPORTS__
 @Singleton
 public class ApiService {
 
     // Business logic implementation placeholder
     // This service should contain the core business logic for the API
     // Implement methods that correspond to the operations defined in the OpenAPI specification
-
+__SERVICE_METHODS__
 }
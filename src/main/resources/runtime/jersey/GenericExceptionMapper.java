@@ -4,6 +4,8 @@ import __WS_NS__.core.MediaType;
 import __WS_NS__.core.Response;
 import __WS_NS__.ext.ExceptionMapper;
 import __WS_NS__.ext.Provider;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -13,6 +15,16 @@ public class GenericExceptionMapper implements ExceptionMapper<Exception> {
 
     @Override
     public Response toResponse(Exception exception) {
+        Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+                ? exception.getCause() : exception;
+        if (cause instanceof TimeoutException) {
+            // An async resource ran past its x-sla-response-time budget
+            logger.warning("Request exceeded its response-time budget");
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .entity("{\"error\": \"Service unavailable: response time exceeded\"}")
+                    .type(MediaType.APPLICATION_JSON)
+                    .build();
+        }
         logger.log(Level.SEVERE, "Unhandled exception", exception);
         return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
                 .entity("{\"error\": \"Internal server error\"}")
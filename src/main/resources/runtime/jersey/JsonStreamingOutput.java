@@ -0,0 +1,68 @@
+package __PACKAGE__.resources;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import __WS_NS__.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a JSON array, or an object holding one array property, one item at a time while the items are
+ * pulled from a {@link Stream}, so only the item being serialized and Jackson's output buffer are held in
+ * memory however long the collection is. The stream is closed once written (or when writing fails), which
+ * releases a database cursor or file backing it.
+ *
+ * <p>The status and headers are committed before the first item is produced: a failure part-way through
+ * can only abort the response, not turn it into an error status.
+ */
+public final class JsonStreamingOutput implements StreamingOutput {
+
+    private static final ObjectMapper MAPPER = __PACKAGE__.__CLASS_NAME__.ObjectMapperContextResolver.objectMapper();
+    // Jackson flushes its buffer to the container when full; flushing after every item would
+    // turn each item into its own write
+    private static final ObjectWriter ITEM_WRITER = MAPPER.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private final String wrapperProperty;
+    private final Stream<?> items;
+
+    private JsonStreamingOutput(String wrapperProperty, Stream<?> items) {
+        this.wrapperProperty = wrapperProperty;
+        this.items = items != null ? items : Stream.empty();
+    }
+
+    /** Streams {@code items} as a JSON array. */
+    public static JsonStreamingOutput array(Stream<?> items) {
+        return new JsonStreamingOutput(null, items);
+    }
+
+    /** Streams {@code items} as {@code {"<property>": [...]}}. */
+    public static JsonStreamingOutput wrapped(String property, Stream<?> items) {
+        return new JsonStreamingOutput(property, items);
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        try (Stream<?> source = items;
+             JsonGenerator generator = MAPPER.getFactory().createGenerator(output)) {
+            // The container owns the entity stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (wrapperProperty != null) {
+                generator.writeStartObject();
+                generator.writeFieldName(wrapperProperty);
+            }
+            generator.writeStartArray();
+            Iterator<?> iterator = source.iterator();
+            while (iterator.hasNext()) {
+                ITEM_WRITER.writeValue(generator, iterator.next());
+            }
+            generator.writeEndArray();
+            if (wrapperProperty != null) {
+                generator.writeEndObject();
+            }
+        }
+    }
+}
@@ -1,17 +1,24 @@
 package egain.framework.validation;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class ValidationBuilder<T>
 {
-	private final Validator<T> validator = new Validator<>();
+	private final List<ValidatorAction<T>> validatorActions = new ArrayList<>();
 
 	public ValidationBuilder<T> add(ValidatorAction<T> validatorAction)
 	{
-		validator.add(validatorAction);
+		validatorActions.add(validatorAction);
 		return this;
 	}
 
+	/**
+	 * Returns an immutable validator over the actions added so far. The result is safe to build once and
+	 * share across requests; later calls to {@link #add} do not affect it.
+	 */
 	public Validator<T> build()
 	{
-		return validator;
+		return new Validator<>(validatorActions);
 	}
 }
@@ -1,35 +1,37 @@
 package egain.framework.validation;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class Validator<T>
 {
 
-	private final List<ValidatorAction<T>> validatorActions = new ArrayList<>();
+	private final List<ValidatorAction<T>> validatorActions;
 
-	protected Validator()
+	protected Validator(List<ValidatorAction<T>> validatorActions)
 	{
-
+		this.validatorActions = List.copyOf(validatorActions);
 	}
 
-	protected void add(ValidatorAction<T> validatorAction)
+	public List<ValidationError> validate(T input)
 	{
-		validatorActions.add(validatorAction);
+		ValidationError validationError = validateFirst(input);
+		return validationError == null ? List.of() : List.of(validationError);
 	}
 
-	public List<ValidationError> validate(T input)
+	/**
+	 * Runs the actions in order and returns the first error, or {@code null} when the input is valid.
+	 * Allocates nothing on the valid path.
+	 */
+	public ValidationError validateFirst(T input)
 	{
-		List<ValidationError> validationErrors = new ArrayList<>();
-		for (ValidatorAction<T> validatorAction : validatorActions)
+		for (int i = 0; i < validatorActions.size(); i++)
 		{
-			ValidationError validationError = validatorAction.call(input);
+			ValidationError validationError = validatorActions.get(i).call(input);
 			if (validationError != null)
 			{
-				validationErrors.add(validationError);
-				break;
+				return validationError;
 			}
 		}
-		return validationErrors;
+		return null;
 	}
 }
@@ -1,25 +1,25 @@
 package egain.ws.oas;
 
-import com.google.common.collect.Multimap;
-import com.google.common.collect.MultimapBuilder;
-
+import __WS_NS__.core.MultivaluedHashMap;
 import __WS_NS__.core.MultivaluedMap;
 
-public record RequestInfo(String url, String httpMethod, Multimap<String, String> queryParameters,
-                          Multimap<String, String> pathParameters) {
-
-	public RequestInfo(String url, String httpMethod, MultivaluedMap<String, String> queryParameters,
-                       MultivaluedMap<String, String> pathParameters)
-	{
-		this(url, httpMethod, convertMultivaluedMapToMultimap(queryParameters),
-			convertMultivaluedMapToMultimap(pathParameters));
-	}
+/**
+ * Read-only view of the request parameters handed to the parameter validators. The JAX-RS maps are
+ * referenced as-is rather than copied, so building a RequestInfo costs one small object per request.
+ */
+public record RequestInfo(String url, String httpMethod, MultivaluedMap<String, String> queryParameters,
+                          MultivaluedMap<String, String> pathParameters) {
 
-	private static Multimap<String, String> convertMultivaluedMapToMultimap(MultivaluedMap<String, String> multivaluedMap)
+	public RequestInfo
 	{
-		Multimap<String, String> map = MultimapBuilder.linkedHashKeys().arrayListValues().build();
-		multivaluedMap.forEach(map::putAll);
-		return map;
+		if (queryParameters == null)
+		{
+			queryParameters = new MultivaluedHashMap<>();
+		}
+		if (pathParameters == null)
+		{
+			pathParameters = new MultivaluedHashMap<>();
+		}
 	}
 
 	@Override
@@ -1,15 +1,35 @@
 package egain.ws.oas;
 
-import com.google.common.base.Objects;
-
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.regex.Pattern;
 
 public class Validations
 {
 	public static final Pattern RESERVED_CHARACTERS = Pattern.compile("[:/?#\\[\\]@!$&'()*+,;=]");
+	// Regexes and enum lists come from the spec, so both caches are bounded by the number of distinct constraints
+	private static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+	private static final Map<String, Set<String>> ENUM_CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the compiled form of {@code regex}, compiling it only on first use.
+	 */
+	public static Pattern compiledPattern(String regex)
+	{
+		return PATTERN_CACHE.computeIfAbsent(regex, Pattern::compile);
+	}
+
+	/**
+	 * Returns the immutable set of values in a comma-separated enum list, splitting it only on first use.
+	 */
+	public static Set<String> enumValueSet(String input)
+	{
+		return ENUM_CACHE.computeIfAbsent(input, values -> Set.copyOf(Arrays.asList(values.split(",\\s*"))));
+	}
+
 	// For numerical attributes
 	public static final BiFunction<String, String, Boolean> isGreaterThanOrEqualTo = (value, min) -> {
 		try
@@ -97,8 +117,7 @@ public class Validations
 	public static final BiFunction<String, String, Boolean> matchesPattern = (string, regex) -> {
 		if (string == null || regex == null)
 			return false;
-		Pattern pattern = Pattern.compile(regex);
-		return pattern.matcher(string).matches();
+		return compiledPattern(regex).matcher(string).matches();
 	};
 	// For array attributes (size-based checks)
 	public static final BiFunction<String[], String, Boolean> hasMinItems = (array, minItems) -> {
@@ -132,9 +151,7 @@ public class Validations
 	public static final BiFunction<String, String, Boolean> isValueInEnum = (value, input) -> {
 		if (value == null || input == null)
 			return false;
-		Set<String> enumSet = Arrays.stream(input.split(",\\s*")).collect(
-			java.util.stream.Collectors.toSet());
-		return enumSet.contains(value);
+		return enumValueSet(input).contains(value);
 	};
 
 	// For boolean attributes
@@ -144,27 +161,11 @@ public class Validations
 		return !("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value));
 	};
 	public static final BiFunction<RequestInfo, String, String> getQueryParameterValue = (holder,
-		paramName) -> holder.queryParameters().get(paramName).stream().findFirst().orElse(null);
+		paramName) -> holder.queryParameters().getFirst(paramName);
 	public static final BiFunction<RequestInfo, String, String> getPathParameterValue = (holder,
-		paramName) -> holder.pathParameters().get(paramName).stream().findFirst().orElse(null);
+		paramName) -> holder.pathParameters().getFirst(paramName);
 	
 	public record ParameterValidatorMapKey(String url, String httpMethod) {
-		@Override
-		public boolean equals(Object o)
-		{
-			if (this == o)
-				return true;
-			if (o == null || getClass() != o.getClass())
-				return false;
-			ParameterValidatorMapKey that = (ParameterValidatorMapKey) o;
-			return Objects.equal(url, that.url) && Objects.equal(httpMethod, that.httpMethod);
-		}
-
-		@Override
-		public int hashCode()
-		{
-			return Objects.hashCode(url, httpMethod);
-		}
 	}
 
 	public record Parameter(String name, String nameSpace, boolean isRequired, boolean isAllowEmptyValue,
@@ -1,6 +1,5 @@
 package __PACKAGE__.observability;
 
-import __INJECT_NS__.Inject;
 import __INJECT_NS__.Singleton;
 import __WS_NS__.GET;
 import __WS_NS__.Path;
@@ -10,12 +9,10 @@ import __WS_NS__.Produces;
 @Singleton
 public class MetricsEndpoint {
 
-    @Inject
-    private MetricsFilter metricsFilter;
-
     @GET
     @Produces("text/plain")
     public String scrape() {
-        return metricsFilter.getRegistry().scrape();
+        // Read the registry MetricsFilter records into rather than an injected (possibly distinct) filter instance
+        return MetricsFilter.sharedRegistry().scrape();
     }
 }
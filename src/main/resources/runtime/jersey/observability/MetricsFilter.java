@@ -2,6 +2,7 @@ package __PACKAGE__.observability;
 
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import __INJECT_NS__.Singleton;
 import __WS_NS__.container.ContainerRequestContext;
@@ -10,17 +11,39 @@ import __WS_NS__.container.ContainerResponseContext;
 import __WS_NS__.container.ContainerResponseFilter;
 import __WS_NS__.ext.Provider;
 import java.io.IOException;
-import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Records {@code http.server.requests} per HTTP method, matched route template and status.
+ *
+ * <p>The {@code path} tag is the {@code @Path} template Jersey matched (e.g. {@code /v4/articles/{id}}),
+ * never the raw request path, so series count is bounded by the number of operations; requests that matched
+ * no resource share the {@code UNMATCHED} path, as they share one span name in TracingFilter. Meters are
+ * registered once per operation and status and then reused from an in-memory handle cache.
+ */
 @Provider
 @Singleton
 public class MetricsFilter implements ContainerRequestFilter, ContainerResponseFilter {
 
     private static final String START_TIME_PROPERTY = "metrics.startTime";
-    private final PrometheusMeterRegistry registry;
 
-    public MetricsFilter() {
-        this.registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    /** Number of operations in the OpenAPI spec this application was generated from. */
+    private static final int SPEC_OPERATION_COUNT = __OPERATION_COUNT__;
+
+    // One registry per application, shared with MetricsEndpoint however many filter instances are created
+    private static final PrometheusMeterRegistry REGISTRY = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+    // Keyed by RouteTemplates.operationKey
+    private final ConcurrentHashMap<Object, RouteMeters> routes =
+            new ConcurrentHashMap<>(Math.max(16, SPEC_OPERATION_COUNT * 2));
+
+    /**
+     * Returns the registry every MetricsFilter records into.
+     */
+    public static PrometheusMeterRegistry sharedRegistry() {
+        return REGISTRY;
     }
 
     @Override
@@ -34,23 +57,76 @@ public class MetricsFilter implements ContainerRequestFilter, ContainerResponseF
         Object startObj = requestContext.getProperty(START_TIME_PROPERTY);
         if (startObj instanceof Long startTime) {
             long duration = System.nanoTime() - startTime;
-            String method = requestContext.getMethod();
-            String path = requestContext.getUriInfo().getPath();
-            String status = String.valueOf(responseContext.getStatus());
-
-            Timer.builder("http.server.requests")
-                    .tag("method", method)
-                    .tag("path", path)
-                    .tag("status", status)
-                    .register(registry)
-                    .record(Duration.ofNanos(duration));
-
-            registry.counter("http.server.requests.count",
-                    "method", method, "path", path, "status", status).increment();
+            StatusMeters meters = routeMeters(requestContext).forStatus(responseContext.getStatus());
+            meters.timer().record(duration, TimeUnit.NANOSECONDS);
+            meters.counter().increment();
         }
     }
 
     public PrometheusMeterRegistry getRegistry() {
-        return registry;
+        return REGISTRY;
+    }
+
+    private RouteMeters routeMeters(ContainerRequestContext requestContext) {
+        Object key = RouteTemplates.operationKey(requestContext);
+        RouteMeters meters = routes.get(key);
+        if (meters == null) {
+            String method = requestContext.getMethod();
+            String route = RouteTemplates.routeTemplate(requestContext);
+            meters = routes.computeIfAbsent(key, k -> new RouteMeters(method, route));
+        }
+        return meters;
+    }
+
+    /**
+     * Meter handles for one operation. Statuses are few per operation, so they live in a small
+     * copy-on-write array that is scanned without locking or allocation.
+     */
+    private static final class RouteMeters {
+        private final String method;
+        private final String route;
+        private volatile StatusMeters[] byStatus = new StatusMeters[0];
+
+        RouteMeters(String method, String route) {
+            this.method = method;
+            this.route = route;
+        }
+
+        StatusMeters forStatus(int status) {
+            for (StatusMeters meters : byStatus) {
+                if (meters.status() == status) {
+                    return meters;
+                }
+            }
+            return register(status);
+        }
+
+        private synchronized StatusMeters register(int status) {
+            StatusMeters[] current = byStatus;
+            for (StatusMeters meters : current) {
+                if (meters.status() == status) {
+                    return meters;
+                }
+            }
+            String statusTag = String.valueOf(status);
+            StatusMeters meters = new StatusMeters(status,
+                    Timer.builder("http.server.requests")
+                            .tag("method", method)
+                            .tag("path", route)
+                            .tag("status", statusTag)
+                            .register(REGISTRY),
+                    Counter.builder("http.server.requests.count")
+                            .tag("method", method)
+                            .tag("path", route)
+                            .tag("status", statusTag)
+                            .register(REGISTRY));
+            StatusMeters[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = meters;
+            byStatus = next;
+            return meters;
+        }
+    }
+
+    private record StatusMeters(int status, Timer timer, Counter counter) {
     }
 }
@@ -12,8 +12,8 @@ import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
 import io.opentelemetry.semconv.ServiceAttributes;
 
 /**
- * Bootstraps OpenTelemetry SDK with OTLP exporter and W3C trace context propagation.
- * Call {@link #initialize(String)} at application startup.
+ * Bootstraps OpenTelemetry SDK with OTLP exporter, W3C trace context propagation and the
+ * {@link RouteSampler} head sampler. Call {@link #initialize(String)} at application startup.
  */
 public final class ObservabilityBootstrap {
 
@@ -35,6 +35,7 @@ public final class ObservabilityBootstrap {
 
         SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
                 .addSpanProcessor(BatchSpanProcessor.builder(spanExporter).build())
+                .setSampler(RouteSampler.create())
                 .setResource(resource)
                 .build();
 
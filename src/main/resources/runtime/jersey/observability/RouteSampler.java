@@ -0,0 +1,89 @@
+package __PACKAGE__.observability;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Head sampler for the SERVER spans TracingFilter names {@code "<METHOD> <route template>"}. A route is
+ * sampled at the {@code x-trace-sample-ratio} of its spec operation (or path item), every other span at
+ * {@link #DEFAULT_RATIO}. Decisions are taken from the trace id, so a trace is kept or dropped as a whole.
+ *
+ * <p>{@link #create()} wraps it in a parent-based sampler unless the application was generated without
+ * parent-based sampling: a request carrying a trace context is then sampled as its caller decided.
+ */
+public final class RouteSampler implements Sampler {
+
+    private static final double DEFAULT_RATIO = __TRACE_SAMPLE_RATIO__;
+    private static final boolean PARENT_BASED = __TRACE_PARENT_BASED__;
+    // Span names are bounded by the operations; the cap keeps other SERVER spans from growing the cache
+    private static final int MAX_CACHED_NAMES = 1024;
+
+    private static final RouteRatio[] ROUTE_RATIOS = {
+__ROUTE_SAMPLE_RATIOS__    };
+
+    private record RouteRatio(String method, String path, double ratio) {
+    }
+
+    private final Sampler defaultSampler = Sampler.traceIdRatioBased(DEFAULT_RATIO);
+    private final ConcurrentHashMap<String, Sampler> byName = new ConcurrentHashMap<>();
+
+    private RouteSampler() {
+    }
+
+    /**
+     * Returns the sampler configured when the application was generated.
+     */
+    public static Sampler create() {
+        Sampler root = ROUTE_RATIOS.length == 0 ? Sampler.traceIdRatioBased(DEFAULT_RATIO) : new RouteSampler();
+        return PARENT_BASED ? Sampler.parentBased(root) : root;
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+                                       Attributes attributes, List<LinkData> parentLinks) {
+        Sampler sampler = spanKind == SpanKind.SERVER ? samplerFor(name) : defaultSampler;
+        return sampler.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+    }
+
+    @Override
+    public String getDescription() {
+        return "RouteSampler{default=" + DEFAULT_RATIO + ", routes=" + ROUTE_RATIOS.length + "}";
+    }
+
+    private Sampler samplerFor(String spanName) {
+        Sampler sampler = byName.get(spanName);
+        if (sampler == null) {
+            sampler = resolve(spanName);
+            if (byName.size() < MAX_CACHED_NAMES) {
+                byName.putIfAbsent(spanName, sampler);
+            }
+        }
+        return sampler;
+    }
+
+    /**
+     * Sampler of the spec operation matching the span's method and route; the longest matching path wins.
+     */
+    private Sampler resolve(String spanName) {
+        int space = spanName.indexOf(' ');
+        if (space < 0) {
+            return defaultSampler;
+        }
+        String method = spanName.substring(0, space);
+        String route = spanName.substring(space + 1);
+        RouteRatio best = null;
+        for (RouteRatio ratio : ROUTE_RATIOS) {
+            if (ratio.method().equalsIgnoreCase(method) && RouteTemplates.matches(route, ratio.path())
+                    && (best == null || ratio.path().length() > best.path().length())) {
+                best = ratio;
+            }
+        }
+        return best != null ? Sampler.traceIdRatioBased(best.ratio()) : defaultSampler;
+    }
+}
@@ -0,0 +1,67 @@
+package __PACKAGE__.observability;
+
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.uri.UriTemplate;
+import __WS_NS__.container.ContainerRequestContext;
+import __WS_NS__.core.UriInfo;
+import java.util.List;
+
+/**
+ * Route templates of matched requests, so per-operation state (meters, spans, SLA counters) is kept per
+ * operation rather than per raw path. Every filter keys that state by {@link #operationKey} and labels requests
+ * that matched no resource {@link #UNMATCHED}.
+ */
+final class RouteTemplates {
+
+    static final String UNMATCHED = "UNMATCHED";
+
+    private RouteTemplates() {
+    }
+
+    /**
+     * Cache key for the request's operation: the matched ResourceMethod, or the HTTP method string for
+     * requests that matched no resource.
+     */
+    static Object operationKey(ContainerRequestContext requestContext) {
+        UriInfo uriInfo = requestContext.getUriInfo();
+        ResourceMethod resourceMethod = uriInfo instanceof ExtendedUriInfo extended
+                ? extended.getMatchedResourceMethod() : null;
+        return resourceMethod != null ? resourceMethod : requestContext.getMethod();
+    }
+
+    /**
+     * Joins the matched templates (Jersey lists them innermost first) into the full route template (e.g.
+     * {@code /v4/articles/{id}}), or returns {@link #UNMATCHED}.
+     */
+    static String routeTemplate(ContainerRequestContext requestContext) {
+        if (!(requestContext.getUriInfo() instanceof ExtendedUriInfo uriInfo)
+                || uriInfo.getMatchedResourceMethod() == null) {
+            return UNMATCHED;
+        }
+        List<UriTemplate> templates = uriInfo.getMatchedTemplates();
+        StringBuilder route = new StringBuilder();
+        for (int i = templates.size() - 1; i >= 0; i--) {
+            String template = templates.get(i).getTemplate();
+            if (template.isEmpty() || "/".equals(template)) {
+                continue;
+            }
+            if (route.length() > 0 && route.charAt(route.length() - 1) == '/') {
+                route.setLength(route.length() - 1);
+            }
+            if (template.charAt(0) != '/') {
+                route.append('/');
+            }
+            route.append(template);
+        }
+        return route.length() == 0 ? "/" : route.toString();
+    }
+
+    /**
+     * Whether a matched route is the given spec path. The route may carry a base path the spec paths do not,
+     * so it matches by suffix; callers prefer the longest matching path.
+     */
+    static boolean matches(String route, String specPath) {
+        return route.endsWith(specPath);
+    }
+}
@@ -15,8 +15,17 @@ import __WS_NS__.container.ContainerResponseContext;
 import __WS_NS__.container.ContainerResponseFilter;
 import __WS_NS__.ext.Provider;
 import java.io.IOException;
-import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Starts a SERVER span per matched request, named {@code "<METHOD> <route template>"} (e.g.
+ * {@code GET /v4/articles/{id}}) so span names are bounded by the number of operations, and continues the
+ * trace of an incoming W3C trace context.
+ *
+ * <p>Whether a span is sampled is decided when it starts (by {@link RouteSampler} when the SDK is set up by
+ * {@link ObservabilityBootstrap}). Attributes are only built for sampled spans; an unsampled request costs
+ * the context extraction and a cached span name.
+ */
 @Provider
 @Singleton
 public class TracingFilter implements ContainerRequestFilter, ContainerResponseFilter {
@@ -26,6 +35,16 @@ public class TracingFilter implements ContainerRequestFilter, ContainerResponseF
 
     private final Tracer tracer;
 
+    // Keyed by the matched ResourceMethod, or by the HTTP method string for requests that matched no resource
+    private final ConcurrentHashMap<Object, RouteSpan> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Span name and {@code http.route} attribute of one operation; the route is null for unmatched requests,
+     * whose spans are named by the HTTP method alone.
+     */
+    private record RouteSpan(String name, String route) {
+    }
+
     private static final TextMapGetter<ContainerRequestContext> GETTER = new TextMapGetter<>() {
         @Override
         public Iterable<String> keys(ContainerRequestContext carrier) {
@@ -48,12 +67,18 @@ public class TracingFilter implements ContainerRequestFilter, ContainerResponseF
                 .getTextMapPropagator()
                 .extract(Context.current(), requestContext, GETTER);
 
-        Span span = tracer.spanBuilder(requestContext.getMethod() + " " + requestContext.getUriInfo().getPath())
+        RouteSpan routeSpan = routeSpan(requestContext);
+        Span span = tracer.spanBuilder(routeSpan.name())
                 .setParent(extractedContext)
                 .setSpanKind(SpanKind.SERVER)
-                .setAttribute("http.method", requestContext.getMethod())
-                .setAttribute("http.url", requestContext.getUriInfo().getRequestUri().toString())
                 .startSpan();
+        if (span.isRecording()) {
+            span.setAttribute("http.method", requestContext.getMethod());
+            if (routeSpan.route() != null) {
+                span.setAttribute("http.route", routeSpan.route());
+            }
+            span.setAttribute("http.url", requestContext.getUriInfo().getRequestUri().toString());
+        }
 
         Scope scope = span.makeCurrent();
         requestContext.setProperty(SPAN_PROPERTY, span);
@@ -66,9 +91,11 @@ public class TracingFilter implements ContainerRequestFilter, ContainerResponseF
         Scope scope = (Scope) requestContext.getProperty(SCOPE_PROPERTY);
         Span span = (Span) requestContext.getProperty(SPAN_PROPERTY);
         if (span != null) {
-            span.setAttribute("http.status_code", responseContext.getStatus());
-            if (responseContext.getStatus() >= 500) {
-                span.setStatus(StatusCode.ERROR, "HTTP " + responseContext.getStatus());
+            if (span.isRecording()) {
+                span.setAttribute("http.status_code", responseContext.getStatus());
+                if (responseContext.getStatus() >= 500) {
+                    span.setStatus(StatusCode.ERROR, "HTTP " + responseContext.getStatus());
+                }
             }
             span.end();
         }
@@ -76,4 +103,16 @@ public class TracingFilter implements ContainerRequestFilter, ContainerResponseF
             scope.close();
         }
     }
+
+    private RouteSpan routeSpan(ContainerRequestContext requestContext) {
+        Object key = RouteTemplates.operationKey(requestContext);
+        RouteSpan routeSpan = routes.get(key);
+        if (routeSpan == null) {
+            String method = requestContext.getMethod();
+            String route = RouteTemplates.routeTemplate(requestContext);
+            routeSpan = routes.computeIfAbsent(key, k -> RouteTemplates.UNMATCHED.equals(route)
+                    ? new RouteSpan(method, null) : new RouteSpan(method + " " + route, route));
+        }
+        return routeSpan;
+    }
 }
@@ -0,0 +1,88 @@
+#!/usr/bin/env bash
+#
+# Trains an AppCDS (application class data sharing) archive for __CLASS_NAME__ and reports the time from
+# launching the JVM to the first response, without and with the archive.
+#
+#   scripts/train-startup.sh [path ...]
+#
+# The application is started with -XX:ArchiveClassesAtExit, sent one GET per path (default: /) and stopped
+# with SIGTERM, on which the JVM writes every class loaded so far (JDK, Jersey, Jackson and application
+# classes) to target/app.jsa. Paths of real operations archive more of the request path than the default.
+# Then start the application with:
+#
+#   java -XX:SharedArchiveFile=target/app.jsa -cp "$(cat target/app.classpath)" __PACKAGE__.__CLASS_NAME__
+#
+# An archive only matches the JDK and classpath it was trained with; the JVM ignores it (with a warning)
+# after either changes, so retrain after upgrading a dependency or the JDK.
+#
+# Settings: SERVER_HOST / SERVER_PORT as for the application (localhost, 8080).
+# Requires Maven, curl and GNU date.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+MAIN_CLASS="__PACKAGE__.__CLASS_NAME__"
+BASE_URL="http://${SERVER_HOST:-localhost}:${SERVER_PORT:-8080}"
+ARCHIVE=target/app.jsa
+LOG=target/train-startup.log
+PATHS=("$@")
+if [ ${#PATHS[@]} -eq 0 ]; then
+    PATHS=("/")
+fi
+
+# AppCDS only archives classes loaded from jar files, so the compiled classes are jarred
+mvn -q -DskipTests compile dependency:build-classpath -Dmdep.outputFile=target/dependencies.classpath
+jar --create --file target/app.jar -C target/classes .
+echo "target/app.jar:$(cat target/dependencies.classpath)" > target/app.classpath
+CLASSPATH="$(cat target/app.classpath)"
+
+APP_PID=
+FIRST_RESPONSE_MILLIS=
+
+# Starts the application with the given JVM options and waits for the response to the first path
+start_app() {
+    local start
+    start=$(date +%s%N)
+    java "$@" -cp "$CLASSPATH" "$MAIN_CLASS" >> "$LOG" 2>&1 &
+    APP_PID=$!
+    # curl fails until the port accepts connections; any HTTP status is a response
+    until curl -s -o /dev/null "$BASE_URL${PATHS[0]}"; do
+        if ! kill -0 "$APP_PID" 2> /dev/null; then
+            echo "The application exited before responding, see $LOG" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    FIRST_RESPONSE_MILLIS=$(( ($(date +%s%N) - start) / 1000000 ))
+    for path in "${PATHS[@]:1}"; do
+        curl -s -o /dev/null "$BASE_URL$path" || true
+    done
+}
+
+stop_app() {
+    kill -TERM "$APP_PID"
+    wait "$APP_PID" || true
+}
+
+: > "$LOG"
+
+start_app -Xshare:auto
+WITHOUT_ARCHIVE=$FIRST_RESPONSE_MILLIS
+stop_app
+
+rm -f "$ARCHIVE"
+start_app -XX:ArchiveClassesAtExit="$ARCHIVE"
+stop_app
+if [ ! -f "$ARCHIVE" ]; then
+    echo "No archive was written, see $LOG" >&2
+    exit 1
+fi
+
+start_app -XX:SharedArchiveFile="$ARCHIVE"
+WITH_ARCHIVE=$FIRST_RESPONSE_MILLIS
+stop_app
+
+echo "Archive: $ARCHIVE"
+echo "Time to first response without archive: ${WITHOUT_ARCHIVE} ms"
+echo "Time to first response with archive:    ${WITH_ARCHIVE} ms"
@@ -0,0 +1,199 @@
+package com.example.limits;
+
+import jakarta.inject.Singleton;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client rate limiter using the generic cell rate algorithm (GCRA).
+ *
+ * <p>For a quota of {@code max} requests per window, each admitted request pushes the client's
+ * theoretical arrival time (TAT) forward by {@code window / max}; a request is admitted while the
+ * TAT stays within one window of now. This allows bursts of up to {@code max} requests and then
+ * one request every {@code window / max}, like a sliding window, with one {@code long} per quota.
+ *
+ * <p>An admitted request counts against the minute, hour and day quotas alike, whichever of them
+ * was checked; a quota it was not checked against is used up at most, so a client is admitted
+ * again after one idle window. Clients whose quotas are all back to full are evicted periodically. Times are
+ * {@code System.nanoTime()} readings.
+ */
+@Singleton
+public class RateLimiter {
+
+    private static final VarHandle TAT = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int MINUTE = 0;
+    private static final int HOUR = 1;
+    private static final int DAY = 2;
+    private static final long[] WINDOW_NANOS = {
+        TimeUnit.MINUTES.toNanos(1), TimeUnit.HOURS.toNanos(1), TimeUnit.DAYS.toNanos(1)
+    };
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final ConcurrentHashMap<String, long[]> rateLimitMap = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private final AtomicLong nextSweep;
+    private final int maxRequestsPerMinute;
+    private final int maxRequestsPerHour;
+    private final int maxRequestsPerDay;
+
+    public RateLimiter() {
+        // Default values - these would be loaded from SLA spec
+        this(1000, 10000, 100000);
+    }
+
+    public RateLimiter(int maxRequestsPerMinute, int maxRequestsPerHour, int maxRequestsPerDay) {
+        this(maxRequestsPerMinute, maxRequestsPerHour, maxRequestsPerDay, System::nanoTime);
+    }
+
+    // Tests drive the clock
+    RateLimiter(int maxRequestsPerMinute, int maxRequestsPerHour, int maxRequestsPerDay, LongSupplier clock) {
+        this.maxRequestsPerMinute = maxRequestsPerMinute;
+        this.maxRequestsPerHour = maxRequestsPerHour;
+        this.maxRequestsPerDay = maxRequestsPerDay;
+        this.clock = clock;
+        this.nextSweep = new AtomicLong(clock.getAsLong() + SWEEP_INTERVAL_NANOS);
+    }
+
+    public boolean isAllowed(String key) {
+        return isAllowed(key, maxRequestsPerMinute, ChronoUnit.MINUTES);
+    }
+
+    public boolean isAllowed(String key, int maxRequests, ChronoUnit timeUnit) {
+        int window = window(timeUnit);
+        long now = clock.getAsLong();
+        sweepIfDue(now);
+        if (maxRequests <= 0) {
+            return false;
+        }
+        long[] tats = rateLimitMap.computeIfAbsent(key, k -> newState(now));
+        if (!tryAcquire(tats, window, interval(window, maxRequests), now)) {
+            return false;
+        }
+        // Count the request against the other quotas too, without checking them
+        for (int other = 0; other < WINDOW_NANOS.length; other++) {
+            if (other != window) {
+                advance(tats, other, interval(other, getMaxRequests(other)), now);
+            }
+        }
+        return true;
+    }
+
+    public boolean isAllowedPerMinute(String key) {
+        return isAllowed(key, maxRequestsPerMinute, ChronoUnit.MINUTES);
+    }
+
+    public boolean isAllowedPerHour(String key) {
+        return isAllowed(key, maxRequestsPerHour, ChronoUnit.HOURS);
+    }
+
+    public boolean isAllowedPerDay(String key) {
+        return isAllowed(key, maxRequestsPerDay, ChronoUnit.DAYS);
+    }
+
+    public int getRemainingRequests(String key, ChronoUnit timeUnit) {
+        int window = window(timeUnit);
+        int maxRequests = getMaxRequests(window);
+        long[] tats = rateLimitMap.get(key);
+        if (tats == null || maxRequests <= 0) {
+            return Math.max(0, maxRequests);
+        }
+        long now = clock.getAsLong();
+        long used = (long) TAT.getVolatile(tats, window) - now;
+        if (used <= 0) {
+            return maxRequests;
+        }
+        long remaining = (WINDOW_NANOS[window] - used) / interval(window, maxRequests);
+        return (int) Math.max(0, Math.min(maxRequests, remaining));
+    }
+
+    /**
+     * Number of clients currently tracked.
+     */
+    public int getTrackedClients() {
+        return rateLimitMap.size();
+    }
+
+    private static boolean tryAcquire(long[] tats, int window, long interval, long now) {
+        long tolerance = WINDOW_NANOS[window] - interval;
+        while (true) {
+            long tat = (long) TAT.getVolatile(tats, window);
+            long start = tat - now > 0 ? tat : now;
+            if (start - now > tolerance) {
+                return false;
+            }
+            if (TAT.compareAndSet(tats, window, tat, start + interval)) {
+                return true;
+            }
+        }
+    }
+
+    private static void advance(long[] tats, int window, long interval, long now) {
+        // Unchecked requests may overrun the quota, but never owe more than one window
+        long cap = now + WINDOW_NANOS[window];
+        while (true) {
+            long tat = (long) TAT.getVolatile(tats, window);
+            long start = tat - now > 0 ? tat : now;
+            long next = start + interval - cap > 0 ? cap : start + interval;
+            if (TAT.compareAndSet(tats, window, tat, next)) {
+                return;
+            }
+        }
+    }
+
+    private void sweepIfDue(long now) {
+        long due = nextSweep.get();
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+        // A client is idle once every quota is back to full, so its state equals a fresh one. A request
+        // racing with the removal is recorded in the dropped state: at most one uncounted request.
+        rateLimitMap.values().removeIf(tats -> {
+            for (int window = 0; window < tats.length; window++) {
+                if ((long) TAT.getVolatile(tats, window) - now > 0) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    private static long[] newState(long now) {
+        long[] tats = new long[WINDOW_NANOS.length];
+        Arrays.fill(tats, now);
+        return tats;
+    }
+
+    private static long interval(int window, int maxRequests) {
+        return Math.max(1, WINDOW_NANOS[window] / Math.max(1, maxRequests));
+    }
+
+    private static int window(ChronoUnit timeUnit) {
+        switch (timeUnit) {
+            case MINUTES:
+                return MINUTE;
+            case HOURS:
+                return HOUR;
+            case DAYS:
+                return DAY;
+            default:
+                throw new IllegalArgumentException("Unsupported rate limit window: " + timeUnit);
+        }
+    }
+
+    private int getMaxRequests(int window) {
+        switch (window) {
+            case HOUR:
+                return maxRequestsPerHour;
+            case DAY:
+                return maxRequestsPerDay;
+            default:
+                return maxRequestsPerMinute;
+        }
+    }
+}
@@ -366,6 +366,35 @@ public class OASSDKTest {
         assertFalse(Files.exists(tempDir.resolve("mock-data")));
     }
     
+    @Test
+    public void testGenerateAll_parallelProducesSameFilesAsSequential(@TempDir Path tempDir) throws Exception {
+        Path sequentialDir = tempDir.resolve("sequential");
+        Path parallelDir = tempDir.resolve("parallel");
+        for (int parallelism : new int[]{1, 4}) {
+            GeneratorConfig genConfig = GeneratorConfig.builder()
+                    .language("java")
+                    .framework("jersey")
+                    .packageName("com.test")
+                    .generationParallelism(parallelism)
+                    .build();
+            try (OASSDK configuredSDK = new OASSDK(genConfig, TestConfig.builder().build(), null)) {
+                configuredSDK.loadSpec("src/test/resources/openapi.yaml");
+                configuredSDK.generateAll((parallelism == 1 ? sequentialDir : parallelDir).toString());
+            }
+        }
+
+        assertEquals(listFiles(sequentialDir), listFiles(parallelDir));
+    }
+
+    private static List<String> listFiles(Path root) throws java.io.IOException {
+        try (var files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile)
+                    .map(f -> root.relativize(f).toString().replace('\\', '/'))
+                    .sorted()
+                    .toList();
+        }
+    }
+
     @Test
     public void testRunTestsWithNullTestDir() {
         assertThrows(NullPointerException.class, () -> {
@@ -132,4 +132,14 @@ public class UtilTest {
                 () -> Util.asObjectList("not a list"));
         assertTrue(e.getMessage().contains("Expected a List"));
     }
+
+    @Test
+    public void testParseMillis() {
+        assertEquals(250.0, Util.parseMillis(250, -1));
+        assertEquals(200.0, Util.parseMillis("200ms", -1));
+        assertEquals(1500.0, Util.parseMillis("1.5s", -1));
+        assertEquals(0.8, Util.parseMillis("800us", -1), 1e-9);
+        assertEquals(-1.0, Util.parseMillis("soon", -1));
+        assertEquals(-1.0, Util.parseMillis(null, -1));
+    }
 }
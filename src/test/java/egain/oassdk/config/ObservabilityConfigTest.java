@@ -29,6 +29,22 @@ public class ObservabilityConfigTest {
         assertNull(config.getServiceName(), "serviceName should default to null");
         assertNotNull(config.getResourceAttributes(), "resourceAttributes should not be null");
         assertTrue(config.getResourceAttributes().isEmpty(), "resourceAttributes should be empty by default");
+        assertEquals(1.0, config.getTraceSampleRatio(), "traceSampleRatio should default to 1.0");
+        assertTrue(config.isParentBasedSampling(), "parentBasedSampling should default to true");
+    }
+
+    @Test
+    @DisplayName("Builder sets sampling and rejects ratios outside 0.0 to 1.0")
+    public void testSamplingSettings() {
+        ObservabilityConfig config = ObservabilityConfig.builder()
+                .traceSampleRatio(0.05)
+                .parentBasedSampling(false)
+                .build();
+
+        assertEquals(0.05, config.getTraceSampleRatio());
+        assertFalse(config.isParentBasedSampling());
+        assertThrows(IllegalArgumentException.class, () -> ObservabilityConfig.builder().traceSampleRatio(1.5).build());
+        assertThrows(IllegalArgumentException.class, () -> config.setTraceSampleRatio(Double.NaN));
     }
 
     @Test
@@ -0,0 +1,101 @@
+package egain.oassdk.core.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for GeneratedFiles
+ */
+public class GeneratedFilesTest {
+
+    private static final FileTime OLD_TIME = FileTime.fromMillis(1_000_000_000_000L);
+
+    @Test
+    public void testUnchangedFileIsNotRewritten(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("src/A.java");
+        assertEquals(GeneratedFiles.Status.ADDED, GeneratedFiles.write(file, "class A {}"));
+        Files.setLastModifiedTime(file, OLD_TIME);
+
+        assertEquals(GeneratedFiles.Status.UNCHANGED, GeneratedFiles.write(file, "class A {}"));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(file), "Unchanged content must keep the timestamp");
+
+        assertEquals(GeneratedFiles.Status.CHANGED, GeneratedFiles.write(file, "class A { int x; }"));
+        assertEquals("class A { int x; }", Files.readString(file));
+    }
+
+    @Test
+    public void testSessionCountsAndPrunesStaleFiles(@TempDir Path tempDir) throws IOException {
+        try (GeneratedFiles.Session files = GeneratedFiles.open(tempDir, "app")) {
+            GeneratedFiles.write(tempDir.resolve("a/A.java"), "A");
+            GeneratedFiles.write(tempDir.resolve("b/B.java"), "B");
+            GeneratedFiles.write(tempDir.resolve("b/c/C.java"), "C");
+            assertEquals(new GeneratedFiles.WriteReport(3, 0, 0, 0), files.finish());
+        }
+
+        try (GeneratedFiles.Session files = GeneratedFiles.open(tempDir, "app")) {
+            GeneratedFiles.write(tempDir.resolve("a/A.java"), "A");
+            GeneratedFiles.write(tempDir.resolve("b/B.java"), "B2");
+            GeneratedFiles.write(tempDir.resolve("d/D.java"), "D");
+            assertEquals(new GeneratedFiles.WriteReport(1, 1, 1, 1), files.finish());
+        }
+
+        assertFalse(Files.exists(tempDir.resolve("b/c")), "Directories left empty by pruning are removed");
+        assertTrue(Files.exists(tempDir.resolve("b/B.java")));
+        assertTrue(Files.isRegularFile(tempDir.resolve(GeneratedFiles.MANIFEST_DIR).resolve("app.manifest")));
+    }
+
+    @Test
+    public void testEditedStaleFileIsKept(@TempDir Path tempDir) throws IOException {
+        Path edited = tempDir.resolve("Edited.java");
+        try (GeneratedFiles.Session files = GeneratedFiles.open(tempDir, "app")) {
+            GeneratedFiles.write(edited, "generated");
+            files.finish();
+        }
+        Files.writeString(edited, "edited by hand");
+
+        try (GeneratedFiles.Session files = GeneratedFiles.open(tempDir, "app")) {
+            assertEquals(0, files.finish().removed());
+        }
+        assertEquals("edited by hand", Files.readString(edited));
+    }
+
+    @Test
+    public void testScopesDoNotPruneEachOther(@TempDir Path tempDir) throws IOException {
+        try (GeneratedFiles.Session files = GeneratedFiles.open(tempDir, "application")) {
+            GeneratedFiles.write(tempDir.resolve("App.java"), "app");
+            files.finish();
+        }
+        try (GeneratedFiles.Session files = GeneratedFiles.open(tempDir, "tests")) {
+            GeneratedFiles.write(tempDir.resolve("AppTest.java"), "test");
+            assertEquals(0, files.finish().removed());
+        }
+        assertTrue(Files.exists(tempDir.resolve("App.java")));
+    }
+
+    @Test
+    public void testFailedRunKeepsFilesForLaterCleanup(@TempDir Path tempDir) throws IOException {
+        try (GeneratedFiles.Session files = GeneratedFiles.open(tempDir, "app")) {
+            GeneratedFiles.write(tempDir.resolve("Old.java"), "old");
+            files.finish();
+        }
+        // Closed without finish(): nothing is pruned and both runs' files stay in the manifest
+        try (GeneratedFiles.Session ignored = GeneratedFiles.open(tempDir, "app")) {
+            GeneratedFiles.write(tempDir.resolve("Partial.java"), "partial");
+        }
+        assertTrue(Files.exists(tempDir.resolve("Old.java")));
+
+        try (GeneratedFiles.Session files = GeneratedFiles.open(tempDir, "app")) {
+            GeneratedFiles.write(tempDir.resolve("New.java"), "new");
+            assertEquals(2, files.finish().removed());
+        }
+        assertFalse(Files.exists(tempDir.resolve("Old.java")));
+        assertFalse(Files.exists(tempDir.resolve("Partial.java")));
+    }
+}
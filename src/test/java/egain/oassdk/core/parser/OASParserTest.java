@@ -481,5 +481,82 @@ public class OASParserTest {
         assertFalse(schemas.containsKey("ImplicitObjectListRef"),
             "Inline array with implicit object items must not register ImplicitObjectListRef when inlined");
     }
-}
 
+    @Test
+    public void testResolveReferencesWithManyExternalFilesIsDeterministic(@TempDir Path tempDir) throws IOException, OASSDKException {
+        // External files are parsed concurrently up front; resolution must still register every
+        // transitively referenced file and give the same result on every run.
+        Path modelsDir = tempDir.resolve("models");
+        Files.createDirectories(modelsDir);
+
+        String commonYaml = """
+            components:
+              parameters:
+                accept:
+                  name: Accept
+                  in: header
+                  schema:
+                    type: string
+              schemas:
+                Unused:
+                  type: object
+                  properties:
+                    id:
+                      type: string
+            """;
+        Files.writeString(tempDir.resolve("common.yaml"), commonYaml);
+
+        StringBuilder paths = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+            String next = i < 11 ? "$ref: \"./Item" + (i + 1) + ".yaml\"" : "type: string";
+            Files.writeString(modelsDir.resolve("Item" + i + ".yaml"), """
+                type: object
+                title: Item%d
+                properties:
+                  id:
+                    type: string
+                  next:
+                    %s
+                """.formatted(i, next));
+            paths.append("""
+                  /items%d:
+                    get:
+                      operationId: getItem%d
+                      parameters:
+                        - $ref: 'common.yaml#/components/parameters/accept'
+                      responses:
+                        '200':
+                          description: OK
+                          content:
+                            application/json:
+                              schema:
+                                $ref: 'models/Item%d.yaml'
+                """.formatted(i, i, i));
+        }
+        Path apiPath = tempDir.resolve("api.yaml");
+        Files.writeString(apiPath, """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths:
+            """ + paths);
+
+        OASParser first = new OASParser(List.of(tempDir.toString()));
+        Map<String, Object> resolved = first.resolveReferences(first.parse(apiPath.toString()), apiPath.toString());
+        OASParser second = new OASParser(List.of(tempDir.toString()));
+        Map<String, Object> again = second.resolveReferences(second.parse(apiPath.toString()), apiPath.toString());
+
+        assertEquals(resolved, again, "Resolution of a multi-file spec must be deterministic");
+        Map<String, Object> components = Util.asStringObjectMap(resolved.get("components"));
+        assertNotNull(components);
+        Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
+        assertNotNull(schemas);
+        for (int i = 0; i < 12; i++) {
+            assertTrue(schemas.containsKey("Item" + i), "Item" + i + " must be registered");
+        }
+        Map<String, Object> parameters = Util.asStringObjectMap(components.get("parameters"));
+        assertNotNull(parameters);
+        assertTrue(parameters.containsKey("accept"));
+    }
+}
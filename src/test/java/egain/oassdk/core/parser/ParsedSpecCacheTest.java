@@ -0,0 +1,180 @@
+package egain.oassdk.core.parser;
+
+import egain.oassdk.core.exceptions.OASSDKException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ParsedSpecCache
+ */
+public class ParsedSpecCacheTest {
+
+    private static final String API_YAML = """
+        openapi: 3.0.0
+        info:
+          title: Cached API
+          version: 1.0.0
+        paths:
+          /items:
+            get:
+              operationId: listItems
+              responses:
+                '200':
+                  description: OK
+                  content:
+                    application/json:
+                      schema:
+                        $ref: 'models/Item.yaml'
+          /items/{id}:
+            get:
+              operationId: getItem
+              parameters:
+                - name: id
+                  in: path
+                  required: true
+                  schema:
+                    type: integer
+              responses:
+                '200':
+                  description: OK
+                  content:
+                    application/json:
+                      schema:
+                        $ref: 'models/Item.yaml'
+        """;
+
+    private static final String ITEM_YAML = """
+        type: object
+        title: Item
+        properties:
+          id:
+            type: integer
+          price:
+            type: number
+          tags:
+            type: array
+            items:
+              type: string
+        """;
+
+    @Test
+    public void testStoreAndLoadRoundTrip(@TempDir Path tempDir) throws IOException, OASSDKException {
+        Path apiPath = writeSpec(tempDir.resolve("spec"));
+        OASParser parser = new OASParser();
+        Map<String, Object> resolved = parser.resolveReferences(parser.parse(apiPath.toString()), apiPath.toString());
+
+        ParsedSpecCache cache = new ParsedSpecCache(tempDir.resolve("cache"), null, null, null);
+        String key = parser.fileKey(apiPath.toString());
+        assertNull(cache.load(key), "Empty cache must miss");
+        assertEquals(2, parser.getLastResolvedFiles().size());
+        assertEquals(key, parser.getLastResolvedFiles().get(0));
+
+        cache.store(key, resolved, parser.getLastResolvedFiles());
+        Map<String, Object> cached = cache.load(key);
+
+        assertNotNull(cached, "Unchanged spec must hit");
+        assertEquals(resolved, cached);
+    }
+
+    @Test
+    public void testSharedAndCyclicObjectsSurviveLoad(@TempDir Path tempDir) throws IOException {
+        Path apiPath = writeSpec(tempDir.resolve("spec"));
+        String key = PathUtils.toUnixPath(apiPath.toAbsolutePath().normalize());
+        Map<String, Object> node = new HashMap<>();
+        node.put("type", "object");
+        node.put("properties", Map.of("self", node));
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("first", node);
+        spec.put("second", node);
+        spec.put("numbers", List.of(1, 5_000_000_000L, 1.5, true));
+
+        ParsedSpecCache cache = new ParsedSpecCache(tempDir.resolve("cache"), null, null, null);
+        cache.store(key, spec, List.of(key));
+        Map<String, Object> cached = cache.load(key);
+
+        assertNotNull(cached);
+        assertSame(cached.get("first"), cached.get("second"), "Shared instances must stay shared");
+        // Cast rather than copy: the identity of the restored maps is what is under test
+        Map<?, ?> first = (Map<?, ?>) cached.get("first");
+        Map<?, ?> properties = (Map<?, ?>) first.get("properties");
+        assertSame(first, properties.get("self"), "Cycles must be restored");
+        assertEquals(List.of(1, 5_000_000_000L, 1.5, true), cached.get("numbers"));
+    }
+
+    @Test
+    public void testEditedFragmentInvalidatesEntry(@TempDir Path tempDir) throws IOException, OASSDKException {
+        Path apiPath = writeSpec(tempDir.resolve("spec"));
+        OASParser parser = new OASParser();
+        Map<String, Object> resolved = parser.resolveReferences(parser.parse(apiPath.toString()), apiPath.toString());
+        ParsedSpecCache cache = new ParsedSpecCache(tempDir.resolve("cache"), null, null, null);
+        String key = parser.fileKey(apiPath.toString());
+        cache.store(key, resolved, parser.getLastResolvedFiles());
+
+        Path itemPath = apiPath.getParent().resolve("models").resolve("Item.yaml");
+        Files.writeString(itemPath, ITEM_YAML.replace("price", "cost"));
+        assertNull(cache.load(key), "Changing a referenced file must invalidate the entry");
+
+        Files.delete(itemPath);
+        assertNull(cache.load(key), "Deleting a referenced file must invalidate the entry");
+    }
+
+    @Test
+    public void testZipSource(@TempDir Path tempDir) throws IOException, OASSDKException {
+        Path zipPath = tempDir.resolve("specs.zip");
+        writeZip(zipPath, ITEM_YAML);
+        Map<String, Object> resolved;
+        String key;
+        List<String> files;
+        try (FileSystem zipFs = FileSystems.newFileSystem(zipPath, (ClassLoader) null)) {
+            OASParser parser = new OASParser(null, zipFs, "/");
+            resolved = parser.resolveReferences(parser.parse("api/api.yaml"), "api/api.yaml");
+            key = parser.fileKey("api/api.yaml");
+            files = parser.getLastResolvedFiles();
+            ParsedSpecCache cache = new ParsedSpecCache(tempDir.resolve("cache"), zipFs, zipPath.toString(), null);
+            cache.store(key, resolved, files);
+            assertEquals(resolved, cache.load(key));
+        }
+
+        writeZip(zipPath, ITEM_YAML.replace("price", "cost"));
+        try (FileSystem zipFs = FileSystems.newFileSystem(zipPath, (ClassLoader) null)) {
+            ParsedSpecCache cache = new ParsedSpecCache(tempDir.resolve("cache"), zipFs, zipPath.toString(), null);
+            assertNull(cache.load(key), "Changing a ZIP entry must invalidate the entry");
+        }
+    }
+
+    private static Path writeSpec(Path dir) throws IOException {
+        Files.createDirectories(dir.resolve("models"));
+        Files.writeString(dir.resolve("models").resolve("Item.yaml"), ITEM_YAML);
+        Path apiPath = dir.resolve("api.yaml");
+        Files.writeString(apiPath, API_YAML);
+        return apiPath;
+    }
+
+    private static void writeZip(Path zipPath, String itemYaml) throws IOException {
+        try (OutputStream out = Files.newOutputStream(zipPath);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("api/api.yaml"));
+            zip.write(API_YAML.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("api/models/Item.yaml"));
+            zip.write(itemYaml.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+    }
+}
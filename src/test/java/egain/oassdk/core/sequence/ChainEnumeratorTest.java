@@ -2,10 +2,15 @@ package egain.oassdk.core.sequence;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ChainEnumeratorTest {
 
@@ -86,7 +91,7 @@ class ChainEnumeratorTest {
 
     @Test
     void permutations_noRepeats_countsAndDistinctness() {
-        List<List<String>> perms = ChainEnumerator.permutations(List.of("a", "b", "c"), 2, false);
+        List<List<String>> perms = permutations(List.of("a", "b", "c"), 2, false);
         assertThat(perms).hasSize(6);
         assertThat(perms).allMatch(p -> p.size() == 2);
         assertThat(perms).doesNotHaveDuplicates();
@@ -95,7 +100,7 @@ class ChainEnumeratorTest {
 
     @Test
     void permutations_withRepeats_allowsDuplicates() {
-        List<List<String>> perms = ChainEnumerator.permutations(List.of("a", "b"), 2, true);
+        List<List<String>> perms = permutations(List.of("a", "b"), 2, true);
         assertThat(perms).hasSize(4).contains(List.of("a", "a"), List.of("b", "b"));
     }
 
@@ -211,6 +216,320 @@ class ChainEnumeratorTest {
         assertThat(chains).noneMatch(c -> c.seedPost().path().equals("/a/{aId}/b/{bId}/c"));
     }
 
+    @Test
+    void stream_yieldsSameChainsAsMaterializedEnumeration() {
+        List<Map<String, Object>> specs = List.of(
+                SequenceTestFixtures.folderSpecWithCrud(),
+                SequenceTestFixtures.orderWithItemsSpec(),
+                SequenceTestFixtures.twoLevelNestedSpec(),
+                SequenceTestFixtures.alternativeCreatorsSpec());
+        for (Map<String, Object> spec : specs) {
+            List<ApiCallInfo> calls = extractor.extract(spec);
+            for (boolean deleteLastOnly : new boolean[] {true, false}) {
+                for (boolean allowRepeats : new boolean[] {false, true}) {
+                    ChainConfig config = ChainConfig.builder()
+                            .maxChainLength(5)
+                            .deleteLastOnly(deleteLastOnly)
+                            .allowRepeats(allowRepeats)
+                            .build();
+                    List<EnumeratedChain> expected = materializedEnumeration(calls, config);
+
+                    assertThat(new ChainEnumerator(config).stream(calls).toList())
+                            .as("deleteLastOnly=%s allowRepeats=%s", deleteLastOnly, allowRepeats)
+                            .hasSizeGreaterThan(1)
+                            .isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    void stream_isLazy() {
+        // With repeats and 4 consumers a 30-step budget is 4^29 tails; only
+        // the requested chains may be built.
+        List<ApiCallInfo> calls = extractor.extract(SequenceTestFixtures.folderSpecWithCrud());
+        ChainEnumerator e = new ChainEnumerator(
+                ChainConfig.builder().maxChainLength(30).allowRepeats(true).build());
+
+        List<EnumeratedChain> chains = e.stream(calls).limit(6).toList();
+
+        assertThat(chains).hasSize(6);
+        assertThat(chains.get(0).steps()).hasSize(1);
+        assertThat(chains.get(5).steps()).hasSize(3);
+    }
+
+    @Test
+    void maxChains_stopsTailsButKeepsEverySeed() {
+        List<ApiCallInfo> calls = extractor.extract(SequenceTestFixtures.orderWithItemsSpec());
+        List<EnumeratedChain> chains = new ChainEnumerator(
+                ChainConfig.builder().maxChainLength(4).maxChains(1).build()).enumerate(calls);
+
+        // The /orders family spends the budget on its minimal chain; the
+        // items family still emits prefix + seed.
+        assertThat(chains).hasSize(2);
+        assertThat(chains).extracting(c -> c.seedPost().path())
+                .containsExactly("/orders", "/orders/{orderId}/items");
+        assertThat(chains.get(1).steps())
+                .extracting(ApiCallInfo::path)
+                .containsExactly("/orders", "/orders/{orderId}/items");
+    }
+
+    @Test
+    void zeroTimeBudget_emitsOnlyMinimalChains() {
+        List<ApiCallInfo> calls = extractor.extract(SequenceTestFixtures.folderSpecWithCrud());
+        List<EnumeratedChain> chains = new ChainEnumerator(ChainConfig.builder()
+                .maxChainLength(4).timeBudget(Duration.ZERO).build()).enumerate(calls);
+
+        assertThat(chains).singleElement()
+                .satisfies(c -> assertThat(methodsOf(c)).containsExactly("POST"));
+    }
+
+    @Test
+    void negativeBudgets_areRejected() {
+        assertThatThrownBy(() -> ChainConfig.builder().maxChains(-1).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ChainConfig.builder().timeBudget(Duration.ofMillis(-1)).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pairwiseSelection_coversEveryTransitionWithFewerChains() {
+        // Exhaustive emits 26 chains for the four CRUD consumers (see
+        // crudSpec_chainSizes_matchExpectedPermutations); the 9 feasible
+        // consumer pairs (no DELETE first, no repeats) fit in far fewer.
+        List<ApiCallInfo> calls = extractor.extract(SequenceTestFixtures.folderSpecWithCrud());
+        List<ChainCoverage> coverage = new ArrayList<>();
+        List<EnumeratedChain> chains = new ChainEnumerator(ChainConfig.builder()
+                .maxChainLength(4)
+                .selection(ChainConfig.Selection.PAIRWISE)
+                .build()).stream(calls, coverage::add).toList();
+
+        assertThat(chains.size()).isLessThan(10);
+        assertThat(coverage).singleElement().satisfies(c -> {
+            assertThat(c.strength()).isEqualTo(2);
+            assertThat(c.targetTransitions()).isEqualTo(9);
+            assertThat(c.coveredTransitions()).isEqualTo(9);
+            assertThat(c.emittedChains()).isEqualTo(chains.size());
+            assertThat(c.exhaustiveChains()).isEqualTo(26);
+        });
+        assertThat(methodsOf(chains.get(0))).containsExactly("POST");
+        for (EnumeratedChain chain : chains) {
+            List<String> methods = methodsOf(chain);
+            assertThat(methods.subList(0, methods.size() - 1)).doesNotContain("DELETE");
+            assertThat(methods).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    void threeWiseSelection_coversEveryTriple() {
+        List<ApiCallInfo> calls = extractor.extract(SequenceTestFixtures.folderSpecWithCrud());
+        List<ChainCoverage> coverage = new ArrayList<>();
+        new ChainEnumerator(ChainConfig.builder()
+                .maxChainLength(5)
+                .selection(ChainConfig.Selection.THREE_WISE)
+                .build()).stream(calls, coverage::add).forEach(chain -> { });
+
+        assertThat(coverage).singleElement().satisfies(c -> {
+            assertThat(c.strength()).isEqualTo(3);
+            assertThat(c.ratio()).isEqualTo(1.0);
+            assertThat((long) c.emittedChains()).isLessThan(c.exhaustiveChains());
+        });
+    }
+
+    @Test
+    void threeWiseCoverage_fallsBackToPairsForLargePools() {
+        // 1300^3 run codes overflow an int; one DELETE, which may not open a pair
+        boolean[] isDelete = new boolean[1300];
+        isDelete[1299] = true;
+
+        TransitionCoverage large = new TransitionCoverage(isDelete, 3, 3, false, true);
+        TransitionCoverage small = new TransitionCoverage(new boolean[10], 3, 3, false, true);
+
+        assertThat(large.strength()).isEqualTo(2);
+        assertThat(large.targetCount()).isEqualTo(1299 * 1299);
+        assertThat(large.record(new int[] {0, 1, 1299})).isEqualTo(2);
+        assertThat(small.strength()).isEqualTo(3);
+    }
+
+    @Test
+    void sampledSelection_isReproducibleForASeed() {
+        List<ApiCallInfo> calls = extractor.extract(SequenceTestFixtures.orderWithItemsSpec());
+        ChainConfig config = ChainConfig.builder()
+                .maxChainLength(5)
+                .deleteLastOnly(false)
+                .selection(ChainConfig.Selection.PAIRWISE)
+                .randomSeed(42)
+                .build();
+
+        assertThat(new ChainEnumerator(config).enumerate(calls))
+                .isEqualTo(new ChainEnumerator(config).enumerate(calls));
+    }
+
+    @Test
+    void exhaustiveSelection_reportsFullPairCoverage() {
+        List<ApiCallInfo> calls = extractor.extract(SequenceTestFixtures.folderSpecWithCrud());
+        List<ChainCoverage> coverage = new ArrayList<>();
+        List<EnumeratedChain> chains = new ChainEnumerator(
+                ChainConfig.builder().maxChainLength(4).build()).stream(calls, coverage::add).toList();
+
+        assertThat(coverage).singleElement().satisfies(c -> {
+            assertThat(c.ratio()).isEqualTo(1.0);
+            assertThat(c.emittedChains()).isEqualTo(chains.size());
+            assertThat(c.exhaustiveChains()).isEqualTo(chains.size());
+        });
+    }
+
+    /**
+     * The enumeration as it was before chains were streamed: every tail
+     * permutation of every family materialized, then filtered and deduped
+     * on the method+path signature. Prefixes and tail pools come from the
+     * linear scans over the call list, not from {@link OperationGraph}.
+     */
+    private static List<EnumeratedChain> materializedEnumeration(List<ApiCallInfo> allCalls, ChainConfig config) {
+        List<EnumeratedChain> out = new ArrayList<>();
+        Set<String> seenSignatures = new HashSet<>();
+        for (ApiCallInfo post : allCalls) {
+            if (!"POST".equalsIgnoreCase(post.method())) {
+                continue;
+            }
+            PrefixResult prefixResult = buildPrefix(post, allCalls, new HashSet<>());
+            List<ApiCallInfo> prefix = prefixResult.steps();
+            boolean unresolved = prefixResult.hasUnresolved();
+            if (unresolved && config.unresolvedParamPolicy() == ChainConfig.UnresolvedParamPolicy.SKIP) {
+                continue;
+            }
+            int seedLen = prefix.size() + 1;
+            if (seedLen > config.maxChainLength()) {
+                continue;
+            }
+            addIfUnique(prefix, post, List.of(), unresolved, out, seenSignatures);
+
+            List<ApiCallInfo> tailPool = buildTailPool(post, allCalls);
+            int tailBudget = config.maxChainLength() - seedLen;
+            int maxTail = config.allowRepeats() ? tailBudget : Math.min(tailBudget, tailPool.size());
+            for (int tailLen = 1; tailLen <= maxTail; tailLen++) {
+                for (List<ApiCallInfo> tail : permutations(tailPool, tailLen, config.allowRepeats())) {
+                    boolean deleteBeforeEnd = tail.subList(0, tail.size() - 1).stream()
+                            .anyMatch(c -> "DELETE".equalsIgnoreCase(c.method()));
+                    if (!(config.deleteLastOnly() && deleteBeforeEnd)) {
+                        addIfUnique(prefix, post, tail, unresolved, out, seenSignatures);
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    private static PrefixResult buildPrefix(ApiCallInfo post, List<ApiCallInfo> allCalls,
+                                            Set<ApiCallInfo> visiting) {
+        if (post.pathParamNames().isEmpty()) {
+            return new PrefixResult(List.of(), false);
+        }
+        if (visiting.contains(post)) {
+            return new PrefixResult(List.of(), true);
+        }
+        Set<ApiCallInfo> nextVisiting = new HashSet<>(visiting);
+        nextVisiting.add(post);
+
+        List<ApiCallInfo> steps = new ArrayList<>();
+        Set<ApiCallInfo> included = new HashSet<>();
+        boolean anyUnresolved = false;
+        for (String param : post.pathParamNames()) {
+            ApiCallInfo producer = ApiCallExtractor.findProducerForParam(post, param, allCalls);
+            if (producer == null) {
+                anyUnresolved = true;
+                continue;
+            }
+            if (included.contains(producer)) {
+                continue;
+            }
+            PrefixResult sub = buildPrefix(producer, allCalls, nextVisiting);
+            anyUnresolved |= sub.hasUnresolved();
+            for (ApiCallInfo step : sub.steps()) {
+                if (included.add(step)) {
+                    steps.add(step);
+                }
+            }
+            if (included.add(producer)) {
+                steps.add(producer);
+            }
+        }
+        return new PrefixResult(steps, anyUnresolved);
+    }
+
+    private static List<ApiCallInfo> buildTailPool(ApiCallInfo seed, List<ApiCallInfo> allCalls) {
+        Set<String> boundParams = new HashSet<>(seed.pathParamNames());
+        String descendantScan = seed.path() + "/{";
+        for (ApiCallInfo c : allCalls) {
+            int end = c.path().indexOf('}', descendantScan.length());
+            if (c.path().startsWith(descendantScan) && end > descendantScan.length()) {
+                boundParams.add(c.path().substring(descendantScan.length(), end));
+                break;
+            }
+        }
+        List<ApiCallInfo> pool = new ArrayList<>();
+        for (ApiCallInfo c : allCalls) {
+            if (c != seed && c.isConsumer() && !"POST".equalsIgnoreCase(c.method())
+                    && (c.path().equals(seed.path()) || c.path().startsWith(seed.path() + "/"))
+                    && boundParams.containsAll(c.pathParamNames())) {
+                pool.add(c);
+            }
+        }
+        return pool;
+    }
+
+    private static void addIfUnique(List<ApiCallInfo> prefix, ApiCallInfo seed, List<ApiCallInfo> tail,
+                                    boolean unresolved, List<EnumeratedChain> out, Set<String> seenSignatures) {
+        List<ApiCallInfo> steps = new ArrayList<>(prefix);
+        steps.add(seed);
+        steps.addAll(tail);
+        StringBuilder sig = new StringBuilder();
+        for (ApiCallInfo c : steps) {
+            sig.append(c.method()).append(' ').append(c.path()).append('|');
+        }
+        if (seenSignatures.add(sig.toString())) {
+            out.add(new EnumeratedChain(seed, steps, unresolved));
+        }
+    }
+
+    /**
+     * All ordered tuples of length {@code k} drawn from {@code pool}:
+     * {@code P(n, k) = n!/(n-k)!} without repeats, {@code n^k} with them.
+     */
+    private static <T> List<List<T>> permutations(List<T> pool, int k, boolean withRepeats) {
+        List<List<T>> out = new ArrayList<>();
+        if (k == 0) {
+            out.add(List.of());
+            return out;
+        }
+        if (!withRepeats && k > pool.size()) {
+            return out;
+        }
+        permuteInto(pool, k, new ArrayList<>(k), new boolean[pool.size()], withRepeats, out);
+        return out;
+    }
+
+    private static <T> void permuteInto(List<T> pool, int k, List<T> current, boolean[] used,
+                                        boolean withRepeats, List<List<T>> out) {
+        if (current.size() == k) {
+            out.add(List.copyOf(current));
+            return;
+        }
+        for (int i = 0; i < pool.size(); i++) {
+            if (!withRepeats && used[i]) {
+                continue;
+            }
+            current.add(pool.get(i));
+            used[i] = true;
+            permuteInto(pool, k, current, used, withRepeats, out);
+            current.remove(current.size() - 1);
+            used[i] = false;
+        }
+    }
+
+    private record PrefixResult(List<ApiCallInfo> steps, boolean hasUnresolved) {
+    }
+
     private static List<String> methodsOf(EnumeratedChain chain) {
         return chain.steps().stream().map(ApiCallInfo::method).toList();
     }
@@ -0,0 +1,83 @@
+package egain.oassdk.core.sequence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OperationGraphTest {
+
+    private final ApiCallExtractor extractor = new ApiCallExtractor();
+
+    @Test
+    void findProducerForParam_matchesListScan() {
+        for (Map<String, Object> spec : List.of(
+                SequenceTestFixtures.orderWithItemsSpec(),
+                SequenceTestFixtures.twoLevelNestedSpec(),
+                SequenceTestFixtures.unresolvedParamSpec(),
+                SequenceTestFixtures.folderSpecWithCrud())) {
+            List<ApiCallInfo> calls = extractor.extract(spec);
+            OperationGraph graph = OperationGraph.of(calls);
+
+            for (ApiCallInfo call : calls) {
+                for (String param : call.pathParamNames()) {
+                    assertThat(graph.findProducerForParam(call, param))
+                            .as("%s %s / %s", call.method(), call.path(), param)
+                            .isSameAs(ApiCallExtractor.findProducerForParam(call, param, calls));
+                }
+            }
+        }
+    }
+
+    @Test
+    void findProducerForParam_nameStemFallbackPicksFirstInCallOrder() {
+        // Both /team and /teams match the stem of teamId; the scan returns the first.
+        Map<String, Object> paths = new LinkedHashMap<>();
+        paths.put("/teams", Map.of("post", Map.of("operationId", "createTeams")));
+        paths.put("/team", Map.of("post", Map.of("operationId", "createTeam")));
+        paths.put("/reports/{teamId}", Map.of("get", Map.of("operationId", "getReport")));
+        List<ApiCallInfo> calls = extractor.extract(Map.of("paths", paths));
+        ApiCallInfo report = calls.get(2);
+
+        ApiCallInfo producer = extractor.extractGraph(Map.of("paths", paths)).findProducerForParam(report, "teamId");
+
+        assertThat(producer).isNotNull();
+        assertThat(producer.path()).isEqualTo("/teams");
+    }
+
+    @Test
+    void consumersOf_returnsDescendantConsumersInCallOrder() {
+        List<ApiCallInfo> calls = extractor.extract(SequenceTestFixtures.orderWithItemsSpec());
+        OperationGraph graph = OperationGraph.of(calls);
+        ApiCallInfo orders = calls.get(0);
+        ApiCallInfo items = calls.stream()
+                .filter(c -> c.path().equals("/orders/{orderId}/items") && c.method().equals("POST"))
+                .findFirst().orElseThrow();
+
+        // /orders binds only orderId, so item consumers (needing itemId) stay out of its pool.
+        assertThat(graph.consumersOf(orders))
+                .extracting(c -> c.method() + " " + c.path())
+                .containsExactly("GET /orders/{orderId}");
+        assertThat(graph.consumersOf(items))
+                .extracting(c -> c.method() + " " + c.path())
+                .containsExactly("GET /orders/{orderId}/items/{itemId}", "DELETE /orders/{orderId}/items/{itemId}");
+        assertThat(graph.consumersOf(items)).isSameAs(graph.consumersOf(items));
+    }
+
+    @Test
+    void callsUnder_matchesPathPrefixBySegment() {
+        Map<String, Object> paths = new LinkedHashMap<>();
+        paths.put("/orders", Map.of("post", Map.of("operationId", "createOrder")));
+        paths.put("/orders-archive", Map.of("get", Map.of("operationId", "listArchive")));
+        paths.put("/orders/{orderId}", Map.of("get", Map.of("operationId", "getOrder")));
+        OperationGraph graph = extractor.extractGraph(Map.of("paths", paths));
+
+        assertThat(graph.callsUnder("/orders"))
+                .extracting(ApiCallInfo::operationId)
+                .containsExactly("createOrder", "getOrder");
+        assertThat(graph.callsUnder("/missing")).isEmpty();
+    }
+}
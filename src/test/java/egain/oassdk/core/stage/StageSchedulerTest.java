@@ -0,0 +1,122 @@
+package egain.oassdk.core.stage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for StageScheduler
+ */
+public class StageSchedulerTest {
+
+    private static final Logger logger = Logger.getLogger("egain.oassdk.core.stage.StageSchedulerTest");
+
+    @Test
+    public void testSequentialRunsInOrderOnSharedSpec() {
+        Map<String, Object> spec = new HashMap<>();
+        List<String> order = new ArrayList<>();
+        StageScheduler scheduler = new StageScheduler(1)
+                .add("a", "lane1", spec, s -> {
+                    order.add("a");
+                    s.put("seenBy", "a");
+                })
+                .add("b", "lane2", spec, s -> order.add("b:" + s.get("seenBy")));
+
+        List<StageScheduler.StageResult> results = scheduler.run();
+
+        assertEquals(List.of("a", "b:a"), order);
+        assertEquals("a", spec.get("seenBy"), "Sequential stages work on the caller's spec");
+        assertTrue(results.stream().allMatch(StageScheduler.StageResult::succeeded));
+    }
+
+    @Test
+    public void testParallelLanesRunConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        StageScheduler.StageAction waitForOther = s -> {
+            bothStarted.countDown();
+            if (!bothStarted.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Lanes did not run concurrently");
+            }
+        };
+        StageScheduler scheduler = new StageScheduler(2)
+                .add("a", "lane1", Map.of(), waitForOther)
+                .add("b", "lane2", Map.of(), waitForOther);
+
+        List<StageScheduler.StageResult> results = scheduler.run();
+
+        assertTrue(results.stream().allMatch(StageScheduler.StageResult::succeeded), () -> results.toString());
+    }
+
+    @Test
+    public void testStagesInOneLaneKeepOrderAndSpecIsCopied() {
+        Map<String, Object> spec = new HashMap<>();
+        spec.put("paths", new LinkedHashMap<>(Map.of("/a", "x")));
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        StageScheduler scheduler = new StageScheduler(4);
+        for (int i = 0; i < 5; i++) {
+            String name = "s" + i;
+            scheduler.add(name, "shared", spec, s -> {
+                order.add(name);
+                s.put("mutatedBy", name);
+            });
+        }
+        scheduler.add("other", "other", spec, s -> s.put("mutatedBy", "other"));
+
+        List<StageScheduler.StageResult> results = scheduler.run();
+
+        assertEquals(List.of("s0", "s1", "s2", "s3", "s4"), order);
+        assertFalse(spec.containsKey("mutatedBy"), "Parallel stages must not modify the caller's spec");
+        assertEquals(List.of("s0", "s1", "s2", "s3", "s4", "other"),
+                results.stream().map(StageScheduler.StageResult::name).toList());
+    }
+
+    @Test
+    public void testFailuresAndLogsAreCollectedPerStage() {
+        StageScheduler scheduler = new StageScheduler(2)
+                .add("fails", "lane1", Map.of(), s -> {
+                    logger.warning("about to fail");
+                    throw new IllegalArgumentException("boom");
+                })
+                .add("works", "lane2", Map.of(), s -> logger.info("working"));
+
+        List<StageScheduler.StageResult> results = scheduler.run();
+
+        StageScheduler.StageResult failed = results.get(0);
+        assertFalse(failed.succeeded());
+        assertEquals("boom", failed.error().getMessage());
+        assertTrue(failed.logs().stream().anyMatch(r -> r.getLevel() == Level.WARNING && "about to fail".equals(r.getMessage())));
+        StageScheduler.StageResult worked = results.get(1);
+        assertTrue(worked.succeeded(), "A failing stage must not stop other stages");
+        assertTrue(worked.logs().stream().noneMatch(r -> "about to fail".equals(r.getMessage())),
+                "Log records belong to the stage that emitted them");
+    }
+
+    @Test
+    public void testCopySpecKeepsSharingAndOrder() {
+        Map<String, Object> shared = new HashMap<>();
+        shared.put("type", "string");
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("z", shared);
+        spec.put("a", shared);
+        spec.put("list", new ArrayList<>(List.of(shared)));
+
+        Map<String, Object> copy = StageScheduler.copySpec(spec);
+
+        assertEquals(spec, copy);
+        assertNotSame(spec.get("z"), copy.get("z"));
+        assertSame(copy.get("z"), copy.get("a"));
+        assertSame(copy.get("z"), ((List<?>) copy.get("list")).get(0));
+        assertEquals(List.of("z", "a", "list"), new ArrayList<>(copy.keySet()));
+    }
+}
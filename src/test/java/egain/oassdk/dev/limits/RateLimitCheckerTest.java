@@ -1,12 +1,22 @@
 package egain.oassdk.dev.limits;
 
-import egain.oassdk.core.exceptions.GenerationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,12 +34,124 @@ public class RateLimitCheckerTest {
     }
 
     @Test
-    public void testGenerateRateLimitCheckersCreatesFiles(@TempDir Path tempDir) throws GenerationException {
+    public void testGenerateRateLimitCheckersCreatesFiles(@TempDir Path tempDir) throws Exception {
         RateLimitChecker generator = new RateLimitChecker();
         generator.generateRateLimitCheckers(Map.of(), tempDir.toString());
         assertTrue(Files.exists(tempDir.resolve("RateLimiter.java")));
         assertTrue(Files.exists(tempDir.resolve("RateLimitInterceptor.java")));
         assertTrue(Files.exists(tempDir.resolve("RateLimitConfig.java")));
         assertTrue(Files.exists(tempDir.resolve("RateLimitService.java")));
+        String interceptor = Files.readString(tempDir.resolve("RateLimitInterceptor.java"));
+        assertTrue(interceptor.startsWith("package com.example.limits;"), "Generated source must not be indented");
+        assertFalse(interceptor.contains("import java.io.InputStream;"));
+    }
+
+    @Test
+    public void testGeneratedRateLimiterKeepsConstantStatePerClient(@TempDir Path tempDir) throws Exception {
+        new RateLimitChecker().generateRateLimitCheckers(Map.of(), tempDir.toString());
+        String limiter = Files.readString(tempDir.resolve("RateLimiter.java"));
+
+        assertFalse(limiter.contains("LocalDateTime"), "No per-request timestamps should be stored");
+        assertFalse(limiter.contains("synchronized"), "Per-client state should be updated without locks");
+        assertTrue(limiter.contains("System.nanoTime()"));
+        assertTrue(limiter.contains("TAT.compareAndSet"));
+        assertTrue(limiter.contains("isAllowedPerMinute") && limiter.contains("isAllowedPerHour")
+                && limiter.contains("isAllowedPerDay"), "Minute, hour and day quotas must be kept");
+        assertTrue(limiter.contains("sweepIfDue"), "Idle clients should be evicted");
+    }
+
+    @Test
+    public void testGeneratedRateLimiterAdmitsUpToLimitThenRecovers(@TempDir Path tempDir) throws Exception {
+        AtomicLong clock = new AtomicLong(1_000_000_000L);
+        Object limiter = compileRateLimiter(tempDir, 3, 100, 1000, clock::get);
+        Method isAllowed = limiter.getClass().getMethod("isAllowedPerMinute", String.class);
+        Method remaining = limiter.getClass().getMethod("getRemainingRequests", String.class, ChronoUnit.class);
+
+        // Burst up to the limit, then reject
+        for (int i = 0; i < 3; i++) {
+            assertTrue((boolean) isAllowed.invoke(limiter, "client-a"), "request " + i);
+        }
+        assertFalse((boolean) isAllowed.invoke(limiter, "client-a"));
+        assertEquals(0, remaining.invoke(limiter, "client-a", ChronoUnit.MINUTES));
+        assertTrue((boolean) isAllowed.invoke(limiter, "client-b"), "Quotas are per client");
+
+        // One emission interval (a minute / 3) frees exactly one request
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        assertTrue((boolean) isAllowed.invoke(limiter, "client-a"));
+        assertFalse((boolean) isAllowed.invoke(limiter, "client-a"));
+
+        // A full window restores the whole burst
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        assertEquals(3, remaining.invoke(limiter, "client-a", ChronoUnit.MINUTES));
+        for (int i = 0; i < 3; i++) {
+            assertTrue((boolean) isAllowed.invoke(limiter, "client-a"), "request " + i + " after recovery");
+        }
+        assertFalse((boolean) isAllowed.invoke(limiter, "client-a"));
+    }
+
+    @Test
+    public void testGeneratedRateLimiterCountsAgainstEveryQuotaAndEvictsIdleClients(@TempDir Path tempDir)
+            throws Exception {
+        AtomicLong clock = new AtomicLong(0L);
+        Object limiter = compileRateLimiter(tempDir, 100, 2, 1000, clock::get);
+        Method isAllowed = limiter.getClass().getMethod("isAllowedPerMinute", String.class);
+        Method isAllowedPerHour = limiter.getClass().getMethod("isAllowedPerHour", String.class);
+        Method tracked = limiter.getClass().getMethod("getTrackedClients");
+        Method isAllowedIn = limiter.getClass().getMethod("isAllowed", String.class, int.class, ChronoUnit.class);
+
+        // Minute checks use up the hour quota too
+        assertTrue((boolean) isAllowed.invoke(limiter, "client"));
+        assertTrue((boolean) isAllowed.invoke(limiter, "client"));
+        assertFalse((boolean) isAllowedPerHour.invoke(limiter, "client"));
+        assertEquals(1, tracked.invoke(limiter));
+
+        // Once every quota is full again, the next sweep drops the client
+        clock.addAndGet(TimeUnit.DAYS.toNanos(1));
+        assertTrue((boolean) isAllowed.invoke(limiter, "other"));
+        assertEquals(1, tracked.invoke(limiter));
+
+        InvocationTargetException unsupported = assertThrows(InvocationTargetException.class,
+                () -> isAllowedIn.invoke(limiter, "client", 1, ChronoUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, unsupported.getCause());
+    }
+
+    @Test
+    public void testGeneratedRateLimiterAdmitsThrottledClientAfterOneIdleWindow(@TempDir Path tempDir)
+            throws Exception {
+        AtomicLong clock = new AtomicLong(0L);
+        Object limiter = compileRateLimiter(tempDir, 10, 20, 1000, clock::get);
+        Method isAllowed = limiter.getClass().getMethod("isAllowedPerMinute", String.class);
+        Method isAllowedPerHour = limiter.getClass().getMethod("isAllowedPerHour", String.class);
+
+        // An hour of hitting the minute quota admits 600 requests against an hourly quota of 20
+        for (int minute = 0; minute < 60; minute++) {
+            for (int i = 0; i < 20; i++) {
+                isAllowed.invoke(limiter, "client");
+            }
+            clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        }
+        assertFalse((boolean) isAllowedPerHour.invoke(limiter, "client"));
+
+        clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+        assertTrue((boolean) isAllowedPerHour.invoke(limiter, "client"));
+    }
+
+    /** Generates RateLimiter.java, compiles it and builds one on {@code clock} (nanoseconds). */
+    private static Object compileRateLimiter(Path tempDir, int perMinute, int perHour, int perDay, LongSupplier clock)
+            throws Exception {
+        new RateLimitChecker().generateRateLimitCheckers(Map.of(), tempDir.toString());
+        Path classes = tempDir.resolve("classes");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int status = compiler.run(null, null, null, "-proc:none", "-nowarn",
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", classes.toString(), tempDir.resolve("RateLimiter.java").toString());
+        assertEquals(0, status, "Generated RateLimiter must compile");
+
+        URLClassLoader loader = new URLClassLoader(new URL[] {classes.toUri().toURL()},
+                RateLimitCheckerTest.class.getClassLoader());
+        Constructor<?> constructor = loader.loadClass("com.example.limits.RateLimiter")
+                .getDeclaredConstructor(int.class, int.class, int.class, LongSupplier.class);
+        constructor.setAccessible(true);
+        return constructor.newInstance(perMinute, perHour, perDay, clock);
     }
 }
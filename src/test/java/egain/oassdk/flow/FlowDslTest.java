@@ -5,7 +5,9 @@ import org.junit.jupiter.api.Test;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -48,6 +50,17 @@ class FlowDslTest {
         assertTrue(runtime.lastBody.contains("POISON"));
     }
 
+    @Test
+    void clientImplementingOnlyPollRunsPollSteps() throws Exception {
+        String flowText = Files.readString(Path.of("docs/examples/folder-delete-async.flow"));
+        FlowAst.FlowDefinition flow = new FlowParser().parse(flowText);
+        PollOnlyRuntime runtime = new PollOnlyRuntime();
+
+        new FlowInterpreter().execute(flow, runtime);
+
+        assertEquals(List.of("https://example.com/tasks/7 200 PT1M"), runtime.polls);
+    }
+
     private static Map<String, Object> specWithOperations() {
         Map<String, Object> paths = new HashMap<>();
         paths.put("/articles", Map.of("post", Map.of(
@@ -94,8 +107,8 @@ class FlowDslTest {
                 }
 
                 @Override
-                public Response poll(String targetUrl, String expectedStatus, Duration timeout) {
-                    return new SimpleResponse(Integer.parseInt(expectedStatus), Map.of("Location", targetUrl));
+                public Response fetch(String targetUrl) {
+                    return new SimpleResponse(200, Map.of("Location", targetUrl));
                 }
             };
         }
@@ -126,6 +139,37 @@ class FlowDslTest {
         }
     }
 
+    /** A client written against call and poll only, as clients were before Client.fetch existed. */
+    private static final class PollOnlyRuntime implements FlowInterpreter.Runtime {
+        private final List<String> polls = new ArrayList<>();
+
+        @Override
+        public Client client() {
+            return new Client() {
+                @Override
+                public Response call(String operationId, Map<String, String> pathBinds, Map<String, String> headerBinds, String body) {
+                    return new SimpleResponse(202, Map.of("Location", "https://example.com/tasks/7"));
+                }
+
+                @Override
+                public Response poll(String targetUrl, String expectedStatus, Duration timeout) {
+                    polls.add(targetUrl + " " + expectedStatus + " " + timeout);
+                    return new SimpleResponse(200, Map.of());
+                }
+            };
+        }
+
+        @Override
+        public BodyFactory bodyFactory() {
+            return new RecordingRuntime().bodyFactory();
+        }
+
+        @Override
+        public Duration defaultPollTimeout() {
+            return Duration.ofSeconds(2);
+        }
+    }
+
     private record SimpleResponse(int statusCode, Map<String, String> headers) implements FlowInterpreter.Runtime.Response {
         @Override
         public String header(String name) {
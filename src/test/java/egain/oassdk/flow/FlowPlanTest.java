@@ -0,0 +1,293 @@
+package egain.oassdk.flow;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlowPlanTest {
+
+    private static final OpenApiOperationCatalog CATALOG = OpenApiOperationCatalog.fromSpec(spec());
+
+    @Test
+    void planIssuesTheSameRequestsAsTheInterpreter() throws Exception {
+        for (String name : new String[]{"article-crud.flow", "article-create-bad-folder.flow", "folder-delete-async.flow"}) {
+            FlowAst.FlowDefinition flow = new FlowParser().parse(Files.readString(Path.of("docs/examples/" + name)));
+            TranscriptRuntime interpreted = new TranscriptRuntime();
+            TranscriptRuntime planned = new TranscriptRuntime();
+
+            new FlowInterpreter().execute(flow, interpreted);
+            FlowPlan.compile(flow, CATALOG).execute(planned);
+
+            assertEquals(interpreted.transcript, planned.transcript, name);
+            assertTrue(planned.transcript.size() >= 1, name);
+        }
+    }
+
+    @Test
+    void bodySelectionFollowsTheBodyFactory() throws Exception {
+        FlowAst.FlowDefinition flow = new FlowParser().parse(Files.readString(Path.of("docs/examples/article-crud.flow")));
+        TranscriptRuntime interpreted = new TranscriptRuntime();
+        TranscriptRuntime planned = new TranscriptRuntime();
+        interpreted.bodies = false;
+        planned.bodies = false;
+
+        new FlowInterpreter().execute(flow, interpreted);
+        FlowPlan.compile(flow, CATALOG).execute(planned);
+
+        // The catalog gives createArticle a requestBody, but the body factory has the last word
+        assertTrue(planned.transcript.get(0).startsWith("createArticle "), planned.transcript.get(0));
+        assertTrue(planned.transcript.get(0).endsWith(" null"), planned.transcript.get(0));
+        assertEquals(interpreted.transcript, planned.transcript);
+    }
+
+    @Test
+    void variablesAreNumberedInOrderOfFirstUse() throws Exception {
+        FlowAst.FlowDefinition flow = new FlowParser().parse(Files.readString(Path.of("docs/examples/article-crud.flow")));
+
+        assertEquals(List.of("articleId", "etag"), FlowPlan.compile(flow, CATALOG).variables());
+    }
+
+    @Test
+    void callsReceiveTheCompiledOperationAndReadOnlyBinds() throws Exception {
+        FlowAst.FlowDefinition flow = new FlowParser().parse(Files.readString(Path.of("docs/examples/article-crud.flow")));
+        TranscriptRuntime runtime = new TranscriptRuntime();
+
+        FlowPlan.compile(flow, CATALOG).execute(runtime);
+
+        OpenApiOperationCatalog.OperationMeta edit = runtime.operations.get(1);
+        assertEquals("PATCH", edit.method());
+        assertEquals("/articles/{articleID}", edit.path());
+        Map<String, String> pathBinds = runtime.pathBinds.get(1);
+        assertEquals(Map.of("articleID", "123"), pathBinds);
+        assertThrows(UnsupportedOperationException.class, () -> pathBinds.put("articleID", "456"));
+        assertTrue(runtime.pathBinds.get(0).isEmpty());
+    }
+
+    @Test
+    void compileValidatesAgainstTheCatalog() {
+        FlowAst.FlowDefinition unknown = new FlowParser().parse("""
+                flow "unknown"
+                operations: "archiveArticle"
+                call "archiveArticle"
+                """);
+        FlowAst.FlowDefinition badStatus = new FlowParser().parse("""
+                flow "bad-status"
+                operations: "createArticle"
+                call "createArticle"
+                  expect status "created"
+                """);
+
+        IllegalArgumentException unknownError = assertThrows(IllegalArgumentException.class,
+                () -> FlowPlan.compile(unknown, CATALOG));
+        IllegalArgumentException statusError = assertThrows(IllegalArgumentException.class,
+                () -> FlowPlan.compile(badStatus, CATALOG));
+
+        assertEquals("UNKNOWN_OPERATION: archiveArticle", unknownError.getMessage());
+        assertEquals("INVALID_STATUS: created", statusError.getMessage());
+    }
+
+    @Test
+    void interpreterRejectsAnInvalidStatusBeforeAnyCall() {
+        FlowAst.FlowDefinition badStatus = new FlowParser().parse("""
+                flow "bad-status"
+                operations: "createArticle", "deleteArticle"
+                call "createArticle"
+                call "deleteArticle"
+                  expect status "gone"
+                """);
+        TranscriptRuntime runtime = new TranscriptRuntime();
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> new FlowInterpreter().execute(badStatus, runtime));
+
+        assertEquals("INVALID_STATUS: gone", error.getMessage());
+        assertTrue(runtime.transcript.isEmpty());
+    }
+
+    @Test
+    void runnerExecutesOnePlanConcurrently() throws Exception {
+        FlowAst.FlowDefinition flow = new FlowParser().parse(Files.readString(Path.of("docs/examples/article-crud.flow")));
+        FlowPlan plan = FlowPlan.compile(flow, CATALOG);
+        EtagCheckingRuntime runtime = new EtagCheckingRuntime();
+
+        FlowRunReport report = FlowRunner.builder().concurrency(8).iterations(100).build()
+                .runPlans(List.of(plan), runtime);
+
+        // editArticle answers 412 unless If-Match carries the ETag of the article in its own path
+        assertEquals(100, report.instances());
+        assertEquals(0, report.failures());
+        assertEquals(100, report.steps().get(4).latency().count());
+    }
+
+    private static Map<String, Object> spec() {
+        Map<String, Object> paths = new HashMap<>();
+        paths.put("/articles", Map.of("post", Map.of(
+                "operationId", "createArticle",
+                "requestBody", Map.of("content", Map.of("application/json", Map.of())),
+                "responses", Map.of("201", Map.of("description", "Created")))));
+        paths.put("/articles/{articleID}", Map.of(
+                "patch", Map.of(
+                        "operationId", "editArticle",
+                        "parameters", List.of(Map.of("name", "articleID", "in", "path")),
+                        "requestBody", Map.of("content", Map.of("application/json", Map.of())),
+                        "responses", Map.of("200", Map.of("description", "OK"))),
+                "delete", Map.of(
+                        "operationId", "deleteArticle",
+                        "parameters", List.of(Map.of("name", "articleID", "in", "path")),
+                        "responses", Map.of("204", Map.of("description", "No Content")))));
+        paths.put("/folders/{folderID}", Map.of(
+                "delete", Map.of(
+                        "operationId", "deleteFolder",
+                        "parameters", List.of(Map.of("name", "folderID", "in", "path")),
+                        "responses", Map.of("202", Map.of("description", "Accepted")))));
+        return Map.of("paths", paths);
+    }
+
+    /** Records every request; answers each operation with the status its example flow expects. */
+    private static final class TranscriptRuntime implements FlowInterpreter.Runtime {
+        private final List<String> transcript = new ArrayList<>();
+        private final List<OpenApiOperationCatalog.OperationMeta> operations = new ArrayList<>();
+        private final List<Map<String, String>> pathBinds = new ArrayList<>();
+        private boolean bodies = true;
+
+        @Override
+        public Client client() {
+            return new Client() {
+                @Override
+                public Response call(String operationId, Map<String, String> pathBinds, Map<String, String> headerBinds,
+                                     String body) {
+                    transcript.add(operationId + " " + new TreeMap<>(pathBinds) + " " + new TreeMap<>(headerBinds) + " " + body);
+                    int status = switch (operationId) {
+                        case "createArticle" -> body != null && body.contains("POISON") ? (body.contains("TOO_LONG") ? 422 : 400) : 201;
+                        case "deleteFolder" -> 202;
+                        default -> 200;
+                    };
+                    return new SimpleResponse(status, Map.of("Location", "https://example.com/articles/123", "ETag", "abc"));
+                }
+
+                @Override
+                public Response call(OpenApiOperationCatalog.OperationMeta operation, Map<String, String> pathBinds,
+                                     Map<String, String> headerBinds, String body) {
+                    operations.add(operation);
+                    TranscriptRuntime.this.pathBinds.add(pathBinds);
+                    return call(operation.operationId(), pathBinds, headerBinds, body);
+                }
+
+                @Override
+                public Response poll(String targetUrl, String expectedStatus, Duration timeout) {
+                    transcript.add("poll " + targetUrl + " " + expectedStatus + " " + timeout);
+                    return new SimpleResponse(Integer.parseInt(expectedStatus), Map.of());
+                }
+
+                @Override
+                public Response fetch(String targetUrl) {
+                    transcript.add("fetch " + targetUrl);
+                    return new SimpleResponse(200, Map.of());
+                }
+            };
+        }
+
+        @Override
+        public BodyFactory bodyFactory() {
+            return new BodyFactory() {
+                @Override
+                public boolean hasBody(String operationId) {
+                    return bodies && CATALOG.operation(operationId).hasBody();
+                }
+
+                @Override
+                public String valid(String operationId) {
+                    return "{\"operation\":\"" + operationId + "\"}";
+                }
+
+                @Override
+                public String withViolation(String operationId, FlowAst.PoisonClause poison) {
+                    return "{\"operation\":\"" + operationId + "\",\"POISON\":\"" + poison.kind().name() + "\"}";
+                }
+            };
+        }
+
+        @Override
+        public Duration defaultPollTimeout() {
+            return Duration.ofSeconds(2);
+        }
+    }
+
+    private static final class EtagCheckingRuntime implements FlowInterpreter.Runtime {
+        private final AtomicInteger ids = new AtomicInteger();
+
+        @Override
+        public Client client() {
+            return new Client() {
+                @Override
+                public Response call(String operationId, Map<String, String> pathBinds, Map<String, String> headerBinds,
+                                     String body) {
+                    return switch (operationId) {
+                        case "createArticle" -> {
+                            int id = ids.incrementAndGet();
+                            yield new SimpleResponse(201, Map.of("Location", "/articles/" + id, "ETag", "etag-" + id));
+                        }
+                        case "editArticle" -> new SimpleResponse(
+                                ("etag-" + pathBinds.get("articleID")).equals(headerBinds.get("If-Match")) ? 200 : 412,
+                                Map.of());
+                        default -> new SimpleResponse(204, Map.of());
+                    };
+                }
+
+                @Override
+                public Response fetch(String targetUrl) {
+                    return new SimpleResponse(200, Map.of());
+                }
+            };
+        }
+
+        @Override
+        public BodyFactory bodyFactory() {
+            return new BodyFactory() {
+                @Override
+                public boolean hasBody(String operationId) {
+                    return false;
+                }
+
+                @Override
+                public String valid(String operationId) {
+                    return "{}";
+                }
+
+                @Override
+                public String withViolation(String operationId, FlowAst.PoisonClause poison) {
+                    return "{}";
+                }
+            };
+        }
+
+        @Override
+        public Duration defaultPollTimeout() {
+            return Duration.ofSeconds(2);
+        }
+    }
+
+    private record SimpleResponse(int statusCode, Map<String, String> headers) implements FlowInterpreter.Runtime.Response {
+        @Override
+        public String header(String name) {
+            return headers.get(name);
+        }
+
+        @Override
+        public String jsonPath(String jsonPath) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package egain.oassdk.flow;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlowRunnerTest {
+
+    private static final String ASYNC_DELETE_FLOW = """
+            flow "article-delete-async"
+            operations: "createArticle", "deleteArticleAsync"
+            call "createArticle"
+              expect status "201"
+            extract articleId from response.header "Location" lastSegment
+            call "deleteArticleAsync"
+              path articleID = articleId
+              expect status "202"
+            poll task from response.header "Location" until status "200" timeout "5s"
+            """;
+
+    @Test
+    void instancesKeepTheirOwnVariables() throws Exception {
+        FlowAst.FlowDefinition flow = new FlowParser().parse(Files.readString(Path.of("docs/examples/article-crud.flow")));
+        StandInServer server = new StandInServer();
+
+        FlowRunReport report = FlowRunner.builder().concurrency(8).iterations(50).build()
+                .run(List.of(flow), server);
+
+        // editArticle answers 412 unless the If-Match is the ETag of the article being edited
+        assertEquals(50, report.instances());
+        assertEquals(0, report.failures());
+        assertEquals(5, report.steps().size());
+        for (FlowRunReport.StepStats step : report.steps()) {
+            assertEquals(50, step.latency().count(), step.label());
+            assertEquals(0, step.errors(), step.label());
+        }
+        assertEquals("call editArticle", report.steps().get(3).label());
+        assertTrue(server.articles.isEmpty());
+    }
+
+    @Test
+    void concurrencyCapsInstancesInFlight() throws Exception {
+        FlowAst.FlowDefinition flow = new FlowParser().parse(Files.readString(Path.of("docs/examples/article-crud.flow")));
+        StandInServer server = new StandInServer();
+        server.callDelayMillis = 5;
+
+        FlowRunReport report = FlowRunner.builder().concurrency(4).iterations(20).build()
+                .run(List.of(flow), server);
+
+        assertEquals(0, report.failures());
+        assertTrue(server.maxInFlight.get() <= 4, "max in flight " + server.maxInFlight.get());
+    }
+
+    @Test
+    void rampUpSpreadsInstanceStarts() throws Exception {
+        FlowAst.FlowDefinition flow = new FlowParser().parse(Files.readString(Path.of("docs/examples/article-crud.flow")));
+
+        FlowRunReport report = FlowRunner.builder().iterations(5).rampUp(Duration.ofMillis(200)).build()
+                .run(List.of(flow), new StandInServer());
+
+        // The fifth instance starts 4/5 of the way through the ramp
+        assertTrue(report.elapsed().toMillis() >= 160, "elapsed " + report.elapsed());
+    }
+
+    @Test
+    void pollStepsFetchOnTheRuntimeInterval() throws Exception {
+        FlowAst.FlowDefinition flow = new FlowParser().parse(ASYNC_DELETE_FLOW);
+        StandInServer server = new StandInServer();
+        server.pollInterval = Duration.ofMillis(10);
+
+        FlowRunReport report = FlowRunner.builder().concurrency(10).iterations(20).build()
+                .run(List.of(flow), server);
+
+        // Each delete task answers 202 twice before 200; Client.poll is never called
+        assertEquals(0, report.failures());
+        assertEquals(60, server.fetches.get());
+        FlowRunReport.StepStats poll = report.steps().get(3);
+        assertEquals("poll task", poll.label());
+        assertEquals(20, poll.latency().count());
+        assertTrue(poll.latency().percentileNanos(0.5) >= Duration.ofMillis(20).toNanos());
+    }
+
+    @Test
+    void pollTimesOutWhenStatusNeverArrives() throws Exception {
+        FlowAst.FlowDefinition flow = new FlowParser().parse(ASYNC_DELETE_FLOW.replace("\"5s\"", "\"1s\""));
+        StandInServer server = new StandInServer();
+        server.pollInterval = Duration.ofMillis(100);
+        server.pendingPolls = Integer.MAX_VALUE;
+
+        FlowRunReport report = FlowRunner.builder().iterations(2).build().run(List.of(flow), server);
+
+        assertEquals(2, report.failures());
+        assertEquals(Map.of("IllegalStateException: poll timeout waiting for status 200", 2L),
+                report.steps().get(3).errorsByKind());
+    }
+
+    @Test
+    void pollTimesOutWhenFetchNeverReturns() throws Exception {
+        FlowAst.FlowDefinition flow = new FlowParser().parse(ASYNC_DELETE_FLOW.replace("\"5s\"", "\"1s\""));
+        StandInServer server = new StandInServer();
+        server.pollInterval = Duration.ofMillis(10);
+        server.hangFetches = true;
+
+        FlowRunReport report = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> FlowRunner.builder().iterations(2).build().run(List.of(flow), server));
+
+        // The hung fetches are interrupted at the timeout rather than holding their flows forever
+        assertEquals(2, report.failures());
+        assertEquals(Map.of("IllegalStateException: poll timeout waiting for status 200", 2L),
+                report.steps().get(3).errorsByKind());
+        assertTrue(server.interruptedFetches.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failedStepsAreCountedPerStep() throws Exception {
+        FlowAst.FlowDefinition flow = new FlowParser().parse(Files.readString(Path.of("docs/examples/article-crud.flow")));
+        StandInServer server = new StandInServer();
+        server.failEveryNthCreate = 3;
+
+        FlowRunReport report = FlowRunner.builder().concurrency(4).iterations(30).build()
+                .run(List.of(flow), server);
+
+        assertEquals(10, report.failures());
+        FlowRunReport.StepStats create = report.steps().get(0);
+        assertEquals(30, create.latency().count());
+        assertEquals(10, create.errors());
+        assertEquals(Map.of("IllegalStateException: Expected status 201 but got 500", 10L), create.errorsByKind());
+        assertEquals(20, report.steps().get(4).latency().count());
+        assertTrue(report.format().contains("flow article-crud: 30 instances, 10 failed"));
+    }
+
+    @Test
+    void errorsFailTheInstanceAndTheStep() throws Exception {
+        FlowAst.FlowDefinition flow = new FlowParser().parse(Files.readString(Path.of("docs/examples/article-crud.flow")));
+        StandInServer server = new StandInServer();
+        server.brokenOperation = "editArticle";
+
+        FlowRunReport report = FlowRunner.builder().concurrency(4).iterations(10).build()
+                .run(List.of(flow), server);
+
+        assertEquals(10, report.failures());
+        assertEquals(report.failures(), report.steps().stream().mapToLong(FlowRunReport.StepStats::errors).sum());
+        assertEquals(Map.of("BrokenClientError: editArticle", 10L), report.steps().get(3).errorsByKind());
+        assertEquals(0, report.steps().get(4).latency().count());
+    }
+
+    @Test
+    void builderRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> FlowRunner.builder().concurrency(0).build());
+        assertThrows(IllegalArgumentException.class, () -> FlowRunner.builder().iterations(0).build());
+        assertThrows(IllegalArgumentException.class, () -> FlowRunner.builder().rampUp(Duration.ofSeconds(-1)).build());
+    }
+
+    @Test
+    void histogramPercentilesStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 1000; v++) {
+            histogram.record(v * 1000);
+        }
+
+        assertEquals(1000, histogram.count());
+        assertEquals(1_000_000, histogram.maxNanos());
+        long p50 = histogram.percentileNanos(0.5);
+        long p99 = histogram.percentileNanos(0.99);
+        assertTrue(p50 >= 500_000 && p50 <= 500_000 * 1.125, "p50 " + p50);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000, "p99 " + p99);
+        assertEquals(0, new LatencyHistogram().percentileNanos(0.99));
+    }
+
+    /** In-memory stand-in for the articles API, shared by every instance of a run. */
+    private static final class StandInServer implements FlowInterpreter.Runtime {
+        private final Map<String, String> articles = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> tasks = new ConcurrentHashMap<>();
+        private final AtomicInteger ids = new AtomicInteger();
+        private final AtomicInteger creates = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final AtomicInteger fetches = new AtomicInteger();
+        private final CountDownLatch interruptedFetches = new CountDownLatch(2);
+        private volatile long callDelayMillis;
+        private volatile int failEveryNthCreate;
+        private volatile int pendingPolls = 2;
+        private volatile Duration pollInterval;
+        private volatile String brokenOperation;
+        private volatile boolean hangFetches;
+
+        @Override
+        public Client client() {
+            return new Client() {
+                @Override
+                public Response call(String operationId, Map<String, String> pathBinds, Map<String, String> headerBinds,
+                                     String body) {
+                    if (operationId.equals(brokenOperation)) {
+                        throw new BrokenClientError(operationId);
+                    }
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        if (callDelayMillis > 0) {
+                            Thread.sleep(callDelayMillis);
+                        }
+                        return handle(operationId, pathBinds, headerBinds);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(e);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                }
+
+                @Override
+                public Response fetch(String targetUrl) {
+                    fetches.incrementAndGet();
+                    if (hangFetches) {
+                        try {
+                            new CountDownLatch(1).await();
+                        } catch (InterruptedException e) {
+                            interruptedFetches.countDown();
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                    String id = targetUrl.substring(targetUrl.lastIndexOf('/') + 1);
+                    return new SimpleResponse(tasks.get(id).getAndIncrement() < pendingPolls ? 202 : 200, Map.of());
+                }
+            };
+        }
+
+        private Response handle(String operationId, Map<String, String> pathBinds, Map<String, String> headerBinds) {
+            String id = pathBinds.get("articleID");
+            switch (operationId) {
+                case "createArticle" -> {
+                    int n = creates.incrementAndGet();
+                    if (failEveryNthCreate > 0 && n % failEveryNthCreate == 0) {
+                        return new SimpleResponse(500, Map.of());
+                    }
+                    String created = Integer.toString(ids.incrementAndGet());
+                    String etag = "etag-" + created;
+                    articles.put(created, etag);
+                    return new SimpleResponse(201, Map.of("Location", "https://example.com/articles/" + created, "ETag", etag));
+                }
+                case "editArticle" -> {
+                    String etag = articles.get(id);
+                    return new SimpleResponse(etag != null && etag.equals(headerBinds.get("If-Match")) ? 200 : 412, Map.of());
+                }
+                case "deleteArticleAsync" -> {
+                    articles.remove(id);
+                    tasks.put(id, new AtomicInteger());
+                    return new SimpleResponse(202, Map.of("Location", "https://example.com/tasks/" + id));
+                }
+                default -> {
+                    return new SimpleResponse(articles.remove(id) != null ? 204 : 404, Map.of());
+                }
+            }
+        }
+
+        @Override
+        public BodyFactory bodyFactory() {
+            return new BodyFactory() {
+                @Override
+                public boolean hasBody(String operationId) {
+                    return false;
+                }
+
+                @Override
+                public String valid(String operationId) {
+                    return null;
+                }
+
+                @Override
+                public String withViolation(String operationId, FlowAst.PoisonClause poison) {
+                    return null;
+                }
+            };
+        }
+
+        @Override
+        public Duration defaultPollTimeout() {
+            return Duration.ofSeconds(5);
+        }
+
+        @Override
+        public Duration pollInterval() {
+            return pollInterval;
+        }
+    }
+
+    /** An {@link Error} other than {@link AssertionError}, as a faulty client might throw. */
+    private static final class BrokenClientError extends Error {
+        private BrokenClientError(String message) {
+            super(message);
+        }
+    }
+
+    private record SimpleResponse(int statusCode, Map<String, String> headers) implements FlowInterpreter.Runtime.Response {
+        @Override
+        public String header(String name) {
+            return headers.get(name);
+        }
+
+        @Override
+        public String jsonPath(String jsonPath) {
+            return null;
+        }
+    }
+}
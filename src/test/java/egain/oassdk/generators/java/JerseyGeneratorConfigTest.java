@@ -9,6 +9,7 @@ import org.junit.jupiter.api.io.TempDir;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -83,4 +84,124 @@ public class JerseyGeneratorConfigTest {
             generator.generate(resolvedSpec, null, new GeneratorConfig(), PACKAGE_NAME)
         );
     }
+
+    @Test
+    @DisplayName("Generated Application keeps Grizzly's worker pool by default")
+    public void testApplicationDefaultsToGrizzlyWorkerPool() throws Exception {
+        String application = generateApplication(tempDir.resolve("threading-default"), new GeneratorConfig());
+
+        assertTrue(application.contains("DEFAULT_THREADING = \"default\""));
+        assertTrue(application.contains("createHttpServer(baseUri, new "), "Server must be configured before it starts");
+        assertTrue(application.contains("server.shutdown(gracePeriodSeconds, TimeUnit.SECONDS)"),
+                "main should stop the server gracefully");
+        assertFalse(application.contains("__SERVER_"), "All server placeholders should be replaced");
+    }
+
+    @Test
+    @DisplayName("Generated Application bakes in the configured server threading")
+    public void testApplicationServerThreadingFromConfig() throws Exception {
+        String virtual = generateApplication(tempDir.resolve("threading-virtual"), GeneratorConfig.builder()
+                .serverThreading(GeneratorConfig.ServerThreading.VIRTUAL_THREADS)
+                .build());
+        assertTrue(virtual.contains("DEFAULT_THREADING = \"virtual\""));
+        assertTrue(virtual.contains("Thread.ofVirtual()"));
+
+        String fixed = generateApplication(tempDir.resolve("threading-fixed"), GeneratorConfig.builder()
+                .serverThreading(GeneratorConfig.ServerThreading.FIXED_POOL)
+                .serverWorkerThreads(64)
+                .serverWorkerQueueSize(500)
+                .build());
+        assertTrue(fixed.contains("DEFAULT_THREADING = \"fixed\""));
+        assertTrue(fixed.contains("DEFAULT_WORKER_THREADS = 64;"));
+        assertTrue(fixed.contains("DEFAULT_WORKER_QUEUE_SIZE = 500;"));
+    }
+
+    @Test
+    @DisplayName("optimizedObjectMapper registers Blackbird and warms up every model class")
+    public void testOptimizedObjectMapper() throws Exception {
+        String plain = generateApplication(tempDir.resolve("mapper-default"), new GeneratorConfig());
+        assertFalse(plain.contains("BlackbirdModule"));
+        assertFalse(plain.contains("__OBJECT_MAPPER_TUNING__"));
+        assertFalse(Files.readString(tempDir.resolve("mapper-default/pom.xml")).contains("jackson-module-blackbird"));
+
+        Path outputDir = tempDir.resolve("mapper-optimized");
+        String optimized = generateApplication(outputDir, GeneratorConfig.builder().optimizedObjectMapper(true).build());
+        assertTrue(optimized.contains("new com.fasterxml.jackson.module.blackbird.BlackbirdModule()"));
+        assertTrue(optimized.contains("disable(com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)"));
+        assertTrue(optimized.contains("for (Class<?> type : " + PACKAGE_NAME + ".model.ModelClasses.ALL)"));
+        assertTrue(Files.readString(outputDir.resolve("pom.xml")).contains("jackson-module-blackbird"));
+
+        Path modelDir = outputDir.resolve("src/main/java/" + PACKAGE_NAME.replace(".", "/") + "/model");
+        String modelClasses = Files.readString(modelDir.resolve("ModelClasses.java"));
+        for (String indexed : Files.readAllLines(modelDir.resolve("jaxb.index"))) {
+            assertTrue(modelClasses.contains(indexed + ".class"), "ModelClasses should list " + indexed);
+        }
+    }
+
+    @Test
+    @DisplayName("jsonOnlyModels generates Jackson-only models and drops JAXB from the pom")
+    public void testJsonOnlyModels() throws Exception {
+        Path jaxbDir = tempDir.resolve("models-jaxb");
+        generateApplication(jaxbDir, new GeneratorConfig());
+        String jaxbPom = Files.readString(jaxbDir.resolve("pom.xml"));
+        assertTrue(jaxbPom.contains("jaxb-runtime"));
+        assertTrue(jaxbPom.contains("jersey-media-jaxb"));
+
+        Path outputDir = tempDir.resolve("models-json");
+        generateApplication(outputDir, GeneratorConfig.builder().jsonOnlyModels(true).build());
+        Path modelDir = outputDir.resolve("src/main/java/" + PACKAGE_NAME.replace(".", "/") + "/model");
+        String model = Files.readString(modelDir.resolve("Schedule.java"));
+        assertTrue(model.contains("@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY"));
+        assertTrue(model.contains("@JsonPropertyOrder({"));
+        assertFalse(model.contains("@Xml"), "JSON-only models carry no JAXB annotations");
+        assertFalse(model.contains("xml.bind"));
+        assertFalse(model.contains("JAXBBean"));
+        assertFalse(Files.exists(modelDir.resolve("ObjectFactory.java")));
+        assertFalse(Files.exists(modelDir.resolve("jaxb.index")));
+
+        String pom = Files.readString(outputDir.resolve("pom.xml"));
+        assertFalse(pom.contains("jaxb-runtime"));
+        assertFalse(pom.contains("jersey-media-jaxb"));
+        assertFalse(pom.contains("__JAXB_PROVIDER_DEP__"));
+        assertTrue(pom.contains("hibernate-validator"), "Non-JAXB namespace dependencies are kept");
+    }
+
+    @Test
+    @DisplayName("Resources are registered by class instead of a package scan; the AppCDS training script is opt-in")
+    public void testExplicitResourceRegistration() throws Exception {
+        Path defaultDir = tempDir.resolve("registration-default");
+        String application = generateApplication(defaultDir, new GeneratorConfig());
+        assertFalse(application.contains("packages("), "The resources package must not be scanned");
+        try (Stream<Path> resources = Files.list(defaultDir.resolve("src/main/java/" + PACKAGE_NAME.replace(".", "/") + "/resources"))) {
+            for (Path resource : resources.toList()) {
+                String className = resource.getFileName().toString().replace(".java", "");
+                assertTrue(application.contains("register(" + PACKAGE_NAME + ".resources." + className + ".class);"),
+                        className + " must be registered");
+            }
+        }
+        assertFalse(Files.exists(defaultDir.resolve("scripts/train-startup.sh")));
+
+        Path outputDir = tempDir.resolve("registration-training");
+        generateApplication(outputDir, GeneratorConfig.builder().startupTrainingScript(true).build());
+        Path script = outputDir.resolve("scripts/train-startup.sh");
+        String content = Files.readString(script);
+        assertTrue(content.contains("-XX:ArchiveClassesAtExit="));
+        assertTrue(content.contains("-XX:SharedArchiveFile="));
+        assertTrue(content.contains("MAIN_CLASS=\"" + PACKAGE_NAME + "."));
+        assertFalse(content.contains("__"), "Script placeholders should be replaced");
+    }
+
+    private static String generateApplication(Path outputDir, GeneratorConfig config) throws Exception {
+        OASParser parser = new OASParser();
+        Map<String, Object> resolvedSpec = parser.resolveReferences(parser.parse(TEST_YAML), TEST_YAML);
+        new JerseyGenerator().generate(resolvedSpec, outputDir.toString(), config, PACKAGE_NAME);
+
+        Path packageDir = outputDir.resolve("src/main/java/" + PACKAGE_NAME.replace(".", "/"));
+        try (Stream<Path> files = Files.list(packageDir)) {
+            Path application = files.filter(f -> f.getFileName().toString().endsWith("Application.java"))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("No Application class generated in " + packageDir));
+            return Files.readString(application);
+        }
+    }
 }
@@ -323,8 +323,13 @@ public class JerseyGeneratorFrameworkTest {
             String content = Files.readString(validationMapHelperFile);
             
             // Check for framework validation imports
-            assertTrue(content.contains("import egain.framework.validation.ValidationBuilder;"),
-                "ValidationMapHelper should import ValidationBuilder");
+            assertTrue(content.contains("import egain.framework.validation.Validator;"),
+                "ValidationMapHelper should import Validator");
+            // Validator chains are built once at class initialization, not per request
+            assertTrue(content.contains("().build()"),
+                "ValidationMapHelper should build each validator chain once");
+            assertFalse(content.contains("Supplier<ValidationBuilder"),
+                "ValidationMapHelper should not rebuild validators per request");
             // ValidationError is used in the return type, check for it in the method signature
             assertTrue(content.contains("ValidationError") || content.contains("egain.framework.validation.ValidationError"),
                 "ValidationMapHelper should use ValidationError (either imported or fully qualified)");
@@ -78,6 +78,18 @@ public class JerseyGeneratorObservabilityTest {
                 "MetricsFilter should reference PrometheusMeterRegistry");
         assertTrue(content.contains("http.server.requests"),
                 "MetricsFilter should instrument http.server.requests");
+        assertTrue(content.contains("RouteTemplates.routeTemplate(requestContext)"),
+                "MetricsFilter should tag with the matched route template");
+        assertFalse(content.contains("getMatchedTemplates()"),
+                "MetricsFilter should share RouteTemplates rather than join the templates itself");
+        assertFalse(content.contains("getUriInfo().getPath()"),
+                "MetricsFilter must not tag with the raw request path");
+        assertFalse(content.contains("__OPERATION_COUNT__"),
+                "Operation count placeholder should be substituted");
+
+        String endpoint = Files.readString(metricsFilter.resolveSibling("MetricsEndpoint.java"));
+        assertTrue(endpoint.contains("MetricsFilter.sharedRegistry()"),
+                "MetricsEndpoint should scrape the registry MetricsFilter records into");
     }
 
     @Test
@@ -98,6 +110,65 @@ public class JerseyGeneratorObservabilityTest {
                 "TracingFilter should reference Tracer");
         assertTrue(content.contains("SpanKind.SERVER"),
                 "TracingFilter should use SpanKind.SERVER");
+        assertTrue(content.contains("RouteTemplates.routeTemplate(requestContext)"),
+                "TracingFilter should name spans by the matched route template");
+        assertFalse(content.contains("getUriInfo().getPath()"),
+                "TracingFilter must not name spans by the raw request path");
+        assertTrue(content.contains("if (span.isRecording())"),
+                "TracingFilter should only build attributes for sampled spans");
+    }
+
+    @Test
+    @DisplayName("Trace sampling settings and x-trace-sample-ratio overrides are generated into RouteSampler")
+    public void testTraceSampling() throws Exception {
+        Path specPath = tempDir.resolve("sampling.yaml");
+        Files.writeString(specPath, """
+                openapi: 3.0.0
+                info:
+                  title: Orders API
+                  version: 1.0.0
+                paths:
+                  /orders:
+                    x-trace-sample-ratio: 0.1
+                    get:
+                      operationId: listOrders
+                      responses:
+                        '200':
+                          description: OK
+                    post:
+                      operationId: createOrder
+                      x-trace-sample-ratio: 1
+                      responses:
+                        '201':
+                          description: Created
+                  /health:
+                    get:
+                      operationId: health
+                      x-trace-sample-ratio: 2
+                      responses:
+                        '200':
+                          description: OK
+                """);
+        OASParser parser = new OASParser();
+        Map<String, Object> spec = parser.resolveReferences(parser.parse(specPath.toString()), specPath.toString());
+
+        Path outputDir = tempDir.resolve("obs-sampling");
+        GeneratorConfig config = GeneratorConfig.builder()
+                .observabilityConfig(ObservabilityConfig.builder()
+                        .traceSampleRatio(0.25)
+                        .parentBasedSampling(false)
+                        .build())
+                .build();
+        generator.generate(spec, outputDir.toString(), config, PACKAGE_NAME);
+
+        Path obsDir = outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/observability");
+        String sampler = Files.readString(obsDir.resolve("RouteSampler.java"));
+        assertTrue(sampler.contains("DEFAULT_RATIO = 0.25;"));
+        assertTrue(sampler.contains("PARENT_BASED = false;"));
+        assertTrue(sampler.contains("new RouteRatio(\"GET\", \"/orders\", 0.1),"), "Path item ratio applies to its operations");
+        assertTrue(sampler.contains("new RouteRatio(\"POST\", \"/orders\", 1.0),"), "Operation ratio wins over the path item");
+        assertFalse(sampler.contains("/health"), "Ratios outside 0.0 to 1.0 are ignored");
+        assertTrue(Files.readString(obsDir.resolve("ObservabilityBootstrap.java")).contains("setSampler(RouteSampler.create())"));
     }
 
     @Test
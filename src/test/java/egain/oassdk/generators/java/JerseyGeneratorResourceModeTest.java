@@ -0,0 +1,223 @@
+package egain.oassdk.generators.java;
+
+import egain.oassdk.config.GeneratorConfig;
+import egain.oassdk.core.parser.OASParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the synchronous and asynchronous resource method shapes of JerseyGenerator.
+ */
+@DisplayName("JerseyGenerator Resource Mode Tests")
+public class JerseyGeneratorResourceModeTest {
+
+    private static final String PACKAGE_NAME = "com.test.api";
+    private static final String PACKAGE_PATH = "com/test/api";
+
+    private static final String SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Orders API
+              version: 1.0.0
+              x-sla-response-time: 2s
+            paths:
+              /orders:
+                get:
+                  operationId: listOrders
+                  x-sla-response-time: 250ms
+                  parameters:
+                    - name: status
+                      in: query
+                      schema:
+                        type: string
+                  responses:
+                    '200':
+                      description: OK
+                post:
+                  operationId: createOrder
+                  requestBody:
+                    content:
+                      application/json:
+                        schema:
+                          type: object
+                  responses:
+                    '201':
+                      description: Created
+            """;
+
+    private static final String EXPORT_SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Export API
+              version: 1.0.0
+            paths:
+              /orders:
+                get:
+                  operationId: exportOrders
+                  x-streaming: true
+                  x-sla-response-time: 500ms
+                  parameters:
+                    - name: status
+                      in: query
+                      schema:
+                        type: string
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            type: array
+                            items:
+                              $ref: '#/components/schemas/Order'
+              /orders/page:
+                get:
+                  operationId: listOrderPage
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            $ref: '#/components/schemas/OrderPage'
+              /tags:
+                get:
+                  operationId: listTags
+                  x-streaming: false
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            type: array
+                            items:
+                              type: string
+            components:
+              schemas:
+                Order:
+                  type: object
+                  properties:
+                    id:
+                      type: integer
+                OrderPage:
+                  type: object
+                  properties:
+                    orders:
+                      type: array
+                      items:
+                        $ref: '#/components/schemas/Order'
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("SYNC mode keeps Response-returning resources and an empty ApiService")
+    public void testSyncModeUnchanged() throws Exception {
+        Path outputDir = generate(GeneratorConfig.ResourceMode.SYNC);
+
+        String resource = Files.readString(outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/resources/OrderResource.java"));
+        assertTrue(resource.contains("public Response listOrders("));
+        assertTrue(resource.contains("return Response.ok().build();"));
+        assertFalse(resource.contains("ApiService apiService"));
+
+        String service = Files.readString(outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/service/ApiService.java"));
+        assertFalse(service.contains("CompletionStage"));
+        assertFalse(service.contains("__SERVICE_"), "Service placeholders should be replaced");
+    }
+
+    @Test
+    @DisplayName("COMPLETION_STAGE mode delegates to async ApiService methods with x-sla-response-time timeouts")
+    public void testCompletionStageMode() throws Exception {
+        Path outputDir = generate(GeneratorConfig.ResourceMode.COMPLETION_STAGE);
+
+        String resource = Files.readString(outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/resources/OrderResource.java"));
+        assertTrue(resource.contains("public CompletionStage<Response> listOrders("));
+        assertTrue(resource.contains("return apiService.listOrders(status)"));
+        assertTrue(resource.contains(".orTimeout(250, TimeUnit.MILLISECONDS)"), "Operation x-sla-response-time wins");
+        assertTrue(resource.contains(".orTimeout(2000, TimeUnit.MILLISECONDS)"), "info x-sla-response-time is the fallback");
+
+        String service = Files.readString(outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/service/ApiService.java"));
+        assertTrue(service.contains("public CompletionStage<Response> listOrders(String status)"));
+        assertTrue(service.contains("public CompletionStage<Response> createOrder(Object requestBody)"));
+
+        String application = Files.readString(outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/OrdersAPIApplication.java"));
+        assertTrue(application.contains("bindAsContract(" + PACKAGE_NAME + ".service.ApiService.class)"),
+                "ApiService must be bound for injection into the resources");
+    }
+
+    @Test
+    @DisplayName("ASYNC_RESPONSE mode suspends the response with the x-sla-response-time timeout")
+    public void testAsyncResponseMode() throws Exception {
+        Path outputDir = generate(GeneratorConfig.ResourceMode.ASYNC_RESPONSE);
+
+        String resource = Files.readString(outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/resources/OrderResource.java"));
+        assertTrue(resource.contains("public void listOrders("));
+        assertTrue(resource.contains("@Suspended AsyncResponse asyncResponse"));
+        assertTrue(resource.contains("asyncResponse.setTimeout(250, TimeUnit.MILLISECONDS);"));
+        assertTrue(resource.contains("apiService.createOrder(requestBody).whenComplete("));
+        assertTrue(resource.contains("private static void resume(AsyncResponse asyncResponse"));
+    }
+
+    @Test
+    @DisplayName("x-streaming: true streams an array response from a Stream returned by ApiService")
+    public void testStreamingOptIn() throws Exception {
+        Path outputDir = generate(EXPORT_SPEC, GeneratorConfig.builder().packageName(PACKAGE_NAME).build());
+
+        String resource = Files.readString(outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/resources/OrderResource.java"));
+        assertTrue(resource.contains("return Response.ok(JsonStreamingOutput.array(apiService.exportOrders(status)), MediaType.APPLICATION_JSON_TYPE).build();"));
+        assertFalse(resource.contains("apiService.listOrderPage"), "Collections are only streamed on request");
+        assertTrue(Files.exists(outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/resources/JsonStreamingOutput.java")));
+
+        String service = Files.readString(outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/service/ApiService.java"));
+        assertTrue(service.contains("public Stream<Order> exportOrders(String status)"));
+
+        String application = Files.readString(outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/ExportAPIApplication.java"));
+        assertTrue(application.contains("bindAsContract(" + PACKAGE_NAME + ".service.ApiService.class)"));
+    }
+
+    @Test
+    @DisplayName("streamCollectionResponses streams arrays and single-array collections unless x-streaming is false")
+    public void testStreamCollectionResponses() throws Exception {
+        Path outputDir = generate(EXPORT_SPEC, GeneratorConfig.builder()
+                .packageName(PACKAGE_NAME)
+                .streamCollectionResponses(true)
+                .resourceMode(GeneratorConfig.ResourceMode.COMPLETION_STAGE)
+                .build());
+
+        String resource = Files.readString(outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/resources/OrderResource.java"));
+        assertTrue(resource.contains("JsonStreamingOutput.wrapped(\"orders\", apiService.listOrderPage())"));
+        assertTrue(resource.contains("public Response exportOrders("), "Streamed methods return Response in every mode");
+        assertTrue(resource.contains("// x-sla-response-time (500 ms) is not enforced"), "Streamed methods say the SLA is skipped");
+        assertFalse(resource.contains("TimeUnit.MILLISECONDS"), "Streamed methods get no response timeout");
+
+        String tags = Files.readString(outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/resources/TagsResource.java"));
+        assertTrue(tags.contains("public CompletionStage<Response> listTags()"), "x-streaming: false opts out");
+    }
+
+    private Path generate(GeneratorConfig.ResourceMode mode) throws Exception {
+        return generate(SPEC, GeneratorConfig.builder()
+                .packageName(PACKAGE_NAME)
+                .resourceMode(mode)
+                .build());
+    }
+
+    private Path generate(String yaml, GeneratorConfig config) throws Exception {
+        Path specPath = tempDir.resolve("spec.yaml");
+        Files.writeString(specPath, yaml);
+        OASParser parser = new OASParser();
+        Map<String, Object> spec = parser.resolveReferences(parser.parse(specPath.toString()), specPath.toString());
+
+        Path outputDir = tempDir.resolve("out-" + System.nanoTime());
+        new JerseyGenerator().generate(spec, outputDir.toString(), config, PACKAGE_NAME);
+        return outputDir;
+    }
+}
@@ -207,8 +207,10 @@ public class JerseyGeneratorValidationTest {
             "Should be a public class");
         assertTrue(content.contains("private final String val"),
             "Should have pattern value field");
-        assertTrue(content.contains("Validations.matchesPattern.apply"),
-            "Should use Validations.matchesPattern");
+        assertTrue(content.contains("this.pattern = Pattern.compile(val);"),
+            "Should compile the pattern once in the constructor");
+        assertFalse(content.contains("Validations.matchesPattern.apply"),
+            "Should not recompile the pattern on every call");
         assertTrue(content.contains("import egain.ws.oas.Validations;"),
             "Should import Validations");
     }
@@ -239,6 +241,8 @@ public class JerseyGeneratorValidationTest {
             "Should split enum values by comma");
         assertTrue(content.contains("import java.util.Arrays;"),
             "Should import Arrays");
+        assertTrue(content.contains("private final Set<String> allowedValues"),
+            "Should hold the allowed values as a set built once");
     }
     
     @Test
@@ -0,0 +1,171 @@
+package egain.oassdk.generators.java;
+
+import egain.oassdk.config.GeneratorConfig;
+import egain.oassdk.core.parser.OASParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that rendering model classes on several threads produces the same files as rendering them
+ * one after another.
+ */
+@DisplayName("JerseyModelGenerator parallel rendering")
+class JerseyModelGeneratorParallelTest {
+
+    private static final String PACKAGE_NAME = "com.test.api";
+    private static final int SCHEMA_COUNT = 80;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Parallel model rendering writes the same files as sequential rendering")
+    void parallelMatchesSequential() throws Exception {
+        Path specPath = writeSpec(tempDir.resolve("spec"));
+
+        Map<String, String> sequential = generate(specPath, tempDir.resolve("seq"), 1, false);
+        Map<String, String> parallel = generate(specPath, tempDir.resolve("par"), 4, false);
+
+        assertTrue(sequential.keySet().stream().filter(p -> p.contains("/model/")).count() > SCHEMA_COUNT,
+                "Expected a model per schema plus inlined models");
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    @DisplayName("Parallel model rendering in models-only mode writes the same files as sequential rendering")
+    void parallelMatchesSequentialModelsOnly() throws Exception {
+        Path specPath = writeSpec(tempDir.resolve("spec"));
+
+        Map<String, String> sequential = generate(specPath, tempDir.resolve("seq"), 1, true);
+        Map<String, String> parallel = generate(specPath, tempDir.resolve("par"), 4, true);
+
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    @DisplayName("Inlined schemas are read-only once frozen")
+    void frozenInlinedSchemasRejectWrites() {
+        JerseyGenerationContext ctx = new JerseyGenerationContext(Map.of(), "/out", null, PACKAGE_NAME);
+        Map<String, Object> schema = new HashMap<>();
+        ctx.getInlinedSchemas().put(schema, "Inline");
+
+        ctx.freezeInlinedSchemas();
+
+        assertTrue(ctx.isInlinedSchemasFrozen());
+        assertEquals("Inline", ctx.getInlinedSchemas().get(schema));
+        assertNull(ctx.getInlinedSchemas().get(new HashMap<>()), "Lookups must stay identity-based");
+        assertThrows(UnsupportedOperationException.class, () -> ctx.getInlinedSchemas().put(new HashMap<>(), "Other"));
+    }
+
+    private static Map<String, String> generate(Path specPath, Path outputDir, int threads, boolean modelsOnly) throws Exception {
+        OASParser parser = new OASParser();
+        Map<String, Object> spec = parser.resolveReferences(parser.parse(specPath.toString()), specPath.toString());
+        GeneratorConfig config = new GeneratorConfig();
+        config.setPackageName(PACKAGE_NAME);
+        config.setModelsOnly(modelsOnly);
+        config.setModelGenerationThreads(threads);
+
+        new JerseyGenerator().generate(spec, outputDir.toString(), config, PACKAGE_NAME);
+        return readTree(outputDir);
+    }
+
+    private static Map<String, String> readTree(Path root) throws IOException {
+        Map<String, String> files = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                files.put(root.relativize(path).toString().replace('\\', '/'), Files.readString(path));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Many component schemas, each with an inline object property and a property from an external file
+     * that itself holds an inline object, so both top-level and inlined models are rendered.
+     */
+    private static Path writeSpec(Path dir) throws IOException {
+        Files.createDirectories(dir.resolve("models"));
+        for (int d = 0; d < 4; d++) {
+            Files.writeString(dir.resolve("models").resolve("Detail" + d + ".yaml"), """
+                type: object
+                properties:
+                  key:
+                    type: string
+                  position:
+                    type: object
+                    properties:
+                      x:
+                        type: integer
+                      y:
+                        type: integer
+                """);
+        }
+        StringBuilder yaml = new StringBuilder("""
+            openapi: 3.0.0
+            info:
+              title: Parallel Models API
+              version: 1.0.0
+            servers:
+              - url: https://api.example.com/v1
+            paths:
+            """);
+        for (int i = 0; i < SCHEMA_COUNT; i++) {
+            yaml.append("  /items").append(i).append(":\n")
+                .append("    get:\n")
+                .append("      operationId: getItem").append(i).append("\n")
+                .append("      responses:\n")
+                .append("        '200':\n")
+                .append("          description: OK\n")
+                .append("          content:\n")
+                .append("            application/json:\n")
+                .append("              schema:\n")
+                .append("                $ref: '#/components/schemas/Item").append(i).append("'\n");
+        }
+        yaml.append("components:\n  schemas:\n");
+        yaml.append("""
+                Base:
+                  type: object
+                  properties:
+                    version:
+                      type: integer
+            """);
+        for (int i = 0; i < SCHEMA_COUNT; i++) {
+            yaml.append("    Item").append(i).append(":\n")
+                .append("      type: object\n")
+                .append("      required: [id]\n")
+                .append("      properties:\n")
+                .append("        id:\n")
+                .append("          type: integer\n")
+                .append("        name:\n")
+                .append("          type: string\n")
+                .append("          maxLength: 64\n")
+                .append("        base:\n")
+                .append("          $ref: '#/components/schemas/Base'\n")
+                .append("        detail:\n")
+                .append("          $ref: 'models/Detail").append(i % 4).append(".yaml'\n")
+                .append("        summary:\n")
+                .append("          type: object\n")
+                .append("          properties:\n")
+                .append("            text:\n")
+                .append("              type: string\n")
+                .append("        tags:\n")
+                .append("          type: array\n")
+                .append("          items:\n")
+                .append("            type: string\n");
+        }
+        Path specPath = dir.resolve("api.yaml");
+        Files.writeString(specPath, yaml.toString());
+        return specPath;
+    }
+}
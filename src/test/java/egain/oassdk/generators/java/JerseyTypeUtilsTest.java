@@ -478,4 +478,41 @@ class JerseyTypeUtilsTest {
     void isEligibleForCascadingValidation_listOfXmlGregorianCalendar() {
         assertFalse(createTypeUtils().isEligibleForCascadingValidation("List<XMLGregorianCalendar>"));
     }
+
+    // -----------------------------------------------------------------------
+    //  getJavaType - memoization
+    // -----------------------------------------------------------------------
+
+    @Test
+    @DisplayName("getJavaType is not memoized while inlined schemas can still change")
+    void getJavaType_notMemoizedBeforeFreeze() {
+        JerseyGenerationContext ctx = new JerseyGenerationContext(Map.of(), null, null, null);
+        JerseyTypeUtils typeUtils = new JerseyTypeUtils(ctx);
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("type", "object");
+        schema.put("properties", Map.of("a", Map.of("type", "string")));
+        String before = typeUtils.getJavaType(schema);
+
+        ctx.getInlinedSchemas().put(schema, "InlineThing");
+
+        assertNotEquals("InlineThing", before);
+        assertEquals("InlineThing", typeUtils.getJavaType(schema));
+    }
+
+    @Test
+    @DisplayName("getJavaType reuses results by schema identity once inlined schemas are frozen")
+    void getJavaType_memoizedAfterFreeze() {
+        JerseyGenerationContext ctx = new JerseyGenerationContext(Map.of(), null, null, null);
+        JerseyTypeUtils typeUtils = new JerseyTypeUtils(ctx);
+        ctx.freezeInlinedSchemas();
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("type", "integer");
+        schema.put("format", "int64");
+        assertEquals("long", typeUtils.getJavaType(schema));
+
+        // Same instance: memoized result; equal but distinct instance: resolved afresh
+        schema.put("format", "int32");
+        assertEquals("long", typeUtils.getJavaType(schema));
+        assertEquals("int", typeUtils.getJavaType(new LinkedHashMap<>(schema)));
+    }
 }
@@ -7,6 +7,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
 
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 
@@ -99,5 +105,116 @@ public class SLAProcessorTest {
             processor.generateMonitoring(openApiSpec, tempDir.toString(), config, monitoringStack);
         });
     }
-}
 
+    @Test
+    public void testRouteLimitsFallBackFromOperationToPathItemToInfo() {
+        Map<String, Object> paths = new LinkedHashMap<>();
+        paths.put("/items/{id}", Map.of("get", Map.of("x-sla-rate-limit", 30), "delete", Map.of()));
+        paths.put("/items", Map.of("x-sla-rate-limit", 50, "get", Map.of(), "post", Map.of("x-sla-rate-limit", 5)));
+        openApiSpec.put("paths", paths);
+
+        List<SLAProcessor.RouteLimit> limits = SLAProcessor.collectRouteLimits(openApiSpec, 1000);
+
+        assertEquals(List.of(
+                new SLAProcessor.RouteLimit("GET", "/items/{id}", 30),
+                new SLAProcessor.RouteLimit("DELETE", "/items/{id}", 1000),
+                new SLAProcessor.RouteLimit("GET", "/items", 50),
+                new SLAProcessor.RouteLimit("POST", "/items", 5)), limits);
+    }
+
+    @Test
+    public void testGeneratedValidatorUsesRouteTemplatesAndSpecLimits(@TempDir Path tempDir) throws Exception {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> info = (Map<String, Object>) openApiSpec.get("info");
+        info.put("x-sla-rate-limit", 200);
+        openApiSpec.put("paths", Map.of("/items/{id}", Map.of("get", Map.of("x-sla-rate-limit", 30))));
+
+        processor.generateEnforcement(openApiSpec, slaSpec, tempDir.toString(), new SLAConfig());
+        String validator = Files.readString(tempDir.resolve("SLAValidator.java"));
+
+        assertTrue(validator.contains("new RouteLimit(\"GET\", \"/items/{id}\", 30)"));
+        assertTrue(validator.contains("DEFAULT_REQUESTS_PER_WINDOW = 200;"));
+        assertTrue(validator.contains("RouteTemplates.routeTemplate(requestContext)"), "Requests should be keyed by the matched route template");
+        assertTrue(Files.readString(tempDir.resolve("RouteTemplates.java")).contains("getMatchedTemplates()"));
+        assertFalse(validator.contains("getUriInfo().getPath()"), "Raw request paths must not become keys");
+        assertFalse(validator.contains("new WindowState"), "Counting a request should not allocate");
+    }
+
+    @Test
+    public void testLatencyTargetsFromSlaSpecAndExtensions() {
+        slaSpec.put("sla", Map.of("requirements", Map.of("performance",
+                Map.of("response_time", Map.of("p95", "200ms", "p99", "1.5s")))));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> info = (Map<String, Object>) openApiSpec.get("info");
+        info.put("x-sla-p50", 40);
+        openApiSpec.put("paths", Map.of("/items/{id}", Map.of(
+                "get", Map.of("x-sla-p95", "80ms"),
+                "delete", Map.of())));
+
+        SLAProcessor.LatencyTarget defaults = SLAProcessor.defaultLatencyTarget(openApiSpec, slaSpec);
+        List<SLAProcessor.LatencyTarget> targets = SLAProcessor.collectLatencyTargets(openApiSpec, defaults);
+
+        assertEquals(new SLAProcessor.LatencyTarget("", "", 40, 200, 1500, -1), defaults);
+        assertEquals(List.of(new SLAProcessor.LatencyTarget("GET", "/items/{id}", 40, 80, 1500, -1)), targets,
+                "Only operations with their own targets are listed");
+    }
+
+    @Test
+    public void testGeneratedMonitoringRecordsHistogramsThroughFilter(@TempDir Path tempDir) throws Exception {
+        processor.generateEnforcement(openApiSpec, slaSpec, tempDir.toString(), new SLAConfig());
+
+        String controller = Files.readString(tempDir.resolve("SLAMonitoringController.java"));
+        assertTrue(controller.contains("LatencyHistogram.Rolling"));
+        assertTrue(controller.contains("\"p99.9\""));
+        assertTrue(Files.readString(tempDir.resolve("SLARecorderFilter.java"))
+                .contains("SLAMonitoringController.operation(method, route)"), "The filter must feed the controller");
+        assertTrue(Files.readString(tempDir.resolve("LatencyHistogram.java")).contains("AtomicLongArray"));
+        assertTrue(Files.exists(tempDir.resolve("RouteTemplates.java")));
+    }
+
+    @Test
+    public void testGeneratedHistogramBucketsAndPercentiles(@TempDir Path tempDir) throws Exception {
+        processor.generateEnforcement(openApiSpec, slaSpec, tempDir.toString(), new SLAConfig());
+        Path classes = tempDir.resolve("classes");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int status = compiler.run(null, null, null, "-proc:none", "-nowarn", "-d", classes.toString(),
+                tempDir.resolve("LatencyHistogram.java").toString());
+        assertEquals(0, status, "Generated LatencyHistogram must compile");
+        Class<?> histogram = new URLClassLoader(new URL[] {classes.toUri().toURL()},
+                SLAProcessorTest.class.getClassLoader()).loadClass("com.example.sla.LatencyHistogram");
+        Method bucketIndex = histogram.getDeclaredMethod("bucketIndex", long.class);
+        Method highestValue = histogram.getDeclaredMethod("highestValue", int.class);
+        Method percentile = histogram.getDeclaredMethod("percentile", long[].class, double.class);
+        bucketIndex.setAccessible(true);
+        highestValue.setAccessible(true);
+        int buckets = histogram.getField("BUCKETS").getInt(null);
+
+        // Values below 16 are exact; buckets are contiguous and each covers at most 1/16 of its values
+        for (long v = 0; v < 16; v++) {
+            assertEquals((int) v, bucketIndex.invoke(null, v));
+        }
+        for (int i = 0; i < buckets - 1; i++) {
+            long highest = (long) highestValue.invoke(null, i);
+            assertEquals(i, bucketIndex.invoke(null, highest), "bucket " + i);
+            assertEquals(i + 1, bucketIndex.invoke(null, highest + 1), "bucket " + i);
+        }
+        for (long v = 16; v < (1L << 36); v = v * 3 + 1) {
+            long highest = (long) highestValue.invoke(null, bucketIndex.invoke(null, v));
+            assertTrue(highest >= v && highest - v <= v / 16, "value " + v + " reported as " + highest);
+        }
+        assertEquals(0, bucketIndex.invoke(null, -5L));
+        assertEquals(buckets - 1, bucketIndex.invoke(null, (1L << 36) - 1));
+        assertEquals(buckets - 1, bucketIndex.invoke(null, Long.MAX_VALUE));
+
+        long[] counts = new long[buckets];
+        assertEquals(0L, percentile.invoke(null, counts, 99.0));
+        for (long micros = 1; micros <= 1000; micros++) {
+            counts[(int) bucketIndex.invoke(null, micros)]++;
+        }
+        long p50 = (long) percentile.invoke(null, counts, 50.0);
+        long p99 = (long) percentile.invoke(null, counts, 99.0);
+        assertTrue(p50 >= 500 && p50 <= 500 + 500 / 16, "p50 " + p50);
+        assertTrue(p99 >= 990 && p99 <= 990 + 990 / 16, "p99 " + p99);
+        assertEquals(highestValue.invoke(null, bucketIndex.invoke(null, 1000L)), percentile.invoke(null, counts, 100.0));
+    }
+}
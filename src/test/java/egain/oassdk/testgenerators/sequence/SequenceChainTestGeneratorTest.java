@@ -202,4 +202,33 @@ class SequenceChainTestGeneratorTest {
         String content = Files.readString(bundle.resolve("test_chain_children.py"), StandardCharsets.UTF_8);
         assertThat(content).contains("pytest.skip(");
     }
+
+    @Test
+    void pairwiseSelection_writesCoverageReport(@TempDir Path outputDir) throws Exception {
+        TestConfig tc = TestConfig.builder()
+                .language("python")
+                .framework("pytest")
+                .additionalProperties(Map.of("sequence.selection", "pairwise", "sequence.randomSeed", "7"))
+                .build();
+        new SequenceChainTestGenerator().generate(
+                SequenceTestFixtures.folderSpecWithCrud(),
+                outputDir.toString(),
+                tc);
+
+        String report = Files.readString(
+                outputDir.resolve("sequence/chain-coverage.md"), StandardCharsets.UTF_8);
+        assertThat(report).contains("Selection `PAIRWISE` (random seed 7)");
+        assertThat(report).contains("| `POST /folders` |");
+        assertThat(report).contains("| 26 | 2 | 9 / 9 | 100.0% |");
+    }
+
+    @Test
+    void exhaustiveSelection_writesNoCoverageReport(@TempDir Path outputDir) throws Exception {
+        new SequenceChainTestGenerator().generate(
+                SequenceTestFixtures.folderSpecWithCrud(),
+                outputDir.toString(),
+                TestConfig.builder().language("python").framework("pytest").build());
+
+        assertThat(outputDir.resolve("sequence/chain-coverage.md")).doesNotExist();
+    }
 }